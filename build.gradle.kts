@@ -65,3 +65,89 @@ tasks.withType<Test>().configureEach {
         showStandardStreams = true // Show the standard output
     }
 }
+
+/*
+ * Runs AI-only games without the GUI and prints aggregate statistics.
+ * Example: ./gradlew simulate --args="FLIP 5000 8 42" (mode, games, threads, seed)
+ */
+tasks.register<JavaExec>("simulate") {
+    group = "application"
+    description = "Runs headless AI-only UNO simulations."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("uno.sim.SimulationLauncher")
+}
+
+/*
+ * JMH micro-benchmarks of the engine hot paths, in their own source set (src/jmh/java).
+ * Run all of them with ./gradlew jmh, or a subset with ./gradlew jmh -PjmhIncludes=MoveValidator
+ * Both throughput and allocation rate (gc profiler) are reported; results are also written
+ * to build/reports/jmh/results.json.
+ */
+val jmhVersion = "1.37"
+
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets["main"].output
+        runtimeClasspath += sourceSets["main"].output
+    }
+}
+
+configurations["jmhImplementation"].extendsFrom(configurations["implementation"])
+configurations["jmhCompileOnly"].extendsFrom(configurations["compileOnly"])
+configurations["jmhRuntimeOnly"].extendsFrom(configurations["runtimeOnly"])
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+}
+
+// Benchmarks follow JMH conventions (public @State fields), not the production QA rules
+tasks.matching { it.name in setOf("checkstyleJmh", "pmdJmh", "spotbugsJmh") }.configureEach {
+    enabled = false
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks with the gc profiler."
+    dependsOn(tasks.named("jmhClasses"))
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val results = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    doFirst { results.parentFile.mkdirs() }
+    args("-prof", "gc", "-rf", "json", "-rff", results.absolutePath)
+    project.findProperty("jmhIncludes")?.let { args(it.toString()) }
+}
+
+/*
+ * Build-time card atlas: packs the card PNGs into one pre-scaled image per card size, plus an index
+ * of the cell of each card, under build/generated/atlas and from there into the main resources.
+ * The sizes default to the one of the game table; override them with -PcardAtlasSizes=80x120,40x60
+ * The tool lives in its own source set (src/atlas/java) so that it does not ship with the game.
+ */
+sourceSets {
+    create("atlas")
+}
+
+val cardImagesDir = layout.projectDirectory.dir("src/main/resources/images/cards")
+val cardAtlasDir = layout.buildDirectory.dir("generated/atlas")
+val cardAtlasSizes = (project.findProperty("cardAtlasSizes")?.toString() ?: "80x120").split(",")
+
+val generateCardAtlas = tasks.register<JavaExec>("generateCardAtlas") {
+    group = "build"
+    description = "Packs the card images into pre-scaled atlases."
+    classpath = sourceSets["atlas"].runtimeClasspath
+    mainClass.set("uno.atlas.CardAtlasGenerator")
+    jvmArgs("-Djava.awt.headless=true")
+    inputs.dir(cardImagesDir)
+    inputs.property("sizes", cardAtlasSizes)
+    outputs.dir(cardAtlasDir)
+    args(cardImagesDir.asFile.absolutePath, cardAtlasDir.get().dir("images/atlas").asFile.absolutePath)
+    args(cardAtlasSizes)
+}
+
+sourceSets["main"].resources.srcDir(files(cardAtlasDir).builtBy(generateCardAtlas))
+
+// The runnable jar serves the cards from the atlas only
+tasks.named<Jar>("shadowJar") {
+    exclude("images/cards/*.png")
+}
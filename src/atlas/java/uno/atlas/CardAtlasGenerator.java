@@ -0,0 +1,112 @@
+package uno.atlas;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Build-time tool that packs the card images into one pre-scaled atlas per
+ * card size, so that the game decodes a single image instead of one per card.
+ * Usage: {@code CardAtlasGenerator <cards dir> <output dir> <width>x<height>...}.
+ * For each size it writes {@code cards-<width>x<height>.png}, a grid of the
+ * cards scaled as the game scales them, and {@code cards-<width>x<height>.properties},
+ * mapping each card name to the {@code x,y,width,height} of its cell.
+ */
+public final class CardAtlasGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(CardAtlasGenerator.class.getName());
+    private static final String PNG = ".png";
+    private static final int MIN_ARGS = 3;
+
+    private CardAtlasGenerator() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Writes the atlases of the card images.
+     *
+     * @param args the directory of the card images, the output directory and
+     *             the card sizes, as {@code <width>x<height>}.
+     * @throws IOException if an image cannot be read or an atlas cannot be written.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length < MIN_ARGS) {
+            throw new IllegalArgumentException("Usage: CardAtlasGenerator <cards dir> <output dir> <width>x<height>...");
+        }
+        final List<Path> cards = listCards(Path.of(args[0]));
+        final Path output = Files.createDirectories(Path.of(args[1]));
+        final List<BufferedImage> sources = new ArrayList<>();
+        for (final Path card : cards) {
+            sources.add(ImageIO.read(card.toFile()));
+        }
+        for (int i = 2; i < args.length; i++) {
+            final String[] size = args[i].toLowerCase(Locale.ROOT).split("x");
+            if (size.length != 2) {
+                throw new IllegalArgumentException("Not a card size: " + args[i]);
+            }
+            writeAtlas(cards, sources, Integer.parseInt(size[0]), Integer.parseInt(size[1]), output);
+        }
+    }
+
+    /**
+     * Lists the card images of a directory, sorted by name.
+     *
+     * @param directory the directory.
+     * @return the paths of the PNG files.
+     * @throws IOException if the directory cannot be read.
+     */
+    private static List<Path> listCards(final Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(PNG)).sorted().toList();
+        }
+    }
+
+    /**
+     * Writes the atlas and the index of one card size.
+     *
+     * @param cards   the card images.
+     * @param sources the decoded card images, in the same order.
+     * @param width   the width of a card.
+     * @param height  the height of a card.
+     * @param output  the output directory.
+     * @throws IOException if the atlas cannot be written.
+     */
+    private static void writeAtlas(final List<Path> cards, final List<BufferedImage> sources, final int width,
+            final int height, final Path output) throws IOException {
+        final int columns = (int) Math.ceil(Math.sqrt(cards.size()));
+        final int rows = (cards.size() + columns - 1) / columns;
+        final BufferedImage atlas = new BufferedImage(columns * width, rows * height, BufferedImage.TYPE_INT_ARGB);
+        final StringBuilder index = new StringBuilder("# Cells of the cards: x,y,width,height\n");
+        final Graphics2D g2d = atlas.createGraphics();
+        for (int i = 0; i < cards.size(); i++) {
+            final int x = i % columns * width;
+            final int y = i / columns * height;
+            // Same smooth scaling as the game, fully loaded before drawing
+            final Image scaled = new ImageIcon(sources.get(i).getScaledInstance(width, height, Image.SCALE_SMOOTH))
+                    .getImage();
+            g2d.drawImage(scaled, x, y, null);
+            final String name = cards.get(i).getFileName().toString();
+            index.append(name, 0, name.length() - PNG.length())
+                    .append('=').append(x).append(',').append(y).append(',')
+                    .append(width).append(',').append(height).append('\n');
+        }
+        g2d.dispose();
+
+        final String baseName = "cards-" + width + "x" + height;
+        ImageIO.write(atlas, "png", output.resolve(baseName + PNG).toFile());
+        // Written by hand rather than with Properties.store, which adds a timestamp
+        Files.writeString(output.resolve(baseName + ".properties"), index, StandardCharsets.ISO_8859_1);
+        LOGGER.info(() -> "Packed " + cards.size() + " cards into " + output.resolve(baseName + PNG));
+    }
+}
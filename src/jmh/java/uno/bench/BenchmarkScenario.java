@@ -0,0 +1,100 @@
+package uno.bench;
+
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.Game;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.game.impl.GameFactoryImpl;
+import uno.model.game.impl.GameRulesImpl;
+import uno.model.players.impl.AIAllWild;
+import uno.model.players.impl.AIClassic;
+import uno.model.players.impl.AIFlip;
+import uno.model.players.impl.AbstractAIPlayer;
+import uno.model.players.impl.AbstractPlayer;
+import uno.model.utils.impl.GameRandomImpl;
+import uno.model.utils.impl.SilentGameLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Game configurations shared by the benchmarks: every benchmark that depends on
+ * the game mode is run once per scenario, Flip being measured on both sides.
+ * Games are built through the real factory, with a seed so that runs are comparable.
+ */
+public enum BenchmarkScenario {
+
+    /**
+     * Standard deck, classic AI players.
+     */
+    STANDARD(GameMode.STANDARD, false, AIClassic::new),
+
+    /**
+     * Flip deck on the light side, flip AI players.
+     */
+    FLIP_LIGHT(GameMode.FLIP, false, AIFlip::new),
+
+    /**
+     * Flip deck after flipping to the dark side, flip AI players.
+     */
+    FLIP_DARK(GameMode.FLIP, true, AIFlip::new),
+
+    /**
+     * All Wild deck, all wild AI players.
+     */
+    ALL_WILD(GameMode.ALL_WILD, false, AIAllWild::new);
+
+    private static final int PLAYERS = 4;
+
+    private final GameMode mode;
+    private final boolean darkSide;
+    private final Function<String, AbstractAIPlayer> playerFactory;
+
+    /**
+     * Constructor for a scenario.
+     * 
+     * @param mode          the game mode.
+     * @param darkSide      whether the game is flipped to the dark side after setup.
+     * @param playerFactory creates an AI player given its name.
+     */
+    BenchmarkScenario(final GameMode mode, final boolean darkSide,
+            final Function<String, AbstractAIPlayer> playerFactory) {
+        this.mode = mode;
+        this.darkSide = darkSide;
+        this.playerFactory = playerFactory;
+    }
+
+    /**
+     * Gets the game mode of this scenario.
+     * 
+     * @return the game mode.
+     */
+    public GameMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Creates a freshly dealt game between four AI players of this scenario.
+     * 
+     * @param seed the seed of the game.
+     * @return the game, on the dark side for {@link #FLIP_DARK}.
+     */
+    public GameContext createGame(final long seed) {
+        final List<AbstractPlayer> players = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) {
+            players.add(playerFactory.apply("AI-" + i));
+        }
+
+        final Game game = new GameFactoryImpl(GameRulesImpl.defaultRules(), new SilentGameLogger(),
+                new GameRandomImpl(seed)).createGame("BENCH", mode, players);
+        final GameContext context = (GameContext) game;
+
+        if (darkSide) {
+            final Card top = context.getTopDiscardCard().orElseThrow();
+            context.setCurrentPlayedCard(top);
+            context.flipTheWorld();
+        }
+        return context;
+    }
+}
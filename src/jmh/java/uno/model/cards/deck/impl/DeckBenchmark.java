@@ -0,0 +1,96 @@
+package uno.model.cards.deck.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uno.model.cards.deck.api.Deck;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.GameMode;
+import uno.model.utils.api.GameLogger;
+import uno.model.utils.api.GameRandom;
+import uno.model.utils.impl.GameRandomImpl;
+import uno.model.utils.impl.SilentGameLogger;
+
+/**
+ * Benchmarks of {@link AbstractDeckImpl} for each deck type, compared with the
+ * {@link CompactDeck} over the same catalog. The side of a Flip game does not
+ * matter here: decks never look at card faces.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({"STANDARD", "FLIP", "ALL_WILD"})
+    private GameMode mode;
+
+    @Param({"false", "true"})
+    private boolean compact;
+
+    private final GameLogger logger = new SilentGameLogger();
+    private final GameRandom random = new GameRandomImpl(SEED);
+    private Deck<Card> deck;
+
+    /**
+     * Builds a full deck of the current mode.
+     */
+    @Setup
+    public void setUp() {
+        deck = createDeck();
+    }
+
+    /**
+     * Shuffles a full deck.
+     */
+    @Benchmark
+    public void shuffle() {
+        deck.shuffle();
+    }
+
+    /**
+     * Draws the top card and puts it back, so the deck size stays constant.
+     * 
+     * @return the drawn card.
+     */
+    @Benchmark
+    public Card drawAndReturn() {
+        final Card card = deck.draw().orElseThrow();
+        deck.addCard(card);
+        return card;
+    }
+
+    /**
+     * Builds and shuffles a new deck, as done once per game.
+     * 
+     * @return the new deck.
+     */
+    @Benchmark
+    public Deck<Card> createDeck() {
+        switch (mode) {
+            case FLIP:
+                return compact ? new CompactDeck(FlipDeck.catalog(), logger, random) : new FlipDeck(logger, random);
+            case ALL_WILD:
+                return compact ? new CompactDeck(AllWildDeck.catalog(), logger, random)
+                        : new AllWildDeck(logger, random);
+            default:
+                return compact ? new CompactDeck(StandardDeck.catalog(), logger, random)
+                        : new StandardDeck(logger, random);
+        }
+    }
+}
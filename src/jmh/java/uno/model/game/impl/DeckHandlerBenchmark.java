@@ -0,0 +1,152 @@
+package uno.model.game.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uno.bench.BenchmarkScenario;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.deck.api.Deck;
+import uno.model.cards.deck.impl.AbstractDeckImpl;
+import uno.model.cards.deck.impl.AllWildDeck;
+import uno.model.cards.deck.impl.CompactDeck;
+import uno.model.cards.deck.impl.FlipDeck;
+import uno.model.cards.deck.impl.StandardDeck;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.DeckHandler;
+import uno.model.game.api.DiscardPile;
+import uno.model.game.api.GameContext;
+import uno.model.players.impl.AbstractPlayer;
+import uno.model.players.impl.HumanPlayer;
+import uno.model.utils.api.GameLogger;
+import uno.model.utils.api.GameRandom;
+import uno.model.utils.impl.GameRandomImpl;
+import uno.model.utils.impl.SilentGameLogger;
+
+/**
+ * Benchmark of the reshuffle performed by {@link DeckHandlerImpl} when a player
+ * draws from an empty deck: the whole discard pile but its top card is moved back
+ * into the deck and shuffled. Every invocation starts from an empty deck and a
+ * full discard pile; subtract the {@link #fixtureBaseline()} allocation rate to
+ * get the cost of the draw alone. With {@code compact} the deck and pile are a
+ * {@link CompactDeck} and a {@link CompactDiscardPile}, which swap buffers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckHandlerBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param
+    private BenchmarkScenario scenario;
+
+    @Param({"false", "true"})
+    private boolean compact;
+
+    private final GameLogger logger = new SilentGameLogger();
+    private final List<Card> cards = new ArrayList<>();
+    private GameContext game;
+    private Deck<Card> deck;
+    private DeckHandler handler;
+    private AbstractPlayer player;
+
+    /**
+     * Deals a game and takes its draw deck, emptied, as the deck to refill.
+     */
+    @Setup
+    public void setUpTrial() {
+        game = scenario.createGame(SEED);
+        final Deck<Card> gameDeck = game.getDrawDeck();
+        cards.addAll(game.getDiscardPile().takeAll());
+        while (!gameDeck.isEmpty()) {
+            cards.add(gameDeck.draw().orElseThrow());
+        }
+        deck = compact ? new CompactDeck(catalog(), logger, new GameRandomImpl(SEED))
+                : new ListDeck(logger, new GameRandomImpl(SEED));
+    }
+
+    /**
+     * Empties the deck and moves every card to a new discard pile.
+     */
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        while (!deck.isEmpty()) {
+            deck.draw();
+        }
+        final DiscardPile discardPile = compact ? new CompactDiscardPile(catalog()) : new DiscardPileImpl();
+        for (final Card card : cards) {
+            discardPile.addCard(card);
+        }
+        handler = new DeckHandlerImpl(deck, discardPile, game.getRules(), logger, "BENCH");
+        player = new HumanPlayer("P");
+    }
+
+    /**
+     * Draws from the empty deck, triggering the reshuffle.
+     * 
+     * @return whether the draw succeeded.
+     */
+    @Benchmark
+    public boolean drawWithReshuffle() {
+        return handler.drawCardForPlayer(player, game);
+    }
+
+    /**
+     * Does nothing but the per-invocation setup, as an allocation baseline.
+     * 
+     * @return the handler.
+     */
+    @Benchmark
+    public DeckHandler fixtureBaseline() {
+        return handler;
+    }
+
+    /**
+     * Gets the catalog of the scenario's game mode.
+     * 
+     * @return the catalog whose cards the game uses.
+     */
+    private CardCatalog catalog() {
+        switch (scenario.getMode()) {
+            case FLIP:
+                return FlipDeck.catalog();
+            case ALL_WILD:
+                return AllWildDeck.catalog();
+            default:
+                return StandardDeck.catalog();
+        }
+    }
+
+    /**
+     * A list-based deck that starts empty, as the reference implementation.
+     */
+    private static final class ListDeck extends AbstractDeckImpl<Card> {
+
+        /**
+         * Creates an empty deck.
+         * 
+         * @param logger logger for logging deck operations.
+         * @param random random source used to shuffle the deck.
+         */
+        ListDeck(final GameLogger logger, final GameRandom random) {
+            super(logger, random);
+        }
+    }
+}
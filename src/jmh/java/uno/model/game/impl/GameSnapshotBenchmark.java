@@ -0,0 +1,110 @@
+package uno.model.game.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uno.bench.BenchmarkScenario;
+import uno.model.cards.attributes.CardColor;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameSnapshot;
+import uno.model.utils.api.GameRandom;
+import uno.model.utils.impl.GameRandomImpl;
+
+/**
+ * Benchmark of the snapshot capture and restore of {@link GameImpl}, performed
+ * before and after every rollout of a search-based AI, and of the deals of the
+ * hidden cards that start every rollout.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameSnapshotBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param
+    private BenchmarkScenario scenario;
+
+    private GameContext game;
+    private GameSnapshot snapshot;
+    private GameRandom random;
+    private int seat;
+    private int[] voidColors;
+
+    /**
+     * Deals a game for the current scenario and allocates the snapshot reused by every invocation.
+     */
+    @Setup
+    public void setUp() {
+        game = scenario.createGame(SEED);
+        snapshot = game.createSnapshot();
+        random = new GameRandomImpl(SEED);
+        seat = game.getTurnManager().getCurrentPlayerIndex();
+        voidColors = new int[game.getPlayers().size()];
+        final CardColor[] colors = game.isDarkSide()
+                ? new CardColor[] {CardColor.PINK, CardColor.TEAL}
+                : new CardColor[] {CardColor.RED, CardColor.BLUE};
+        for (int i = 1; i <= colors.length; i++) {
+            voidColors[(seat + i) % voidColors.length] = 1 << colors[i - 1].ordinal();
+        }
+    }
+
+    /**
+     * Copies the game state into the preallocated snapshot.
+     * 
+     * @return the snapshot.
+     */
+    @Benchmark
+    public GameSnapshot capture() {
+        game.captureSnapshot(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Puts the game back in the state of the snapshot.
+     * 
+     * @return the restored game.
+     */
+    @Benchmark
+    public GameContext restore() {
+        game.restoreSnapshot(snapshot);
+        return game;
+    }
+
+    /**
+     * Deals the cards hidden from the player to move at random.
+     * 
+     * @return the snapshot.
+     */
+    @Benchmark
+    public GameSnapshot deal() {
+        snapshot.shuffleHiddenCards(seat, random);
+        return snapshot;
+    }
+
+    /**
+     * Deals the cards hidden from the player to move at random, with two
+     * opponents known to miss a color each.
+     * 
+     * @return the snapshot.
+     */
+    @Benchmark
+    public GameSnapshot constrainedDeal() {
+        snapshot.shuffleHiddenCards(seat, voidColors, random);
+        return snapshot;
+    }
+}
@@ -0,0 +1,79 @@
+package uno.model.game.impl;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uno.bench.BenchmarkScenario;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.MoveValidator;
+import uno.model.players.impl.AbstractPlayer;
+
+/**
+ * Benchmarks of {@link MoveValidatorImpl}, called by every AI and by the view
+ * on each turn.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveValidatorBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param
+    private BenchmarkScenario scenario;
+
+    private MoveValidator validator;
+    private AbstractPlayer player;
+    private List<Optional<Card>> hand;
+
+    /**
+     * Deals a game for the current scenario.
+     */
+    @Setup
+    public void setUp() {
+        final GameContext game = scenario.createGame(SEED);
+        validator = new MoveValidatorImpl(game);
+        player = game.getCurrentPlayer();
+        hand = player.getHand();
+    }
+
+    /**
+     * Checks whether the current player has at least one playable card.
+     * 
+     * @return the check result.
+     */
+    @Benchmark
+    public boolean playerHasPlayableCard() {
+        return validator.playerHasPlayableCard(player);
+    }
+
+    /**
+     * Validates every card of the current player's hand.
+     * 
+     * @param blackhole sink for the results.
+     */
+    @Benchmark
+    public void isValidMoveWholeHand(final Blackhole blackhole) {
+        for (final Optional<Card> card : hand) {
+            blackhole.consume(validator.isValidMove(card.get()));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package uno.model.game.impl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uno.bench.BenchmarkScenario;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.ScoreManager;
+import uno.model.players.impl.AbstractPlayer;
+
+/**
+ * Benchmark of {@link ScoreManagerImpl#calculateRoundPoints}, run at the end of every round.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreManagerBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param
+    private BenchmarkScenario scenario;
+
+    private final ScoreManager scoreManager = new ScoreManagerImpl();
+    private GameContext game;
+    private AbstractPlayer winner;
+    private List<AbstractPlayer> players;
+
+    /**
+     * Deals a game for the current scenario; the current player is taken as the winner.
+     */
+    @Setup
+    public void setUp() {
+        game = scenario.createGame(SEED);
+        winner = game.getCurrentPlayer();
+        players = game.getPlayers();
+    }
+
+    /**
+     * Sums the points left in the losers' hands.
+     * 
+     * @return the round points.
+     */
+    @Benchmark
+    public int calculateRoundPoints() {
+        return scoreManager.calculateRoundPoints(winner, players, game);
+    }
+}
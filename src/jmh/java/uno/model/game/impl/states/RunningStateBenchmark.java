@@ -0,0 +1,84 @@
+package uno.model.game.impl.states;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uno.bench.BenchmarkScenario;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.GameContext;
+import uno.model.players.impl.AbstractPlayer;
+
+/**
+ * Benchmark of {@link RunningState#playCard}, including the card effects.
+ * Playing a card changes the game, so every invocation gets a freshly dealt game
+ * in which the current player holds a playable card. The invocation-level setup is
+ * not timed, but its allocations are seen by the gc profiler: subtract the
+ * {@link #fixtureBaseline()} allocation rate to get the cost of playCard alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RunningStateBenchmark {
+
+    @Param
+    private BenchmarkScenario scenario;
+
+    private long seed;
+    private GameContext game;
+    private RunningState state;
+    private Optional<Card> card;
+
+    /**
+     * Deals games until the current player has a playable card, and picks it.
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+        card = Optional.empty();
+        while (card.isEmpty()) {
+            game = scenario.createGame(seed++);
+            final AbstractPlayer player = game.getCurrentPlayer();
+            card = player.getHand().stream()
+                    .filter(c -> game.isValidMove(c.get()))
+                    .findFirst()
+                    .flatMap(c -> c);
+        }
+        state = new RunningState(game);
+    }
+
+    /**
+     * Plays the chosen card.
+     * 
+     * @return the game, to keep its final state alive.
+     */
+    @Benchmark
+    public GameContext playCard() {
+        state.playCard(card);
+        return game;
+    }
+
+    /**
+     * Does nothing but the per-invocation setup, as an allocation baseline.
+     * 
+     * @return the game.
+     */
+    @Benchmark
+    public GameContext fixtureBaseline() {
+        return game;
+    }
+}
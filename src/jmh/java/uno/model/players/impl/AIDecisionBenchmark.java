@@ -0,0 +1,86 @@
+package uno.model.players.impl;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uno.bench.BenchmarkScenario;
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.GameContext;
+
+/**
+ * Benchmarks of the AI decisions: {@link AIClassic} in the standard scenario,
+ * {@link AIFlip} on both sides of the flip scenarios and {@link AIAllWild} in the
+ * all wild scenario, and the move generator they share. Lives in the players
+ * package to reach the protected hooks. Run with {@code -prof gc} to check that
+ * the decisions allocate nothing but their result.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AIDecisionBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param
+    private BenchmarkScenario scenario;
+
+    private GameContext game;
+    private AbstractAIPlayer player;
+    private int[] moves;
+
+    /**
+     * Deals a game for the current scenario and picks the AI whose turn it is.
+     */
+    @Setup
+    public void setUp() {
+        game = scenario.createGame(SEED);
+        player = (AbstractAIPlayer) game.getCurrentPlayer();
+        moves = new int[MoveGenerator.bufferSize(game, player)];
+    }
+
+    /**
+     * Lists the legal moves of the dealt position into a reused buffer.
+     * 
+     * @return the number of moves.
+     */
+    @Benchmark
+    public int legalMoves() {
+        return MoveGenerator.legalMoves(game, player, moves);
+    }
+
+    /**
+     * Chooses the card to play in the dealt position.
+     * 
+     * @return the chosen card.
+     */
+    @Benchmark
+    public Optional<Card> chooseCardToPlay() {
+        return player.chooseCardToPlay(game);
+    }
+
+    /**
+     * Chooses the color to declare after a wild card.
+     * 
+     * @return the chosen color.
+     */
+    @Benchmark
+    public CardColor chooseBestColor() {
+        return player.chooseBestColor(game);
+    }
+}
@@ -0,0 +1,89 @@
+package uno.model.players.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uno.bench.BenchmarkScenario;
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.GameContext;
+
+/**
+ * Benchmarks of the card tracker of the AI players: a question, an event and,
+ * for comparison, the full recount from the hand and the discard pile that the
+ * events save.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardTrackerBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param
+    private BenchmarkScenario scenario;
+
+    private GameContext game;
+    private CardTrackerImpl tracker;
+    private AbstractPlayer opponent;
+    private Card card;
+
+    /**
+     * Deals a game for the current scenario and takes the tracker of the AI whose turn it is.
+     */
+    @Setup
+    public void setUp() {
+        game = scenario.createGame(SEED);
+        final AbstractAIPlayer player = (AbstractAIPlayer) game.getCurrentPlayer();
+        tracker = (CardTrackerImpl) player.getCardTracker();
+        opponent = game.getPlayers().get((game.getPlayers().indexOf(player) + 1) % game.getPlayers().size());
+        card = opponent.getHandView().get(0);
+        tracker.isTracking();
+    }
+
+    /**
+     * Counts the unseen red cards and reads what an opponent is known not to hold.
+     *
+     * @return the sum of the answers.
+     */
+    @Benchmark
+    public int query() {
+        return tracker.countUnseenColor(CardColor.RED, false) + tracker.getVoidColors(1);
+    }
+
+    /**
+     * Reports a card drawn by an opponent.
+     *
+     * @return the colors the opponent is known not to hold.
+     */
+    @Benchmark
+    public int cardDrawn() {
+        tracker.onCardDrawn(game, opponent, card);
+        return tracker.getVoidColors(1);
+    }
+
+    /**
+     * Recounts the unseen cards from scratch, as after a restored snapshot.
+     *
+     * @return the number of unseen cards.
+     */
+    @Benchmark
+    public int recount() {
+        tracker.onStateRestored(game);
+        return tracker.getUnseenCount();
+    }
+}
@@ -0,0 +1,141 @@
+package uno.model.players.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uno.bench.BenchmarkScenario;
+import uno.model.game.api.GameContext;
+import uno.model.utils.impl.GameRandomImpl;
+
+/**
+ * Benchmark of the endgame expectimax search: one deal of the hidden cards and
+ * a search of every root move per invocation. The auxiliary counters report the
+ * searched nodes and the transposition table probes and hits per second; the hit
+ * rate is hits over probes. The table is kept between invocations, as it is kept
+ * between the decisions of a player.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpectimaxBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int ENDGAME_CARDS = 2;
+    private static final int MAX_SETUP_TURNS = 500;
+    private static final int TABLE_CAPACITY = 1 << 16;
+
+    @Param
+    private BenchmarkScenario scenario;
+
+    @Param({"3", "5"})
+    private int depth;
+
+    private ExpectimaxSearch search;
+    private int seat;
+    private int[] moves;
+    private int count;
+    private double[] values;
+
+    /**
+     * Search statistics of one thread, reported as rates by JMH.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class SearchCounters {
+
+        /**
+         * Positions searched.
+         */
+        public long nodes;
+
+        /**
+         * Transposition table lookups.
+         */
+        public long probes;
+
+        /**
+         * Lookups that found a deep enough result.
+         */
+        public long hits;
+
+        /**
+         * Resets the counters before each iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            nodes = 0;
+            probes = 0;
+            hits = 0;
+        }
+    }
+
+    /**
+     * Deals a game for the current scenario and lets its AIs play until a hand
+     * is down to the endgame size, then prepares a search for the player to move.
+     */
+    @Setup
+    public void setUp() {
+        final GameContext game = scenario.createGame(SEED);
+        for (int turns = 0; turns < MAX_SETUP_TURNS && !isEndgame(game); turns++) {
+            ((AbstractAIPlayer) game.getCurrentPlayer()).takeTurn(game);
+        }
+
+        search = new ExpectimaxSearch(scenario.getMode(), game.getRules(), game.getPlayers().size(), depth,
+                new TranspositionTable(TABLE_CAPACITY), new GameRandomImpl(SEED));
+        search.prepare(game, (AbstractAIPlayer) game.getCurrentPlayer());
+        seat = game.getTurnManager().getCurrentPlayerIndex();
+        moves = search.getSearchGame().createMoveBuffer();
+        count = search.getSearchGame().legalMoves(game, moves);
+        values = new double[count];
+    }
+
+    /**
+     * Searches every root move of the prepared position for one deal.
+     *
+     * @param counters the counters of this thread.
+     * @return the values of the root moves.
+     */
+    @Benchmark
+    public double[] search(final SearchCounters counters) {
+        search.resetCounters();
+        search.evaluate(seat, depth, moves, count, values);
+        counters.nodes += search.getNodes();
+        counters.probes += search.getProbes();
+        counters.hits += search.getHits();
+        return values;
+    }
+
+    /**
+     * Checks if a hand is down to the endgame size or the round is over.
+     *
+     * @param game the game.
+     * @return true if the setup can stop.
+     */
+    private static boolean isEndgame(final GameContext game) {
+        if (game.getWinner() != null) {
+            return true;
+        }
+        for (final AbstractPlayer player : game.getPlayers()) {
+            if (player.getHandSize() <= ENDGAME_CARDS) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,99 @@
+package uno.model.utils.impl;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uno.model.utils.api.FlushPolicy;
+import uno.model.utils.api.GameLogger;
+
+/**
+ * Compares the synchronous {@link GameLoggerImpl}, which opens and closes the log
+ * file for every event, with {@link AsyncGameLoggerImpl} under two flush policies.
+ * The asynchronous loggers are flushed at the end of every iteration, so the
+ * measured throughput includes the cost of actually writing the events.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameLoggerBenchmark {
+
+    /**
+     * The logger implementations under test.
+     */
+    public enum LoggerKind {
+        /** {@link GameLoggerImpl}. */
+        SYNC,
+        /** {@link AsyncGameLoggerImpl} with {@link FlushPolicy#batched()}. */
+        ASYNC_BATCHED,
+        /** {@link AsyncGameLoggerImpl} with {@link FlushPolicy#everyEvent()}. */
+        ASYNC_EVERY_EVENT
+    }
+
+    private static final int CAPACITY = 1024;
+
+    @Param
+    private LoggerKind kind;
+
+    private GameLogger logger;
+    private int counter;
+
+    /**
+     * Creates the logger under test.
+     */
+    @Setup
+    public void setUp() {
+        final String matchId = "bench_" + kind.name().toLowerCase(Locale.ROOT);
+        switch (kind) {
+            case ASYNC_BATCHED:
+                logger = new AsyncGameLoggerImpl(matchId, CAPACITY, FlushPolicy.batched());
+                break;
+            case ASYNC_EVERY_EVENT:
+                logger = new AsyncGameLoggerImpl(matchId, CAPACITY, FlushPolicy.everyEvent());
+                break;
+            default:
+                logger = new GameLoggerImpl(matchId);
+                break;
+        }
+    }
+
+    /**
+     * Waits for the events of the iteration to reach the file.
+     */
+    @TearDown(Level.Iteration)
+    public void flush() {
+        logger.flush();
+    }
+
+    /**
+     * Drains and closes the logger.
+     */
+    @TearDown
+    public void tearDown() {
+        logger.close();
+    }
+
+    /**
+     * Logs a typical draw event.
+     */
+    @Benchmark
+    public void logAction() {
+        logger.logAction("Player", "DRAW", "DoubleSidedCard", "SEVEN " + (counter++ & 0xFF));
+    }
+}
@@ -5,16 +5,24 @@ import uno.controller.impl.MenuControllerImpl;
 import uno.view.api.GameFrame;
 import uno.view.impl.GameFrameImpl;
 import uno.view.scenes.api.MenuScene;
+import uno.view.scenes.impl.GameSceneImpl;
 import uno.view.scenes.impl.MenuSceneImpl;
+import uno.view.utils.api.CardImagePreloader;
+import uno.view.utils.impl.CardImageLoaderImpl;
+import uno.view.utils.impl.CardImagePreloaderImpl;
 
 import javax.swing.SwingUtilities;
 import java.awt.Container;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
 
 /**
  * Entry point of the UNO application.
  */
 public final class Main {
 
+    private static final Logger LOGGER = Logger.getLogger(Main.class.getName());
+
     private Main() {
         // Prevent instantiation
     }
@@ -36,6 +44,23 @@ public final class Main {
             frame.showScene((Container) menuScene);
 
             frame.setVisible(true);
+            preloadCardImages();
+        });
+    }
+
+    /**
+     * Starts loading the card images in the background while the menu is
+     * shown, so that the game scene finds them ready.
+     */
+    private static void preloadCardImages() {
+        final long start = System.nanoTime();
+        final CardImagePreloader preloader = new CardImagePreloaderImpl(
+                new CardImageLoaderImpl(GameSceneImpl.CARD_WIDTH, GameSceneImpl.CARD_HEIGHT));
+        preloader.start((loaded, total) -> {
+            if (loaded == total) {
+                LOGGER.info(() -> "Card images ready: " + total + " in "
+                        + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+            }
         });
     }
 }
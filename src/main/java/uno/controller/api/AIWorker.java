@@ -0,0 +1,44 @@
+package uno.controller.api;
+
+import java.util.function.Consumer;
+
+import uno.model.game.api.Game;
+import uno.model.players.api.AIDecision;
+import uno.model.players.impl.AbstractAIPlayer;
+
+/**
+ * Computes the decisions of the AI players away from the thread that owns the
+ * game, such as the Swing event dispatch thread, and hands each finished
+ * decision back to that thread, so that a slow AI never blocks it.
+ * At most one decision is pending: asking for a new one, or cancelling,
+ * discards the previous one, whose result is never handed back.
+ * A decision is only computed once its player is to move: nothing is computed
+ * speculatively during the previous turn or the human's turn, since the
+ * decision reads the live game and the player's own state, which that turn
+ * still changes.
+ */
+public interface AIWorker extends AutoCloseable {
+
+    /**
+     * Starts deciding the next step of an AI player's turn. The game must not
+     * be modified until the decision is handed back or cancelled.
+     *
+     * @param player      the AI player to move.
+     * @param game        the game.
+     * @param delayMillis the time before the decision is handed back, counted from
+     *                    now: thinking takes place during the delay instead of after it.
+     * @param onDecision  receives the decision on the owner thread.
+     */
+    void think(AbstractAIPlayer player, Game game, long delayMillis, Consumer<AIDecision> onDecision);
+
+    /**
+     * Cancels the pending decision, if any, interrupting its computation.
+     */
+    void cancel();
+
+    /**
+     * Cancels the pending decision and stops the worker.
+     */
+    @Override
+    void close();
+}
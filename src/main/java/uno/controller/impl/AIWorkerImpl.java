@@ -0,0 +1,97 @@
+package uno.controller.impl;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import uno.controller.api.AIWorker;
+import uno.model.game.api.Game;
+import uno.model.players.api.AIDecision;
+import uno.model.players.impl.AbstractAIPlayer;
+
+/**
+ * Implementation of {@link AIWorker} on virtual threads: each decision runs on
+ * a new virtual thread, which sleeps for what is left of the delay and then
+ * passes the decision to the owner thread's executor. Every request takes a
+ * ticket; a decision is handed back only if no other request or cancellation
+ * came after its own, so a result that was already on its way is dropped too.
+ * The methods must be called on the owner thread.
+ */
+public final class AIWorkerImpl implements AIWorker {
+
+    private final ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor();
+    private final Executor owner;
+    private final AtomicLong tickets = new AtomicLong();
+    private Optional<Future<?>> pending = Optional.empty();
+
+    /**
+     * Constructs a worker.
+     *
+     * @param owner runs the hand-back on the thread that owns the game, such as
+     *              {@code SwingUtilities::invokeLater}.
+     */
+    public AIWorkerImpl(final Executor owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * {@inheritDoc}
+     * If the decision fails, the exception is thrown on the owner thread instead.
+     */
+    @Override
+    public void think(final AbstractAIPlayer player, final Game game, final long delayMillis,
+            final Consumer<AIDecision> onDecision) {
+        cancel();
+        final long ticket = tickets.get();
+        final long due = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        pending = Optional.of(threads.submit(() -> {
+            final AIDecision decision;
+            try {
+                decision = player.decide(game);
+                final long remaining = due - System.nanoTime();
+                if (remaining > 0) {
+                    TimeUnit.NANOSECONDS.sleep(remaining);
+                }
+            } catch (final InterruptedException e) {
+                // Cancelled while waiting for the delay.
+                return;
+            } catch (final RuntimeException e) {
+                if (tickets.get() == ticket) {
+                    owner.execute(() -> {
+                        throw new IllegalStateException("The AI could not decide", e);
+                    });
+                }
+                return;
+            }
+            owner.execute(() -> {
+                if (tickets.get() == ticket) {
+                    onDecision.accept(decision);
+                }
+            });
+        }));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancel() {
+        tickets.incrementAndGet();
+        pending.ifPresent(task -> task.cancel(true));
+        pending = Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        cancel();
+        threads.shutdownNow();
+    }
+}
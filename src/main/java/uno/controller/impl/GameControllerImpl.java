@@ -1,14 +1,19 @@
 package uno.controller.impl;
 
+import uno.controller.api.AIWorker;
 import uno.controller.api.GameController;
 import uno.controller.api.MenuController;
+import uno.model.api.GameChange;
 import uno.model.cards.attributes.CardColor;
 import uno.model.cards.types.api.Card;
 import uno.model.game.api.GameState;
 import uno.model.game.api.Game;
+import uno.model.players.api.AIDecision;
 import uno.model.players.impl.AbstractAIPlayer;
 import uno.model.players.impl.AbstractPlayer;
 import uno.model.players.impl.HumanPlayer;
+import uno.model.utils.api.GameLogger;
+import uno.model.utils.impl.SilentGameLogger;
 import uno.view.api.GameFrame;
 import uno.view.api.CardViewData;
 import uno.view.api.GameViewData;
@@ -20,11 +25,11 @@ import uno.view.scenes.api.GameScene;
 import uno.view.scenes.api.MenuScene;
 import uno.view.scenes.impl.MenuSceneImpl;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
-import javax.swing.Timer;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
+import javax.swing.SwingUtilities;
 import java.util.Optional;
 import java.awt.Container;
 
@@ -42,8 +47,12 @@ public class GameControllerImpl implements GameController {
     private final Game gameModel;
     private final GameScene gameScene;
     private final GameFrame mainFrame;
+    private final GameLogger logger;
 
-    private Optional<Timer> aiTimer = Optional.empty();
+    private final AIWorker aiWorker = new AIWorkerImpl(SwingUtilities::invokeLater);
+    private boolean applyingAIDecision;
+    private List<PlayerViewData> playerViews = List.of();
+    private Optional<CardViewData> topCardView = Optional.empty();
 
     /**
      * Constructs the GameControllerImpl with the given Model, View, and Main Frame.
@@ -54,12 +63,29 @@ public class GameControllerImpl implements GameController {
      * @param mainFrame the main application window to control scene transitions and
      *                  popups.
      */
-    @SuppressFBWarnings("EI_EXPOSE_REP2")
     public GameControllerImpl(final Game gameModel, final GameScene gameScene,
             final GameFrame mainFrame) {
+        this(gameModel, gameScene, mainFrame, new SilentGameLogger());
+    }
+
+    /**
+     * Constructs the GameControllerImpl with the logger of the game, which is
+     * closed in the background when the game is over or abandoned.
+     * 
+     * @param gameModel the game logic and state.
+     * @param gameScene the view representing the game board and player
+     *                  interactions.
+     * @param mainFrame the main application window to control scene transitions and
+     *                  popups.
+     * @param logger    the logger used by the game.
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public GameControllerImpl(final Game gameModel, final GameScene gameScene,
+            final GameFrame mainFrame, final GameLogger logger) {
         this.gameModel = gameModel;
         this.gameScene = gameScene;
         this.mainFrame = mainFrame;
+        this.logger = logger;
         this.gameModel.addObserver(this);
     }
 
@@ -78,21 +104,26 @@ public class GameControllerImpl implements GameController {
      */
     @Override
     public void onGameUpdate() {
+        onGameUpdate(EnumSet.allOf(GameChange.class));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onGameUpdate(final Set<GameChange> changes) {
         if (gameModel.getGameState() == GameState.GAME_OVER) {
-            if (aiTimer.isPresent()) {
-                aiTimer.get().stop();
-            }
+            aiWorker.close();
 
             gameScene.setHumanInputEnabled(false);
+            closeLogger();
             final AbstractPlayer winner = gameModel.getWinner();
             gameScene.showWinnerPopup(winner.getName());
             return;
         }
 
         if (gameModel.getGameState() == GameState.ROUND_OVER) {
-            if (aiTimer.isPresent()) {
-                aiTimer.get().stop();
-            }
+            aiWorker.cancel();
 
             gameScene.setHumanInputEnabled(false);
             final AbstractPlayer roundWinner = gameModel.getWinner();
@@ -102,8 +133,8 @@ public class GameControllerImpl implements GameController {
             return;
         }
 
-        final GameViewData viewData = createGameViewData();
-        gameScene.updateView(viewData);
+        final GameViewData viewData = createGameViewData(changes);
+        gameScene.updateView(viewData, changes);
         final boolean isHumanTurn = gameModel.getCurrentPlayer().getClass() == HumanPlayer.class;
 
         if (isHumanTurn) {
@@ -122,31 +153,37 @@ public class GameControllerImpl implements GameController {
     /**
      * Creates a GameViewData object that encapsulates all the necessary information
      * about the current game state, players, and cards to be displayed in the view.
+     * The players and the top card are converted again only if they changed.
      * 
+     * @param changes the aspects of the game that changed since the last update.
      * @return a GameViewData instance with the current game information.
      */
-    private GameViewData createGameViewData() {
+    private GameViewData createGameViewData(final Set<GameChange> changes) {
         final GameState state = gameModel.getGameState();
 
-        final List<PlayerViewData> playerViewDataList = gameModel.getPlayers().stream()
-                .map(this::createPlayerViewData)
-                .collect(Collectors.toList());
+        if (playerViews.isEmpty() || changes.contains(GameChange.HANDS) || changes.contains(GameChange.TURN)
+                || changes.contains(GameChange.SCORES)) {
+            playerViews = gameModel.getPlayers().stream()
+                    .map(this::createPlayerViewData)
+                    .collect(Collectors.toList());
+        }
+        if (changes.contains(GameChange.TOP_CARD)) {
+            topCardView = gameModel.getTopDiscardCard().map(this::createCardViewData);
+        }
 
-        final PlayerViewData currentPlayer = createPlayerViewData(gameModel.getCurrentPlayer());
+        final PlayerViewData currentPlayer = playerViews.get(
+                gameModel.getPlayers().indexOf(gameModel.getCurrentPlayer()));
 
         final PlayerViewData winner = gameModel.getGameState() == GameState.GAME_OVER 
                                     || gameModel.getGameState() == GameState.ROUND_OVER
                 ? createPlayerViewData(gameModel.getWinner())
                 : null;
 
-        final Optional<CardViewData> topCard = gameModel.getTopDiscardCard()
-                .map(this::createCardViewData);
-
         return new GameViewDataImpl(
                 state,
-                playerViewDataList,
+                playerViews,
                 currentPlayer,
-                topCard,
+                topCardView,
                 gameModel.isDiscardPileEmpty(),
                 gameModel.getDrawDeck().size(),
                 gameModel.getCurrentColor(),
@@ -195,11 +232,22 @@ public class GameControllerImpl implements GameController {
     }
 
     /**
-     * Check if the current player is an AI and, if so, schedule its turn after a
-     * short delay.
+     * Check if the current player is an AI and, if so, let the AI worker decide
+     * its next step off the event dispatch thread. The first step of a turn is
+     * handed back after a short delay, the AI thinking meanwhile; the following
+     * ones (the card after a draw, the color, the target) as soon as they are ready.
+     * Thinking starts when the AI player becomes current, not earlier.
+     * A step is applied as a single update of the model, which is only
+     * displayed: the next step is scheduled once it is over.
      */
     private void checkAndRunAITurn() {
-        if (gameModel.getGameState() != GameState.RUNNING) {
+        if (applyingAIDecision) {
+            return;
+        }
+        final GameState state = gameModel.getGameState();
+        if (state != GameState.RUNNING && state != GameState.WAITING_FOR_COLOR
+                && state != GameState.WAITING_FOR_PLAYER) {
+            aiWorker.cancel();
             return;
         }
 
@@ -207,22 +255,33 @@ public class GameControllerImpl implements GameController {
 
         if (currentPlayer instanceof AbstractAIPlayer) {
             gameScene.setHumanInputEnabled(false);
-
-            final ActionListener aiTask = new ActionListener() {
-                /**
-                 * When the timer triggers, this method is called to execute the AI player's turn.
-                 */
-                @Override
-                public void actionPerformed(final ActionEvent e) {
-                    ((AbstractAIPlayer) currentPlayer).takeTurn(gameModel);
-                }
-            };
-
-            aiTimer = Optional.of(new Timer(AI_DELAY, aiTask));
-            aiTimer.get().setRepeats(false);
-            aiTimer.get().start();
+            final AbstractAIPlayer aiPlayer = (AbstractAIPlayer) currentPlayer;
+            final boolean turnStart = state == GameState.RUNNING && !gameModel.hasCurrentPlayerDrawn(aiPlayer);
+            aiWorker.think(aiPlayer, gameModel, turnStart ? AI_DELAY : 0,
+                    decision -> applyAIDecision(aiPlayer, decision));
         } else {
-            gameScene.setHumanInputEnabled(true);
+            aiWorker.cancel();
+            if (state == GameState.RUNNING) {
+                gameScene.setHumanInputEnabled(true);
+            }
+        }
+    }
+
+    /**
+     * Applies a step decided by the AI worker, then schedules the next one.
+     * 
+     * @param aiPlayer the AI player who decided.
+     * @param decision the decision.
+     */
+    private void applyAIDecision(final AbstractAIPlayer aiPlayer, final AIDecision decision) {
+        applyingAIDecision = true;
+        try {
+            gameModel.batchUpdates(() -> aiPlayer.apply(gameModel, decision));
+        } finally {
+            applyingAIDecision = false;
+        }
+        if (decision.kind() != AIDecision.Kind.NONE) {
+            checkAndRunAITurn();
         }
     }
 
@@ -262,12 +321,22 @@ public class GameControllerImpl implements GameController {
         }
     }
 
+    /**
+     * Closes the logger of the game on a background thread, so that the EDT
+     * does not wait for the pending events to be written.
+     */
+    private void closeLogger() {
+        Thread.ofVirtual().name("uno-log-close").start(logger::close);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void onBackToMenu() {
         if (gameScene.confirmExit()) {
+            aiWorker.close();
+            closeLogger();
             final MenuController menuController = new MenuControllerImpl(mainFrame);
             final MenuScene menuScene = new MenuSceneImpl();
             menuScene.setObserver(menuController);
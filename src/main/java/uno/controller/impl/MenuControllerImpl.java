@@ -13,6 +13,8 @@ import uno.model.players.impl.AIClassic;
 import uno.model.players.impl.AIFlip;
 import uno.model.players.impl.AbstractPlayer;
 import uno.model.players.impl.HumanPlayer;
+import uno.model.utils.api.GameLogger;
+import uno.model.utils.impl.AsyncGameLoggerImpl;
 import uno.view.api.GameFrame;
 import uno.view.scenes.api.GameScene;
 import uno.view.scenes.api.RulesScene;
@@ -86,10 +88,12 @@ public class MenuControllerImpl implements MenuController {
     private void startGame(final GameMode gameMode) {
         final List<AbstractPlayer> players = createPlayers(gameMode);
 
-        final GameFactory factory = new GameFactoryImpl(currentRules);
+        // Closed by the game controller when the game ends or is abandoned
+        final GameLogger logger = new AsyncGameLoggerImpl(GameFactoryImpl.nextMatchId());
+        final GameFactory factory = new GameFactoryImpl(currentRules, logger);
         final Game gameModel = factory.createGame(HUMAN_NAME, gameMode, players);
         final GameScene gameScene = new GameSceneImpl();
-        final GameController gameController = new GameControllerImpl(gameModel, gameScene, frame);
+        final GameController gameController = new GameControllerImpl(gameModel, gameScene, frame, logger);
 
         gameScene.setObserver(gameController);
 
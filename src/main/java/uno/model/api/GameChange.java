@@ -0,0 +1,44 @@
+package uno.model.api;
+
+/**
+ * The aspects of the game that observers display, each of which a
+ * notification may report as changed (see {@link GameModelObserver#onGameUpdate(java.util.Set)}).
+ */
+public enum GameChange {
+
+    /**
+     * The cards held by the players, or the side of the cards they show.
+     */
+    HANDS,
+
+    /**
+     * The top card of the discard pile.
+     */
+    TOP_CARD,
+
+    /**
+     * The active color.
+     */
+    COLOR,
+
+    /**
+     * The current player, the direction of play, or whether the current
+     * player has drawn.
+     */
+    TURN,
+
+    /**
+     * The scores of the players.
+     */
+    SCORES,
+
+    /**
+     * The state of the game, such as waiting for a color or a target.
+     */
+    STATE,
+
+    /**
+     * The number of cards left in the draw deck.
+     */
+    DECK
+}
@@ -1,5 +1,7 @@
 package uno.model.api;
 
+import java.util.Set;
+
 /**
  * Interface for observers of the Game Model. Observers will be notified of changes in the game state
  * and should update their views accordingly.
@@ -11,4 +13,16 @@ public interface GameModelObserver {
      * Called by the Game Model to notify the observer of a change in the game state.
      */
     void onGameUpdate();
+
+    /**
+     * Called by the Game Model once per player action, with the aspects of
+     * the game that the action changed. Observers that refresh only what
+     * changed override this; by default it refreshes everything.
+     *
+     * @param changes The aspects that changed, empty if the action changed
+     *                nothing that is shown.
+     */
+    default void onGameUpdate(final Set<GameChange> changes) {
+        onGameUpdate();
+    }
 }
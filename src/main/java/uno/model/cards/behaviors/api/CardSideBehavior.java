@@ -62,6 +62,16 @@ public interface CardSideBehavior {
      * @return true if the card allows changing color, false otherwise.
      */
     default boolean isWild() {
-        return getColor().name().contains("WILD");
+        return getColor() == CardColor.WILD;
+    }
+
+    /**
+     * Checks if this side is the plain back of a single-sided card, which has
+     * neither color nor value.
+     * 
+     * @return true for the card back, false for every playable face.
+     */
+    default boolean isBack() {
+        return false;
     }
 }
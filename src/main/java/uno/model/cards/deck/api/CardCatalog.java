@@ -0,0 +1,73 @@
+package uno.model.cards.deck.api;
+
+import java.util.List;
+
+import uno.model.cards.types.api.Card;
+
+/**
+ * Interface representing the immutable set of physical cards of a game mode.
+ * A catalog is built once per JVM and shared by every game of that mode: each
+ * physical card is a single immutable {@link Card} instance identified by a small
+ * integer id, from 0 to {@code size() - 1}. Decks, hands and discard piles hold
+ * references into the catalog instead of creating their own cards.
+ */
+public interface CardCatalog {
+
+    /**
+     * Gets the number of physical cards in the catalog.
+     * 
+     * @return the size of a full deck of this mode.
+     */
+    int size();
+
+    /**
+     * Gets the card with the given id.
+     * 
+     * @param id the id of the card, from 0 to {@code size() - 1}.
+     * @return the card whose {@link Card#getId()} is {@code id}.
+     * @throws IndexOutOfBoundsException if the id is not in the catalog.
+     */
+    Card getCard(int id);
+
+    /**
+     * Gets the id of a card of this catalog.
+     * 
+     * @param card the card.
+     * @return the id of the card.
+     * @throws IllegalArgumentException if the card does not belong to this catalog.
+     */
+    int idOf(Card card);
+
+    /**
+     * Gets the face id of a card: the lowest id among the copies with the same
+     * two sides. Copies are interchangeable in play, so searches can treat them
+     * as a single move.
+     * 
+     * @param id the id of the card.
+     * @return the id of the first copy of the card.
+     */
+    int faceOf(int id);
+
+    /**
+     * Checks if a card is one of the cards of this catalog.
+     * 
+     * @param card the card.
+     * @return true if the card is the catalog card with its id.
+     */
+    boolean contains(Card card);
+
+    /**
+     * Gets the table of legal moves between the cards of this catalog, built
+     * together with the catalog.
+     * 
+     * @return the compatibility table.
+     */
+    CompatibilityTable getCompatibility();
+
+    /**
+     * Gets every card of the catalog, ordered by id.
+     * 
+     * @return an unmodifiable list of the cards.
+     */
+    List<Card> getCards();
+}
@@ -0,0 +1,26 @@
+package uno.model.cards.deck.api;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.attributes.CardValue;
+
+/**
+ * Precomputed answer to "can this card be played?" for every card of a
+ * {@link CardCatalog}.
+ * A card can be played when its active face is Wild, has the active color or
+ * has the same value as the top card. The color of the top card only matters
+ * through the active color, so the table is indexed by side, card id, active
+ * color and top value, and every lookup is a couple of bit tests.
+ */
+public interface CompatibilityTable {
+
+    /**
+     * Checks if a card can be played.
+     * 
+     * @param cardId      the id of the card in the catalog.
+     * @param darkSide    true if the game is on the dark side.
+     * @param activeColor the color to match: the chosen color, or the color of the top card.
+     * @param topValue    the value of the top card.
+     * @return true if the move is valid.
+     */
+    boolean canBePlayed(int cardId, boolean darkSide, CardColor activeColor, CardValue topValue);
+}
@@ -64,6 +64,16 @@ public interface Deck<T extends Card> {
      */
     int size();
 
+    /**
+     * Gets the catalog the cards of this deck come from, if the deck is built
+     * from one.
+     * 
+     * @return the catalog, or empty for decks of arbitrary cards.
+     */
+    default Optional<CardCatalog> getCatalog() {
+        return Optional.empty();
+    }
+
     /**
      * Getter of the logger.
      * 
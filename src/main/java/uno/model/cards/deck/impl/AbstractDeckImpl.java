@@ -3,9 +3,10 @@ package uno.model.cards.deck.impl;
 import uno.model.cards.deck.api.Deck;
 import uno.model.cards.types.api.Card;
 import uno.model.utils.api.GameLogger;
+import uno.model.utils.api.GameRandom;
+import uno.model.utils.impl.GameRandomImpl;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +21,7 @@ import java.util.Optional;
 public abstract class AbstractDeckImpl<T extends Card> implements Deck<T> {
 
     private final GameLogger logger;
+    private final GameRandom random;
     private final List<T> cards;
 
     /**
@@ -30,7 +32,18 @@ public abstract class AbstractDeckImpl<T extends Card> implements Deck<T> {
      * @param logger logger for logging deck operations.
      */
     public AbstractDeckImpl(final GameLogger logger) {
+        this(logger, new GameRandomImpl());
+    }
+
+    /**
+     * Constructor with a custom random source. Initializes an empty deck.
+     * 
+     * @param logger logger for logging deck operations.
+     * @param random random source used to shuffle the deck.
+     */
+    public AbstractDeckImpl(final GameLogger logger, final GameRandom random) {
         this.logger = logger;
+        this.random = random;
         this.cards = new ArrayList<>();
     }
 
@@ -42,7 +55,19 @@ public abstract class AbstractDeckImpl<T extends Card> implements Deck<T> {
      * @param logger logger
      */
     public AbstractDeckImpl(final List<T> initialCards, final GameLogger logger) {
+        this(initialCards, logger, new GameRandomImpl());
+    }
+
+    /**
+     * Constructor that accepts an initial set of cards and a custom random source.
+     * 
+     * @param initialCards The cards to start with.
+     * @param logger logger
+     * @param random random source used to shuffle the deck.
+     */
+    public AbstractDeckImpl(final List<T> initialCards, final GameLogger logger, final GameRandom random) {
         this.logger = logger;
+        this.random = random;
         this.cards = new ArrayList<>(initialCards);
         shuffle();
     }
@@ -53,7 +78,7 @@ public abstract class AbstractDeckImpl<T extends Card> implements Deck<T> {
     @Override
     public final void shuffle() {
         if (!cards.isEmpty()) {
-            Collections.shuffle(cards);
+            random.shuffle(cards);
         }
     }
 
@@ -1,12 +1,16 @@
 package uno.model.cards.deck.impl;
 
+import java.util.Optional;
+
 import uno.model.cards.attributes.CardValue;
 import uno.model.cards.behaviors.api.CardSideBehavior;
 import uno.model.cards.behaviors.impl.BackSideBehavior;
 import uno.model.cards.behaviors.impl.WildBehavior;
+import uno.model.cards.deck.api.CardCatalog;
 import uno.model.cards.types.api.Card;
-import uno.model.cards.types.impl.DoubleSidedCard;
 import uno.model.utils.api.GameLogger;
+import uno.model.utils.api.GameRandom;
+import uno.model.utils.impl.GameRandomImpl;
 
 /**
  * Represents the deck for the "Uno All Wild" variant.
@@ -23,69 +27,96 @@ public class AllWildDeck extends AbstractDeckImpl<Card> {
      * @param logger logger for logging deck operations.
      */
     public AllWildDeck(final GameLogger logger) {
-        super(logger);
-        initializeDeck();
+        this(logger, new GameRandomImpl());
+    }
+
+    /**
+     * Constructs an All Wild Deck whose shuffles use the given random source.
+     * 
+     * @param logger logger for logging deck operations.
+     * @param random random source of the game, used for every shuffle.
+     */
+    public AllWildDeck(final GameLogger logger, final GameRandom random) {
+        super(logger, random);
+        refill(catalog().getCards());
         shuffle();
     }
 
     /**
-     * Populates the deck with 112 Wild cards.
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<CardCatalog> getCatalog() {
+        return Optional.of(catalog());
+    }
+
+    /**
+     * Gets the catalog of the All Wild cards, shared by every All Wild deck.
+     * 
+     * @return the catalog of the 112 Wild cards.
+     */
+    public static CardCatalog catalog() {
+        return CatalogHolder.CATALOG;
+    }
+
+    /**
+     * Builds the catalog of the 112 Wild cards.
      * Note: In "All Wild", cards do NOT require a color choice 
      * because they match everything. We set `requiresColorChoice` to false.
+     * 
+     * @return the catalog of the All Wild cards.
      */
-    private void initializeDeck() {
-        for (int i = 0; i < CARDS_OF_EACH_TYPE; i++) {
-
-            // Classic Wild
-            createAndAddCard(new WildBehavior(
-                CardValue.WILD_ALLWILD, 0, false, false, 0, false
-            ));
-
-            // Wild Draw 4
-            createAndAddCard(new WildBehavior(
-                CardValue.WILD_DRAW_FOUR_ALLWILD, 4, false, false, 1, false
-            ));
-
-            // Wild Draw 2
-            createAndAddCard(new WildBehavior(
-                CardValue.WILD_DRAW_TWO_ALLWILD, 2, false, false, 1, false
-            ));
-
-            // Wild Reverse
-            createAndAddCard(new WildBehavior(
-                CardValue.WILD_REVERSE, 0, false, false, 0, true
-            ));
-
-            // Wild Skip
-            createAndAddCard(new WildBehavior(
-                CardValue.WILD_SKIP, 0, false, false, 1, false
-            ));
-
-            // Wild Skip Two
-            createAndAddCard(new WildBehavior(
-                CardValue.WILD_SKIP_TWO, 0, false, false, 2, false
-            ));
-
-            // Forced Swap
-            createAndAddCard(new WildBehavior(
-                CardValue.WILD_FORCED_SWAP, 0, false, true, 0, false
-            ));
-
-            // Targeted Draw Two
-            createAndAddCard(new WildBehavior(
-                CardValue.WILD_TARGETED_DRAW_TWO, 0, false, true, 0, false
-            ));
-        }
+    private static CardCatalog buildCatalog() {
+        final CardCatalogImpl.Builder builder = new CardCatalogImpl.Builder();
+        final CardSideBehavior back = BackSideBehavior.getInstance();
+
+        // Classic Wild
+        builder.add(new WildBehavior(
+            CardValue.WILD_ALLWILD, 0, false, false, 0, false
+        ), back, CARDS_OF_EACH_TYPE);
+
+        // Wild Draw 4
+        builder.add(new WildBehavior(
+            CardValue.WILD_DRAW_FOUR_ALLWILD, 4, false, false, 1, false
+        ), back, CARDS_OF_EACH_TYPE);
+
+        // Wild Draw 2
+        builder.add(new WildBehavior(
+            CardValue.WILD_DRAW_TWO_ALLWILD, 2, false, false, 1, false
+        ), back, CARDS_OF_EACH_TYPE);
+
+        // Wild Reverse
+        builder.add(new WildBehavior(
+            CardValue.WILD_REVERSE, 0, false, false, 0, true
+        ), back, CARDS_OF_EACH_TYPE);
+
+        // Wild Skip
+        builder.add(new WildBehavior(
+            CardValue.WILD_SKIP, 0, false, false, 1, false
+        ), back, CARDS_OF_EACH_TYPE);
+
+        // Wild Skip Two
+        builder.add(new WildBehavior(
+            CardValue.WILD_SKIP_TWO, 0, false, false, 2, false
+        ), back, CARDS_OF_EACH_TYPE);
+
+        // Forced Swap
+        builder.add(new WildBehavior(
+            CardValue.WILD_FORCED_SWAP, 0, false, true, 0, false
+        ), back, CARDS_OF_EACH_TYPE);
+
+        // Targeted Draw Two
+        builder.add(new WildBehavior(
+            CardValue.WILD_TARGETED_DRAW_TWO, 0, false, true, 0, false
+        ), back, CARDS_OF_EACH_TYPE);
+
+        return builder.build();
     }
 
     /**
-     * Helper to create the DoubleSidedCard.
-     * Front is the Wild Action, Back is Standard.
-     * 
-     * @param frontBehavior The behavior for the front side of the card.
+     * Lazily builds the catalog the first time an All Wild deck is created.
      */
-    private void createAndAddCard(final CardSideBehavior frontBehavior) {
-        final Card card = new DoubleSidedCard(frontBehavior, BackSideBehavior.getInstance());
-        this.addCard(card);
+    private static final class CatalogHolder {
+        private static final CardCatalog CATALOG = buildCatalog();
     }
 }
@@ -0,0 +1,154 @@
+package uno.model.cards.deck.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import uno.model.cards.behaviors.api.CardSideBehavior;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.deck.api.CompatibilityTable;
+import uno.model.cards.types.api.Card;
+import uno.model.cards.types.impl.DoubleSidedCard;
+
+/**
+ * Immutable implementation of {@link CardCatalog}.
+ * Catalogs are assembled with a {@link Builder}, which gives every card the next
+ * free id and shares one behavior instance between the cards with the same face.
+ */
+public final class CardCatalogImpl implements CardCatalog {
+
+    private final List<Card> cards;
+    private final int[] faces;
+    private final CompatibilityTable compatibility;
+
+    /**
+     * Creates a catalog from cards whose ids match their position.
+     * 
+     * @param cards the cards, ordered by id.
+     */
+    private CardCatalogImpl(final List<Card> cards) {
+        this.cards = List.copyOf(cards);
+        this.faces = new int[this.cards.size()];
+        final Map<List<CardSideBehavior>, Integer> firstCopies = new HashMap<>();
+        for (final Card card : this.cards) {
+            faces[card.getId()] = firstCopies.computeIfAbsent(List.of(card.getSide(false), card.getSide(true)),
+                    k -> card.getId());
+        }
+        this.compatibility = new CompatibilityTableImpl(this.cards);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return cards.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Card getCard(final int id) {
+        return cards.get(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int idOf(final Card card) {
+        if (!contains(card)) {
+            throw new IllegalArgumentException("Card does not belong to this catalog: " + card);
+        }
+        return card.getId();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int faceOf(final int id) {
+        return faces[id];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(final Card card) {
+        final int id = card.getId();
+        return id >= 0 && id < cards.size() && cards.get(id) == card;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompatibilityTable getCompatibility() {
+        return compatibility;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Card> getCards() {
+        return cards;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "CardCatalog{size=" + size() + "}";
+    }
+
+    /**
+     * Collects the cards of a catalog. Not thread-safe: a catalog is built once,
+     * by the thread that first needs it.
+     */
+    static final class Builder {
+
+        private final List<Card> cards = new ArrayList<>();
+        private final Map<Object, CardSideBehavior> behaviors = new HashMap<>();
+
+        /**
+         * Returns the shared behavior for a face, creating it on first use.
+         * 
+         * @param key     an object identifying the face, such as its color and value.
+         * @param factory creates the behavior the first time the face is seen.
+         * @return the behavior shared by every card with this face.
+         */
+        CardSideBehavior behavior(final Object key, final Supplier<CardSideBehavior> factory) {
+            return behaviors.computeIfAbsent(key, k -> factory.get());
+        }
+
+        /**
+         * Adds copies of a physical card, each one with its own id.
+         * 
+         * @param lightSide the behavior of the light side.
+         * @param darkSide  the behavior of the dark side.
+         * @param copies    how many physical copies the deck contains.
+         * @return this builder.
+         */
+        Builder add(final CardSideBehavior lightSide, final CardSideBehavior darkSide, final int copies) {
+            for (int i = 0; i < copies; i++) {
+                cards.add(new DoubleSidedCard(cards.size(), lightSide, darkSide));
+            }
+            return this;
+        }
+
+        /**
+         * Creates the immutable catalog.
+         * 
+         * @return the catalog containing every card added so far.
+         */
+        CardCatalog build() {
+            return new CardCatalogImpl(cards);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package uno.model.cards.deck.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.deck.api.Deck;
+import uno.model.cards.types.api.Card;
+import uno.model.utils.api.GameLogger;
+import uno.model.utils.api.GameRandom;
+
+/**
+ * Allocation-free implementation of {@link Deck} that stores the ids of the cards
+ * of a {@link CardCatalog} in an int array instead of a list of references.
+ * The top of the deck is the last used slot of the array, so drawing only moves a
+ * cursor, and shuffling is an in-place Fisher-Yates over the ids.
+ * The {@link Deck} methods are adapters that translate ids from and to the shared
+ * catalog cards; the primitive methods ({@link #drawId()}, {@link #peekId()},
+ * {@link #addId(int)}) avoid the translation altogether.
+ * Every card added to the deck must belong to its catalog.
+ */
+public final class CompactDeck implements Deck<Card> {
+
+    private final CardCatalog catalog;
+    private final GameLogger logger;
+    private final GameRandom random;
+    private int[] ids;
+    private int size;
+
+    /**
+     * Constructs a full, shuffled deck with every card of the catalog.
+     * 
+     * @param catalog the catalog of the game mode.
+     * @param logger  logger for logging deck operations.
+     * @param random  random source of the game, used for every shuffle.
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public CompactDeck(final CardCatalog catalog, final GameLogger logger, final GameRandom random) {
+        this.catalog = catalog;
+        this.logger = logger;
+        this.random = random;
+        this.ids = new int[catalog.size()];
+        for (int id = 0; id < ids.length; id++) {
+            ids[id] = id;
+        }
+        this.size = ids.length;
+        shuffle();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shuffle() {
+        for (int i = size - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int id = ids[i];
+            ids[i] = ids[j];
+            ids[j] = id;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Card> draw() {
+        final int id = drawId();
+        return id == Card.NO_ID ? Optional.empty() : Optional.of(catalog.getCard(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Card> peek() {
+        final int id = peekId();
+        return id == Card.NO_ID ? Optional.empty() : Optional.of(catalog.getCard(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if the card does not belong to the catalog of this deck.
+     */
+    @Override
+    public void addCard(final Card card) {
+        if (card != null) {
+            addId(catalog.idOf(card));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if a card does not belong to the catalog of this deck.
+     */
+    @Override
+    public void refill(final List<Card> newCards) {
+        if (newCards != null) {
+            for (final Card card : newCards) {
+                addCard(card);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameLogger getLogger() {
+        return logger;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<CardCatalog> getCatalog() {
+        return Optional.of(catalog);
+    }
+
+    /**
+     * Removes the card at the top of the deck.
+     * 
+     * @return the id of the drawn card, or {@link Card#NO_ID} if the deck is empty.
+     */
+    public int drawId() {
+        return size == 0 ? Card.NO_ID : ids[--size];
+    }
+
+    /**
+     * Gets the card at the top of the deck without removing it.
+     * 
+     * @return the id of the top card, or {@link Card#NO_ID} if the deck is empty.
+     */
+    public int peekId() {
+        return size == 0 ? Card.NO_ID : ids[size - 1];
+    }
+
+    /**
+     * Puts a card on top of the deck.
+     * 
+     * @param id the id of the card in the catalog.
+     */
+    public void addId(final int id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(1, ids.length * 2));
+        }
+        ids[size++] = id;
+    }
+
+    /**
+     * Copies the ids of the deck, bottom first.
+     * 
+     * @param target the array to fill; it must be at least as long as the deck.
+     * @return the number of ids copied.
+     */
+    public int copyIdsTo(final int[] target) {
+        System.arraycopy(ids, 0, target, 0, size);
+        return size;
+    }
+
+    /**
+     * Replaces the content of the deck with the given ids, bottom first.
+     * 
+     * @param source the ids to copy.
+     * @param count  how many ids, from the start of the array, are cards.
+     */
+    public void restoreIds(final int[] source, final int count) {
+        if (count > ids.length) {
+            ids = new int[count];
+        }
+        System.arraycopy(source, 0, ids, 0, count);
+        size = count;
+    }
+
+    /**
+     * Replaces the content of an empty deck with the ids held by another buffer,
+     * then shuffles it. No card is copied: the deck adopts the given array and
+     * hands back its own, now unused, array for the caller to reuse.
+     * 
+     * @param newIds  the buffer to adopt; the deck owns it after the call.
+     * @param newSize how many ids, from the start of the buffer, are cards.
+     * @return the previous buffer of the deck.
+     * @throws IllegalStateException if the deck is not empty.
+     */
+    @SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+    public int[] swapBuffer(final int[] newIds, final int newSize) {
+        if (size != 0) {
+            throw new IllegalStateException("Cannot swap the buffer of a deck that still has " + size + " cards");
+        }
+        final int[] previous = ids;
+        ids = newIds;
+        size = newSize;
+        shuffle();
+        return previous;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "CompactDeck{size=" + size() + "}";
+    }
+}
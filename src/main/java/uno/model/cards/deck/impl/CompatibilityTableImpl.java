@@ -0,0 +1,110 @@
+package uno.model.cards.deck.impl;
+
+import java.util.List;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.attributes.CardValue;
+import uno.model.cards.behaviors.api.CardSideBehavior;
+import uno.model.cards.deck.api.CompatibilityTable;
+import uno.model.cards.types.api.Card;
+
+/**
+ * Bitset implementation of {@link CompatibilityTable}.
+ * For each side it keeps, per color, the set of card ids that can be played on
+ * that color (the cards of that color plus the Wild cards) and, per value, the
+ * set of card ids with that value. Card backs are never playable.
+ */
+final class CompatibilityTableImpl implements CompatibilityTable {
+
+    private static final int SIDES = 2;
+    private static final int DARK = 1;
+    private static final int COLORS = CardColor.values().length;
+    private static final int VALUES = CardValue.values().length;
+
+    private final int words;
+    private final long[] byColor;
+    private final long[] byValue;
+
+    /**
+     * Builds the table for the cards of a catalog.
+     * 
+     * @param cards the cards, ordered by id.
+     */
+    CompatibilityTableImpl(final List<Card> cards) {
+        this.words = (cards.size() + Long.SIZE - 1) / Long.SIZE;
+        this.byColor = new long[SIDES * COLORS * words];
+        this.byValue = new long[SIDES * VALUES * words];
+
+        for (int id = 0; id < cards.size(); id++) {
+            for (int side = 0; side < SIDES; side++) {
+                final CardSideBehavior face = cards.get(id).getSide(side == DARK);
+                if (face.isBack()) {
+                    continue;
+                }
+                if (face.getColor() == CardColor.WILD) {
+                    for (final CardColor color : CardColor.values()) {
+                        set(byColor, colorRow(side == DARK, color), id);
+                    }
+                } else {
+                    set(byColor, colorRow(side == DARK, face.getColor()), id);
+                }
+                set(byValue, valueRow(side == DARK, face.getValue()), id);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canBePlayed(final int cardId, final boolean darkSide, final CardColor activeColor,
+            final CardValue topValue) {
+        return get(byColor, colorRow(darkSide, activeColor), cardId)
+                || get(byValue, valueRow(darkSide, topValue), cardId);
+    }
+
+    /**
+     * Computes the first word of the row of a color.
+     * 
+     * @param darkSide the side.
+     * @param color    the active color.
+     * @return the offset of the row in {@code byColor}.
+     */
+    private int colorRow(final boolean darkSide, final CardColor color) {
+        return ((darkSide ? COLORS : 0) + color.ordinal()) * words;
+    }
+
+    /**
+     * Computes the first word of the row of a value.
+     * 
+     * @param darkSide the side.
+     * @param value    the top value.
+     * @return the offset of the row in {@code byValue}.
+     */
+    private int valueRow(final boolean darkSide, final CardValue value) {
+        return ((darkSide ? VALUES : 0) + value.ordinal()) * words;
+    }
+
+    /**
+     * Sets the bit of a card in a row.
+     * 
+     * @param bits the table.
+     * @param row  the offset of the row.
+     * @param id   the id of the card.
+     */
+    private static void set(final long[] bits, final int row, final int id) {
+        bits[row + id / Long.SIZE] |= 1L << id;
+    }
+
+    /**
+     * Tests the bit of a card in a row.
+     * 
+     * @param bits the table.
+     * @param row  the offset of the row.
+     * @param id   the id of the card.
+     * @return true if the bit is set.
+     */
+    private static boolean get(final long[] bits, final int row, final int id) {
+        return (bits[row + id / Long.SIZE] & (1L << id)) != 0;
+    }
+}
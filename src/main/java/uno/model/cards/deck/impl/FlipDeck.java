@@ -16,19 +16,26 @@ import uno.model.cards.behaviors.impl.DrawBehavior;
 import uno.model.cards.behaviors.impl.FlipBehavior;
 import uno.model.cards.behaviors.impl.NumericBehavior;
 import uno.model.cards.behaviors.impl.WildBehavior;
+import uno.model.cards.deck.api.CardCatalog;
 import uno.model.cards.types.api.Card;
-import uno.model.cards.types.impl.DoubleSidedCard;
 import uno.model.game.api.Game;
 import uno.model.utils.api.GameLogger;
+import uno.model.utils.api.GameRandom;
+import uno.model.utils.impl.GameRandomImpl;
 
 import java.util.Locale;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import static java.util.logging.Level.SEVERE;
 
 import uno.model.cards.dto.CardSide;
 import uno.model.cards.dto.DoubleSidedEntryDTO;
 
 /**
  * Represents the deck for the "Uno Flip" variant.
- * This class loads the Light-to-Dark side mapping from a JSON resource file.
+ * This class loads the Light-to-Dark side mapping from a JSON resource file
+ * once per JVM into a shared {@link CardCatalog}.
  * It maps specific behaviors (like {@link FlipBehavior} or
  * {@link WildBehavior})
  * based on the card values defined in the configuration.
@@ -44,35 +51,69 @@ public class FlipDeck extends AbstractDeckImpl<Card> {
      * @param logger logger for logging deck operations.
      */
     public FlipDeck(final GameLogger logger) {
-        super(logger);
-        initializeDeck();
+        this(logger, new GameRandomImpl());
+    }
+
+    /**
+     * Constructs a new FlipDeck whose shuffles use the given random source.
+     * 
+     * @param logger logger for logging deck operations.
+     * @param random random source of the game, used for every shuffle.
+     */
+    public FlipDeck(final GameLogger logger, final GameRandom random) {
+        super(logger, random);
+        refill(catalog().getCards());
         shuffle();
     }
 
     /**
-     * Reads the JSON configuration and populates the deck.
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<CardCatalog> getCatalog() {
+        return Optional.of(catalog());
+    }
+
+    /**
+     * Gets the catalog of the Flip cards, shared by every Flip deck.
+     * The JSON configuration is read only once, when the first deck is created.
+     * 
+     * @return the catalog of the 112 Flip cards.
      */
-    private void initializeDeck() {
+    public static CardCatalog catalog() {
+        return CatalogHolder.CATALOG;
+    }
+
+    /**
+     * Reads the JSON configuration and builds the catalog.
+     * 
+     * @return the catalog of the Flip cards, empty if the resource cannot be read.
+     */
+    private static CardCatalog buildCatalog() {
         final Gson gson = new Gson();
+        final CardCatalogImpl.Builder builder = new CardCatalogImpl.Builder();
 
         try (InputStream is = FlipDeck.class.getResourceAsStream(RESOURCE_PATH)) {
             try (Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
                 final DoubleSidedEntryDTO[] mappings = gson.fromJson(reader, DoubleSidedEntryDTO[].class);
                 for (final DoubleSidedEntryDTO mapping : mappings) {
-                    addCardMappingToDeck(mapping);
+                    addCardMapping(builder, mapping);
                 }
             }
         } catch (final IOException e) {
-            this.getLogger().logError("Error during reading of resource file: " + RESOURCE_PATH, e);
+            Logger.getLogger(FlipDeck.class.getName())
+                    .log(SEVERE, "Error during reading of resource file: " + RESOURCE_PATH, e);
         }
+        return builder.build();
     }
 
     /**
-     * Creates Card instances from a mapping and adds them to the deck.
+     * Adds the cards described by a mapping to the catalog.
      * 
+     * @param builder The catalog being built.
      * @param mapping The mapping defining light and dark sides and count.
      */
-    private void addCardMappingToDeck(final DoubleSidedEntryDTO mapping) {
+    private static void addCardMapping(final CardCatalogImpl.Builder builder, final DoubleSidedEntryDTO mapping) {
         // Create Data Objects (Faces) locally
         final CardSide lightFace = new CardSide(
                 CardColor.valueOf(mapping.getLight().getColor().toUpperCase(Locale.ROOT)),
@@ -82,17 +123,13 @@ public class FlipDeck extends AbstractDeckImpl<Card> {
                 CardColor.valueOf(mapping.getDark().getColor().toUpperCase(Locale.ROOT)),
                 CardValue.valueOf(mapping.getDark().getValue().toUpperCase(Locale.ROOT)));
 
-        // Create Behaviors (Logic)
-        final CardSideBehavior lightBehavior = createBehavior(lightFace);
-        final CardSideBehavior darkBehavior = createBehavior(darkFace);
+        // Create Behaviors (Logic), shared by every card with the same face
+        final CardSideBehavior lightBehavior = builder.behavior(lightFace, () -> createBehavior(lightFace));
+        final CardSideBehavior darkBehavior = builder.behavior(darkFace, () -> createBehavior(darkFace));
 
-        // Add copies to the deck based on 'count'
+        // Add copies to the catalog based on 'count'
         final int quantity = (mapping.getCount() > 0) ? mapping.getCount() : 1;
-
-        for (int i = 0; i < quantity; i++) {
-            final Card card = new DoubleSidedCard(lightBehavior, darkBehavior);
-            this.addCard(card);
-        }
+        builder.add(lightBehavior, darkBehavior, quantity);
     }
 
     /**
@@ -102,7 +139,7 @@ public class FlipDeck extends AbstractDeckImpl<Card> {
      * @param side The card side data (color and value).
      * @return The corresponding CardSideBehavior instance.
      */
-    private CardSideBehavior createBehavior(final CardSide side) {
+    private static CardSideBehavior createBehavior(final CardSide side) {
         final CardColor c = side.color();
         final CardValue v = side.value();
 
@@ -137,4 +174,11 @@ public class FlipDeck extends AbstractDeckImpl<Card> {
                 return new NumericBehavior(c, v);
         }
     }
+
+    /**
+     * Lazily builds the catalog the first time a Flip deck is created.
+     */
+    private static final class CatalogHolder {
+        private static final CardCatalog CATALOG = buildCatalog();
+    }
 }
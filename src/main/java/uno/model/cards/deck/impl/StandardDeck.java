@@ -2,6 +2,7 @@ package uno.model.cards.deck.impl;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import uno.model.cards.attributes.CardColor;
 import uno.model.cards.attributes.CardValue;
@@ -11,34 +12,68 @@ import uno.model.cards.behaviors.impl.BackSideBehavior;
 import uno.model.cards.behaviors.impl.DrawBehavior;
 import uno.model.cards.behaviors.impl.NumericBehavior;
 import uno.model.cards.behaviors.impl.WildBehavior;
+import uno.model.cards.deck.api.CardCatalog;
 import uno.model.cards.types.api.Card;
 import uno.model.cards.types.impl.DoubleSidedCard;
 import uno.model.utils.api.GameLogger;
+import uno.model.utils.api.GameRandom;
+import uno.model.utils.impl.GameRandomImpl;
 import uno.model.game.api.Game;
 
 /**
  * Represents the deck for the "Uno Standard".
- * It extends {@link AbstractDeckImpl} and initializes the cards in the constructor
- * by creating {@link DoubleSidedCard} instances where the back side is always
- * the standard {@link BackSideBehavior}.
+ * It extends {@link AbstractDeckImpl} and fills itself from the standard
+ * {@link CardCatalog}, whose {@link DoubleSidedCard} instances always have the
+ * standard {@link BackSideBehavior} as back side.
  */
 public class StandardDeck extends AbstractDeckImpl<Card> {
 
+    private static final int WILD_COPIES = 4;
+
     /**
      * Constructs a new StandardDeck by populating it with the standard UNO cards (108 cards).
      * 
      * @param logger logger for logging deck operations.
      */
     public StandardDeck(final GameLogger logger) {
-        super(logger);
-        initializeDeck();
+        this(logger, new GameRandomImpl());
+    }
+
+    /**
+     * Constructs a new StandardDeck whose shuffles use the given random source.
+     * 
+     * @param logger logger for logging deck operations.
+     * @param random random source of the game, used for every shuffle.
+     */
+    public StandardDeck(final GameLogger logger, final GameRandom random) {
+        super(logger, random);
+        refill(catalog().getCards());
         shuffle();
     }
 
     /**
-     * Fills the deck according to standard UNO rules.
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<CardCatalog> getCatalog() {
+        return Optional.of(catalog());
+    }
+
+    /**
+     * Gets the catalog of the standard cards, shared by every standard deck.
+     * 
+     * @return the catalog of the 108 standard cards.
      */
-    private void initializeDeck() {
+    public static CardCatalog catalog() {
+        return CatalogHolder.CATALOG;
+    }
+
+    /**
+     * Builds the catalog according to standard UNO rules.
+     * 
+     * @return the catalog of the standard cards.
+     */
+    private static CardCatalog buildCatalog() {
         final List<CardColor> colors = Arrays.asList(
             CardColor.RED, CardColor.BLUE, CardColor.GREEN, CardColor.YELLOW
         );
@@ -48,45 +83,35 @@ public class StandardDeck extends AbstractDeckImpl<Card> {
             CardValue.FIVE, CardValue.SIX, CardValue.SEVEN, CardValue.EIGHT, CardValue.NINE
         );
 
+        final CardCatalogImpl.Builder builder = new CardCatalogImpl.Builder();
+        final CardSideBehavior back = BackSideBehavior.getInstance();
+
         for (final CardColor color : colors) {
             // ZERO (Only 1 per color)
-            createAndAddCard(new NumericBehavior(color, CardValue.ZERO));
+            builder.add(new NumericBehavior(color, CardValue.ZERO), back, 1);
 
             // NUMBERS 1-9 (2 per color)
             for (final CardValue value : numberValues) {
-                createAndAddCard(new NumericBehavior(color, value));
-                createAndAddCard(new NumericBehavior(color, value));
+                builder.add(new NumericBehavior(color, value), back, 2);
             }
 
             // ACTIONS (2 per color)
-            // Skip
-            createAndAddCard(new ActionBehavior(color, CardValue.SKIP, g -> g.skipPlayers(1)));
-            createAndAddCard(new ActionBehavior(color, CardValue.SKIP, g -> g.skipPlayers(1)));
-
-            // Reverse
-            createAndAddCard(new ActionBehavior(color, CardValue.REVERSE, Game::reversePlayOrder));
-            createAndAddCard(new ActionBehavior(color, CardValue.REVERSE, Game::reversePlayOrder));
-
-            // Draw Two
-            createAndAddCard(new DrawBehavior(color, CardValue.DRAW_TWO, 2));
-            createAndAddCard(new DrawBehavior(color, CardValue.DRAW_TWO, 2));
+            builder.add(new ActionBehavior(color, CardValue.SKIP, g -> g.skipPlayers(1)), back, 2);
+            builder.add(new ActionBehavior(color, CardValue.REVERSE, Game::reversePlayOrder), back, 2);
+            builder.add(new DrawBehavior(color, CardValue.DRAW_TWO, 2), back, 2);
         }
 
         // WILD CARDS (4 each)
-        for (int i = 0; i < 4; i++) {
-            createAndAddCard(new WildBehavior(CardValue.WILD, 0));
-            createAndAddCard(new WildBehavior(CardValue.WILD_DRAW_FOUR, 4));
-        }
+        builder.add(new WildBehavior(CardValue.WILD, 0), back, WILD_COPIES);
+        builder.add(new WildBehavior(CardValue.WILD_DRAW_FOUR, 4), back, WILD_COPIES);
+
+        return builder.build();
     }
 
     /**
-     * Helper method to wrap a behavior into a standard DoubleSidedCard.
-     * Uses the parent's addCard() method to insert it into the protected list.
-     * 
-     * @param frontBehavior The behavior for the front side of the card.
+     * Lazily builds the catalog the first time a standard deck is created.
      */
-    private void createAndAddCard(final CardSideBehavior frontBehavior) {
-        final Card card = new DoubleSidedCard(frontBehavior, BackSideBehavior.getInstance());
-        this.addCard(card);
+    private static final class CatalogHolder {
+        private static final CardCatalog CATALOG = buildCatalog();
     }
 }
@@ -2,6 +2,7 @@ package uno.model.cards.types.api;
 
 import uno.model.cards.attributes.CardColor;
 import uno.model.cards.attributes.CardValue;
+import uno.model.cards.behaviors.api.CardSideBehavior;
 import uno.model.game.api.Game;
 
 /**
@@ -12,6 +13,31 @@ import uno.model.game.api.Game;
  */
 public interface Card {
 
+    /**
+     * Id of the cards that do not belong to a card catalog.
+     */
+    int NO_ID = -1;
+
+    /**
+     * Gets the id of this physical card in the catalog of its game mode.
+     * Two copies of the same card (e.g. the two Red Sevens) have different ids.
+     * 
+     * @return the catalog id, or {@link #NO_ID} if the card was created outside a catalog.
+     */
+    default int getId() {
+        return NO_ID;
+    }
+
+    /**
+     * Gets one side of the card regardless of the game state, so that its color
+     * and value can be indexed once instead of being queried on every turn.
+     * 
+     * @param darkSide true for the dark side, false for the light side.
+     * @return the behavior of the requested side; it may be the card back
+     *         ({@link CardSideBehavior#isBack()}).
+     */
+    CardSideBehavior getSide(boolean darkSide);
+
     /**
      * Gets the current color of the card based on the game state.
      * 
@@ -71,6 +97,6 @@ public interface Card {
      * @return true if the card allows changing color, false otherwise.
      */
     default boolean isWild(final Game game) {
-        return getColor(game).name().contains("WILD");
+        return getColor(game) == CardColor.WILD;
     }
 }
@@ -17,6 +17,7 @@ import java.util.Objects;
  */
 public class DoubleSidedCard implements Card {
 
+    private final int id;
     private final CardSideBehavior lightSide;
     private final CardSideBehavior darkSide;
 
@@ -27,6 +28,18 @@ public class DoubleSidedCard implements Card {
      * @param darkSide  The behavior when the game is in Dark Mode.
      */
     public DoubleSidedCard(final CardSideBehavior lightSide, final CardSideBehavior darkSide) {
+        this(NO_ID, lightSide, darkSide);
+    }
+
+    /**
+     * Constructs a card of a card catalog.
+     * 
+     * @param id        The id of the card in its catalog.
+     * @param lightSide The behavior when the game is in Light Mode.
+     * @param darkSide  The behavior when the game is in Dark Mode.
+     */
+    public DoubleSidedCard(final int id, final CardSideBehavior lightSide, final CardSideBehavior darkSide) {
+        this.id = id;
         this.lightSide = Objects.requireNonNull(lightSide, "Light side behavior cannot be null");
         this.darkSide = Objects.requireNonNull(darkSide, "Dark side behavior cannot be null");
     }
@@ -41,6 +54,22 @@ public class DoubleSidedCard implements Card {
         return game.isDarkSide() ? darkSide : lightSide;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CardSideBehavior getSide(final boolean dark) {
+        return dark ? darkSide : lightSide;
+    }
+
     /**
      * {@inheritDoc}
      */
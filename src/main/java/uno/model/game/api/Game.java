@@ -26,10 +26,22 @@ public interface Game {
     void addObserver(GameModelObserver observer);
 
     /**
-     * Notifies all registered observers about a state change.
+     * Notifies all registered observers about a state change. During a batch
+     * of updates (see {@link #batchUpdates}) the notification is deferred to
+     * the end of the batch.
      */
     void notifyObservers();
 
+    /**
+     * Runs a player action as a single update: the notifications it causes
+     * are coalesced into one, sent when the action is over.
+     * 
+     * @param action The action to run.
+     */
+    default void batchUpdates(final Runnable action) {
+        action.run();
+    }
+
     /**
      * Processes a player's attempt to play a card.
      * 
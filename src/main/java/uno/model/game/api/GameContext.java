@@ -1,5 +1,6 @@
 package uno.model.game.api;
 
+import uno.model.api.GameChange;
 import uno.model.cards.attributes.CardColor;
 import uno.model.cards.types.api.Card;
 import uno.model.players.impl.AbstractPlayer;
@@ -65,6 +66,14 @@ public interface GameContext extends Game {
      */
     void setCurrentColorOptional(Optional<CardColor> color);
 
+    /**
+     * Records that an aspect of the game shown by the observers has changed,
+     * so that the next notification reports it.
+     * 
+     * @param change The aspect that changed.
+     */
+    void markChanged(GameChange change);
+
     /**
      * Sets the winner of the game.
      * 
@@ -77,4 +86,61 @@ public interface GameContext extends Game {
      */
     @Override
     void startNewRound();
+
+    /**
+     * Registers a listener of the moves made in the game. The players that
+     * provide a listener (see {@link AbstractPlayer#getGameEventListener()})
+     * are registered when the game is created.
+     *
+     * @param listener The listener.
+     */
+    void addEventListener(GameEventListener listener);
+
+    /**
+     * Gets the listener to which the states report the moves made in the game;
+     * it forwards them to every registered listener.
+     *
+     * @return The listener of the game.
+     */
+    GameEventListener getEvents();
+
+    /**
+     * Creates a snapshot of the current state of the game.
+     * 
+     * @return a new snapshot.
+     * @throws IllegalStateException if the game is not built on a card catalog.
+     */
+    GameSnapshot createSnapshot();
+
+    /**
+     * Copies the current state of the game into an existing snapshot, without allocating.
+     * 
+     * @param snapshot a snapshot created by a game with the same catalog and players.
+     * @throws IllegalArgumentException if the snapshot does not fit this game.
+     */
+    void captureSnapshot(GameSnapshot snapshot);
+
+    /**
+     * Brings the game back to the state stored in a snapshot, without notifying
+     * the observers and without logging.
+     * 
+     * @param snapshot a snapshot created by a game with the same catalog and players.
+     * @throws IllegalArgumentException if the snapshot does not fit this game.
+     */
+    void restoreSnapshot(GameSnapshot snapshot);
+
+    /**
+     * Applies a move of the current player, with the same calls an AI player
+     * makes: a color or target choice also ends the choice, and a call of UNO
+     * may be made by any player.
+     * A card is played by id if the player holds it, otherwise as the first
+     * held copy of it, so that moves may name any copy of a card.
+     * 
+     * @param move the move, encoded by {@link MoveCodec}.
+     * @throws IllegalArgumentException if the int is not a move, or names a seat
+     *                                  this game does not have.
+     * @throws IllegalStateException    if the move is not legal, or plays a card
+     *                                  in a game that is not built on a card catalog.
+     */
+    void apply(int move);
 }
@@ -0,0 +1,88 @@
+package uno.model.game.api;
+
+import uno.model.cards.types.api.Card;
+import uno.model.players.impl.AbstractPlayer;
+
+/**
+ * Listener of the moves made in a game, told what happened rather than only
+ * that something changed (see {@link uno.model.api.GameModelObserver}).
+ * Events are sent while the game is being updated, so listeners must be quick
+ * and must not act on the game. Every method does nothing by default.
+ */
+public interface GameEventListener {
+
+    /**
+     * Called when the cards of a round have been dealt and the first card turned.
+     *
+     * @param game The game.
+     */
+    default void onRoundStarted(final Game game) {
+    }
+
+    /**
+     * Called when a player plays a card, before the card leaves the hand and
+     * before its effect.
+     *
+     * @param game   The game.
+     * @param player The player.
+     * @param card   The card played.
+     */
+    default void onCardPlayed(final Game game, final AbstractPlayer player, final Card card) {
+    }
+
+    /**
+     * Called when a card drawn from the deck has been added to a hand.
+     *
+     * @param game   The game.
+     * @param player The player who drew the card.
+     * @param card   The card drawn.
+     */
+    default void onCardDrawn(final Game game, final AbstractPlayer player, final Card card) {
+    }
+
+    /**
+     * Called when the current player ends the turn without playing, after drawing.
+     * The turn has not moved on yet.
+     *
+     * @param game   The game.
+     * @param player The player passing.
+     */
+    default void onTurnPassed(final Game game, final AbstractPlayer player) {
+    }
+
+    /**
+     * Called when the cards have been flipped to the other side.
+     *
+     * @param game The game.
+     */
+    default void onWorldFlipped(final Game game) {
+    }
+
+    /**
+     * Called when two players have exchanged their hands.
+     *
+     * @param game   The game.
+     * @param player The player who played the swap.
+     * @param target The player chosen for the swap.
+     */
+    default void onHandsSwapped(final Game game, final AbstractPlayer player, final AbstractPlayer target) {
+    }
+
+    /**
+     * Called when the discard pile, except its top card, has been shuffled back
+     * into the empty draw deck.
+     *
+     * @param game The game.
+     */
+    default void onDiscardPileRecycled(final Game game) {
+    }
+
+    /**
+     * Called when the game has been brought back to a snapshot: the events sent
+     * so far no longer describe the cards.
+     *
+     * @param game The game.
+     */
+    default void onStateRestored(final Game game) {
+    }
+}
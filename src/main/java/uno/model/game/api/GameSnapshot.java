@@ -0,0 +1,136 @@
+package uno.model.game.api;
+
+import java.util.Optional;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.utils.api.GameRandom;
+
+/**
+ * A copy of the whole state of a game at a point in time: draw deck, discard
+ * pile, hands, scores, turn order and the flags of the current turn.
+ * Snapshots are taken with {@link GameContext#captureSnapshot(GameSnapshot)} and
+ * brought back with {@link GameContext#restoreSnapshot(GameSnapshot)}; both only
+ * copy primitive arrays, so a search can restore the same position millions of
+ * times. A snapshot can also be restored into another game with the same card
+ * catalog and number of players.
+ * The random source of the game and its observers are not part of the snapshot.
+ */
+public interface GameSnapshot {
+
+    /**
+     * Gets the state the game was in.
+     * 
+     * @return the state of the game.
+     */
+    GameState getGameState();
+
+    /**
+     * Gets the active color.
+     * 
+     * @return the chosen color, or empty if the color of the top card applies.
+     */
+    Optional<CardColor> getCurrentColor();
+
+    /**
+     * Checks if the game was on the dark side.
+     * 
+     * @return true for the dark side.
+     */
+    boolean isDarkSide();
+
+    /**
+     * Checks the direction of play.
+     * 
+     * @return true if the play was clockwise.
+     */
+    boolean isClockwise();
+
+    /**
+     * Gets the position of the current player in the list of players.
+     * 
+     * @return the index of the current player.
+     */
+    int getCurrentPlayerIndex();
+
+    /**
+     * Gets the hand size of a player.
+     * 
+     * @param playerIndex the position of the player in the list of players.
+     * @return the number of cards in the player's hand.
+     */
+    int getHandSize(int playerIndex);
+
+    /**
+     * Gets a card of a player's hand.
+     * 
+     * @param playerIndex the index of the player.
+     * @param position    the position in the hand, from 0 to {@link #getHandSize(int)} - 1.
+     * @return the catalog id of the card.
+     */
+    int getHandCard(int playerIndex, int position);
+
+    /**
+     * Gets the number of cards left in the draw deck.
+     * 
+     * @return the size of the draw deck.
+     */
+    int getDrawDeckSize();
+
+    /**
+     * Gets a card of the draw deck.
+     * 
+     * @param position the position in the deck, from 0 (bottom) to
+     *                 {@link #getDrawDeckSize()} - 1 (top, drawn next).
+     * @return the catalog id of the card.
+     */
+    int getDrawDeckCard(int position);
+
+    /**
+     * Swaps a card of the draw deck with the top one, so that it is the next card
+     * drawn after a restore. Searches use it to enumerate the possible draws.
+     * 
+     * @param position the position of the card in the deck.
+     */
+    void moveToTopOfDrawDeck(int position);
+
+    /**
+     * Deals again, at random, the cards a player cannot see: the opponents' hands
+     * and the draw deck are pooled, shuffled and handed back with the same sizes.
+     * Everything the player knows (its own hand, the discard pile, the size of
+     * every hand) is left untouched, so restoring the snapshot gives one possible
+     * version of the game as that player sees it.
+     * 
+     * @param playerIndex the index of the observing player.
+     * @param random      the random source of the deal.
+     */
+    void shuffleHiddenCards(int playerIndex, GameRandom random);
+
+    /**
+     * Deals again, at random, the cards a player cannot see, like
+     * {@link #shuffleHiddenCards(int, GameRandom)}, but without giving any opponent
+     * a card of a color it is known not to hold. The deal takes a single pass;
+     * if what is known cannot be satisfied, some cards are dealt regardless.
+     * 
+     * @param playerIndex the index of the observing player.
+     * @param voidColors  the colors each player is known not to hold, indexed by
+     *                    player, as masks with the bit {@code 1 << color.ordinal()}
+     *                    set for each color (see {@link uno.model.players.api.CardTracker#getVoidColors}).
+     * @param random      the random source of the deal.
+     * @throws IllegalArgumentException if there is not one mask per player.
+     */
+    void shuffleHiddenCards(int playerIndex, int[] voidColors, GameRandom random);
+
+    /**
+     * Gives a player exactly the given cards, taken from its own hand and the
+     * draw deck; the other cards of the two go back to the deck, which is
+     * shuffled. Searches use it to go through every hand an opponent may hold.
+     * 
+     * @param playerIndex the index of the player.
+     * @param ids         the catalog ids of the new hand, as many as the player holds.
+     * @param random      the random source of the deck's order.
+     * @throws IllegalArgumentException if the number of cards differs from the size
+     *                                  of the hand, or a card is neither in the hand
+     *                                  nor in the draw deck.
+     */
+    void dealHand(int playerIndex, int[] ids, GameRandom random);
+}
@@ -0,0 +1,237 @@
+package uno.model.game.api;
+
+import java.util.Optional;
+
+import uno.model.cards.attributes.CardColor;
+
+/**
+ * Encoding of a player's move in a single int, so that search trees, replay
+ * files and network messages can store moves without object graphs (see
+ * {@link GameContext#apply(int)}).
+ * A move to play a card is the card's catalog id (16 bits), optionally flagged
+ * to declare UNO as it is played; a color, a target seat or a call of UNO by a
+ * seat is its value tagged with a flag; drawing and passing are the negative
+ * constants {@link #DRAW} and {@link #PASS}. Every move but these two is non-negative.
+ */
+public final class MoveCodec {
+
+    /**
+     * Draw a card.
+     */
+    public static final int DRAW = -1;
+
+    /**
+     * End the turn after drawing.
+     */
+    public static final int PASS = -2;
+
+    /**
+     * Largest value a move can carry: a card id, a color ordinal or a seat.
+     */
+    public static final int MAX_VALUE = (1 << 16) - 1;
+
+    private static final int COLOR_FLAG = 1 << 16;
+    private static final int TARGET_FLAG = 1 << 17;
+    private static final int CALL_UNO_FLAG = 1 << 18;
+    private static final int UNO_FLAG = 1 << 19;
+    private static final int KIND_MASK = COLOR_FLAG | TARGET_FLAG | CALL_UNO_FLAG;
+    private static final int ALL_FLAGS = KIND_MASK | UNO_FLAG;
+    private static final CardColor[] COLORS = CardColor.values();
+
+    /**
+     * The kinds of move.
+     */
+    public enum Kind {
+        /**
+         * Play a card.
+         */
+        PLAY,
+        /**
+         * Draw a card.
+         */
+        DRAW,
+        /**
+         * End the turn after drawing.
+         */
+        PASS,
+        /**
+         * Declare UNO.
+         */
+        CALL_UNO,
+        /**
+         * Choose the color after a Wild card.
+         */
+        COLOR,
+        /**
+         * Choose the target of a card.
+         */
+        TARGET
+    }
+
+    private MoveCodec() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Encodes playing a card.
+     *
+     * @param cardId  the catalog id of the card.
+     * @param callUno true to declare UNO as the card is played.
+     * @return the move.
+     * @throws IllegalArgumentException if the id is out of range.
+     */
+    public static int play(final int cardId, final boolean callUno) {
+        return checkValue(cardId) | (callUno ? UNO_FLAG : 0);
+    }
+
+    /**
+     * Encodes a color choice.
+     *
+     * @param color the color.
+     * @return the move.
+     */
+    public static int color(final CardColor color) {
+        return COLOR_FLAG | color.ordinal();
+    }
+
+    /**
+     * Encodes a target choice.
+     *
+     * @param seat the index of the target player.
+     * @return the move.
+     * @throws IllegalArgumentException if the seat is out of range.
+     */
+    public static int target(final int seat) {
+        return TARGET_FLAG | checkValue(seat);
+    }
+
+    /**
+     * Encodes a call of UNO.
+     *
+     * @param seat the index of the player calling UNO.
+     * @return the move.
+     * @throws IllegalArgumentException if the seat is out of range.
+     */
+    public static int callUno(final int seat) {
+        return CALL_UNO_FLAG | checkValue(seat);
+    }
+
+    /**
+     * Decodes the kind of a move.
+     *
+     * @param move the move.
+     * @return the kind.
+     * @throws IllegalArgumentException if the int is not a move.
+     */
+    public static Kind kindOf(final int move) {
+        if (move == DRAW) {
+            return Kind.DRAW;
+        }
+        if (move == PASS) {
+            return Kind.PASS;
+        }
+        if (move < 0 || (move & ~(ALL_FLAGS | MAX_VALUE)) != 0) {
+            throw new IllegalArgumentException("Not a move: " + move);
+        }
+        switch (move & KIND_MASK) {
+            case 0:
+                return Kind.PLAY;
+            case COLOR_FLAG:
+                if ((move & UNO_FLAG) == 0 && (move & MAX_VALUE) < COLORS.length) {
+                    return Kind.COLOR;
+                }
+                break;
+            case TARGET_FLAG:
+                if ((move & UNO_FLAG) == 0) {
+                    return Kind.TARGET;
+                }
+                break;
+            case CALL_UNO_FLAG:
+                if ((move & UNO_FLAG) == 0) {
+                    return Kind.CALL_UNO;
+                }
+                break;
+            default:
+                break;
+        }
+        throw new IllegalArgumentException("Not a move: " + move);
+    }
+
+    /**
+     * Gets the card played by a move.
+     *
+     * @param move the move.
+     * @return the catalog id of the card, or -1 if the move does not play a card.
+     */
+    public static int cardOf(final int move) {
+        return move >= 0 && (move & KIND_MASK) == 0 ? move & MAX_VALUE : -1;
+    }
+
+    /**
+     * Checks if a move declares UNO as its card is played.
+     *
+     * @param move the move.
+     * @return true if the move plays a card and declares UNO.
+     */
+    public static boolean callsUno(final int move) {
+        return move >= 0 && (move & KIND_MASK) == 0 && (move & UNO_FLAG) != 0;
+    }
+
+    /**
+     * Gets the color chosen by a move.
+     *
+     * @param move the move.
+     * @return the color, or empty if the move is not a color choice.
+     */
+    public static Optional<CardColor> colorOf(final int move) {
+        return move >= 0 && (move & KIND_MASK) == COLOR_FLAG ? Optional.of(COLORS[move & MAX_VALUE]) : Optional.empty();
+    }
+
+    /**
+     * Gets the seat targeted by a move, or the seat calling UNO.
+     *
+     * @param move the move.
+     * @return the index of the player, or -1 if the move is neither a target
+     *         choice nor a call of UNO.
+     */
+    public static int seatOf(final int move) {
+        final int kind = move & KIND_MASK;
+        return move >= 0 && (kind == TARGET_FLAG || kind == CALL_UNO_FLAG) ? move & MAX_VALUE : -1;
+    }
+
+    /**
+     * Describes a move, for logs and replays.
+     *
+     * @param move the move.
+     * @return the description, such as {@code PLAY 12 UNO} or {@code COLOR RED}.
+     * @throws IllegalArgumentException if the int is not a move.
+     */
+    public static String describe(final int move) {
+        final Kind kind = kindOf(move);
+        switch (kind) {
+            case PLAY:
+                return kind + " " + cardOf(move) + (callsUno(move) ? " UNO" : "");
+            case COLOR:
+                return kind + " " + colorOf(move).orElseThrow();
+            case TARGET:
+            case CALL_UNO:
+                return kind + " " + seatOf(move);
+            default:
+                return kind.toString();
+        }
+    }
+
+    /**
+     * Checks that a value fits in a move.
+     *
+     * @param value the card id or seat.
+     * @return the value.
+     * @throws IllegalArgumentException if the value is out of range.
+     */
+    private static int checkValue(final int value) {
+        if (value < 0 || value > MAX_VALUE) {
+            throw new IllegalArgumentException("Value out of range for a move: " + value);
+        }
+        return value;
+    }
+}
@@ -76,4 +76,28 @@ public interface TurnManager {
      * and potentially randomizing the starting player again.
      */
     void reset();
+
+    /**
+     * Gets the position of the current player in the list of players.
+     * 
+     * @return the index of the current player.
+     */
+    int getCurrentPlayerIndex();
+
+    /**
+     * Gets the number of players that the next advancement will skip.
+     * 
+     * @return the pending skip.
+     */
+    int getSkipSize();
+
+    /**
+     * Restores the whole turn state, as stored in a {@link GameSnapshot}.
+     * 
+     * @param currentPlayerIndex the index of the current player.
+     * @param clockwise          the direction of play.
+     * @param hasDrawn           whether the current player has drawn this turn.
+     * @param skipSize           the pending skip.
+     */
+    void restore(int currentPlayerIndex, boolean clockwise, boolean hasDrawn, int skipSize);
 }
@@ -0,0 +1,225 @@
+package uno.model.game.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.deck.impl.CompactDeck;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.DiscardPile;
+
+/**
+ * Implementation of the Discard Pile over an int array of card ids, the
+ * counterpart of {@link CompactDeck}.
+ * When the draw deck runs out, {@link #recycleInto(CompactDeck)} hands the whole
+ * buffer to the deck and takes the deck's empty buffer in exchange, so recycling
+ * the pile allocates nothing and costs a single shuffle.
+ * The list-based methods of {@link DiscardPile} are kept as adapters.
+ * Every card added to the pile must belong to its catalog.
+ */
+public final class CompactDiscardPile implements DiscardPile {
+
+    private final CardCatalog catalog;
+    private int[] ids;
+    private int size;
+    private Optional<Card> top = Optional.empty();
+
+    /**
+     * Constructor initializing an empty discard pile.
+     * 
+     * @param catalog the catalog of the game mode.
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public CompactDiscardPile(final CardCatalog catalog) {
+        this.catalog = catalog;
+        this.ids = new int[catalog.size()];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addCard(final Card card) {
+        if (card == null) {
+            throw new IllegalArgumentException("Cannot add a null card to the discard pile.");
+        }
+        addId(catalog.idOf(card));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The result is kept until the top card changes, as the AI players ask for
+     * it for every card they consider.
+     */
+    @Override
+    public Optional<Card> getTopCard() {
+        final int id = getTopId();
+        if (id == Card.NO_ID) {
+            return Optional.empty();
+        }
+        if (top.isEmpty() || top.get().getId() != id) {
+            top = Optional.of(catalog.getCard(id));
+        }
+        return top;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Card> takeAll() {
+        final List<Card> allCards = toCards(size);
+        size = 0;
+        return allCards;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Card> takeAllExceptTop() {
+        if (size <= 1) {
+            return new ArrayList<>();
+        }
+        final List<Card> cardsToRecycle = toCards(size - 1);
+        ids[0] = ids[size - 1];
+        size = 1;
+        return cardsToRecycle;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Card> getSnapshot() {
+        return toCards(size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Places a card on top of the pile.
+     * 
+     * @param id the id of the card in the catalog.
+     */
+    public void addId(final int id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(1, ids.length * 2));
+        }
+        ids[size++] = id;
+    }
+
+    /**
+     * Gets the card on top of the pile.
+     * 
+     * @return the id of the top card, or {@link Card#NO_ID} if the pile is empty.
+     */
+    public int getTopId() {
+        return size == 0 ? Card.NO_ID : ids[size - 1];
+    }
+
+    /**
+     * Copies the ids of the pile, bottom first.
+     * 
+     * @param target the array to fill; it must be at least as long as the pile.
+     * @return the number of ids copied.
+     */
+    public int copyIdsTo(final int[] target) {
+        System.arraycopy(ids, 0, target, 0, size);
+        return size;
+    }
+
+    /**
+     * Replaces the content of the pile with the given ids, bottom first.
+     * 
+     * @param source the ids to copy.
+     * @param count  how many ids, from the start of the array, are cards.
+     */
+    public void restoreIds(final int[] source, final int count) {
+        if (count > ids.length) {
+            ids = new int[count];
+        }
+        System.arraycopy(source, 0, ids, 0, count);
+        size = count;
+    }
+
+    /**
+     * Gets the catalog the ids of this pile refer to.
+     * 
+     * @return the catalog of the pile.
+     */
+    public CardCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Moves every card but the top one into an empty deck and shuffles it.
+     * The deck adopts this pile's buffer, and the pile keeps the deck's old
+     * buffer with only the top card in it.
+     * If the deck still has cards, they are kept and the recycled ones are added on top.
+     * 
+     * @param deck the draw deck, which must use the same catalog.
+     * @return the number of recycled cards.
+     */
+    public int recycleInto(final CompactDeck deck) {
+        if (size <= 1) {
+            return 0;
+        }
+        final int recycled = size - 1;
+        final int top = ids[recycled];
+
+        if (deck.isEmpty()) {
+            ids = deck.swapBuffer(ids, recycled);
+            if (ids.length == 0) {
+                ids = new int[catalog.size()];
+            }
+        } else {
+            for (int i = 0; i < recycled; i++) {
+                deck.addId(ids[i]);
+            }
+            deck.shuffle();
+        }
+        ids[0] = top;
+        size = 1;
+        return recycled;
+    }
+
+    /**
+     * Translates the bottom ids of the pile into cards.
+     * 
+     * @param count how many ids to translate, from the bottom of the pile.
+     * @return a new list with the cards, bottom first.
+     */
+    private List<Card> toCards(final int count) {
+        final List<Card> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cards.add(catalog.getCard(ids[i]));
+        }
+        return cards;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "CompactDiscardPile{size=" + size() + ", top=" + getTopCard().orElse(null) + "}";
+    }
+}
@@ -1,6 +1,7 @@
 package uno.model.game.impl;
 
 import uno.model.cards.deck.api.Deck;
+import uno.model.cards.deck.impl.CompactDeck;
 import uno.model.cards.types.api.Card;
 import uno.model.game.api.DeckHandler;
 import uno.model.game.api.DiscardPile;
@@ -56,11 +57,13 @@ public class DeckHandlerImpl implements DeckHandler {
             }
 
             reshuffleDiscardPile();
+            game.getEvents().onDiscardPileRecycled(game);
         }
 
         final Optional<Card> drawnCard = drawDeck.draw();
         if (drawnCard.isPresent()) {
             player.addCardToHand(drawnCard.get());
+            game.getEvents().onCardDrawn(game, player, drawnCard.get());
         }
 
         logger.logAction(player.getName(), "DRAW",
@@ -72,8 +75,14 @@ public class DeckHandlerImpl implements DeckHandler {
 
     /**
      * Reshuffles the discard pile back into the draw deck, leaving the top card of the discard pile intact.
+     * Compact decks and piles exchange their buffers instead of copying the cards.
      */
     private void reshuffleDiscardPile() {
+        if (discardPile instanceof CompactDiscardPile && drawDeck instanceof CompactDeck) {
+            ((CompactDiscardPile) discardPile).recycleInto((CompactDeck) drawDeck);
+            return;
+        }
+
         final List<Card> cardsToReshuffle = discardPile.takeAllExceptTop();
 
         if (cardsToReshuffle.isEmpty()) {
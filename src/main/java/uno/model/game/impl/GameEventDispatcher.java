@@ -0,0 +1,107 @@
+package uno.model.game.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.Game;
+import uno.model.game.api.GameEventListener;
+import uno.model.players.impl.AbstractPlayer;
+
+/**
+ * Listener that forwards every event of a game to the listeners registered
+ * with it, in the order they were added.
+ */
+final class GameEventDispatcher implements GameEventListener {
+
+    private final List<GameEventListener> listeners = new ArrayList<>();
+
+    /**
+     * Registers a listener.
+     *
+     * @param listener the listener.
+     */
+    void add(final GameEventListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onRoundStarted(final Game game) {
+        for (final GameEventListener listener : listeners) {
+            listener.onRoundStarted(game);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onCardPlayed(final Game game, final AbstractPlayer player, final Card card) {
+        for (final GameEventListener listener : listeners) {
+            listener.onCardPlayed(game, player, card);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onCardDrawn(final Game game, final AbstractPlayer player, final Card card) {
+        for (final GameEventListener listener : listeners) {
+            listener.onCardDrawn(game, player, card);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onTurnPassed(final Game game, final AbstractPlayer player) {
+        for (final GameEventListener listener : listeners) {
+            listener.onTurnPassed(game, player);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onWorldFlipped(final Game game) {
+        for (final GameEventListener listener : listeners) {
+            listener.onWorldFlipped(game);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onHandsSwapped(final Game game, final AbstractPlayer player, final AbstractPlayer target) {
+        for (final GameEventListener listener : listeners) {
+            listener.onHandsSwapped(game, player, target);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onDiscardPileRecycled(final Game game) {
+        for (final GameEventListener listener : listeners) {
+            listener.onDiscardPileRecycled(game);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onStateRestored(final Game game) {
+        for (final GameEventListener listener : listeners) {
+            listener.onStateRestored(game);
+        }
+    }
+}
@@ -2,38 +2,72 @@ package uno.model.game.impl;
 
 import uno.model.game.api.GameFactory;
 import uno.model.game.api.Game;
+import uno.model.game.api.GameContext;
 import uno.model.game.api.GameRules;
 import uno.model.game.api.DiscardPile;
 import uno.model.game.api.TurnManager;
 import uno.model.players.impl.AbstractPlayer;
 import uno.model.game.api.GameMode;
+import uno.model.cards.deck.api.CardCatalog;
 import uno.model.cards.deck.api.Deck;
+import uno.model.cards.deck.impl.CompactDeck;
 import uno.model.cards.deck.impl.StandardDeck;
 import uno.model.cards.deck.impl.FlipDeck;
 import uno.model.cards.deck.impl.AllWildDeck;
 import uno.model.cards.types.api.Card;
 import uno.model.utils.api.GameLogger;
+import uno.model.utils.api.GameRandom;
 import uno.model.utils.impl.GameLoggerImpl;
+import uno.model.utils.impl.GameRandomImpl;
 import uno.model.game.api.GameSetup;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Implementation of the GameFactory.
  */
 public class GameFactoryImpl implements GameFactory {
 
+    private static final AtomicLong MATCH_COUNTER = new AtomicLong();
+
     private final GameRules rules;
     private final GameLogger logger;
+    private final GameRandom random;
 
     /**
      * Constructor for GameFactoryImpl.
+     * Games are logged synchronously to a new log file, which needs no closing.
      * 
      * @param rules rules of the game.
      */
     public GameFactoryImpl(final GameRules rules) {
+        this(rules, new GameLoggerImpl(nextMatchId()));
+    }
+
+    /**
+     * Constructor for GameFactoryImpl with a custom logger.
+     * 
+     * @param rules  rules of the game.
+     * @param logger logger shared by the games created by this factory.
+     */
+    public GameFactoryImpl(final GameRules rules, final GameLogger logger) {
+        this(rules, logger, new GameRandomImpl());
+    }
+
+    /**
+     * Constructor for GameFactoryImpl with a custom logger and random source.
+     * Every game gets its own random source split from this one, so a factory
+     * built from a seeded source creates reproducible games.
+     * 
+     * @param rules  rules of the game.
+     * @param logger logger shared by the games created by this factory.
+     * @param random random source from which the games' sources are split.
+     */
+    public GameFactoryImpl(final GameRules rules, final GameLogger logger, final GameRandom random) {
         this.rules = rules;
-        this.logger = new GameLoggerImpl(String.valueOf(System.currentTimeMillis()));
+        this.logger = logger;
+        this.random = random;
     }
 
     /**
@@ -41,31 +75,45 @@ public class GameFactoryImpl implements GameFactory {
      */
     @Override
     public Game createGame(final String playerName, final GameMode gameMode, final List<AbstractPlayer> players) {
-        final Deck<Card> deck;
+        final GameRandom gameRandom = random.split();
+        final CardCatalog catalog;
         boolean isAllWild = false;
 
         switch (gameMode) {
             case FLIP:
-                deck = new FlipDeck(logger);
+                catalog = FlipDeck.catalog();
                 break;
             case ALL_WILD:
-                deck = new AllWildDeck(logger);
+                catalog = AllWildDeck.catalog();
                 isAllWild = true;
                 break;
             default:
-                deck = new StandardDeck(logger);
+                catalog = StandardDeck.catalog();
                 break;
         }
 
-        final DiscardPile discardPile = new DiscardPileImpl();
-        final TurnManager turnManager = new TurnManagerImpl(players, rules);
-        final Game game = new GameImpl(deck, players, turnManager, discardPile, gameMode.name(), logger, rules);
+        final Deck<Card> deck = new CompactDeck(catalog, logger, gameRandom);
+        final DiscardPile discardPile = new CompactDiscardPile(catalog);
+        final TurnManager turnManager = new TurnManagerImpl(players, rules, gameRandom);
+        final GameContext game = new GameImpl(deck, players, turnManager, discardPile, gameMode.name(), logger,
+                rules, gameRandom);
         final GameSetup setup = new GameSetupImpl(game, deck, game.getDiscardPile(), players);
         setup.initializeGame(isAllWild);
+        game.getEvents().onRoundStarted(game);
 
         return game;
     }
 
+    /**
+     * Generates a match id that stays unique even when several factories are
+     * created within the same millisecond.
+     * 
+     * @return the match id used to name the log file.
+     */
+    public static String nextMatchId() {
+        return System.currentTimeMillis() + "_" + MATCH_COUNTER.incrementAndGet();
+    }
+
     /**
      * {@inheritDoc}
      */
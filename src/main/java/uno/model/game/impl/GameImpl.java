@@ -1,30 +1,42 @@
 package uno.model.game.impl;
 
 import uno.model.cards.attributes.CardColor;
+import uno.model.cards.deck.api.CardCatalog;
 import uno.model.cards.deck.api.Deck;
+import uno.model.cards.deck.impl.CompactDeck;
 import uno.model.cards.types.api.Card;
 import uno.model.game.api.DeckHandler;
+import uno.model.players.api.Hand;
 import uno.model.game.api.DiscardPile;
 import uno.model.game.api.GameContext;
+import uno.model.game.api.GameEventListener;
 import uno.model.game.api.GameRules;
+import uno.model.game.api.GameSnapshot;
 import uno.model.game.api.GameState;
 import uno.model.game.api.GameStateBehavior;
+import uno.model.game.api.MoveCodec;
 import uno.model.game.api.MoveValidator;
 import uno.model.game.api.TurnManager;
 import uno.model.game.impl.states.GameOverState;
+import uno.model.game.impl.states.RoundOverState;
 import uno.model.game.impl.states.RunningState;
 import uno.model.game.impl.states.WaitingForColorState;
 import uno.model.game.impl.states.WaitingForPlayerState;
 import uno.model.players.impl.AbstractPlayer;
 import uno.model.utils.api.GameLogger;
+import uno.model.utils.api.GameRandom;
+import uno.model.utils.impl.GameRandomImpl;
+import uno.model.api.GameChange;
 import uno.model.api.GameModelObserver;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.Random;
+import java.util.Set;
 
 /**
  * Implementation of the UNO Game Model.
@@ -36,10 +48,13 @@ public class GameImpl implements GameContext {
     private static final String CARD_DETAIL = "N/A";
     private static final String SUPPRESS_EI_EXPOSE_REP = "EI_EXPOSE_REP";
     private static final String LOGGER_PLAYER_NAME = "SYSTEM";
-    private static final Random RANDOM = new Random();
     private static final int START_HAND_SIZE = 7;
 
     private final List<GameModelObserver> observers = new ArrayList<>();
+    private final Set<GameChange> changed = EnumSet.allOf(GameChange.class);
+    private int updateDepth;
+    private boolean updatePending;
+    private final GameEventDispatcher events = new GameEventDispatcher();
     private final List<AbstractPlayer> players;
     private AbstractPlayer winner;
 
@@ -53,8 +68,10 @@ public class GameImpl implements GameContext {
 
     private final GameLogger logger;
     private final GameRules rules;
+    private final GameRandom random;
 
     private boolean isDarkSide;
+    private final GameStateBehavior[] restoredStates = new GameStateBehavior[GameState.values().length];
 
     /**
      * Constructor for GameImpl with custom rules.
@@ -67,13 +84,32 @@ public class GameImpl implements GameContext {
      * @param logger      logger.
      * @param rules       game rules.
      */
-    @SuppressFBWarnings("EI_EXPOSE_REP2")
     public GameImpl(final Deck<Card> deck, final List<AbstractPlayer> players, final TurnManager turnManager,
             final DiscardPile discardPile, final String gameMode,
             final GameLogger logger, final GameRules rules) {
+        this(deck, players, turnManager, discardPile, gameMode, logger, rules, new GameRandomImpl());
+    }
+
+    /**
+     * Constructor for GameImpl with the random source of the game.
+     * 
+     * @param deck        deck of cards.
+     * @param players     list of players.
+     * @param turnManager turn manager.
+     * @param discardPile discard pile.
+     * @param gameMode    game mode.
+     * @param logger      logger.
+     * @param rules       game rules.
+     * @param random      random source used for the colors chosen by the game itself.
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public GameImpl(final Deck<Card> deck, final List<AbstractPlayer> players, final TurnManager turnManager,
+            final DiscardPile discardPile, final String gameMode,
+            final GameLogger logger, final GameRules rules, final GameRandom random) {
         this.players = new ArrayList<>(players);
         this.logger = logger;
         this.rules = rules;
+        this.random = random;
         this.winner = null;
         this.turnManager = turnManager;
         this.deckHandler = new DeckHandlerImpl(deck, discardPile, rules, logger, LOGGER_PLAYER_NAME);
@@ -81,6 +117,9 @@ public class GameImpl implements GameContext {
         this.currentState = new RunningState(this);
         this.currentColor = Optional.empty();
         this.currentPlayedCard = null;
+        for (final AbstractPlayer player : this.players) {
+            player.getGameEventListener().ifPresent(events::add);
+        }
 
         logger.logAction(LOGGER_PLAYER_NAME, "GAME_START", gameMode,
                 "Players: " + players.size() + ". Rules: " + rules);
@@ -99,17 +138,87 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void notifyObservers() {
-        for (final GameModelObserver obs : observers) {
-            obs.onGameUpdate();
+        if (updateDepth > 0) {
+            updatePending = true;
+            return;
+        }
+        if (observers.isEmpty()) {
+            return;
+        }
+        final Set<GameChange> changes = Collections.unmodifiableSet(EnumSet.copyOf(changed));
+        changed.clear();
+        for (final GameModelObserver obs : List.copyOf(observers)) {
+            obs.onGameUpdate(changes);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void markChanged(final GameChange change) {
+        changed.add(change);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void batchUpdates(final Runnable action) {
+        beginUpdate();
+        try {
+            action.run();
+        } finally {
+            endUpdate();
+        }
+    }
+
+    /**
+     * Starts a player action, deferring the notifications it causes.
+     */
+    private void beginUpdate() {
+        updateDepth++;
+    }
+
+    /**
+     * Ends a player action, sending a single notification if it caused any
+     * once the outermost action is over, even if nothing it changed is shown.
+     */
+    private void endUpdate() {
+        updateDepth--;
+        if (updateDepth == 0 && updatePending) {
+            updatePending = false;
+            notifyObservers();
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addEventListener(final GameEventListener listener) {
+        events.add(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameEventListener getEvents() {
+        return events;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void playCard(final Optional<Card> card) {
-        currentState.playCard(card);
+        beginUpdate();
+        try {
+            currentState.playCard(card);
+        } finally {
+            endUpdate();
+        }
     }
 
     /**
@@ -141,7 +250,12 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void playerInitiatesDraw() {
-        currentState.playerInitiatesDraw();
+        beginUpdate();
+        try {
+            currentState.playerInitiatesDraw();
+        } finally {
+            endUpdate();
+        }
     }
 
     /**
@@ -149,7 +263,12 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void playerPassTurn() {
-        currentState.playerPassTurn();
+        beginUpdate();
+        try {
+            currentState.playerPassTurn();
+        } finally {
+            endUpdate();
+        }
     }
 
     /**
@@ -158,8 +277,11 @@ public class GameImpl implements GameContext {
     @Override
     public void drawCardForPlayer(final AbstractPlayer player) {
         final boolean success = deckHandler.drawCardForPlayer(player, this);
+        changed.add(GameChange.HANDS);
+        changed.add(GameChange.DECK);
         if (!success) {
             this.currentState = new GameOverState(this);
+            changed.add(GameChange.STATE);
             notifyObservers();
         }
     }
@@ -169,27 +291,32 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void callUno(final AbstractPlayer player) {
-        if (!rules.isUnoPenaltyEnabled()) {
+        beginUpdate();
+        try {
+            if (!rules.isUnoPenaltyEnabled()) {
+                if (player.getHandSize() == 1) {
+                    player.hasCalledUno();
+                    logger.logAction(player.getName(), "CALL_UNO_SUCCESS", CARD_DETAIL, "HandSize: 1");
+                }
+                return;
+            }
+
             if (player.getHandSize() == 1) {
                 player.hasCalledUno();
                 logger.logAction(player.getName(), "CALL_UNO_SUCCESS", CARD_DETAIL, "HandSize: 1");
-            }
-            return;
-        }
-
-        if (player.getHandSize() == 1) {
-            player.hasCalledUno();
-            logger.logAction(player.getName(), "CALL_UNO_SUCCESS", CARD_DETAIL, "HandSize: 1");
-        } else {
-            logger.logAction(player.getName(), "CALL_UNO_FAILED",
-                    CARD_DETAIL, "Initial HandSize: " + player.getHandSize() + ". Penalty: Draw 2.");
+            } else {
+                logger.logAction(player.getName(), "CALL_UNO_FAILED",
+                        CARD_DETAIL, "Initial HandSize: " + player.getHandSize() + ". Penalty: Draw 2.");
 
-            drawCardForPlayer(player);
-            drawCardForPlayer(player);
-            notifyObservers();
+                drawCardForPlayer(player);
+                drawCardForPlayer(player);
+                notifyObservers();
 
-            throw new IllegalStateException("You can't call UNO now! You have "
-                    + player.getHandSize() + " cards. Penalty applied: you drew 2 cards.");
+                throw new IllegalStateException("You can't call UNO now! You have "
+                        + player.getHandSize() + " cards. Penalty applied: you drew 2 cards.");
+            }
+        } finally {
+            endUpdate();
         }
     }
 
@@ -285,7 +412,7 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void setCurrentColor(final CardColor color) {
-        this.currentColor = Optional.of(color);
+        setCurrentColorOptional(Optional.of(color));
     }
 
     /**
@@ -293,7 +420,12 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void setColor(final CardColor color) {
-        currentState.setColor(color);
+        beginUpdate();
+        try {
+            currentState.setColor(color);
+        } finally {
+            endUpdate();
+        }
     }
 
     /**
@@ -302,6 +434,7 @@ public class GameImpl implements GameContext {
     @Override
     public void skipPlayers(final int n) {
         this.turnManager.skipPlayers(n);
+        changed.add(GameChange.TURN);
     }
 
     /**
@@ -322,6 +455,7 @@ public class GameImpl implements GameContext {
     @Override
     public void reversePlayOrder() {
         this.turnManager.reverseDirection();
+        changed.add(GameChange.TURN);
     }
 
     /**
@@ -338,6 +472,9 @@ public class GameImpl implements GameContext {
     @Override
     public void flipTheWorld() {
         this.isDarkSide = !this.isDarkSide;
+        changed.add(GameChange.HANDS);
+        changed.add(GameChange.TOP_CARD);
+        changed.add(GameChange.COLOR);
         this.currentColor = Optional.of(this.currentPlayedCard.getColor(this));
 
         if (this.currentColor.get() == CardColor.WILD) {
@@ -347,10 +484,11 @@ public class GameImpl implements GameContext {
             } else {
                 coloredValues = new CardColor[]{CardColor.RED, CardColor.BLUE, CardColor.GREEN, CardColor.YELLOW};
             }
-            final CardColor chosenColor = coloredValues[RANDOM.nextInt(coloredValues.length)];
+            final CardColor chosenColor = coloredValues[random.nextInt(coloredValues.length)];
             this.currentColor = Optional.of(chosenColor);
         }
 
+        events.onWorldFlipped(this);
         notifyObservers();
     }
 
@@ -368,6 +506,7 @@ public class GameImpl implements GameContext {
     @Override
     public void requestColorChoice() {
         this.currentState = new WaitingForColorState(this);
+        changed.add(GameChange.STATE);
         notifyObservers();
     }
 
@@ -377,6 +516,7 @@ public class GameImpl implements GameContext {
     @Override
     public void requestPlayerChoice() {
         this.currentState = new WaitingForPlayerState(this);
+        changed.add(GameChange.STATE);
         notifyObservers();
     }
 
@@ -385,7 +525,12 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void chosenPlayer(final AbstractPlayer player) {
-        currentState.chosenPlayer(player);
+        beginUpdate();
+        try {
+            currentState.chosenPlayer(player);
+        } finally {
+            endUpdate();
+        }
     }
 
     /**
@@ -393,7 +538,12 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void drawUntilColorChosenCard(final CardColor color) {
-        currentState.drawUntilColorChosenCard(color);
+        beginUpdate();
+        try {
+            currentState.drawUntilColorChosenCard(color);
+        } finally {
+            endUpdate();
+        }
     }
 
     /**
@@ -401,8 +551,14 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void aiAdvanceTurn() {
-        this.turnManager.advanceTurn(this);
-        notifyObservers();
+        beginUpdate();
+        try {
+            this.turnManager.advanceTurn(this);
+            changed.add(GameChange.TURN);
+            notifyObservers();
+        } finally {
+            endUpdate();
+        }
     }
 
     /**
@@ -428,6 +584,7 @@ public class GameImpl implements GameContext {
     @Override
     public void setGameState(final GameStateBehavior newState) {
         this.currentState = newState;
+        changed.add(GameChange.STATE);
     }
 
     /**
@@ -452,52 +609,60 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void startNewRound() {
-        logger.logAction(LOGGER_PLAYER_NAME, "ROUND_START", "N/A", "Starting new round...");
+        beginUpdate();
+        try {
+            logger.logAction(LOGGER_PLAYER_NAME, "ROUND_START", "N/A", "Starting new round...");
 
-        final List<Card> cardsToRecycle = new ArrayList<>();
+            final List<Card> cardsToRecycle = new ArrayList<>();
 
-        for (final AbstractPlayer player : players) {
-            for (final Optional<Card> cardOpt : player.getHand()) {
-                cardOpt.ifPresent(cardsToRecycle::add);
+            for (final AbstractPlayer player : players) {
+                final Hand hand = player.getHandView();
+                for (int i = 0; i < hand.size(); i++) {
+                    cardsToRecycle.add(hand.get(i));
+                }
+                player.setHand(new ArrayList<>());
             }
-            player.setHand(new ArrayList<>());
-        }
 
-        cardsToRecycle.addAll(deckHandler.getDiscardPile().takeAll());
+            cardsToRecycle.addAll(deckHandler.getDiscardPile().takeAll());
 
-        deckHandler.getDrawDeck().refill(cardsToRecycle);
-        deckHandler.getDrawDeck().shuffle();
+            deckHandler.getDrawDeck().refill(cardsToRecycle);
+            deckHandler.getDrawDeck().shuffle();
 
-        turnManager.reset();
+            turnManager.reset();
 
-        for (final AbstractPlayer player : players) {
-            for (int i = 0; i < START_HAND_SIZE; i++) {
-                drawCardForPlayer(player);
+            for (final AbstractPlayer player : players) {
+                for (int i = 0; i < START_HAND_SIZE; i++) {
+                    drawCardForPlayer(player);
+                }
             }
-        }
 
-        final Optional<Card> firstCardOpt = deckHandler.getDrawDeck().draw();
-        if (firstCardOpt.isPresent()) {
-            final Card firstCard = firstCardOpt.get();
-            deckHandler.getDiscardPile().addCard(firstCard);
-            this.currentPlayedCard = firstCard;
-
-            if (firstCard.getColor(this) == CardColor.WILD) {
-                final CardColor[] coloredValues = {CardColor.RED, CardColor.BLUE, CardColor.GREEN, CardColor.YELLOW };
-                final CardColor chosenColor = coloredValues[RANDOM.nextInt(coloredValues.length)];
-                this.currentColor = Optional.of(chosenColor);
+            final Optional<Card> firstCardOpt = deckHandler.getDrawDeck().draw();
+            if (firstCardOpt.isPresent()) {
+                final Card firstCard = firstCardOpt.get();
+                deckHandler.getDiscardPile().addCard(firstCard);
+                this.currentPlayedCard = firstCard;
+
+                if (firstCard.getColor(this) == CardColor.WILD) {
+                    final CardColor[] coloredValues = {CardColor.RED, CardColor.BLUE, CardColor.GREEN, CardColor.YELLOW };
+                    final CardColor chosenColor = coloredValues[random.nextInt(coloredValues.length)];
+                    this.currentColor = Optional.of(chosenColor);
+                } else {
+                    this.currentColor = Optional.of(firstCard.getColor(this));
+                }
+
+                logger.logAction(LOGGER_PLAYER_NAME, "FIRST_CARD", firstCard.getClass().getSimpleName(),
+                        firstCard.toString());
             } else {
-                this.currentColor = Optional.of(firstCard.getColor(this));
+                throw new IllegalStateException("Deck empty after refill!");
             }
 
-            logger.logAction(LOGGER_PLAYER_NAME, "FIRST_CARD", firstCard.getClass().getSimpleName(),
-                    firstCard.toString());
-        } else {
-            throw new IllegalStateException("Deck empty after refill!");
+            this.currentState = new RunningState(this);
+            changed.addAll(EnumSet.allOf(GameChange.class));
+            events.onRoundStarted(this);
+            notifyObservers();
+        } finally {
+            endUpdate();
         }
-
-        this.currentState = new RunningState(this);
-        notifyObservers();
     }
 
     /**
@@ -521,6 +686,268 @@ public class GameImpl implements GameContext {
      */
     @Override
     public void setCurrentColorOptional(final Optional<CardColor> color) {
+        if (!color.equals(this.currentColor)) {
+            changed.add(GameChange.COLOR);
+        }
         this.currentColor = color;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameSnapshot createSnapshot() {
+        final GameSnapshot snapshot = new GameSnapshotImpl(getCompactDeck().getCatalog().orElseThrow(),
+                players.size());
+        captureSnapshot(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void captureSnapshot(final GameSnapshot snapshot) {
+        final GameSnapshotImpl target = checkSnapshot(snapshot);
+        final CompactDeck deck = getCompactDeck();
+        final CompactDiscardPile pile = getCompactDiscardPile();
+
+        target.setPileSizes(deck.copyIdsTo(target.deck()), pile.copyIdsTo(target.discard()));
+        for (int i = 0; i < players.size(); i++) {
+            final AbstractPlayer player = players.get(i);
+            target.setPlayer(i, player.copyHandIds(target.hand(i)), player.getScore(), player.isHasCalledUno());
+        }
+        target.setTurn(turnManager.getCurrentPlayerIndex(), turnManager.isClockwise(),
+                turnManager.hasDrawnThisTurn(), turnManager.getSkipSize());
+        target.setTable(currentState.getEnum(), currentColor.orElse(null), isDarkSide,
+                currentPlayedCard == null ? Card.NO_ID : currentPlayedCard.getId(),
+                winner == null ? -1 : players.indexOf(winner));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restoreSnapshot(final GameSnapshot snapshot) {
+        final GameSnapshotImpl source = checkSnapshot(snapshot);
+        final CompactDiscardPile pile = getCompactDiscardPile();
+        final CardCatalog catalog = pile.getCatalog();
+
+        getCompactDeck().restoreIds(source.deck(), source.getDrawDeckSize());
+        pile.restoreIds(source.discard(), source.getDiscardSize());
+        for (int i = 0; i < players.size(); i++) {
+            final AbstractPlayer player = players.get(i);
+            player.restoreHandIds(catalog, source.hand(i), source.getHandSize(i));
+            player.setScore(source.getScore(i));
+            player.setHasCalledUno(source.hasCalledUno(i));
+        }
+        turnManager.restore(source.getCurrentPlayerIndex(), source.isClockwise(), source.hasDrawn(),
+                source.getSkipSize());
+
+        this.currentState = restoredState(source.getGameState());
+        this.currentColor = source.getCurrentColor();
+        this.isDarkSide = source.isDarkSide();
+        this.currentPlayedCard = source.getPlayedCard() < 0 ? null : catalog.getCard(source.getPlayedCard());
+        this.winner = source.getWinner() < 0 ? null : players.get(source.getWinner());
+        changed.addAll(EnumSet.allOf(GameChange.class));
+        events.onStateRestored(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void apply(final int move) {
+        beginUpdate();
+        try {
+            final AbstractPlayer player = getCurrentPlayer();
+            switch (MoveCodec.kindOf(move)) {
+                case PLAY:
+                    final Card card = findHeldCard(player, MoveCodec.cardOf(move));
+                    if (MoveCodec.callsUno(move)) {
+                        // Validate first, so that an illegal move leaves no UNO call behind
+                        if (getGameState() != GameState.RUNNING || !isValidMove(card)) {
+                            throw new IllegalStateException("Move not valid! The card " + card
+                                    + " cannot be played.");
+                        }
+                        player.hasCalledUno();
+                    }
+                    playCard(Optional.of(card));
+                    break;
+                case DRAW:
+                    playerInitiatesDraw();
+                    break;
+                case PASS:
+                    playerPassTurn();
+                    break;
+                case CALL_UNO:
+                    callUno(playerAt(MoveCodec.seatOf(move)));
+                    break;
+                case COLOR:
+                    final CardColor color = MoveCodec.colorOf(move).orElseThrow();
+                    if (getGameState() != GameState.WAITING_FOR_COLOR || !isChoosable(color)) {
+                        throw new IllegalStateException("Color " + color + " cannot be chosen now");
+                    }
+                    requestColorChoice();
+                    setColor(color);
+                    aiAdvanceTurn();
+                    break;
+                case TARGET:
+                    chosenPlayer(playerAt(MoveCodec.seatOf(move)));
+                    aiAdvanceTurn();
+                    break;
+                default:
+                    break;
+            }
+        } finally {
+            endUpdate();
+        }
+    }
+
+    /**
+     * Checks if a color can be chosen on the side of the cards in play.
+     * 
+     * @param color the color.
+     * @return true for the four colors of the current side.
+     */
+    private boolean isChoosable(final CardColor color) {
+        switch (color) {
+            case RED:
+            case YELLOW:
+            case GREEN:
+            case BLUE:
+                return !isDarkSide;
+            case PINK:
+            case TEAL:
+            case ORANGE:
+            case PURPLE:
+                return isDarkSide;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Gets the player at a seat named by a move.
+     * 
+     * @param seat the seat.
+     * @return the player.
+     * @throws IllegalArgumentException if the game has no such seat.
+     */
+    private AbstractPlayer playerAt(final int seat) {
+        if (seat >= players.size()) {
+            throw new IllegalArgumentException("No player at seat " + seat + " in a game of " + players.size());
+        }
+        return players.get(seat);
+    }
+
+    /**
+     * Finds the card a move plays in the hand of a player: the card with the
+     * id, or else the first copy of it.
+     * 
+     * @param player the player.
+     * @param id     the catalog id of the card.
+     * @return the card.
+     * @throws IllegalStateException if the player holds no copy of the card, or
+     *                               the game has no card catalog.
+     */
+    private Card findHeldCard(final AbstractPlayer player, final int id) {
+        final CardCatalog catalog = getDrawDeck().getCatalog()
+                .orElseThrow(() -> new IllegalStateException("Moves by id require a game built on a card catalog"));
+        if (id >= catalog.size()) {
+            throw new IllegalStateException("No card with id " + id);
+        }
+        final Hand hand = player.getHandView();
+        final int face = catalog.faceOf(id);
+        Card copy = null;
+        for (int i = 0; i < hand.size(); i++) {
+            final Card card = hand.get(i);
+            if (card.getId() == id) {
+                return card;
+            }
+            if (copy == null && card.getId() != Card.NO_ID && catalog.faceOf(card.getId()) == face) {
+                copy = card;
+            }
+        }
+        if (copy == null) {
+            throw new IllegalStateException(player.getName() + " does not hold card " + id);
+        }
+        return copy;
+    }
+
+    /**
+     * Checks that a snapshot was created for a game like this one.
+     * 
+     * @param snapshot the snapshot.
+     * @return the snapshot implementation.
+     * @throws IllegalArgumentException if the snapshot does not fit this game.
+     */
+    private GameSnapshotImpl checkSnapshot(final GameSnapshot snapshot) {
+        if (!(snapshot instanceof GameSnapshotImpl)
+                || !((GameSnapshotImpl) snapshot).fits(getCompactDiscardPile().getCatalog(), players.size())) {
+            throw new IllegalArgumentException("The snapshot was taken from a game with different cards or players");
+        }
+        return (GameSnapshotImpl) snapshot;
+    }
+
+    /**
+     * Gets the state object for a restored state, reusing the current one or a
+     * previously created one: states only hold a reference to the game.
+     * 
+     * @param state the state to restore.
+     * @return the behavior of that state.
+     */
+    private GameStateBehavior restoredState(final GameState state) {
+        if (currentState.getEnum() == state) {
+            return currentState;
+        }
+        GameStateBehavior behavior = restoredStates[state.ordinal()];
+        if (behavior == null) {
+            switch (state) {
+                case WAITING_FOR_COLOR:
+                    behavior = new WaitingForColorState(this);
+                    break;
+                case WAITING_FOR_PLAYER:
+                    behavior = new WaitingForPlayerState(this);
+                    break;
+                case ROUND_OVER:
+                    behavior = new RoundOverState(this);
+                    break;
+                case GAME_OVER:
+                    behavior = new GameOverState(this);
+                    break;
+                default:
+                    behavior = new RunningState(this);
+                    break;
+            }
+            restoredStates[state.ordinal()] = behavior;
+        }
+        return behavior;
+    }
+
+    /**
+     * Gets the draw deck as a compact deck, required by snapshots.
+     * 
+     * @return the draw deck.
+     * @throws IllegalStateException if the game does not use a compact deck.
+     */
+    private CompactDeck getCompactDeck() {
+        if (!(deckHandler.getDrawDeck() instanceof CompactDeck)) {
+            throw new IllegalStateException("Snapshots require a game built on a CompactDeck");
+        }
+        return (CompactDeck) deckHandler.getDrawDeck();
+    }
+
+    /**
+     * Gets the discard pile as a compact pile, required by snapshots.
+     * 
+     * @return the discard pile.
+     * @throws IllegalStateException if the game does not use a compact discard pile.
+     */
+    private CompactDiscardPile getCompactDiscardPile() {
+        if (!(deckHandler.getDiscardPile() instanceof CompactDiscardPile)) {
+            throw new IllegalStateException("Snapshots require a game built on a CompactDiscardPile");
+        }
+        return (CompactDiscardPile) deckHandler.getDiscardPile();
+    }
 }
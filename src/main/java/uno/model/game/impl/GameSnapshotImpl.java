@@ -0,0 +1,411 @@
+package uno.model.game.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.game.api.GameSnapshot;
+import uno.model.game.api.GameState;
+import uno.model.utils.api.GameRandom;
+
+/**
+ * Implementation of {@link GameSnapshot} as a set of preallocated primitive
+ * arrays, written and read by {@link GameImpl}.
+ * Cards are stored as catalog ids, players as indices in the list of players.
+ */
+final class GameSnapshotImpl implements GameSnapshot {
+
+    private static final List<Optional<CardColor>> COLORS = Arrays.stream(CardColor.values())
+            .map(Optional::of)
+            .toList();
+    private static final int NONE = -1;
+
+    private final CardCatalog catalog;
+    private final int[] deck;
+    private final int[] discard;
+    private final int[][] hands;
+    private final int[] handSizes;
+    private final int[] scores;
+    private final boolean[] calledUno;
+    private final int[] hidden;
+    private final int[] noVoids;
+    private final boolean[] chosen;
+    private HiddenCardSampler sampler;
+    private int hiddenObserver = NONE;
+    private int hiddenCount;
+
+    private int deckSize;
+    private int discardSize;
+    private int currentPlayerIndex;
+    private boolean clockwise;
+    private boolean hasDrawn;
+    private int skipSize;
+    private GameState state;
+    private int currentColor;
+    private boolean darkSide;
+    private int playedCard;
+    private int winner;
+
+    /**
+     * Allocates a snapshot able to hold any position of a game.
+     * 
+     * @param catalog the catalog of the game's cards.
+     * @param players the number of players.
+     */
+    GameSnapshotImpl(final CardCatalog catalog, final int players) {
+        this.catalog = catalog;
+        this.deck = new int[catalog.size()];
+        this.discard = new int[catalog.size()];
+        this.hands = new int[players][catalog.size()];
+        this.handSizes = new int[players];
+        this.scores = new int[players];
+        this.calledUno = new boolean[players];
+        this.hidden = new int[catalog.size()];
+        this.noVoids = new int[players];
+        this.chosen = new boolean[catalog.size()];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameState getGameState() {
+        return state;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<CardColor> getCurrentColor() {
+        return currentColor == NONE ? Optional.empty() : COLORS.get(currentColor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDarkSide() {
+        return darkSide;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isClockwise() {
+        return clockwise;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHandSize(final int playerIndex) {
+        return handSizes[playerIndex];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHandCard(final int playerIndex, final int position) {
+        return hands[playerIndex][Objects.checkIndex(position, handSizes[playerIndex])];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDrawDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDrawDeckCard(final int position) {
+        return deck[checkDeckPosition(position)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void moveToTopOfDrawDeck(final int position) {
+        final int top = deckSize - 1;
+        final int id = deck[checkDeckPosition(position)];
+        deck[position] = deck[top];
+        deck[top] = id;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shuffleHiddenCards(final int playerIndex, final GameRandom random) {
+        shuffleHiddenCards(playerIndex, noVoids, random);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The hidden cards are gathered once per captured position and observer;
+     * every deal after the first only shuffles them again.
+     */
+    @Override
+    public void shuffleHiddenCards(final int playerIndex, final int[] voidColors, final GameRandom random) {
+        if (voidColors.length != hands.length) {
+            throw new IllegalArgumentException("Expected the colors of " + hands.length + " players, got "
+                    + voidColors.length);
+        }
+        if (hiddenObserver != playerIndex) {
+            hiddenCount = 0;
+            for (int p = 0; p < hands.length; p++) {
+                if (p != playerIndex) {
+                    System.arraycopy(hands[p], 0, hidden, hiddenCount, handSizes[p]);
+                    hiddenCount += handSizes[p];
+                }
+            }
+            System.arraycopy(deck, 0, hidden, hiddenCount, deckSize);
+            hiddenCount += deckSize;
+            hiddenObserver = playerIndex;
+            if (sampler != null) {
+                sampler.forgetPool();
+            }
+        }
+        if (sampler == null) {
+            sampler = new HiddenCardSampler(catalog, hands.length);
+        }
+        sampler.deal(hidden, hiddenCount, hands, handSizes, deck, playerIndex, voidColors, random);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void dealHand(final int playerIndex, final int[] ids, final GameRandom random) {
+        final int size = handSizes[playerIndex];
+        if (ids.length != size) {
+            throw new IllegalArgumentException("Expected " + size + " cards, got " + ids.length);
+        }
+        for (final int id : ids) {
+            chosen[Objects.checkIndex(id, chosen.length)] = true;
+        }
+        // The rest of the hand and of the deck is gathered aside first, so that
+        // nothing changes if a card is missing.
+        int rest = 0;
+        int found = 0;
+        for (int i = 0; i < size + deckSize; i++) {
+            final int id = i < size ? hands[playerIndex][i] : deck[i - size];
+            if (chosen[id]) {
+                found++;
+            } else {
+                hidden[rest++] = id;
+            }
+        }
+        for (final int id : ids) {
+            chosen[id] = false;
+        }
+        if (found != size) {
+            throw new IllegalArgumentException("The cards must be distinct and in the hand or the draw deck");
+        }
+
+        System.arraycopy(ids, 0, hands[playerIndex], 0, size);
+        for (int i = rest - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int id = hidden[i];
+            hidden[i] = hidden[j];
+            hidden[j] = id;
+        }
+        System.arraycopy(hidden, 0, deck, 0, rest);
+        // The pool of hidden cards was overwritten.
+        hiddenObserver = NONE;
+    }
+
+    /**
+     * Checks that a position is inside the draw deck.
+     * 
+     * @param position the position.
+     * @return the position.
+     * @throws IndexOutOfBoundsException if the position is outside the deck.
+     */
+    private int checkDeckPosition(final int position) {
+        return Objects.checkIndex(position, deckSize);
+    }
+
+    /**
+     * Checks that this snapshot can hold the state of a game.
+     * 
+     * @param gameCatalog the catalog of the game.
+     * @param players     the number of players of the game.
+     * @return true if the catalog and the number of players match.
+     */
+    boolean fits(final CardCatalog gameCatalog, final int players) {
+        return catalog == gameCatalog && hands.length == players;
+    }
+
+    /**
+     * Gets the buffer of the draw deck.
+     * 
+     * @return the ids of the draw deck, bottom first.
+     */
+    int[] deck() {
+        return deck;
+    }
+
+    /**
+     * Gets the buffer of the discard pile.
+     * 
+     * @return the ids of the discard pile, bottom first.
+     */
+    int[] discard() {
+        return discard;
+    }
+
+    /**
+     * Gets the buffer of a hand.
+     * 
+     * @param player the index of the player.
+     * @return the ids of the hand, in hand order.
+     */
+    int[] hand(final int player) {
+        return hands[player];
+    }
+
+    /**
+     * Stores the sizes of the card buffers.
+     * 
+     * @param deckCount    the size of the draw deck.
+     * @param discardCount the size of the discard pile.
+     */
+    void setPileSizes(final int deckCount, final int discardCount) {
+        this.deckSize = deckCount;
+        this.discardSize = discardCount;
+        // A new position is being captured: the hidden cards must be gathered again.
+        this.hiddenObserver = NONE;
+    }
+
+    /**
+     * Gets the size of the discard pile.
+     * 
+     * @return the number of ids in the discard buffer.
+     */
+    int getDiscardSize() {
+        return discardSize;
+    }
+
+    /**
+     * Stores the state of a player.
+     * 
+     * @param player   the index of the player.
+     * @param handSize the number of ids in the hand buffer.
+     * @param score    the score of the player.
+     * @param uno      whether the player has called UNO.
+     */
+    void setPlayer(final int player, final int handSize, final int score, final boolean uno) {
+        handSizes[player] = handSize;
+        scores[player] = score;
+        calledUno[player] = uno;
+    }
+
+    /**
+     * Gets the score of a player.
+     * 
+     * @param player the index of the player.
+     * @return the score.
+     */
+    int getScore(final int player) {
+        return scores[player];
+    }
+
+    /**
+     * Checks if a player had called UNO.
+     * 
+     * @param player the index of the player.
+     * @return the UNO status.
+     */
+    boolean hasCalledUno(final int player) {
+        return calledUno[player];
+    }
+
+    /**
+     * Stores the turn state.
+     * 
+     * @param playerIndex the index of the current player.
+     * @param isClockwise the direction of play.
+     * @param drawn       whether the current player has drawn.
+     * @param skip        the pending skip.
+     */
+    void setTurn(final int playerIndex, final boolean isClockwise, final boolean drawn, final int skip) {
+        this.currentPlayerIndex = playerIndex;
+        this.clockwise = isClockwise;
+        this.hasDrawn = drawn;
+        this.skipSize = skip;
+    }
+
+    /**
+     * Checks if the current player had drawn this turn.
+     * 
+     * @return the draw flag.
+     */
+    boolean hasDrawn() {
+        return hasDrawn;
+    }
+
+    /**
+     * Gets the pending skip.
+     * 
+     * @return the number of players to skip.
+     */
+    int getSkipSize() {
+        return skipSize;
+    }
+
+    /**
+     * Stores the table state.
+     * 
+     * @param gameState the state of the game.
+     * @param color     the chosen color, or null.
+     * @param dark      whether the game is on the dark side.
+     * @param played    the id of the card being resolved, or {@link #NONE}.
+     * @param winnerIdx the index of the winner, or {@link #NONE}.
+     */
+    void setTable(final GameState gameState, final CardColor color, final boolean dark, final int played,
+            final int winnerIdx) {
+        this.state = gameState;
+        this.currentColor = color == null ? NONE : color.ordinal();
+        this.darkSide = dark;
+        this.playedCard = played;
+        this.winner = winnerIdx;
+    }
+
+    /**
+     * Gets the card being resolved.
+     * 
+     * @return its id, or a negative value if none.
+     */
+    int getPlayedCard() {
+        return playedCard;
+    }
+
+    /**
+     * Gets the winner.
+     * 
+     * @return the index of the winner, or a negative value if none.
+     */
+    int getWinner() {
+        return winner;
+    }
+}
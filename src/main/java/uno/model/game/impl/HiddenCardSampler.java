@@ -0,0 +1,183 @@
+package uno.model.game.impl;
+
+import java.util.Arrays;
+
+import uno.model.cards.behaviors.api.CardSideBehavior;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.utils.api.GameRandom;
+
+/**
+ * Deals the cards hidden from a player at random, in a single pass and
+ * without retries, so that no opponent receives a card of a color it is known
+ * not to hold (see {@link uno.model.players.api.CardTracker#getVoidColors}).
+ * The pool is shuffled once; then the opponents with the least room to choose
+ * take, in shuffled order, the first cards they may hold, the other opponents
+ * take the next cards and the draw deck, which has no constraint, gets the rest.
+ * If what is known cannot be satisfied, because it was wrong, the missing cards
+ * are dealt regardless of their color.
+ * Instances are not thread-safe.
+ */
+final class HiddenCardSampler {
+
+    private static final int SIDES = 2;
+    private static final int DARK = 1;
+
+    private final int[] colorBits;
+    private final int[] order;
+    private final int[] slack;
+    private final int[] allowed;
+    private final int[] countedMasks;
+
+    /**
+     * Creates a sampler for the cards of a catalog.
+     *
+     * @param catalog the catalog.
+     * @param players the number of players.
+     */
+    HiddenCardSampler(final CardCatalog catalog, final int players) {
+        this.colorBits = new int[catalog.size()];
+        for (int id = 0; id < catalog.size(); id++) {
+            for (int s = 0; s < SIDES; s++) {
+                final CardSideBehavior face = catalog.getCard(id).getSide(s == DARK);
+                if (!face.isBack()) {
+                    colorBits[id] |= 1 << face.getColor().ordinal();
+                }
+            }
+        }
+        this.order = new int[players];
+        this.slack = new int[players];
+        this.allowed = new int[players];
+        this.countedMasks = new int[players];
+    }
+
+    /**
+     * Shuffles a pool of hidden cards and deals it to the opponents' hands and the draw deck.
+     *
+     * @param pool       the ids of the hidden cards; shuffled in place.
+     * @param total      the number of hidden cards: the cards of the opponents and of the deck.
+     * @param hands      the hands, indexed by player; those of the opponents are overwritten.
+     * @param handSizes  the number of cards of each hand.
+     * @param deck       the draw deck, overwritten with the rest of the pool.
+     * @param observer   the index of the player who sees the deal, whose hand is left alone.
+     * @param voidColors the colors each player is known not to hold, as masks of
+     *                   {@code 1 << color.ordinal()} bits.
+     * @param random     the random source.
+     */
+    void deal(final int[] pool, final int total, final int[][] hands, final int[] handSizes, final int[] deck,
+            final int observer, final int[] voidColors, final GameRandom random) {
+        for (int i = total - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int id = pool[i];
+            pool[i] = pool[j];
+            pool[j] = id;
+        }
+
+        final int constrained = listConstrained(pool, total, handSizes, observer, voidColors);
+        sortConstrained(constrained);
+        int next = 0;
+        for (int k = 0; k < constrained; k++) {
+            final int p = order[k];
+            next = dealConstrained(pool, total, next, hands[p], handSizes[p], voidColors[p]);
+        }
+        for (int p = 0; p < hands.length; p++) {
+            if (p != observer && (voidColors[p] == 0 || handSizes[p] == 0)) {
+                System.arraycopy(pool, next, hands[p], 0, handSizes[p]);
+                next += handSizes[p];
+            }
+        }
+        System.arraycopy(pool, next, deck, 0, total - next);
+    }
+
+    /**
+     * Forgets the cards counted for each mask of colors: must be called when the
+     * pool given to {@link #deal} holds different cards, not just in a different order.
+     */
+    void forgetPool() {
+        Arrays.fill(countedMasks, 0);
+    }
+
+    /**
+     * Lists in {@link #order} the opponents with colors they are known not to
+     * hold, with their spare cards in {@link #slack}: how many more cards of the
+     * pool they may hold than they have. Shuffling the pool does not change the
+     * count, so it is only made again for a new mask or a new pool.
+     *
+     * @param pool       the hidden cards.
+     * @param total      the number of hidden cards.
+     * @param handSizes  the number of cards of each hand.
+     * @param observer   the index of the observing player.
+     * @param voidColors the colors each player is known not to hold.
+     * @return the number of such opponents.
+     */
+    private int listConstrained(final int[] pool, final int total, final int[] handSizes, final int observer,
+            final int[] voidColors) {
+        int constrained = 0;
+        for (int p = 0; p < handSizes.length; p++) {
+            if (p == observer || voidColors[p] == 0 || handSizes[p] == 0) {
+                continue;
+            }
+            if (countedMasks[p] != voidColors[p]) {
+                int count = 0;
+                for (int i = 0; i < total; i++) {
+                    if ((colorBits[pool[i]] & voidColors[p]) == 0) {
+                        count++;
+                    }
+                }
+                allowed[p] = count;
+                countedMasks[p] = voidColors[p];
+            }
+            order[constrained] = p;
+            slack[constrained] = allowed[p] - handSizes[p];
+            constrained++;
+        }
+        return constrained;
+    }
+
+    /**
+     * Sorts the listed opponents by their spare cards, the fewest first, since
+     * they have the least room to choose.
+     *
+     * @param constrained the number of listed opponents.
+     */
+    private void sortConstrained(final int constrained) {
+        for (int i = 1; i < constrained; i++) {
+            final int p = order[i];
+            final int spare = slack[i];
+            int k = i;
+            while (k > 0 && slack[k - 1] > spare) {
+                order[k] = order[k - 1];
+                slack[k] = slack[k - 1];
+                k--;
+            }
+            order[k] = p;
+            slack[k] = spare;
+        }
+    }
+
+    /**
+     * Deals a hand from the shuffled cards not dealt yet, taking the first ones
+     * the player may hold and moving them in front of the others.
+     *
+     * @param pool  the shuffled cards.
+     * @param total the number of cards.
+     * @param first the first card not dealt yet.
+     * @param hand  the hand to fill.
+     * @param size  the number of cards of the hand.
+     * @param voids the colors the player is known not to hold.
+     * @return the first card not dealt yet after this hand.
+     */
+    private int dealConstrained(final int[] pool, final int total, final int first, final int[] hand,
+            final int size, final int voids) {
+        int next = first;
+        for (int i = first; i < total && next < first + size; i++) {
+            if ((colorBits[pool[i]] & voids) == 0) {
+                final int id = pool[i];
+                pool[i] = pool[next];
+                pool[next++] = id;
+            }
+        }
+        // If too few cards fit what is known, the next ones are dealt regardless.
+        System.arraycopy(pool, first, hand, 0, size);
+        return first + size;
+    }
+}
@@ -1,5 +1,9 @@
 package uno.model.game.impl;
 
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.behaviors.api.CardSideBehavior;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.deck.api.CompatibilityTable;
 import uno.model.cards.types.api.Card;
 import uno.model.game.api.GameContext;
 import uno.model.game.api.MoveValidator;
@@ -11,10 +15,14 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
  * Concrete implementation of MoveValidator.
+ * When the cards come from a {@link CardCatalog}, moves are checked with the
+ * catalog's {@link CompatibilityTable}; other cards fall back to
+ * {@link Card#canBePlayedOn(Card, uno.model.game.api.Game)}.
  */
 public class MoveValidatorImpl implements MoveValidator {
 
     private final GameContext gameContext;
+    private Optional<CardCatalog> catalog;
 
     /**
      * Constructor for MoveValidatorImpl.
@@ -32,7 +40,35 @@ public class MoveValidatorImpl implements MoveValidator {
     @Override
     public boolean isValidMove(final Card cardToPlay) {
         final Optional<Card> topCard = gameContext.getTopDiscardCard();
-        return topCard.isPresent() && cardToPlay.canBePlayedOn(topCard.get(), gameContext);
+        if (topCard.isEmpty()) {
+            return false;
+        }
+        final Card top = topCard.get();
+        final Optional<CardCatalog> cards = getCatalog();
+        if (cards.isEmpty() || !cards.get().contains(cardToPlay) || !cards.get().contains(top)) {
+            return cardToPlay.canBePlayedOn(top, gameContext);
+        }
+
+        final boolean darkSide = gameContext.isDarkSide();
+        final CardSideBehavior topFace = top.getSide(darkSide);
+        final CardColor activeColor = gameContext.getCurrentColor().isPresent()
+                ? gameContext.getCurrentColor().get()
+                : topFace.getColor();
+        return cards.get().getCompatibility()
+                .canBePlayed(cardToPlay.getId(), darkSide, activeColor, topFace.getValue());
+    }
+
+    /**
+     * Gets the catalog of the draw deck, looked up on first use because the
+     * validator is created while the game is being built.
+     * 
+     * @return the catalog of the game's cards, or empty if the deck has none.
+     */
+    private Optional<CardCatalog> getCatalog() {
+        if (catalog == null) {
+            catalog = gameContext.getDrawDeck().getCatalog();
+        }
+        return catalog;
     }
 
     /**
@@ -40,11 +76,15 @@ public class MoveValidatorImpl implements MoveValidator {
      */
     @Override
     public boolean playerHasPlayableCard(final AbstractPlayer player) {
-        for (final Optional<Card> card : player.getHand()) {
-            if (card.isPresent() && isValidMove(card.get())) {
-                return true;
-            }
+        final Optional<Card> topCard = gameContext.getTopDiscardCard();
+        if (topCard.isEmpty()) {
+            return false;
         }
-        return false;
+        final CardColor activeColor = gameContext.getCurrentColor().isPresent()
+                ? gameContext.getCurrentColor().get()
+                : topCard.get().getColor(gameContext);
+
+        return player.getHandView().hasPlayableCard(activeColor, topCard.get().getValue(gameContext),
+                gameContext.isDarkSide());
     }
 }
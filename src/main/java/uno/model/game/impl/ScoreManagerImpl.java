@@ -1,12 +1,11 @@
 package uno.model.game.impl;
 
-import uno.model.cards.types.api.Card;
 import uno.model.game.api.Game;
+import uno.model.players.api.Hand;
 import uno.model.game.api.ScoreManager;
 import uno.model.players.impl.AbstractPlayer;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Helper class responsible for calculating scores at the end of a round.
@@ -22,10 +21,9 @@ public class ScoreManagerImpl implements ScoreManager {
 
         for (final AbstractPlayer player : players) {
             if (!player.equals(winner)) {
-                for (final Optional<Card> cardOpt : player.getHand()) {
-                    if (cardOpt.isPresent()) {
-                        totalPoints += cardOpt.get().getPointValue(game);
-                    }
+                final Hand hand = player.getHandView();
+                for (int i = 0; i < hand.size(); i++) {
+                    totalPoints += hand.get(i).getPointValue(game);
                 }
             }
         }
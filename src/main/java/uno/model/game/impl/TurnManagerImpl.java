@@ -4,20 +4,20 @@ import uno.model.game.api.Game;
 import uno.model.game.api.TurnManager;
 import uno.model.players.impl.AbstractPlayer;
 import uno.model.game.api.GameRules;
+import uno.model.utils.api.GameRandom;
+import uno.model.utils.impl.GameRandomImpl;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Concrete implementation of the Turn Manager logic.
  */
 public class TurnManagerImpl implements TurnManager {
 
-    private static final Random RANDOM = new Random();
-
     private final List<AbstractPlayer> players;
     private final GameRules rules;
+    private final GameRandom random;
     private int currentPlayerIndex;
     private boolean isClockwise;
     private boolean hasDrawnThisTurn;
@@ -39,9 +39,21 @@ public class TurnManagerImpl implements TurnManager {
      * @param rules   The game rules.
      */
     public TurnManagerImpl(final List<AbstractPlayer> players, final GameRules rules) {
+        this(players, rules, new GameRandomImpl());
+    }
+
+    /**
+     * Initializes the turn manager with custom rules and random source.
+     * 
+     * @param players The list of participants.
+     * @param rules   The game rules.
+     * @param random  The random source of the game, used to pick the first player.
+     */
+    public TurnManagerImpl(final List<AbstractPlayer> players, final GameRules rules, final GameRandom random) {
         this.players = new ArrayList<>(players);
         this.rules = rules;
-        this.currentPlayerIndex = RANDOM.nextInt(players.size());
+        this.random = random;
+        this.currentPlayerIndex = random.nextInt(players.size());
         this.isClockwise = true;
         this.hasDrawnThisTurn = false;
         this.skipSize = 0;
@@ -152,6 +164,34 @@ public class TurnManagerImpl implements TurnManager {
         return isClockwise;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSkipSize() {
+        return skipSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restore(final int currentPlayerIndex, final boolean clockwise, final boolean hasDrawn,
+            final int skipSize) {
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.isClockwise = clockwise;
+        this.hasDrawnThisTurn = hasDrawn;
+        this.skipSize = skipSize;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -160,6 +200,6 @@ public class TurnManagerImpl implements TurnManager {
         this.isClockwise = true;
         this.hasDrawnThisTurn = false;
         this.skipSize = 0;
-        this.currentPlayerIndex = RANDOM.nextInt(players.size());
+        this.currentPlayerIndex = random.nextInt(players.size());
     }
 }
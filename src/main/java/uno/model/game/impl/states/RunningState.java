@@ -1,5 +1,6 @@
 package uno.model.game.impl.states;
 
+import uno.model.api.GameChange;
 import uno.model.cards.attributes.CardColor;
 import uno.model.cards.attributes.CardValue;
 import uno.model.cards.types.api.Card;
@@ -47,7 +48,7 @@ public class RunningState extends AbstractGameState {
             throw new IllegalStateException("RULE: Skip After Draw. You drawn a card, so you must pass your turn.");
         }
 
-        if (!player.getHand().contains(card)) {
+        if (card.isEmpty() || !player.getHandView().contains(card.get())) {
             throw new IllegalStateException("Player " + player.getName() + " does not have the card");
         }
 
@@ -59,6 +60,7 @@ public class RunningState extends AbstractGameState {
         this.getGame().getLogger().logAction(player.getName(), "PLAY",
                 card.getClass().getSimpleName(),
                 card.get().getValue(this.getGame()).toString());
+        this.getGame().getEvents().onCardPlayed(this.getGame(), player, card.get());
 
         if (card.get().getColor(this.getGame()) == CardColor.WILD) {
             this.getGame().setCurrentColorOptional(Optional.empty());
@@ -75,11 +77,14 @@ public class RunningState extends AbstractGameState {
             player.playCard(card);
             this.getGame().getDiscardPile().addCard(card.get());
         }
+        this.getGame().markChanged(GameChange.HANDS);
+        this.getGame().markChanged(GameChange.TOP_CARD);
 
         if (player.hasWon()) {
             final ScoreManager scoreManager = new ScoreManagerImpl();
             final int points = scoreManager.calculateRoundPoints(player, this.getGame().getPlayers(), this.getGame());
             player.addScore(points);
+            this.getGame().markChanged(GameChange.SCORES);
 
             String winType = "ROUND_WINNER";
             final boolean scoringMode = this.getGame().getRules().isScoringModeEnabled();
@@ -101,6 +106,7 @@ public class RunningState extends AbstractGameState {
 
         if (this.getGame().getGameState() == GameState.RUNNING) {
             this.getGame().getTurnManager().advanceTurn(this.getGame());
+            this.getGame().markChanged(GameChange.TURN);
         }
 
         this.getGame().notifyObservers();
@@ -122,6 +128,7 @@ public class RunningState extends AbstractGameState {
         }
 
         this.getGame().getTurnManager().setHasDrawnThisTurn(true);
+        this.getGame().markChanged(GameChange.TURN);
 
         this.getGame().drawCardForPlayer(player);
 
@@ -142,10 +149,12 @@ public class RunningState extends AbstractGameState {
         }
 
         final AbstractPlayer currentPlayer = this.getGame().getCurrentPlayer();
-        final String handSize = String.valueOf(currentPlayer.getHand().size());
+        final String handSize = String.valueOf(currentPlayer.getHandSize());
 
         this.getGame().getLogger().logAction(currentPlayer.getName(), "PASS_TURN", "N/A", "HandSize: " + handSize);
+        this.getGame().getEvents().onTurnPassed(this.getGame(), currentPlayer);
         this.getGame().getTurnManager().advanceTurn(this.getGame());
+        this.getGame().markChanged(GameChange.TURN);
         this.getGame().notifyObservers();
     }
 }
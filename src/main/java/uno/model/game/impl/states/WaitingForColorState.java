@@ -1,11 +1,13 @@
 package uno.model.game.impl.states;
 
+import uno.model.api.GameChange;
 import uno.model.cards.attributes.CardColor;
 import uno.model.cards.attributes.CardValue;
 import uno.model.cards.types.api.Card;
 import uno.model.game.api.GameContext;
 import uno.model.game.api.GameState;
 import uno.model.game.impl.AbstractGameState;
+import uno.model.players.api.Hand;
 import uno.model.players.impl.AbstractPlayer;
 
 import java.util.Optional;
@@ -59,20 +61,27 @@ public class WaitingForColorState extends AbstractGameState {
     public void drawUntilColorChosenCard(final CardColor color) {
         final AbstractPlayer nextPlayer = this.getGame().getTurnManager().peekNextPlayer();
 
-        while (true) {
-            final Optional<Card> drawnCard = this.getGame().getDrawDeck().draw();
-            if (drawnCard.isPresent()) {
-                nextPlayer.addCardToHand(drawnCard.get());
+        boolean found = false;
+        while (!found) {
+            final int handSizeBefore = nextPlayer.getHandSize();
+            this.getGame().drawCardForPlayer(nextPlayer);
 
-                if (drawnCard.get().getColor(this.getGame()) == color) {
-                    break;
-                }
+            if (this.getGame().getGameState() == GameState.GAME_OVER) {
+                return;
             }
+            if (nextPlayer.getHandSize() == handSizeBefore) {
+                // Nothing left to draw, even after reshuffling the discard pile.
+                break;
+            }
+
+            final Hand hand = nextPlayer.getHandView();
+            found = hand.get(hand.size() - 1).getColor(this.getGame()) == color;
         }
 
         this.getGame().setCurrentColorOptional(Optional.of(color));
         this.getGame().setGameState(new RunningState(this.getGame()));
         this.getGame().getTurnManager().advanceTurn(this.getGame());
+        this.getGame().markChanged(GameChange.TURN);
         this.getGame().notifyObservers();
     }
 }
@@ -1,5 +1,6 @@
 package uno.model.game.impl.states;
 
+import uno.model.api.GameChange;
 import uno.model.cards.attributes.CardValue;
 import uno.model.cards.types.api.Card;
 import uno.model.game.api.GameContext;
@@ -50,6 +51,8 @@ public class WaitingForPlayerState extends AbstractGameState {
             final List<Optional<Card>> tempHand = new ArrayList<>(currentPlayer.getHand());
             currentPlayer.setHand(player.getHand());
             player.setHand(tempHand);
+            this.getGame().markChanged(GameChange.HANDS);
+            this.getGame().getEvents().onHandsSwapped(this.getGame(), currentPlayer, player);
         }
 
         if (playedCard.getValue(this.getGame()) == CardValue.WILD_TARGETED_DRAW_TWO) {
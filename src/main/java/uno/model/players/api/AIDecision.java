@@ -0,0 +1,124 @@
+package uno.model.players.api;
+
+import java.util.Optional;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.types.api.Card;
+import uno.model.players.impl.AbstractPlayer;
+
+/**
+ * One step of an AI player's turn, decided without touching the game so that
+ * it can be computed away from the thread that owns the game and applied later
+ * (see {@link uno.model.players.impl.AbstractAIPlayer#decide} and
+ * {@link uno.model.players.impl.AbstractAIPlayer#apply}).
+ *
+ * @param kind   what the player does.
+ * @param card   the card played, for {@link Kind#PLAY}.
+ * @param color  the color chosen, for {@link Kind#COLOR}.
+ * @param target the player targeted, for {@link Kind#TARGET}.
+ */
+public record AIDecision(Kind kind, Optional<Card> card, Optional<CardColor> color,
+        Optional<AbstractPlayer> target) {
+
+    /**
+     * The kinds of step.
+     */
+    public enum Kind {
+        /**
+         * Plays a card.
+         */
+        PLAY,
+        /**
+         * Draws a card, passing at once if the rules skip the turn after a draw.
+         */
+        DRAW,
+        /**
+         * Passes after drawing.
+         */
+        PASS,
+        /**
+         * Chooses the color after a Wild card.
+         */
+        COLOR,
+        /**
+         * Chooses the target of a card.
+         */
+        TARGET,
+        /**
+         * Leaves a pending choice to the player: nothing is done.
+         */
+        NONE
+    }
+
+    /**
+     * Validates the decision.
+     *
+     * @param kind   what the player does.
+     * @param card   the card played, for {@link Kind#PLAY}.
+     * @param color  the color chosen, for {@link Kind#COLOR}.
+     * @param target the player targeted, for {@link Kind#TARGET}.
+     */
+    public AIDecision {
+        if (card.isPresent() != (kind == Kind.PLAY) || color.isPresent() != (kind == Kind.COLOR)
+                || target.isPresent() != (kind == Kind.TARGET)) {
+            throw new IllegalArgumentException("Invalid AI decision: " + kind);
+        }
+    }
+
+    /**
+     * Decision to play a card.
+     *
+     * @param card the card.
+     * @return the decision.
+     */
+    public static AIDecision play(final Card card) {
+        return new AIDecision(Kind.PLAY, Optional.of(card), Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * Decision to draw a card.
+     *
+     * @return the decision.
+     */
+    public static AIDecision draw() {
+        return new AIDecision(Kind.DRAW, Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * Decision to pass after drawing.
+     *
+     * @return the decision.
+     */
+    public static AIDecision pass() {
+        return new AIDecision(Kind.PASS, Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * Decision to choose a color.
+     *
+     * @param color the color.
+     * @return the decision.
+     */
+    public static AIDecision color(final CardColor color) {
+        return new AIDecision(Kind.COLOR, Optional.empty(), Optional.of(color), Optional.empty());
+    }
+
+    /**
+     * Decision to target a player.
+     *
+     * @param target the player.
+     * @return the decision.
+     */
+    public static AIDecision target(final AbstractPlayer target) {
+        return new AIDecision(Kind.TARGET, Optional.empty(), Optional.empty(), Optional.of(target));
+    }
+
+    /**
+     * Decision to do nothing.
+     *
+     * @return the decision.
+     */
+    public static AIDecision none() {
+        return new AIDecision(Kind.NONE, Optional.empty(), Optional.empty(), Optional.empty());
+    }
+}
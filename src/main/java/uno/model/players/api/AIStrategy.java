@@ -0,0 +1,89 @@
+package uno.model.players.api;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.Game;
+import uno.model.players.impl.AbstractPlayer;
+
+import java.util.Optional;
+
+/**
+ * A decision strategy that can be plugged into an AI player, such as a search
+ * used for the end of the round. While the strategy is active it makes every
+ * decision of the player; otherwise the player's own heuristics are used.
+ */
+public interface AIStrategy {
+
+    /**
+     * Checks if the strategy takes over the decisions of a player in the current position.
+     *
+     * @param game   The current game state.
+     * @param player The player about to decide.
+     * @return true if the strategy should decide.
+     */
+    boolean isActive(Game game, AbstractPlayer player);
+
+    /**
+     * Chooses the card to play.
+     *
+     * @param game   The current game state.
+     * @param player The player to move.
+     * @return The card to play, or empty to draw (or pass, after drawing).
+     */
+    Optional<Card> chooseCardToPlay(Game game, AbstractPlayer player);
+
+    /**
+     * Chooses the color to declare after a Wild card.
+     *
+     * @param game   The current game state.
+     * @param player The player who played the Wild card.
+     * @return The color.
+     */
+    CardColor chooseBestColor(Game game, AbstractPlayer player);
+
+    /**
+     * Chooses the target of a card that targets another player.
+     *
+     * @param game   The current game state.
+     * @param player The player who played the card.
+     * @return The target, or empty to leave the choice to the player.
+     */
+    Optional<AbstractPlayer> chooseTargetPlayer(Game game, AbstractPlayer player);
+
+    /**
+     * Chooses the card to play by a deadline, returning the best card found so
+     * far when it expires. By default the deadline is ignored.
+     *
+     * @param game          The current game state.
+     * @param player        The player to move.
+     * @param deadlineNanos The {@link System#nanoTime()} by which to decide, or {@link Long#MAX_VALUE}.
+     * @return The card to play, or empty to draw (or pass, after drawing).
+     */
+    default Optional<Card> chooseCardToPlay(Game game, AbstractPlayer player, long deadlineNanos) {
+        return chooseCardToPlay(game, player);
+    }
+
+    /**
+     * Chooses the color to declare after a Wild card by a deadline.
+     *
+     * @param game          The current game state.
+     * @param player        The player who played the Wild card.
+     * @param deadlineNanos The {@link System#nanoTime()} by which to decide, or {@link Long#MAX_VALUE}.
+     * @return The color.
+     */
+    default CardColor chooseBestColor(Game game, AbstractPlayer player, long deadlineNanos) {
+        return chooseBestColor(game, player);
+    }
+
+    /**
+     * Chooses the target of a card that targets another player by a deadline.
+     *
+     * @param game          The current game state.
+     * @param player        The player who played the card.
+     * @param deadlineNanos The {@link System#nanoTime()} by which to decide, or {@link Long#MAX_VALUE}.
+     * @return The target, or empty to leave the choice to the player.
+     */
+    default Optional<AbstractPlayer> chooseTargetPlayer(Game game, AbstractPlayer player, long deadlineNanos) {
+        return chooseTargetPlayer(game, player);
+    }
+}
@@ -0,0 +1,91 @@
+package uno.model.players.api;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.attributes.CardValue;
+
+/**
+ * What an AI player knows about the cards it cannot see, built from the moves
+ * made in the game rather than from the discard pile.
+ * A card is unseen when the player does not know where it is: it is neither in
+ * the player's hand nor in the discard pile, so it is in the draw deck or in an
+ * opponent's hand. Opponents are also tracked by the colors they are known not
+ * to hold ("passed on red, so holds no red").
+ * Every question is answered in constant time from counters that are updated
+ * as the moves are made. Players are identified by their index in the game.
+ * Only games built on a card catalog are tracked.
+ */
+public interface CardTracker {
+
+    /**
+     * Checks if the tracker follows a game.
+     *
+     * @return true if the game has a card catalog; if not, every count is zero.
+     */
+    boolean isTracking();
+
+    /**
+     * Gets the number of unseen cards.
+     *
+     * @return the cards in the draw deck and in the opponents' hands.
+     */
+    int getUnseenCount();
+
+    /**
+     * Checks if a card is unseen.
+     *
+     * @param id the catalog id of the card.
+     * @return true if the player does not know where the card is.
+     */
+    boolean isUnseen(int id);
+
+    /**
+     * Counts the unseen copies of a face (see {@link uno.model.cards.deck.api.CardCatalog#faceOf}).
+     *
+     * @param face the face id.
+     * @return the number of unseen cards with that face.
+     */
+    int countUnseenFace(int face);
+
+    /**
+     * Counts the unseen cards with a given color on one side.
+     *
+     * @param color    the color.
+     * @param darkSide true to look at the dark side, false for the light side.
+     * @return the number of unseen cards with that color.
+     */
+    int countUnseenColor(CardColor color, boolean darkSide);
+
+    /**
+     * Counts the unseen cards with a given value on one side.
+     *
+     * @param value    the value.
+     * @param darkSide true to look at the dark side, false for the light side.
+     * @return the number of unseen cards with that value.
+     */
+    int countUnseenValue(CardValue value, boolean darkSide);
+
+    /**
+     * Checks if a player is known to hold no card of a color.
+     *
+     * @param seat  the index of the player.
+     * @param color the color.
+     * @return true if none of the cards of the player has that color.
+     */
+    boolean isVoid(int seat, CardColor color);
+
+    /**
+     * Gets the colors a player is known not to hold.
+     *
+     * @param seat the index of the player.
+     * @return a mask with the bit {@code 1 << color.ordinal()} set for each such color.
+     */
+    int getVoidColors(int seat);
+
+    /**
+     * Copies the ids of the unseen cards, in increasing order.
+     *
+     * @param target the array receiving the ids, at least {@link #getUnseenCount()} long.
+     * @return the number of ids copied.
+     */
+    int copyUnseenIds(int[] target);
+}
@@ -0,0 +1,81 @@
+package uno.model.players.api;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.attributes.CardValue;
+import uno.model.cards.types.api.Card;
+
+/**
+ * Read-only view of a player's hand.
+ * Besides the cards, in the order they were received, the hand keeps how many
+ * cards of each color and value it holds on both sides, so that the questions
+ * asked on every turn ("can I play on this card?", "how many red cards do I
+ * have?") are answered in constant time, without copying the hand.
+ * The view always reflects the current content of the hand.
+ */
+public interface Hand {
+
+    /**
+     * Gets the number of cards in the hand.
+     * 
+     * @return the size of the hand.
+     */
+    int size();
+
+    /**
+     * Checks if the hand has no cards.
+     * 
+     * @return true if the hand is empty.
+     */
+    boolean isEmpty();
+
+    /**
+     * Gets a card by position, the first card received being at position 0.
+     * 
+     * @param index the position of the card.
+     * @return the card.
+     * @throws IndexOutOfBoundsException if the index is not in the hand.
+     */
+    Card get(int index);
+
+    /**
+     * Checks if the hand holds a card.
+     * 
+     * @param card the card to look for.
+     * @return true if that physical card is in the hand.
+     */
+    boolean contains(Card card);
+
+    /**
+     * Counts the cards with a given color on one side.
+     * 
+     * @param color    the color.
+     * @param darkSide true to look at the dark side, false for the light side.
+     * @return the number of cards with that color.
+     */
+    int countColor(CardColor color, boolean darkSide);
+
+    /**
+     * Counts the cards with a given value on one side.
+     * 
+     * @param value    the value.
+     * @param darkSide true to look at the dark side, false for the light side.
+     * @return the number of cards with that value.
+     */
+    int countValue(CardValue value, boolean darkSide);
+
+    /**
+     * Checks if at least one card can be played according to the matching rule
+     * of the cards: a Wild card, a card of the active color, or a card with the
+     * same value as the top card.
+     * 
+     * @param activeColor the color to match.
+     * @param topValue    the value of the card on top of the discard pile.
+     * @param darkSide    true if the game is on the dark side.
+     * @return true if the hand has a playable card.
+     */
+    default boolean hasPlayableCard(final CardColor activeColor, final CardValue topValue, final boolean darkSide) {
+        return countColor(CardColor.WILD, darkSide) > 0
+                || countColor(activeColor, darkSide) > 0
+                || countValue(topValue, darkSide) > 0;
+    }
+}
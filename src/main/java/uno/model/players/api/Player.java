@@ -52,6 +52,14 @@ public interface Player {
      */
     List<Optional<Card>> getHand();
 
+    /**
+     * Gets a read-only view of the player's hand, which is not copied and
+     * answers the per-turn questions in constant time.
+     * 
+     * @return The live view of the hand.
+     */
+    Hand getHandView();
+
     /**
      * Gets the current size of the player's hand.
      * 
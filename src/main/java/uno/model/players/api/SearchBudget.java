@@ -0,0 +1,64 @@
+package uno.model.players.api;
+
+/**
+ * How much work a search-based AI may spend on a single decision: the search
+ * stops after {@code iterations} playouts or {@code timeMillis} milliseconds,
+ * whichever comes first, and is split across {@code threads} worker threads.
+ * A limit of zero means that dimension is not limited.
+ *
+ * @param threads    number of threads searching in parallel.
+ * @param iterations total number of playouts, shared by the threads.
+ * @param timeMillis wall-clock time allowed for the decision.
+ */
+public record SearchBudget(int threads, int iterations, long timeMillis) {
+
+    private static final int DEFAULT_ITERATIONS = 2000;
+    private static final long DEFAULT_TIME_MILLIS = 1000;
+    private static final int MAX_DEFAULT_THREADS = 4;
+
+    /**
+     * Validates the budget.
+     *
+     * @param threads    number of threads searching in parallel.
+     * @param iterations total number of playouts, shared by the threads.
+     * @param timeMillis wall-clock time allowed for the decision.
+     */
+    public SearchBudget {
+        if (threads < 1 || iterations < 0 || timeMillis < 0 || iterations == 0 && timeMillis == 0) {
+            throw new IllegalArgumentException("Invalid search budget: " + threads + " threads, "
+                    + iterations + " iterations, " + timeMillis + "ms");
+        }
+    }
+
+    /**
+     * Budget limited only by the number of playouts, on a single thread: the
+     * decisions are reproducible for a given seed.
+     *
+     * @param iterations the number of playouts.
+     * @return the budget.
+     */
+    public static SearchBudget iterations(final int iterations) {
+        return new SearchBudget(1, iterations, 0);
+    }
+
+    /**
+     * Budget limited only by time.
+     *
+     * @param timeMillis the time allowed for each decision.
+     * @param threads    the number of threads searching in parallel.
+     * @return the budget.
+     */
+    public static SearchBudget time(final long timeMillis, final int threads) {
+        return new SearchBudget(threads, 0, timeMillis);
+    }
+
+    /**
+     * Default budget: 2000 playouts or one second, on up to four of the available cores.
+     *
+     * @return the budget.
+     */
+    public static SearchBudget defaults() {
+        final int threads = Math.min(MAX_DEFAULT_THREADS, Runtime.getRuntime().availableProcessors());
+        return new SearchBudget(threads, DEFAULT_ITERATIONS, DEFAULT_TIME_MILLIS);
+    }
+}
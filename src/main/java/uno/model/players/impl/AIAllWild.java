@@ -1,15 +1,12 @@
 package uno.model.players.impl;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
 import java.util.Optional;
 
 import uno.model.cards.attributes.CardColor;
 import uno.model.cards.attributes.CardValue;
 import uno.model.cards.types.api.Card;
 import uno.model.game.api.Game;
-import uno.model.game.api.GameState;
+import uno.model.players.api.Hand;
 
 /**
  * AI implementation for UNO All Wild.
@@ -26,68 +23,53 @@ public class AIAllWild extends AbstractAIPlayer {
         super(name);
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void takeTurn(final Game game) {
-        // Standard turn logic handled by AbstractAIPlayer
-        super.takeTurn(game);
-
-        // if we are waiting for a player choice, we need to choose the target
-        if (game.getGameState() == GameState.WAITING_FOR_PLAYER) {
-            findBestTarget(game).ifPresent(target -> {
-                game.chosenPlayer(target);
-                game.aiAdvanceTurn();
-            });
-        }
-    }
-
     /**
      * {@inheritDoc}
      */
     @Override
     protected Optional<Card> chooseCardToPlay(final Game game) {
-        final List<Card> hand = getPlayableCards(game);
+        final Hand hand = getHandView();
+        final int[] moves = getMoveBuffer();
+        final int count = MoveGenerator.playableCards(game, hand, moves);
 
-        if (hand.isEmpty()) {
+        if (count == 0) {
             return Optional.empty();
         }
 
         // Choose the best target (the player with the fewest cards)
-        final Optional<AbstractPlayer> bestTargetOpt = findBestTarget(game);
+        final Optional<AbstractPlayer> bestTargetOpt = chooseTargetPlayer(game);
+
+        int swapCard = -1;
+        int attackCard = -1;
+        int otherCard = -1;
+        for (int i = 0; i < count; i++) {
+            final CardValue value = hand.get(moves[i]).getValue(game);
+            if (value == CardValue.WILD_FORCED_SWAP && swapCard < 0) {
+                swapCard = moves[i];
+            }
+            if (isAggressiveCard(value) && attackCard < 0) {
+                attackCard = moves[i];
+            }
+            // Any card but a swap with a player holding more cards
+            final boolean isBadSwap = value == CardValue.WILD_FORCED_SWAP && bestTargetOpt.isPresent()
+                    && this.getHandSize() < bestTargetOpt.get().getHandSize();
+            if (!isBadSwap && otherCard < 0) {
+                otherCard = moves[i];
+            }
+        }
 
         // Swap Logic
-        final Optional<Card> swapCard = hand.stream()
-                .filter(c -> c.getValue(game) == CardValue.WILD_FORCED_SWAP)
-                .findFirst();
-
-        if (swapCard.isPresent() && bestTargetOpt.isPresent() && this.getHandSize() > bestTargetOpt.get().getHandSize()) {
-            return swapCard;
+        if (swapCard >= 0 && bestTargetOpt.isPresent() && this.getHandSize() > bestTargetOpt.get().getHandSize()) {
+            return Optional.of(hand.get(swapCard));
         }
 
         // Attack Logic (aggressive cards)
-        final Optional<Card> attackCard = hand.stream()
-                .filter(c -> isAggressiveCard(c.getValue(game)))
-                .findFirst();
-
-        if (attackCard.isPresent()) {
-            return attackCard;
+        if (attackCard >= 0) {
+            return Optional.of(hand.get(attackCard));
         }
 
         // Otherwise, play any non-swap card. If I have only swap cards, I'll be forced to play one of them.
-        for (final Card card : hand) {
-            boolean isBadSwap = false;
-            if (card.getValue(game) == CardValue.WILD_FORCED_SWAP && bestTargetOpt.isPresent() 
-                && this.getHandSize() < bestTargetOpt.get().getHandSize()) {
-                isBadSwap = true;
-            }
-            if (!isBadSwap) {
-                return Optional.of(card);
-            }
-        }
-
-        return Optional.of(hand.get(0));
+        return Optional.of(hand.get(otherCard >= 0 ? otherCard : moves[0]));
     }
 
     /**
@@ -98,18 +80,6 @@ public class AIAllWild extends AbstractAIPlayer {
         return CardColor.WILD;
     }
 
-    /**
-     * Find the best target player (the one with the fewest cards).
-     * 
-     * @param game Current game instance.
-     * @return The best target player.
-     */
-    private Optional<AbstractPlayer> findBestTarget(final Game game) {
-        return game.getPlayers().stream()
-                .filter(p -> !p.equals(this))
-                .min(Comparator.comparingInt(AbstractPlayer::getHandSize));
-    }
-
     /**
      * Check if the card is an aggressive type.
      * 
@@ -123,20 +93,4 @@ public class AIAllWild extends AbstractAIPlayer {
                 || val == CardValue.WILD_SKIP_TWO
                 || val == CardValue.WILD_SKIP;
     }
-
-    /**
-     * Get playable cards from hand.
-     * 
-     * @param game Current game instance.
-     * @return List of playable cards.
-     */
-    private List<Card> getPlayableCards(final Game game) {
-        final List<Card> list = new ArrayList<>();
-        for (final Optional<Card> opt : getHand()) {
-            if (opt.isPresent() && isMoveValid(opt.get(), game)) {
-                list.add(opt.get());
-            }
-        }
-        return list;
-    }
 }
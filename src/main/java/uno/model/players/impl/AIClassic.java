@@ -1,15 +1,13 @@
 package uno.model.players.impl;
 
-import java.util.ArrayList;
-import java.util.EnumMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import uno.model.cards.attributes.CardColor;
 import uno.model.cards.attributes.CardValue;
 import uno.model.cards.types.api.Card;
 import uno.model.game.api.Game;
+import uno.model.game.api.GameMode;
+import uno.model.players.api.Hand;
 
 /**
  * AI player implementation for classic UNO strategy.
@@ -25,6 +23,7 @@ public class AIClassic extends AbstractAIPlayer {
     private static final int NUMBER_SEVEN = 7;
     private static final int NUMBER_EIGHT = 8;
     private static final int NUMBER_NINE = 9;
+    private static final int ACTION_COLOR_SCORE = 3;
 
     /**
      * Constructor for AIClassic.
@@ -35,88 +34,86 @@ public class AIClassic extends AbstractAIPlayer {
         super(name);
     }
 
+    /**
+     * Constructor for AIClassic with an optional end phase: once the hands together
+     * hold only a few cards, the decisions are taken by an {@link EndgameSolver}
+     * instead of the heuristics.
+     * 
+     * @param name         The name of the AI player.
+     * @param solveEndgame true to let the solver play the end of each round.
+     */
+    public AIClassic(final String name, final boolean solveEndgame) {
+        super(name, solveEndgame ? new EndgameSolver(GameMode.STANDARD) : null);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected Optional<Card> chooseCardToPlay(final Game game) {
-        final List<Card> playableCards = getPlayableCards(game);
+        final Hand hand = getHandView();
+        final int[] moves = getMoveBuffer();
+        final int count = MoveGenerator.playableCards(game, hand, moves);
 
-        if (playableCards.isEmpty()) {
+        if (count == 0) {
             return Optional.empty();
         }
 
-        final boolean opponentHasUno = hasOpponentWithUno(game);
-        final List<Card> actionCards = new ArrayList<>();
-        final List<Card> numberCards = new ArrayList<>();
-        final List<Card> wildCards = new ArrayList<>();
-
-        // Categorize playable cards into action, number, and wild cards
-        for (final Card card : playableCards) {
+        // Categorize playable cards into action, number, and wild cards, keeping
+        // the first best card of each kind in hand order
+        int bestAction = -1;
+        int firstAction = -1;
+        int bestNumber = -1;
+        int firstMildWild = -1;
+        int firstDrawFour = -1;
+        int firstDrawTwo = -1;
+        int firstSkip = -1;
+        for (int i = 0; i < count; i++) {
+            final int position = moves[i];
+            final Card card = hand.get(position);
             final CardValue value = card.getValue(game);
-            if (value == CardValue.WILD || value == CardValue.WILD_DRAW_FOUR
-                    || value == CardValue.WILD_DRAW_COLOR || value == CardValue.WILD_FORCED_SWAP
-                    || value == CardValue.WILD_TARGETED_DRAW_TWO) {
-                wildCards.add(card);
+            if (isWildCard(value)) {
+                if (value == CardValue.WILD_DRAW_FOUR) {
+                    firstDrawFour = firstDrawFour < 0 ? position : firstDrawFour;
+                } else {
+                    firstMildWild = firstMildWild < 0 ? position : firstMildWild;
+                }
             } else if (isActionCard(value)) {
-                actionCards.add(card);
-            } else {
-                numberCards.add(card);
+                firstAction = firstAction < 0 ? position : firstAction;
+                if (bestAction < 0 || getActionCardPriority(value)
+                        > getActionCardPriority(hand.get(bestAction).getValue(game))) {
+                    bestAction = position;
+                }
+                if (value == CardValue.DRAW_TWO) {
+                    firstDrawTwo = firstDrawTwo < 0 ? position : firstDrawTwo;
+                } else if (value == CardValue.SKIP) {
+                    firstSkip = firstSkip < 0 ? position : firstSkip;
+                }
+            } else if (bestNumber < 0 || getNumericValue(card, game) > getNumericValue(hand.get(bestNumber), game)) {
+                bestNumber = position;
             }
         }
 
-        // If an opponent has UNO, prioritize offensive cards to disrupt them
-        if (opponentHasUno) {
-            final Optional<Card> offensiveCard = findBestOffensiveCard(actionCards, wildCards, game);
-            if (offensiveCard.isPresent()) {
-                return offensiveCard;
+        // If an opponent has UNO, prioritize offensive cards to disrupt them:
+        // a Wild Draw Four, a Draw Two, a Skip, then any action card
+        if (hasOpponentWithUno(game)) {
+            final int offensiveCard = firstOf(firstDrawFour, firstOf(firstDrawTwo, firstOf(firstSkip, firstAction)));
+            if (offensiveCard >= 0) {
+                return Optional.of(hand.get(offensiveCard));
             }
         }
 
-        // If the AI is close to winning, prioritize action cards to maintain control
-        final boolean iAmClose = this.getHandSize() <= 3;
-        if (iAmClose) {
-            if (!actionCards.isEmpty()) {
-                actionCards.sort((c1, c2) -> getActionCardPriority(c2.getValue(game))
-                        - getActionCardPriority(c1.getValue(game)));
-                return Optional.of(actionCards.get(0));
-            }
-            if (!numberCards.isEmpty()) {
-                numberCards.sort((c1, c2) -> getNumericValue(c2, game) - getNumericValue(c1, game));
-                return Optional.of(numberCards.get(0));
-            }
+        // Close to winning or not, play the best action card to maintain control,
+        // then the highest number card to reduce the hand's value quickly
+        if (bestAction >= 0) {
+            return Optional.of(hand.get(bestAction));
         }
-
-        // Otherwise, play the highest value card available to reduce hand size quickly
-        if (!actionCards.isEmpty()) {
-            actionCards.sort((c1, c2) -> getActionCardPriority(c2.getValue(game))
-                    - getActionCardPriority(c1.getValue(game)));
-            return Optional.of(actionCards.get(0));
+        if (bestNumber >= 0) {
+            return Optional.of(hand.get(bestNumber));
         }
 
-        // If no action cards, play the highest number card
-        if (!numberCards.isEmpty()) {
-            numberCards.sort((c1, c2) -> getNumericValue(c2, game) - getNumericValue(c1, game));
-            return Optional.of(numberCards.get(0));
-        }
-
-        // If only wild cards are available, play the most disruptive one
-        if (!wildCards.isEmpty()) {
-            wildCards.sort((c1, c2) -> {
-                final boolean is1DrawFour = c1.getValue(game) == CardValue.WILD_DRAW_FOUR;
-                final boolean is2DrawFour = c2.getValue(game) == CardValue.WILD_DRAW_FOUR;
-                if (is1DrawFour && !is2DrawFour) {
-                    return 1;
-                }
-                if (!is1DrawFour && is2DrawFour) {
-                    return -1;
-                }
-                return 0;
-            });
-            return Optional.of(wildCards.get(0));
-        }
-
-        return Optional.empty();
+        // If only wild cards are available, keep the Wild Draw Four for last
+        return Optional.of(hand.get(firstOf(firstMildWild, firstDrawFour)));
     }
 
     /**
@@ -124,37 +121,22 @@ public class AIClassic extends AbstractAIPlayer {
      */
     @Override
     protected CardColor chooseBestColor(final Game game) {
-        final Map<CardColor, Integer> colorScores = new EnumMap<>(CardColor.class);
-
-        colorScores.put(CardColor.RED, 0);
-        colorScores.put(CardColor.GREEN, 0);
-        colorScores.put(CardColor.BLUE, 0);
-        colorScores.put(CardColor.YELLOW, 0);
-
-        for (final Optional<Card> cardOpt : this.getHand()) {
-            if (cardOpt.isPresent()) {
-                final Card card = cardOpt.get();
-                final CardColor color = card.getColor(game);
-
-                if (colorScores.containsKey(color)) {
-                    int score = 1;
-
-                    if (isActionCard(card.getValue(game))) {
-                        score = 3;
-                    }
-
-                    colorScores.put(color, colorScores.get(color) + score);
-                }
-            }
-        }
-
+        final Hand hand = getHandView();
         CardColor bestColor = CardColor.RED;
         int maxScore = -1;
 
-        for (final Map.Entry<CardColor, Integer> entry : colorScores.entrySet()) {
-            if (entry.getValue() > maxScore) {
-                maxScore = entry.getValue();
-                bestColor = entry.getKey();
+        for (int c = 0; c < MoveGenerator.colorCount(); c++) {
+            final CardColor color = MoveGenerator.colorChoice(false, c);
+            int score = 0;
+            for (int i = 0; i < hand.size(); i++) {
+                final Card card = hand.get(i);
+                if (card.getColor(game) == color) {
+                    score += isActionCard(card.getValue(game)) ? ACTION_COLOR_SCORE : 1;
+                }
+            }
+            if (score > maxScore) {
+                maxScore = score;
+                bestColor = color;
             }
         }
 
@@ -162,39 +144,14 @@ public class AIClassic extends AbstractAIPlayer {
     }
 
     /**
-     * Find the best offensive card to play when an opponent has UNO.
+     * Chooses the first of two candidate positions that exists.
      * 
-     * @param actionCards available action cards
-     * @param wildCards   available wild cards
-     * @param game        The current game instance.
-     * @return The best offensive card, or empty if none found.
+     * @param first  a position, or -1.
+     * @param second another position, or -1.
+     * @return the first position if it exists, the second otherwise.
      */
-    private Optional<Card> findBestOffensiveCard(final List<Card> actionCards, final List<Card> wildCards,
-            final Game game) {
-
-        for (final Card card : wildCards) {
-            if (card.getValue(game) == CardValue.WILD_DRAW_FOUR) {
-                return Optional.of(card);
-            }
-        }
-
-        for (final Card card : actionCards) {
-            if (card.getValue(game) == CardValue.DRAW_TWO) {
-                return Optional.of(card);
-            }
-        }
-
-        for (final Card card : actionCards) {
-            if (card.getValue(game) == CardValue.SKIP) {
-                return Optional.of(card);
-            }
-        }
-
-        if (!actionCards.isEmpty()) {
-            return Optional.of(actionCards.get(0));
-        }
-
-        return Optional.empty();
+    private static int firstOf(final int first, final int second) {
+        return first >= 0 ? first : second;
     }
 
     /**
@@ -204,7 +161,8 @@ public class AIClassic extends AbstractAIPlayer {
      * @return True if any opponent has UNO, false otherwise.
      */
     private boolean hasOpponentWithUno(final Game game) {
-        for (final var player : game.getPlayers()) {
+        for (int i = 0; i < game.getPlayers().size(); i++) {
+            final AbstractPlayer player = game.getPlayers().get(i);
             if (!player.equals(this) && player.getHandSize() == 1) {
                 return true;
             }
@@ -213,19 +171,15 @@ public class AIClassic extends AbstractAIPlayer {
     }
 
     /**
-     * Get all playable cards from hand.
+     * Check if a card is a wild card.
      * 
-     * @param game The current game instance.
-     * @return List of playable cards.
+     * @param value The card value.
+     * @return True if it's a wild card, false otherwise.
      */
-    private List<Card> getPlayableCards(final Game game) {
-        final List<Card> playable = new ArrayList<>();
-        for (final Optional<Card> cardOpt : this.getHand()) {
-            if (cardOpt.isPresent() && isMoveValid(cardOpt.get(), game)) {
-                playable.add(cardOpt.get());
-            }
-        }
-        return playable;
+    private boolean isWildCard(final CardValue value) {
+        return value == CardValue.WILD || value == CardValue.WILD_DRAW_FOUR
+                || value == CardValue.WILD_DRAW_COLOR || value == CardValue.WILD_FORCED_SWAP
+                || value == CardValue.WILD_TARGETED_DRAW_TWO;
     }
 
     /**
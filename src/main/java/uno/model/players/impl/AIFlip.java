@@ -4,12 +4,10 @@ import uno.model.cards.attributes.CardColor;
 import uno.model.cards.attributes.CardValue;
 import uno.model.cards.types.api.Card;
 import uno.model.game.api.Game;
+import uno.model.game.api.GameMode;
+import uno.model.players.api.Hand;
 
 import java.util.Optional;
-import java.util.List;
-import java.util.Map;
-import java.util.EnumMap;
-import java.util.ArrayList;
 
 /**
  * AI implementation specifically for UNO Flip.
@@ -35,40 +33,63 @@ public class AIFlip extends AbstractAIPlayer {
         super(name);
     }
 
+    /**
+     * Constructor for AIFlip player with an optional end phase: once the hands together
+     * hold only a few cards, the decisions are taken by an {@link EndgameSolver}
+     * instead of the heuristics.
+     * 
+     * @param name         The name of the AI player.
+     * @param solveEndgame true to let the solver play the end of each round.
+     */
+    public AIFlip(final String name, final boolean solveEndgame) {
+        super(name, solveEndgame ? new EndgameSolver(GameMode.FLIP) : null);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected Optional<Card> chooseCardToPlay(final Game game) {
-        final List<Card> playableCards = getPlayableCards(game);
+        final Hand hand = getHandView();
+        final int[] moves = getMoveBuffer();
+        final int count = MoveGenerator.playableCards(game, hand, moves);
 
-        if (playableCards.isEmpty()) {
+        if (count == 0) {
             return Optional.empty();
         }
 
-        // Prioritize Flip cards to switch sides if beneficial
-        final Optional<Card> flipCard = playableCards.stream()
-                .filter(c -> c.getValue(game) == CardValue.FLIP)
-                .findFirst();
+        int flipCard = -1;
+        int powerCard = -1;
+        int bestCard = -1;
+        int bestScore = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            final Card card = hand.get(moves[i]);
+            final CardValue value = card.getValue(game);
+            if (value == CardValue.FLIP && flipCard < 0) {
+                flipCard = moves[i];
+            }
+            if ((value == CardValue.DRAW_FIVE || value == CardValue.WILD_DRAW_COLOR) && powerCard < 0) {
+                powerCard = moves[i];
+            }
+            final int score = getCardScore(card, game);
+            if (score > bestScore) {
+                bestScore = score;
+                bestCard = moves[i];
+            }
+        }
 
-        if (flipCard.isPresent()) {
-            return flipCard;
+        // Prioritize Flip cards to switch sides if beneficial
+        if (flipCard >= 0) {
+            return Optional.of(hand.get(flipCard));
         }
 
         // On Dark Side, prioritize powerful cards to maintain control
-        if (game.isDarkSide()) {
-            final Optional<Card> powerCard = playableCards.stream()
-                    .filter(c -> c.getValue(game) == CardValue.DRAW_FIVE 
-                    || c.getValue(game) == CardValue.WILD_DRAW_COLOR)
-                    .findFirst();
-            if (powerCard.isPresent()) {
-                return powerCard;
-            }
+        if (game.isDarkSide() && powerCard >= 0) {
+            return Optional.of(hand.get(powerCard));
         }
 
-        playableCards.sort((c1, c2) -> getCardScore(c2, game) - getCardScore(c1, game));
-
-        return Optional.of(playableCards.get(0));
+        // Otherwise play the first card with the highest score
+        return Optional.of(hand.get(bestCard));
     }
 
     /**
@@ -76,48 +97,18 @@ public class AIFlip extends AbstractAIPlayer {
      */
     @Override
     protected CardColor chooseBestColor(final Game game) {
-        final CardColor[] validColors;
-
-        if (game.isDarkSide()) {
-            validColors = new CardColor[] {CardColor.TEAL, CardColor.PINK, CardColor.PURPLE, CardColor.ORANGE };
-        } else {
-            validColors = new CardColor[] {CardColor.RED, CardColor.GREEN, CardColor.BLUE, CardColor.YELLOW };
-        }
-
-        final Map<CardColor, Integer> colorCounts = new EnumMap<>(CardColor.class);
-        for (final CardColor c : validColors) {
-            colorCounts.put(c, 0);
-        }
-
-        for (final Optional<Card> cardOpt : this.getHand()) {
-            if (cardOpt.isPresent()) {
-                final CardColor c = cardOpt.get().getColor(game);
-                if (colorCounts.containsKey(c)) {
-                    colorCounts.put(c, colorCounts.get(c) + 1);
-                }
-            }
-        }
-
-        return colorCounts.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(validColors[0]);
-    }
-
-    /**
-     * Get all playable cards from hand based on current game state.
-     * 
-     * @param game the current game state
-     * @return list of playable cards
-     */
-    private List<Card> getPlayableCards(final Game game) {
-        final List<Card> list = new ArrayList<>();
-        for (final Optional<Card> opt : getHand()) {
-            if (opt.isPresent() && isMoveValid(opt.get(), game)) {
-                list.add(opt.get());
+        final boolean darkSide = game.isDarkSide();
+        CardColor bestColor = MoveGenerator.colorChoice(darkSide, 0);
+        int bestCount = -1;
+        for (int i = 0; i < MoveGenerator.colorCount(); i++) {
+            final CardColor color = MoveGenerator.colorChoice(darkSide, i);
+            final int colorCount = getHandView().countColor(color, darkSide);
+            if (colorCount > bestCount) {
+                bestCount = colorCount;
+                bestColor = color;
             }
         }
-        return list;
+        return bestColor;
     }
 
     /**
@@ -0,0 +1,299 @@
+package uno.model.players.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.Game;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.players.api.SearchBudget;
+import uno.model.utils.api.GameRandom;
+import uno.model.utils.impl.GameRandomImpl;
+
+/**
+ * AI player that looks ahead with Information Set Monte Carlo Tree Search.
+ * Every decision (the card to play, whether to pass after drawing, the color
+ * after a Wild card and the target of a targeted card) is searched separately:
+ * the opponents' hands and the draw deck are dealt again at random in every
+ * iteration, the rest of the round is played out with the heuristic AI of the
+ * game mode, and the most visited move is chosen.
+ * The search is root-parallel: each thread grows its own tree on its own copy
+ * of the game and the visits are summed at the end.
+ * Games that do not support snapshots are played with a simple fallback heuristic.
+ */
+public class AIMcts extends AbstractAIPlayer {
+
+    private final GameMode mode;
+    private final SearchBudget budget;
+    private final GameRandom random;
+    private final List<IsmctsSearch> workers = new ArrayList<>();
+    private int[] moves;
+
+    /**
+     * Constructor for AIMcts with the default search budget.
+     *
+     * @param name the name of the player.
+     * @param mode the mode of the games the player joins.
+     */
+    public AIMcts(final String name, final GameMode mode) {
+        this(name, mode, SearchBudget.defaults());
+    }
+
+    /**
+     * Constructor for AIMcts.
+     *
+     * @param name   the name of the player.
+     * @param mode   the mode of the games the player joins.
+     * @param budget the work allowed for each decision.
+     */
+    public AIMcts(final String name, final GameMode mode, final SearchBudget budget) {
+        this(name, mode, budget, new GameRandomImpl());
+    }
+
+    /**
+     * Constructor for a reproducible AIMcts: with a single thread and no time
+     * limit, the same seed always gives the same decisions.
+     *
+     * @param name   the name of the player.
+     * @param mode   the mode of the games the player joins.
+     * @param budget the work allowed for each decision.
+     * @param seed   the seed of the searches.
+     */
+    public AIMcts(final String name, final GameMode mode, final SearchBudget budget, final long seed) {
+        this(name, mode, budget, new GameRandomImpl(seed));
+    }
+
+    /**
+     * Constructor for AIMcts.
+     *
+     * @param name   the name of the player.
+     * @param mode   the mode of the games the player joins.
+     * @param budget the work allowed for each decision.
+     * @param random the random source of the searches.
+     */
+    private AIMcts(final String name, final GameMode mode, final SearchBudget budget, final GameRandom random) {
+        super(name);
+        this.mode = mode;
+        this.budget = budget;
+        this.random = random;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Optional<Card> chooseCardToPlay(final Game game) {
+        return chooseCardToPlay(game, NO_DEADLINE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected CardColor chooseBestColor(final Game game) {
+        return chooseBestColor(game, NO_DEADLINE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Optional<AbstractPlayer> chooseTargetPlayer(final Game game) {
+        return chooseTargetPlayer(game, NO_DEADLINE);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The search stops at the deadline if it comes before the end of the budget.
+     */
+    @Override
+    protected Optional<Card> chooseCardToPlay(final Game game, final long deadlineNanos) {
+        if (!isSearchable(game)) {
+            return chooseFallbackCard(game);
+        }
+        final GameContext context = (GameContext) game;
+        return workers.get(0).getSearchGame().cardOf(context, bestMove(context, deadlineNanos));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The search stops at the deadline if it comes before the end of the budget.
+     */
+    @Override
+    protected CardColor chooseBestColor(final Game game, final long deadlineNanos) {
+        if (isSearchable(game)) {
+            final Optional<CardColor> color = SearchGame.colorOf(bestMove((GameContext) game, deadlineNanos));
+            if (color.isPresent()) {
+                return color.get();
+            }
+        }
+        return chooseFallbackColor(game);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The search stops at the deadline if it comes before the end of the budget.
+     */
+    @Override
+    protected Optional<AbstractPlayer> chooseTargetPlayer(final Game game, final long deadlineNanos) {
+        if (isSearchable(game)) {
+            final int target = SearchGame.targetOf(bestMove((GameContext) game, deadlineNanos));
+            if (target >= 0) {
+                return Optional.of(game.getPlayers().get(target));
+            }
+        }
+        return chooseFallbackTarget(game);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The first playable card is chosen.
+     */
+    @Override
+    protected Optional<Card> chooseFallbackCard(final Game game) {
+        final int[] moves = getMoveBuffer();
+        final int count = MoveGenerator.playableCards(game, getHandView(), moves);
+        return count == 0 ? Optional.empty() : Optional.of(getHandView().get(moves[0]));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The color held most is chosen.
+     */
+    @Override
+    protected CardColor chooseFallbackColor(final Game game) {
+        CardColor best = null;
+        int bestCount = -1;
+        for (final CardColor color : SearchGame.colorChoices(game.isDarkSide())) {
+            final int count = getHandView().countColor(color, game.isDarkSide());
+            if (count > bestCount) {
+                bestCount = count;
+                best = color;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The opponent with the fewest cards is chosen.
+     */
+    @Override
+    protected Optional<AbstractPlayer> chooseFallbackTarget(final Game game) {
+        return super.chooseTargetPlayer(game);
+    }
+
+    /**
+     * Checks if a game can be searched, creating the search workers for it if needed.
+     *
+     * @param game the game.
+     * @return true if the game is built on a card catalog of this player's mode
+     *         and this player takes part in it.
+     */
+    private boolean isSearchable(final Game game) {
+        if (!(game instanceof GameContext) || !game.getPlayers().contains(this)) {
+            return false;
+        }
+        final GameContext context = (GameContext) game;
+        if (workers.isEmpty() || !workers.get(0).getSearchGame().accepts(context)) {
+            workers.clear();
+            for (int i = 0; i < budget.threads(); i++) {
+                workers.add(new IsmctsSearch(mode, context.getRules(), context.getPlayers().size(),
+                        random.split()));
+            }
+            moves = workers.get(0).getSearchGame().createMoveBuffer();
+        }
+        if (!workers.get(0).getSearchGame().accepts(context)) {
+            return false;
+        }
+        try {
+            for (final IsmctsSearch worker : workers) {
+                worker.prepare(context, this);
+            }
+        } catch (final IllegalStateException e) {
+            // The game is not built on compact piles: no snapshot can be taken.
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Searches the current position and returns the most visited move.
+     * The workers must have been prepared by {@link #isSearchable}.
+     *
+     * @param context       the game.
+     * @param deadlineNanos the {@link System#nanoTime()} by which to decide.
+     * @return the chosen move, encoded as in {@link SearchGame}.
+     */
+    private int bestMove(final GameContext context, final long deadlineNanos) {
+        final int count = workers.get(0).getSearchGame().legalMoves(context, moves);
+        if (count <= 1) {
+            return count == 0 ? SearchGame.PASS : moves[0];
+        }
+
+        final int seat = context.getPlayers().indexOf(this);
+        final long deadline = budget.timeMillis() == 0 ? deadlineNanos
+                : Math.min(deadlineNanos, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budget.timeMillis()));
+        final int iterations = (budget.iterations() + workers.size() - 1) / workers.size();
+
+        if (workers.size() == 1) {
+            workers.get(0).search(seat, iterations, deadline);
+        } else {
+            searchInParallel(seat, iterations, deadline);
+        }
+
+        final Map<Integer, Integer> visits = new HashMap<>();
+        for (final IsmctsSearch worker : workers) {
+            worker.addRootVisits(visits);
+        }
+        int best = moves[0];
+        int bestVisits = -1;
+        for (int i = 0; i < count; i++) {
+            final int moveVisits = visits.getOrDefault(moves[i], 0);
+            if (moveVisits > bestVisits) {
+                bestVisits = moveVisits;
+                best = moves[i];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Runs every worker on its own thread and waits for all of them.
+     *
+     * @param seat       the index of this player.
+     * @param iterations the iterations of each worker.
+     * @param deadline   the {@link System#nanoTime()} at which the search stops.
+     */
+    private void searchInParallel(final int seat, final int iterations, final long deadline) {
+        final List<Callable<Integer>> tasks = new ArrayList<>();
+        for (final IsmctsSearch worker : workers) {
+            tasks.add(() -> worker.search(seat, iterations, deadline));
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(workers.size());
+        try {
+            for (final Future<Integer> result : pool.invokeAll(tasks)) {
+                result.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Search interrupted", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("Search failed", e.getCause());
+        } finally {
+            // Interrupts the workers still running if the caller was interrupted.
+            pool.shutdownNow();
+        }
+    }
+}
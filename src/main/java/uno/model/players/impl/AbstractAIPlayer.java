@@ -3,16 +3,34 @@ package uno.model.players.impl;
 import uno.model.cards.attributes.CardColor;
 import uno.model.cards.types.api.Card;
 import uno.model.game.api.Game;
+import uno.model.game.api.GameEventListener;
 import uno.model.game.api.GameState;
+import uno.model.players.api.AIDecision;
+import uno.model.players.api.AIStrategy;
+import uno.model.players.api.CardTracker;
 
 import java.util.Optional;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Abstract AI Player class providing common functionality for AI players.
  */
 public abstract class AbstractAIPlayer extends AbstractPlayer {
 
+    /**
+     * Deadline of the decisions taken without a time limit.
+     */
+    protected static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private static final int INITIAL_MOVES = 16;
+
+    private CardTrackerImpl tracker;
+    private final DecisionWatchdog watchdog = new DecisionWatchdog();
+    private int[] moveBuffer = new int[INITIAL_MOVES];
+    private Optional<AIStrategy> strategy = Optional.empty();
+    private long moveTimeMillis;
+
     /**
      * Constructor for AIPlayer.
      * 
@@ -22,6 +40,18 @@ public abstract class AbstractAIPlayer extends AbstractPlayer {
         super(name);
     }
 
+    /**
+     * Constructor for an AIPlayer with a strategy plugged in from the start.
+     * 
+     * @param name       the name of the player
+     * @param aiStrategy the strategy (see {@link #setStrategy(AIStrategy)}), or
+     *                   null to use only the player's heuristics
+     */
+    protected AbstractAIPlayer(final String name, final AIStrategy aiStrategy) {
+        super(name);
+        this.strategy = Optional.ofNullable(aiStrategy);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -31,47 +61,343 @@ public abstract class AbstractAIPlayer extends AbstractPlayer {
             return;
         }
 
-        // Try to find a valid move
-        final Optional<Card> chosenCard = chooseCardToPlay(game);
+        // Play a card, or draw one and try to play it immediately (standard rule)
+        final AIDecision move = decide(game);
+        apply(game, move);
+        if (move.kind() == AIDecision.Kind.DRAW && !game.getRules().isSkipAfterDrawEnabled()
+                && isStillToMove(game)) {
+            apply(game, decide(game));
+        }
 
-        if (chosenCard.isPresent()) {
-            // Before playing, check UNO condition
-            if (getHandSize() == 2) {
-                hasCalledUno();
-            }
+        if (game.getGameState() == GameState.WAITING_FOR_COLOR) {
+            apply(game, decide(game));
+        }
 
-            game.playCard(chosenCard);
+        if (game.getGameState() == GameState.WAITING_FOR_PLAYER) {
+            apply(game, decide(game));
+        }
+    }
 
-        } else {
-            // No move? Draw a card.
-            if (!game.hasCurrentPlayerDrawn(this)) {
-                game.playerInitiatesDraw();
+    /**
+     * Decides the next step of this player's turn without changing the game, so
+     * that the decision can be computed on another thread as long as the game
+     * is not modified meanwhile.
+     * If a move time limit is set, the decision is taken by its deadline: when
+     * it is late, the fallback heuristics decide instead.
+     *
+     * @param game The current game state, with this player to move.
+     * @return The decision: the color or the target if the game waits for one,
+     *         otherwise the card to play, or a draw (a pass once drawn).
+     */
+    public AIDecision decide(final Game game) {
+        if (moveTimeMillis == 0) {
+            return decide(game, NO_DEADLINE);
+        }
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(moveTimeMillis);
+        return watchdog.decide(() -> decide(game, deadline), deadline, () -> decideFallback(game));
+    }
 
-                // 6. Try to play the drawn card immediately (standard rule)
-                if (!game.getRules().isSkipAfterDrawEnabled()) {
-                    final Optional<Card> postDrawMove = chooseCardToPlay(game);
-                    if (postDrawMove.isPresent()) {
-                        if (getHandSize() == 2) {
-                            hasCalledUno();
-                        }
-                        game.playCard(postDrawMove);
-                    } else {
-                        game.aiAdvanceTurn();
-                    }
-                } else {
-                    game.aiAdvanceTurn();
+    /**
+     * Decides the next step of this player's turn by a deadline.
+     *
+     * @param game          The current game state, with this player to move.
+     * @param deadlineNanos The {@link System#nanoTime()} by which to decide.
+     * @return The decision.
+     */
+    private AIDecision decide(final Game game, final long deadlineNanos) {
+        switch (game.getGameState()) {
+            case WAITING_FOR_COLOR:
+                return AIDecision.color(decideColor(game, deadlineNanos));
+            case WAITING_FOR_PLAYER:
+                return decideTarget(game, deadlineNanos).map(AIDecision::target).orElse(AIDecision.none());
+            default:
+                return toDecision(game, decideCard(game, deadlineNanos));
+        }
+    }
+
+    /**
+     * Decides the next step of this player's turn with the fallback heuristics.
+     *
+     * @param game The current game state, with this player to move.
+     * @return The decision.
+     */
+    private AIDecision decideFallback(final Game game) {
+        switch (game.getGameState()) {
+            case WAITING_FOR_COLOR:
+                return AIDecision.color(chooseFallbackColor(game));
+            case WAITING_FOR_PLAYER:
+                return chooseFallbackTarget(game).map(AIDecision::target).orElse(AIDecision.none());
+            default:
+                return toDecision(game, chooseFallbackCard(game));
+        }
+    }
+
+    /**
+     * Turns the choice of a card into a decision.
+     *
+     * @param game       The current game state, with this player to move.
+     * @param chosenCard The card to play, or empty.
+     * @return A play, or a draw (a pass once drawn).
+     */
+    private AIDecision toDecision(final Game game, final Optional<Card> chosenCard) {
+        if (chosenCard.isPresent()) {
+            return AIDecision.play(chosenCard.get());
+        }
+        return game.hasCurrentPlayerDrawn(this) ? AIDecision.pass() : AIDecision.draw();
+    }
+
+    /**
+     * Applies a step of this player's turn, with the same calls a turn makes.
+     * A pass goes through {@link Game#playerPassTurn()}, as a human pass does, so
+     * it is logged as PASS_TURN and reported to the game event listeners.
+     * 
+     * @param game     The current game state, with this player to move.
+     * @param decision The decision, as given by {@link #decide(Game)}.
+     */
+    public void apply(final Game game, final AIDecision decision) {
+        switch (decision.kind()) {
+            case PLAY:
+                // Before playing, check UNO condition
+                if (getHandSize() == 2) {
+                    hasCalledUno();
                 }
-            } else {
+                game.playCard(decision.card());
+                break;
+            case DRAW:
+                game.playerInitiatesDraw();
+                // An empty deck may end the game instead (no-reshuffle rule)
+                if (game.getRules().isSkipAfterDrawEnabled() && isStillToMove(game)) {
+                    game.playerPassTurn();
+                }
+                break;
+            case PASS:
+                game.playerPassTurn();
+                break;
+            case COLOR:
+                game.requestColorChoice();
+                game.setColor(decision.color().get());
                 game.aiAdvanceTurn();
-            }
+                break;
+            case TARGET:
+                game.chosenPlayer(decision.target().get());
+                game.aiAdvanceTurn();
+                break;
+            default:
+                break;
         }
+    }
 
-        if (game.getGameState() == GameState.WAITING_FOR_COLOR) {
-            final CardColor chosenColor = chooseBestColor(game);
-            game.requestColorChoice();
-            game.setColor(chosenColor);
-            game.aiAdvanceTurn();
+    /**
+     * Checks if this player still has to finish its turn after drawing.
+     *
+     * @param game The current game state.
+     * @return true if the game is running and this player is still to move.
+     */
+    private boolean isStillToMove(final Game game) {
+        return game.getGameState() == GameState.RUNNING && game.getCurrentPlayer().equals(this);
+    }
+
+    /**
+     * Gets what this player knows about the cards it cannot see in the game it plays.
+     * 
+     * @return the tracker of the unseen cards.
+     */
+    public CardTracker getCardTracker() {
+        return tracker();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<GameEventListener> getGameEventListener() {
+        return Optional.of(tracker());
+    }
+
+    /**
+     * Gets the tracker of this player, creating it on first use so that the
+     * player is fully constructed before the tracker refers to it.
+     * 
+     * @return the tracker.
+     */
+    private CardTrackerImpl tracker() {
+        if (tracker == null) {
+            tracker = new CardTrackerImpl(this);
         }
+        return tracker;
+    }
+
+    /**
+     * Sets the time allowed for each decision of this player. A decision still
+     * running shortly after its deadline is interrupted, and the fallback
+     * heuristics decide once it has stopped.
+     * 
+     * @param millis the time limit in milliseconds, zero for no limit.
+     */
+    public void setMoveTimeLimit(final long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Move time limit cannot be negative: " + millis);
+        }
+        this.moveTimeMillis = millis;
+    }
+
+    /**
+     * Gets the time allowed for each decision of this player.
+     * 
+     * @return the time limit in milliseconds, zero for no limit.
+     */
+    public long getMoveTimeLimit() {
+        return moveTimeMillis;
+    }
+
+    /**
+     * Gets the number of decisions that were taken by the fallback heuristics
+     * because of the move time limit.
+     * 
+     * @return the number of fallback decisions.
+     */
+    public long getFallbackDecisions() {
+        return watchdog.getFallbacks();
+    }
+
+    /**
+     * Plugs a strategy that takes over the decisions of this player whenever it
+     * is active, such as a search for the end of the round.
+     * 
+     * @param aiStrategy the strategy.
+     */
+    public void setStrategy(final AIStrategy aiStrategy) {
+        this.strategy = Optional.of(aiStrategy);
+    }
+
+    /**
+     * Gets the strategy plugged into this player.
+     * 
+     * @return the strategy, or empty if the player only uses its own heuristics.
+     */
+    public Optional<AIStrategy> getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Chooses the card to play with the active strategy or the player's heuristics.
+     * 
+     * @param game          The current game state
+     * @param deadlineNanos The {@link System#nanoTime()} by which to decide
+     * @return The chosen card, or empty to draw or pass.
+     */
+    private Optional<Card> decideCard(final Game game, final long deadlineNanos) {
+        return isStrategyActive(game)
+                ? strategy.get().chooseCardToPlay(game, this, deadlineNanos)
+                : chooseCardToPlay(game, deadlineNanos);
+    }
+
+    /**
+     * Chooses the color with the active strategy or the player's heuristics.
+     * 
+     * @param game          The current game state
+     * @param deadlineNanos The {@link System#nanoTime()} by which to decide
+     * @return The chosen color.
+     */
+    private CardColor decideColor(final Game game, final long deadlineNanos) {
+        return isStrategyActive(game)
+                ? strategy.get().chooseBestColor(game, this, deadlineNanos)
+                : chooseBestColor(game, deadlineNanos);
+    }
+
+    /**
+     * Chooses the target with the active strategy, falling back to the player's heuristics.
+     * 
+     * @param game          The current game state
+     * @param deadlineNanos The {@link System#nanoTime()} by which to decide
+     * @return The chosen target.
+     */
+    private Optional<AbstractPlayer> decideTarget(final Game game, final long deadlineNanos) {
+        if (isStrategyActive(game)) {
+            final Optional<AbstractPlayer> target = strategy.get().chooseTargetPlayer(game, this, deadlineNanos);
+            if (target.isPresent()) {
+                return target;
+            }
+        }
+        return chooseTargetPlayer(game, deadlineNanos);
+    }
+
+    /**
+     * Checks if the plugged strategy decides in the current position.
+     * 
+     * @param game The current game state
+     * @return true if a strategy is plugged and active.
+     */
+    private boolean isStrategyActive(final Game game) {
+        return strategy.isPresent() && strategy.get().isActive(game, this);
+    }
+
+    /**
+     * Anytime Strategy: chooses the card to play by a deadline, returning the
+     * best card found so far when it expires. By default the deadline is
+     * ignored, as the heuristics decide at once; a searching player overrides this.
+     * 
+     * @param game          The current game state
+     * @param deadlineNanos The {@link System#nanoTime()} by which to decide, or {@link #NO_DEADLINE}
+     * @return An Optional containing the chosen card, or empty if no valid move
+     *         exists.
+     */
+    protected Optional<Card> chooseCardToPlay(final Game game, final long deadlineNanos) {
+        return chooseCardToPlay(game);
+    }
+
+    /**
+     * Anytime Strategy: chooses the color by a deadline (see {@link #chooseCardToPlay(Game, long)}).
+     * 
+     * @param game          The current game state
+     * @param deadlineNanos The {@link System#nanoTime()} by which to decide, or {@link #NO_DEADLINE}
+     * @return The best color to choose when playing a Wild card.
+     */
+    protected CardColor chooseBestColor(final Game game, final long deadlineNanos) {
+        return chooseBestColor(game);
+    }
+
+    /**
+     * Anytime Strategy: chooses the target by a deadline (see {@link #chooseCardToPlay(Game, long)}).
+     * 
+     * @param game          The current game state
+     * @param deadlineNanos The {@link System#nanoTime()} by which to decide, or {@link #NO_DEADLINE}
+     * @return The target player, or empty if there are no opponents.
+     */
+    protected Optional<AbstractPlayer> chooseTargetPlayer(final Game game, final long deadlineNanos) {
+        return chooseTargetPlayer(game);
+    }
+
+    /**
+     * Fallback Strategy: chooses the card when a decision misses its deadline.
+     * It must be quick; by default the player's own heuristics are used.
+     * 
+     * @param game The current game state
+     * @return An Optional containing the chosen card, or empty if no valid move
+     *         exists.
+     */
+    protected Optional<Card> chooseFallbackCard(final Game game) {
+        return chooseCardToPlay(game);
+    }
+
+    /**
+     * Fallback Strategy: chooses the color when a decision misses its deadline.
+     * 
+     * @param game The current game state
+     * @return The color to choose when playing a Wild card.
+     */
+    protected CardColor chooseFallbackColor(final Game game) {
+        return chooseBestColor(game);
+    }
+
+    /**
+     * Fallback Strategy: chooses the target when a decision misses its deadline.
+     * 
+     * @param game The current game state
+     * @return The target player, or empty if there are no opponents.
+     */
+    protected Optional<AbstractPlayer> chooseFallbackTarget(final Game game) {
+        return chooseTargetPlayer(game);
     }
 
     /**
@@ -91,6 +417,41 @@ public abstract class AbstractAIPlayer extends AbstractPlayer {
      */
     protected abstract CardColor chooseBestColor(Game game);
 
+    /**
+     * Strategy for the cards that target another player, such as a forced swap.
+     * By default the opponent with the fewest cards is chosen.
+     * 
+     * @param game The current game state
+     * @return The target player, or empty if there are no opponents.
+     */
+    protected Optional<AbstractPlayer> chooseTargetPlayer(final Game game) {
+        AbstractPlayer target = null;
+        for (int i = 0; i < game.getPlayers().size(); i++) {
+            final AbstractPlayer p = game.getPlayers().get(i);
+            if (!p.equals(this) && (target == null || p.getHandSize() < target.getHandSize())) {
+                target = p;
+            }
+        }
+        return Optional.ofNullable(target);
+    }
+
+    /**
+     * Gets a buffer for the moves of this player (see {@link MoveGenerator}),
+     * at least as long as the hand. The buffer is reused by every decision, so
+     * it only holds the moves of the current one: this is safe because a player
+     * takes one decision at a time, whichever thread it runs on (a late
+     * decision is stopped before its fallback, see {@link #setMoveTimeLimit}).
+     * Search workers decide for their own copies of the players.
+     * 
+     * @return the buffer.
+     */
+    protected final int[] getMoveBuffer() {
+        if (moveBuffer.length <= getHandSize()) {
+            moveBuffer = new int[Math.max(moveBuffer.length * 2, getHandSize() + 1)];
+        }
+        return moveBuffer;
+    }
+
     /**
      * Helper to check validity using Game logic.
      * 
@@ -1,13 +1,18 @@
 package uno.model.players.impl;
 
+import uno.model.cards.deck.api.CardCatalog;
 import uno.model.cards.types.api.Card;
 import uno.model.game.api.Game;
+import uno.model.game.api.GameEventListener;
+import uno.model.players.api.Hand;
 import uno.model.players.api.Player;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
 /**
  * Abstract base class representing a generic player in the UNO game.
  * Manages the hand state and basic player properties.
@@ -15,7 +20,7 @@ import java.util.Optional;
 public abstract class AbstractPlayer implements Player {
 
     private final String name;
-    private final List<Optional<Card>> hand;
+    private final HandImpl hand;
     private boolean hasCalledUno;
     private int score;
 
@@ -26,7 +31,7 @@ public abstract class AbstractPlayer implements Player {
      */
     public AbstractPlayer(final String name) {
         this.name = name;
-        this.hand = new ArrayList<>();
+        this.hand = new HandImpl();
         this.hasCalledUno = false;
         this.score = 0;
     }
@@ -74,7 +79,42 @@ public abstract class AbstractPlayer implements Player {
      */
     @Override
     public List<Optional<Card>> getHand() {
-        return new ArrayList<>(hand);
+        final List<Optional<Card>> copy = new ArrayList<>(hand.size());
+        for (int i = 0; i < hand.size(); i++) {
+            copy.add(Optional.of(hand.get(i)));
+        }
+        return copy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressFBWarnings("EI_EXPOSE_REP")
+    public Hand getHandView() {
+        return hand;
+    }
+
+    /**
+     * Copies the catalog ids of the cards in hand, used by game snapshots.
+     * 
+     * @param target the array to fill; it must be at least as long as the hand.
+     * @return the number of ids copied.
+     * @throws IllegalStateException if a card does not belong to a catalog.
+     */
+    public int copyHandIds(final int[] target) {
+        return hand.copyIdsTo(target);
+    }
+
+    /**
+     * Replaces the hand with catalog cards, used by game snapshots.
+     * 
+     * @param catalog the catalog the ids refer to.
+     * @param ids     the ids, in hand order.
+     * @param count   how many ids, from the start of the array, are cards.
+     */
+    public void restoreHandIds(final CardCatalog catalog, final int[] ids, final int count) {
+        hand.restoreIds(catalog, ids, count);
     }
 
     /**
@@ -91,7 +131,9 @@ public abstract class AbstractPlayer implements Player {
     @Override
     public void setHand(final List<Optional<Card>> newHand) {
         this.hand.clear();
-        this.hand.addAll(newHand);
+        for (final Optional<Card> card : newHand) {
+            card.ifPresent(hand::add);
+        }
     }
 
     /**
@@ -99,7 +141,7 @@ public abstract class AbstractPlayer implements Player {
      */
     @Override
     public void addCardToHand(final Card card) {
-        this.hand.add(Optional.of(card));
+        this.hand.add(card);
         if (hand.size() > 1) {
             this.hasCalledUno = false;
         }
@@ -110,7 +152,7 @@ public abstract class AbstractPlayer implements Player {
      */
     @Override
     public boolean playCard(final Optional<Card> card) {
-        return !card.isEmpty() && this.hand.remove(card);
+        return card.isPresent() && this.hand.remove(card.get());
     }
 
     /**
@@ -161,4 +203,14 @@ public abstract class AbstractPlayer implements Player {
     public void setHasCalledUno(final boolean status) {
         this.hasCalledUno = status;
     }
+
+    /**
+     * Gets the listener that follows the moves of the games this player joins.
+     * Games register it when they are created.
+     * 
+     * @return the listener, empty by default.
+     */
+    public Optional<GameEventListener> getGameEventListener() {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,431 @@
+package uno.model.players.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.attributes.CardValue;
+import uno.model.cards.behaviors.api.CardSideBehavior;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.Game;
+import uno.model.game.api.GameEventListener;
+import uno.model.players.api.CardTracker;
+import uno.model.players.api.Hand;
+
+/**
+ * Implementation of {@link CardTracker} fed by the events of the game its
+ * owner plays in. The unseen cards are a flag per catalog id plus counters by
+ * face, color and value; each event costs a few array updates, except a swap
+ * involving the owner, which walks the two hands.
+ * The counters are rebuilt from the owner's hand and the discard pile when a
+ * round starts and when the discard pile is recycled; flips change nothing,
+ * since the counters cover both sides. After a snapshot is restored the
+ * tracker ignores the events and rebuilds itself on the next question, so the
+ * copies of a game used by the searches cost almost nothing.
+ * A pass after a draw is taken to mean that the player holds no card of the
+ * active color, which is true for the AI players; a draw clears what was known
+ * of the player's colors.
+ * Instances are not thread-safe.
+ */
+public final class CardTrackerImpl implements CardTracker, GameEventListener {
+
+    private static final int SIDES = 2;
+    private static final int LIGHT = 0;
+    private static final int DARK = 1;
+    private static final int BACK = -1;
+    private static final int COLORS = CardColor.values().length;
+    private static final int ALL_COLORS = (1 << COLORS) - 1;
+
+    private final AbstractPlayer owner;
+    private Game game;
+    private CardCatalog catalog;
+    private boolean stale = true;
+
+    private boolean[] unseen = new boolean[0];
+    private int[] faces = new int[0];
+    private int[][] colors = new int[SIDES][0];
+    private int[][] values = new int[SIDES][0];
+    private int[] faceCounts = new int[0];
+    private final int[][] colorCounts = new int[SIDES][COLORS];
+    private final int[][] valueCounts = new int[SIDES][CardValue.values().length];
+    private int unseenCount;
+    private int[] voids = new int[0];
+
+    /**
+     * Creates the tracker of a player.
+     *
+     * @param owner the player whose knowledge is tracked.
+     */
+    public CardTrackerImpl(final AbstractPlayer owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isTracking() {
+        return refresh();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getUnseenCount() {
+        return refresh() ? unseenCount : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isUnseen(final int id) {
+        return refresh() && id >= 0 && id < unseen.length && unseen[id];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int countUnseenFace(final int face) {
+        return refresh() && face >= 0 && face < faceCounts.length ? faceCounts[face] : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int countUnseenColor(final CardColor color, final boolean darkSide) {
+        return refresh() ? colorCounts[side(darkSide)][color.ordinal()] : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int countUnseenValue(final CardValue value, final boolean darkSide) {
+        return refresh() ? valueCounts[side(darkSide)][value.ordinal()] : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isVoid(final int seat, final CardColor color) {
+        return (getVoidColors(seat) & 1 << color.ordinal()) != 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getVoidColors(final int seat) {
+        return refresh() && seat >= 0 && seat < voids.length ? voids[seat] : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int copyUnseenIds(final int[] target) {
+        if (!refresh()) {
+            return 0;
+        }
+        int count = 0;
+        for (int id = 0; id < unseen.length; id++) {
+            if (unseen[id]) {
+                target[count++] = id;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onRoundStarted(final Game source) {
+        follow(source);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onCardPlayed(final Game source, final AbstractPlayer player, final Card card) {
+        if (isFollowing(source) && player != owner) {
+            markSeen(card.getId());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onCardDrawn(final Game source, final AbstractPlayer player, final Card card) {
+        if (!isFollowing(source)) {
+            return;
+        }
+        if (player == owner) {
+            markSeen(card.getId());
+        } else {
+            final int seat = seatOf(player);
+            if (seat >= 0) {
+                voids[seat] = 0;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onTurnPassed(final Game source, final AbstractPlayer player) {
+        if (!isFollowing(source) || player == owner || source.getRules().isSkipAfterDrawEnabled()) {
+            return;
+        }
+        final Optional<CardColor> color = source.getCurrentColor();
+        final int seat = seatOf(player);
+        if (color.isPresent() && seat >= 0) {
+            voids[seat] |= 1 << color.get().ordinal();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * If the owner took part, it now sees its new hand and knows every color of
+     * the hand it gave away; the cards it gave are unseen again, since they may
+     * be played back into the pile and recycled without the owner noticing.
+     */
+    @Override
+    public void onHandsSwapped(final Game source, final AbstractPlayer player, final AbstractPlayer target) {
+        if (!isFollowing(source)) {
+            return;
+        }
+        final int first = seatOf(player);
+        final int second = seatOf(target);
+        if (first >= 0 && second >= 0) {
+            final int swapped = voids[first];
+            voids[first] = voids[second];
+            voids[second] = swapped;
+        }
+        if (player != owner && target != owner) {
+            return;
+        }
+
+        final AbstractPlayer other = player == owner ? target : player;
+        final Hand given = other.getHandView();
+        int missing = ALL_COLORS;
+        for (int i = 0; i < given.size(); i++) {
+            final int id = given.get(i).getId();
+            markUnseen(id);
+            for (int s = 0; s < SIDES && id >= 0 && id < unseen.length; s++) {
+                if (colors[s][id] != BACK) {
+                    missing &= ~(1 << colors[s][id]);
+                }
+            }
+        }
+        final Hand received = owner.getHandView();
+        for (int i = 0; i < received.size(); i++) {
+            markSeen(received.get(i).getId());
+        }
+        final int seat = seatOf(other);
+        if (seat >= 0) {
+            voids[seat] = missing;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The recycled cards go back to the draw deck, so they are unseen again;
+     * what is known of the opponents' colors still holds.
+     */
+    @Override
+    public void onDiscardPileRecycled(final Game source) {
+        if (isFollowing(source)) {
+            countCards();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onStateRestored(final Game source) {
+        this.game = source;
+        this.stale = true;
+    }
+
+    /**
+     * Checks if an event has to be applied. An event of a game the tracker did
+     * not follow yet starts following it.
+     *
+     * @param source the game that sent the event.
+     * @return true if the counters are up to date and must be updated.
+     */
+    private boolean isFollowing(final Game source) {
+        if (source != game) {
+            follow(source);
+        }
+        return !stale && catalog != null;
+    }
+
+    /**
+     * Brings the counters up to date before answering a question.
+     *
+     * @return true if a game with a catalog is followed.
+     */
+    private boolean refresh() {
+        if (stale && game != null) {
+            follow(game);
+        }
+        return !stale && catalog != null;
+    }
+
+    /**
+     * Starts following a game from its current position, forgetting what was
+     * known of the opponents' colors.
+     *
+     * @param source the game.
+     */
+    private void follow(final Game source) {
+        this.game = source;
+        final Optional<CardCatalog> sourceCatalog = source.getDrawDeck().getCatalog();
+        if (sourceCatalog.isEmpty()) {
+            this.catalog = null;
+            this.stale = false;
+            return;
+        }
+        if (sourceCatalog.get() != catalog) {
+            index(sourceCatalog.get());
+        }
+        if (voids.length != source.getPlayers().size()) {
+            voids = new int[source.getPlayers().size()];
+        }
+        Arrays.fill(voids, 0);
+        countCards();
+        this.stale = false;
+    }
+
+    /**
+     * Caches the face, colors and values of every card of a catalog; the back
+     * of a single-sided card has neither.
+     *
+     * @param newCatalog the catalog.
+     */
+    private void index(final CardCatalog newCatalog) {
+        final int size = newCatalog.size();
+        this.catalog = newCatalog;
+        this.unseen = new boolean[size];
+        this.faces = new int[size];
+        this.colors = new int[SIDES][size];
+        this.values = new int[SIDES][size];
+        int faceCount = 0;
+        for (int id = 0; id < size; id++) {
+            final Card card = newCatalog.getCard(id);
+            faces[id] = newCatalog.faceOf(id);
+            faceCount = Math.max(faceCount, faces[id] + 1);
+            for (int s = 0; s < SIDES; s++) {
+                final CardSideBehavior face = card.getSide(s == DARK);
+                colors[s][id] = face.isBack() ? BACK : face.getColor().ordinal();
+                values[s][id] = face.isBack() ? BACK : face.getValue().ordinal();
+            }
+        }
+        this.faceCounts = new int[faceCount];
+    }
+
+    /**
+     * Recounts the unseen cards: every card except the owner's hand and the discard pile.
+     */
+    private void countCards() {
+        Arrays.fill(unseen, false);
+        Arrays.fill(faceCounts, 0);
+        for (int s = 0; s < SIDES; s++) {
+            Arrays.fill(colorCounts[s], 0);
+            Arrays.fill(valueCounts[s], 0);
+        }
+        unseenCount = 0;
+        for (int id = 0; id < unseen.length; id++) {
+            markUnseen(id);
+        }
+
+        final Hand hand = owner.getHandView();
+        for (int i = 0; i < hand.size(); i++) {
+            markSeen(hand.get(i).getId());
+        }
+        final List<Card> pile = game.getDiscardPile().getSnapshot();
+        for (final Card card : pile) {
+            markSeen(card.getId());
+        }
+    }
+
+    /**
+     * Removes a card from the unseen cards, if it is one of them.
+     *
+     * @param id the catalog id of the card.
+     */
+    private void markSeen(final int id) {
+        if (id >= 0 && id < unseen.length && unseen[id]) {
+            unseen[id] = false;
+            count(id, -1);
+        }
+    }
+
+    /**
+     * Adds a card to the unseen cards, if it is not one of them.
+     *
+     * @param id the catalog id of the card.
+     */
+    private void markUnseen(final int id) {
+        if (id >= 0 && id < unseen.length && !unseen[id]) {
+            unseen[id] = true;
+            count(id, 1);
+        }
+    }
+
+    /**
+     * Updates the counters of a card.
+     *
+     * @param id    the catalog id of the card.
+     * @param delta 1 to add the card, -1 to remove it.
+     */
+    private void count(final int id, final int delta) {
+        unseenCount += delta;
+        faceCounts[faces[id]] += delta;
+        for (int s = 0; s < SIDES; s++) {
+            if (colors[s][id] != BACK) {
+                colorCounts[s][colors[s][id]] += delta;
+                valueCounts[s][values[s][id]] += delta;
+            }
+        }
+    }
+
+    /**
+     * Finds the index of a player in the followed game.
+     *
+     * @param player the player.
+     * @return the index, or -1 if the player is not in the game.
+     */
+    private int seatOf(final AbstractPlayer player) {
+        final List<AbstractPlayer> players = game.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i) == player) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the index of a side in the counters.
+     *
+     * @param darkSide true for the dark side.
+     * @return the index.
+     */
+    private static int side(final boolean darkSide) {
+        return darkSide ? DARK : LIGHT;
+    }
+}
@@ -0,0 +1,85 @@
+package uno.model.players.impl;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Enforces the deadline of an AI player's decisions. Each decision runs on a
+ * virtual thread; if it has not returned shortly after its deadline, it is
+ * interrupted and its answer is dropped for a fallback computed on the calling
+ * thread. The fallback is only computed once the interrupted thread has
+ * stopped, so the game, the player's tracker and its search state are never
+ * used by two threads, and the caller cannot change the game while the late
+ * decision still reads it. A decision that ignores interrupts therefore delays
+ * its fallback. Instances are not thread-safe.
+ */
+final class DecisionWatchdog {
+
+    private static final long GRACE_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private long fallbacks;
+
+    /**
+     * Runs a decision within its deadline.
+     *
+     * @param <T>           the type of the decision.
+     * @param decision      the decision, which should return its best answer so far at the deadline.
+     * @param deadlineNanos the {@link System#nanoTime()} at which the decision must be taken.
+     * @param fallback      the decision used when the deadline is missed.
+     * @return the decision, or the fallback.
+     */
+    <T> T decide(final Callable<T> decision, final long deadlineNanos, final Supplier<T> fallback) {
+        final FutureTask<T> task = new FutureTask<>(decision);
+        final Thread thread = Thread.ofVirtual().name("ai-decision").start(task);
+        try {
+            return task.get(Math.max(0, deadlineNanos - System.nanoTime()) + GRACE_NANOS, TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            abandon(thread);
+            return fallback.get();
+        } catch (final InterruptedException e) {
+            abandon(thread);
+            Thread.currentThread().interrupt();
+            return fallback.get();
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("The decision failed", e.getCause());
+        }
+    }
+
+    /**
+     * Gets the number of decisions that missed their deadline.
+     *
+     * @return the number of fallbacks.
+     */
+    long getFallbacks() {
+        return fallbacks;
+    }
+
+    /**
+     * Interrupts a decision that missed its deadline and waits until it stops.
+     * An interrupt of the calling thread meanwhile is kept for the caller.
+     *
+     * @param thread the thread of the decision.
+     */
+    private void abandon(final Thread thread) {
+        thread.interrupt();
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        fallbacks++;
+    }
+}
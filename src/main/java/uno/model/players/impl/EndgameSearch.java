@@ -0,0 +1,489 @@
+package uno.model.players.impl;
+
+import java.util.Arrays;
+
+import uno.model.cards.behaviors.api.CardSideBehavior;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameRules;
+import uno.model.game.api.GameSnapshot;
+import uno.model.utils.api.GameRandom;
+
+/**
+ * Exact expectimax search of the last plies of a round, run by the
+ * {@link EndgameSolver}.
+ * In a game of two players the opponent's hand is not guessed: every hand it
+ * may hold is searched in turn, weighted by the number of ways the unseen cards
+ * can form it, leaving out the colors it is known not to hold. With more players,
+ * or when there are too many such hands, the hidden cards are dealt at random instead.
+ * Below the root the searching player takes the move with the best value, the
+ * opponents make the move their heuristics would make, and drawing a card is a
+ * chance node over the faces left in the draw deck, weighted by their copies.
+ * Searched positions are kept in an {@link EndgameTable} keyed on the exact
+ * position: the hands and the draw deck packed as counts of each face, 4 bits
+ * per face and 16 faces per long, plus one long for the table and the turn.
+ * A value that reached the end of the round on every line is stored as exact
+ * and holds for any horizon.
+ * Instances are not thread-safe.
+ */
+final class EndgameSearch {
+
+    private static final int SIDES = 2;
+    private static final int DARK = 1;
+    private static final int COUNT_BITS = 4;
+    private static final int FACES_PER_WORD = Long.SIZE / COUNT_BITS;
+    private static final int MAX_COPIES = (1 << COUNT_BITS) - 1;
+    private static final int FIELD_BITS = 8;
+    private static final int MAX_FIELD = (1 << FIELD_BITS) - 2;
+    private static final int COLOR_SHIFT = FIELD_BITS;
+    private static final int SEAT_SHIFT = 2 * FIELD_BITS;
+    private static final int SEARCHER_SHIFT = 3 * FIELD_BITS;
+    private static final int STATE_SHIFT = 4 * FIELD_BITS;
+    private static final long DARK_SIDE = 1L << 5 * FIELD_BITS;
+    private static final long CLOCKWISE = DARK_SIDE << 1;
+    private static final long DRAWN = DARK_SIDE << 2;
+
+    private final SearchGame search;
+    private final GameContext game;
+    private final CardCatalog catalog;
+    private final EndgameTable table;
+    private final GameRandom random;
+    private final int players;
+    private final int words;
+    private final int maxDepth;
+    private final double undecided;
+    private final int[] colorBits;
+    private final int[] voidColors;
+    private final GameSnapshot root;
+    private final GameSnapshot rootLevel;
+    private final GameSnapshot[] levels;
+    private final long[][] keys;
+    private final int[][] moves;
+    private final int[][] faceCounts;
+    private final int[][] facePositions;
+    private final int[][] faces;
+    private final int[][] poolIds;
+    private final int[] poolCounts;
+    private final int[] poolFaces;
+    private int[] holdingIds = new int[0];
+    private double[] holdingWeights = new double[0];
+    private int[] holding = new int[0];
+    private int holdingCount;
+    private int hiddenSize;
+    private int seat;
+    private boolean cutoff;
+    private long nodes;
+
+    /**
+     * Creates a worker with its own copy of a game.
+     *
+     * @param mode     the mode of the searched game.
+     * @param rules    the rules of the searched game.
+     * @param players  the number of players of the searched game.
+     * @param maxDepth the horizon of the search, in plies.
+     * @param capacity the number of positions the table of the worker can hold.
+     * @param random   the random source of the deals and of the copy of the game.
+     * @throws IllegalArgumentException if the catalog of the mode cannot be packed.
+     */
+    EndgameSearch(final GameMode mode, final GameRules rules, final int players, final int maxDepth,
+            final int capacity, final GameRandom random) {
+        this.search = new SearchGame(mode, rules, players, random);
+        this.game = search.getGame();
+        this.catalog = search.getCatalog();
+        this.random = random;
+        this.players = players;
+        this.maxDepth = maxDepth;
+        this.undecided = 1.0 / players;
+        final int faceCount = countFaces(catalog);
+        this.words = (faceCount + FACES_PER_WORD - 1) / FACES_PER_WORD;
+        if (faceCount > MAX_FIELD || players > MAX_FIELD) {
+            throw new IllegalArgumentException("The positions of this game cannot be packed");
+        }
+        this.table = new EndgameTable(capacity, (players + 1) * words + 1);
+        this.colorBits = new int[catalog.size()];
+        this.poolIds = new int[faceCount][MAX_COPIES];
+        this.poolCounts = new int[faceCount];
+        this.poolFaces = new int[faceCount];
+        final int[] copies = new int[faceCount];
+        for (int id = 0; id < catalog.size(); id++) {
+            for (int s = 0; s < SIDES; s++) {
+                final CardSideBehavior face = catalog.getCard(id).getSide(s == DARK);
+                if (!face.isBack()) {
+                    colorBits[id] |= 1 << face.getColor().ordinal();
+                }
+            }
+            if (++copies[catalog.faceOf(id)] > MAX_COPIES) {
+                throw new IllegalArgumentException("Too many copies of a face to pack: " + catalog.getCard(id));
+            }
+        }
+        this.voidColors = new int[players];
+        this.root = game.createSnapshot();
+        this.rootLevel = game.createSnapshot();
+        this.levels = new GameSnapshot[maxDepth + 1];
+        this.keys = new long[maxDepth + 1][table.width()];
+        this.moves = new int[maxDepth + 1][];
+        this.faceCounts = new int[maxDepth + 1][catalog.size()];
+        this.facePositions = new int[maxDepth + 1][catalog.size()];
+        this.faces = new int[maxDepth + 1][catalog.size()];
+        for (int i = 0; i <= maxDepth; i++) {
+            levels[i] = game.createSnapshot();
+            moves[i] = search.createMoveBuffer();
+        }
+    }
+
+    /**
+     * Gets the copy of the game searched by this worker.
+     *
+     * @return the search game.
+     */
+    SearchGame getSearchGame() {
+        return search;
+    }
+
+    /**
+     * Copies the position of the real game, and what the searching player knows
+     * of the opponents' colors, into this worker.
+     * Must be called on the thread that owns the real game.
+     *
+     * @param real   the game to search.
+     * @param player the searching player.
+     * @throws IllegalStateException if the game does not support snapshots.
+     */
+    void prepare(final GameContext real, final AbstractAIPlayer player) {
+        real.captureSnapshot(root);
+        SearchGame.readVoidColors(real, player, voidColors);
+        this.seat = real.getPlayers().indexOf(player);
+    }
+
+    /**
+     * Lists every hand the opponent of a two-player game may hold, with its weight.
+     * Copies of a face are interchangeable, so a hand is a count of each face
+     * and its weight is the number of sets of unseen cards that give those counts.
+     *
+     * @param limit the largest number of hands worth searching.
+     * @return the number of hands, or 0 if the game has more than two players,
+     *         the opponent holds nothing or the hands are more than the limit.
+     */
+    int listHoldings(final int limit) {
+        holdingCount = 0;
+        final int opponent = 1 - seat;
+        hiddenSize = players == 2 ? root.getHandSize(opponent) : 0;
+        if (hiddenSize == 0) {
+            return 0;
+        }
+        if (holding.length != hiddenSize) {
+            holding = new int[hiddenSize];
+        }
+        if (holdingIds.length < limit * hiddenSize) {
+            holdingIds = new int[limit * hiddenSize];
+            holdingWeights = new double[limit];
+        }
+
+        int distinct = 0;
+        for (int i = 0; i < hiddenSize + root.getDrawDeckSize(); i++) {
+            final int id = i < hiddenSize ? root.getHandCard(opponent, i) : root.getDrawDeckCard(i - hiddenSize);
+            final int face = catalog.faceOf(id);
+            if ((colorBits[id] & voidColors[opponent]) == 0) {
+                if (poolCounts[face] == 0) {
+                    poolFaces[distinct++] = face;
+                }
+                poolIds[face][poolCounts[face]++] = id;
+            }
+        }
+        final boolean listed = listHoldings(distinct, 0, hiddenSize, 0, 1, limit);
+        for (int i = 0; i < distinct; i++) {
+            poolCounts[poolFaces[i]] = 0;
+        }
+        if (!listed) {
+            holdingCount = 0;
+        }
+        return holdingCount;
+    }
+
+    /**
+     * Evaluates the root moves with the opponent holding one of the listed hands
+     * and adds their values, times the weight of the hand, to a total.
+     *
+     * @param index  the index of the hand, below the number returned by {@link #listHoldings}.
+     * @param legal  the root moves, those of the position given to {@link #prepare}.
+     * @param count  the number of root moves.
+     * @param values the totals, one per root move.
+     * @return the weight of the hand.
+     */
+    double evaluateHolding(final int index, final int[] legal, final int count, final double[] values) {
+        System.arraycopy(holdingIds, index * hiddenSize, holding, 0, hiddenSize);
+        root.dealHand(1 - seat, holding, random);
+        evaluate(legal, count, values, holdingWeights[index]);
+        return holdingWeights[index];
+    }
+
+    /**
+     * Deals the hidden cards at random and adds the values of the root moves to a total.
+     *
+     * @param legal  the root moves, those of the position given to {@link #prepare}.
+     * @param count  the number of root moves.
+     * @param values the totals, one per root move.
+     */
+    void evaluateDeal(final int[] legal, final int count, final double[] values) {
+        root.shuffleHiddenCards(seat, voidColors, random);
+        evaluate(legal, count, values, 1);
+    }
+
+    /**
+     * Gets the number of positions searched since the counter was reset.
+     *
+     * @return the number of nodes.
+     */
+    long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Resets the node counter.
+     */
+    void resetCounters() {
+        nodes = 0;
+    }
+
+    /**
+     * Lists the hands made of the faces from a given one on, recursively.
+     *
+     * @param distinct  the number of faces in the pool.
+     * @param next      the first face left to choose from.
+     * @param remaining the cards still to choose.
+     * @param filled    the cards of the current hand chosen so far.
+     * @param weight    the ways to choose the cards chosen so far.
+     * @param limit     the largest number of hands.
+     * @return false if the limit was exceeded.
+     */
+    private boolean listHoldings(final int distinct, final int next, final int remaining, final int filled,
+            final double weight, final int limit) {
+        if (remaining == 0) {
+            if (holdingCount == limit) {
+                return false;
+            }
+            System.arraycopy(holding, 0, holdingIds, holdingCount * hiddenSize, hiddenSize);
+            holdingWeights[holdingCount++] = weight;
+            return true;
+        }
+        for (int i = next; i < distinct; i++) {
+            final int face = poolFaces[i];
+            double ways = 1;
+            for (int k = 1; k <= Math.min(remaining, poolCounts[face]); k++) {
+                ways = ways * (poolCounts[face] - k + 1) / k;
+                holding[filled + k - 1] = poolIds[face][k - 1];
+                if (!listHoldings(distinct, i + 1, remaining - k, filled + k, weight * ways, limit)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the weighted values of the root moves of the dealt position to a total.
+     * A move that hits an illegal action in the copy of the game is worth 0.
+     *
+     * @param legal  the root moves.
+     * @param count  the number of root moves.
+     * @param values the totals.
+     * @param weight the weight of the deal.
+     */
+    private void evaluate(final int[] legal, final int count, final double[] values, final double weight) {
+        game.restoreSnapshot(root);
+        game.captureSnapshot(rootLevel);
+        for (int i = 0; i < count; i++) {
+            try {
+                values[i] += weight * valueOfMove(rootLevel, legal[i], maxDepth);
+            } catch (final IllegalStateException e) {
+                continue;
+            }
+        }
+    }
+
+    /**
+     * Searches the current position of the copy of the game.
+     *
+     * @param depth the remaining plies.
+     * @return the value of the position for the searching player.
+     */
+    private double value(final int depth) {
+        nodes++;
+        if (search.isOver()) {
+            final AbstractPlayer winner = game.getWinner();
+            return winner == null ? undecided : game.getPlayers().indexOf(winner) == seat ? 1 : 0;
+        }
+        if (depth == 0) {
+            cutoff = true;
+            return undecided;
+        }
+
+        final GameSnapshot position = levels[depth];
+        game.captureSnapshot(position);
+        final long[] key = keys[depth];
+        pack(position, key);
+        final int slot = table.find(key);
+        if (slot != EndgameTable.MISS && table.depthAt(slot) >= depth) {
+            cutoff |= table.depthAt(slot) != EndgameTable.EXACT;
+            return table.valueAt(slot);
+        }
+
+        final int[] legal = moves[depth];
+        int count = search.legalMoves(game, legal);
+        if (search.getCurrentSeat() != seat && count > 1) {
+            legal[0] = legal[SearchGame.indexOf(legal, count,
+                    search.heuristicMove(game, (AbstractAIPlayer) game.getCurrentPlayer()))];
+            count = 1;
+        }
+        final boolean outer = cutoff;
+        cutoff = false;
+        double best = Double.NaN;
+        for (int i = 0; i < count; i++) {
+            final double moveValue;
+            try {
+                moveValue = valueOfMove(position, legal[i], depth);
+            } catch (final IllegalStateException e) {
+                continue;
+            }
+            if (Double.isNaN(best) || moveValue > best) {
+                best = moveValue;
+            }
+        }
+        if (Double.isNaN(best)) {
+            cutoff = true;
+            best = undecided;
+        } else {
+            table.store(key, cutoff ? depth : EndgameTable.EXACT, best);
+        }
+        cutoff |= outer;
+        return best;
+    }
+
+    /**
+     * Searches the position reached by a move.
+     *
+     * @param position the position before the move.
+     * @param move     the move.
+     * @param depth    the remaining plies, including the move.
+     * @return the value of the move for the searching player.
+     */
+    private double valueOfMove(final GameSnapshot position, final int move, final int depth) {
+        if (move == SearchGame.DRAW && position.getDrawDeckSize() > 0) {
+            return valueOfDraw(position, depth);
+        }
+        game.restoreSnapshot(position);
+        search.apply(move);
+        return value(depth - 1);
+    }
+
+    /**
+     * Searches a draw as a chance node: every face left in the draw deck is
+     * drawn in turn, weighted by its number of copies.
+     *
+     * @param position the position before the draw.
+     * @param depth    the remaining plies, including the draw.
+     * @return the expected value of the draw for the searching player.
+     */
+    private double valueOfDraw(final GameSnapshot position, final int depth) {
+        final int[] counts = faceCounts[depth];
+        final int[] positions = facePositions[depth];
+        final int[] drawable = faces[depth];
+        int distinct = 0;
+        for (int p = 0; p < position.getDrawDeckSize(); p++) {
+            final int face = catalog.faceOf(position.getDrawDeckCard(p));
+            if (counts[face]++ == 0) {
+                positions[face] = p;
+                drawable[distinct++] = face;
+            }
+        }
+
+        double total = 0;
+        int weight = 0;
+        for (int i = 0; i < distinct; i++) {
+            final int face = drawable[i];
+            position.moveToTopOfDrawDeck(positions[face]);
+            try {
+                game.restoreSnapshot(position);
+                search.apply(SearchGame.DRAW);
+                total += counts[face] * value(depth - 1);
+                weight += counts[face];
+            } catch (final IllegalStateException e) {
+                continue;
+            } finally {
+                // Swapping again puts the deck back in its order.
+                position.moveToTopOfDrawDeck(positions[face]);
+            }
+        }
+        for (int i = 0; i < distinct; i++) {
+            counts[drawable[i]] = 0;
+        }
+        if (weight == 0) {
+            throw new IllegalStateException("No card could be drawn");
+        }
+        return total / weight;
+    }
+
+    /**
+     * Packs a position: the count of each face in every hand and in the draw
+     * deck, then the top card, the active color, the turn and the searching player.
+     * The discard pile needs no count, since it holds every other card.
+     *
+     * @param position the position, also restored in the copy of the game.
+     * @param key      the array receiving the packed position.
+     */
+    private void pack(final GameSnapshot position, final long[] key) {
+        Arrays.fill(key, 0);
+        for (int p = 0; p < players; p++) {
+            for (int i = 0; i < position.getHandSize(p); i++) {
+                addFace(key, p, catalog.faceOf(position.getHandCard(p, i)));
+            }
+        }
+        for (int i = 0; i < position.getDrawDeckSize(); i++) {
+            addFace(key, players, catalog.faceOf(position.getDrawDeckCard(i)));
+        }
+
+        final Card top = game.getTopDiscardCard().orElse(null);
+        long context = top == null || top.getId() == Card.NO_ID ? 0 : catalog.faceOf(top.getId()) + 1;
+        context |= (long) position.getCurrentColor().map(color -> color.ordinal() + 1).orElse(0) << COLOR_SHIFT;
+        context |= (long) position.getCurrentPlayerIndex() << SEAT_SHIFT;
+        context |= (long) seat << SEARCHER_SHIFT;
+        context |= (long) position.getGameState().ordinal() << STATE_SHIFT;
+        if (position.isDarkSide()) {
+            context |= DARK_SIDE;
+        }
+        if (position.isClockwise()) {
+            context |= CLOCKWISE;
+        }
+        if (game.getTurnManager().hasDrawnThisTurn()) {
+            context |= DRAWN;
+        }
+        key[key.length - 1] = context;
+    }
+
+    /**
+     * Adds a card to a count vector of a packed position.
+     *
+     * @param key    the packed position.
+     * @param vector the index of the vector: a player, or the number of players for the deck.
+     * @param face   the face of the card.
+     */
+    private void addFace(final long[] key, final int vector, final int face) {
+        key[vector * words + face / FACES_PER_WORD] += 1L << face % FACES_PER_WORD * COUNT_BITS;
+    }
+
+    /**
+     * Counts the distinct faces of a catalog.
+     *
+     * @param catalog the catalog.
+     * @return the number of faces.
+     */
+    private static int countFaces(final CardCatalog catalog) {
+        int faceCount = 0;
+        for (int id = 0; id < catalog.size(); id++) {
+            faceCount = Math.max(faceCount, catalog.faceOf(id) + 1);
+        }
+        return faceCount;
+    }
+}
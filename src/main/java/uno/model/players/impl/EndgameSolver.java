@@ -0,0 +1,235 @@
+package uno.model.players.impl;
+
+import java.util.Optional;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.Game;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.players.api.AIStrategy;
+import uno.model.utils.api.GameRandom;
+import uno.model.utils.impl.GameRandomImpl;
+
+/**
+ * End-phase strategy for the AI players: once the hands together hold only a
+ * few cards, every decision is taken by an exact search of the last plies of
+ * the round (see {@link EndgameSearch}). In a game of two players the search
+ * goes through every hand the opponent may hold, so its values are exact win
+ * probabilities within the horizon, given the draw deck's known composition and
+ * the opponent's heuristics; otherwise, or when the opponent may hold too many
+ * hands, the values are averaged over random deals of the hidden cards.
+ * The move the player's own heuristics would make is kept unless another one
+ * is better, by any margin for exact values and clearly for averaged ones.
+ * A strategy keeps per-game search state, so each player needs its own instance.
+ */
+public final class EndgameSolver implements AIStrategy {
+
+    private static final int DEFAULT_TOTAL_CARDS = 4;
+    private static final int DEFAULT_PLIES = 4;
+    private static final int DEFAULT_DEALS = 16;
+    private static final int HOLDING_LIMIT = 512;
+    private static final int TABLE_CAPACITY = 1 << 14;
+    private static final double EXACT_MARGIN = 1e-9;
+    private static final double DEALT_MARGIN = 0.1;
+
+    private final GameMode mode;
+    private final int totalCards;
+    private final int plies;
+    private final int deals;
+    private final GameRandom random;
+    private EndgameSearch worker;
+    private int[] moves;
+    private long exactDecisions;
+
+    /**
+     * Constructor for an EndgameSolver with the default threshold, horizon and deals.
+     *
+     * @param mode the mode of the games the player joins.
+     */
+    public EndgameSolver(final GameMode mode) {
+        this(mode, DEFAULT_TOTAL_CARDS, DEFAULT_PLIES, DEFAULT_DEALS, new GameRandomImpl());
+    }
+
+    /**
+     * Constructor for a reproducible EndgameSolver: the same seed always gives
+     * the same decisions.
+     *
+     * @param mode       the mode of the games the player joins.
+     * @param totalCards the number of cards in all the hands at which the solver takes over.
+     * @param plies      the horizon of the search.
+     * @param deals      the random deals searched when the opponents' hands are not enumerated.
+     * @param seed       the seed of the deals.
+     */
+    public EndgameSolver(final GameMode mode, final int totalCards, final int plies, final int deals,
+            final long seed) {
+        this(mode, totalCards, plies, deals, new GameRandomImpl(seed));
+    }
+
+    /**
+     * Constructor for EndgameSolver.
+     *
+     * @param mode       the mode of the games the player joins.
+     * @param totalCards the number of cards in all the hands at which the solver takes over.
+     * @param plies      the horizon of the search.
+     * @param deals      the random deals searched when the opponents' hands are not enumerated.
+     * @param random     the random source of the deals.
+     */
+    private EndgameSolver(final GameMode mode, final int totalCards, final int plies, final int deals,
+            final GameRandom random) {
+        if (totalCards < 0 || plies < 1 || deals < 1) {
+            throw new IllegalArgumentException("Invalid endgame settings: total cards " + totalCards
+                    + ", plies " + plies + ", deals " + deals);
+        }
+        this.mode = mode;
+        this.totalCards = totalCards;
+        this.plies = plies;
+        this.deals = deals;
+        this.random = random;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The solver is active when the game can be searched and all the hands
+     * together hold at most the threshold number of cards.
+     */
+    @Override
+    public boolean isActive(final Game game, final AbstractPlayer player) {
+        int total = 0;
+        for (final AbstractPlayer p : game.getPlayers()) {
+            total += p.getHandSize();
+        }
+        return total <= totalCards && isSearchable(game, player);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Card> chooseCardToPlay(final Game game, final AbstractPlayer player) {
+        final GameContext context = (GameContext) game;
+        return worker.getSearchGame().cardOf(context, bestMove(context, player));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CardColor chooseBestColor(final Game game, final AbstractPlayer player) {
+        final Optional<CardColor> color = SearchGame.colorOf(bestMove((GameContext) game, player));
+        return color.orElse(SearchGame.colorChoices(game.isDarkSide())[0]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<AbstractPlayer> chooseTargetPlayer(final Game game, final AbstractPlayer player) {
+        final int target = SearchGame.targetOf(bestMove((GameContext) game, player));
+        return target >= 0 ? Optional.of(game.getPlayers().get(target)) : Optional.empty();
+    }
+
+    /**
+     * Gets the number of positions searched since the counters were reset.
+     *
+     * @return the number of nodes.
+     */
+    public long getNodes() {
+        return worker == null ? 0 : worker.getNodes();
+    }
+
+    /**
+     * Gets the number of decisions taken over every hand the opponent may hold,
+     * rather than over random deals, since the counters were reset.
+     *
+     * @return the number of exact decisions.
+     */
+    public long getExactDecisions() {
+        return exactDecisions;
+    }
+
+    /**
+     * Resets the node and decision counters.
+     */
+    public void resetCounters() {
+        exactDecisions = 0;
+        if (worker != null) {
+            worker.resetCounters();
+        }
+    }
+
+    /**
+     * Checks if a game can be searched, creating the search worker for it if
+     * needed, and copies its position into it.
+     *
+     * @param game   the game.
+     * @param player the player about to decide.
+     * @return true if the game is built on a card catalog of this solver's mode
+     *         and the player is an AI taking part in it.
+     */
+    private boolean isSearchable(final Game game, final AbstractPlayer player) {
+        if (!(game instanceof GameContext) || !(player instanceof AbstractAIPlayer)
+                || !game.getPlayers().contains(player)) {
+            return false;
+        }
+        final GameContext context = (GameContext) game;
+        if (worker == null || !worker.getSearchGame().accepts(context)) {
+            worker = new EndgameSearch(mode, context.getRules(), context.getPlayers().size(), plies,
+                    TABLE_CAPACITY, random.split());
+            moves = worker.getSearchGame().createMoveBuffer();
+        }
+        if (!worker.getSearchGame().accepts(context)) {
+            return false;
+        }
+        try {
+            worker.prepare(context, (AbstractAIPlayer) player);
+        } catch (final IllegalStateException e) {
+            // The game is not built on compact piles: no snapshot can be taken.
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Searches the current position and returns the move with the best value.
+     * The worker must have been prepared by {@link #isSearchable}.
+     *
+     * @param context the game.
+     * @param player  the player about to decide.
+     * @return the chosen move, encoded as in {@link SearchGame}.
+     */
+    private int bestMove(final GameContext context, final AbstractPlayer player) {
+        final int count = worker.getSearchGame().legalMoves(context, moves);
+        if (count <= 1) {
+            return count == 0 ? SearchGame.PASS : moves[0];
+        }
+
+        final double[] values = new double[count];
+        double weight = 0;
+        final int holdings = worker.listHoldings(HOLDING_LIMIT);
+        for (int i = 0; i < holdings; i++) {
+            weight += worker.evaluateHolding(i, moves, count, values);
+        }
+        final boolean exact = holdings > 0;
+        if (exact) {
+            exactDecisions++;
+        } else {
+            for (int i = 0; i < deals; i++) {
+                worker.evaluateDeal(moves, count, values);
+            }
+            weight = deals;
+        }
+
+        final int preferred = SearchGame.indexOf(moves, count,
+                worker.getSearchGame().heuristicMove(context, (AbstractAIPlayer) player));
+        int best = moves[preferred];
+        double bestValue = values[preferred] / weight + (exact ? EXACT_MARGIN : DEALT_MARGIN);
+        for (int i = 0; i < count; i++) {
+            if (values[i] / weight > bestValue) {
+                bestValue = values[i] / weight;
+                best = moves[i];
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,166 @@
+package uno.model.players.impl;
+
+import java.util.Arrays;
+
+/**
+ * Memo table of the endgame solver: win probabilities keyed on the exact
+ * packed state of a position (see {@link EndgameSearch}), so that, unlike the
+ * hashed {@link TranspositionTable}, two positions never share an entry.
+ * Keys are fixed-width arrays of longs stored side by side; collisions are
+ * resolved by linear probing and the table is emptied when it is half full.
+ * Instances are not thread-safe.
+ */
+final class EndgameTable {
+
+    /**
+     * Depth of a value that does not depend on the horizon: every line below
+     * the position was searched to the end of the round.
+     */
+    static final int EXACT = Integer.MAX_VALUE;
+
+    /**
+     * Result of a lookup that found nothing.
+     */
+    static final int MISS = -1;
+
+    private static final long MIX = 0x9E37_79B9_7F4A_7C15L;
+    private static final int FREE = 0;
+
+    private final int width;
+    private final int mask;
+    private final long[] keys;
+    private final float[] values;
+    private final int[] depths;
+    private int size;
+
+    /**
+     * Creates an empty table.
+     *
+     * @param capacity the number of entries, rounded up to a power of two (at least 2).
+     * @param width    the number of longs of a key.
+     */
+    EndgameTable(final int capacity, final int width) {
+        if (capacity < 1 || width < 1) {
+            throw new IllegalArgumentException("Invalid table size: capacity " + capacity + ", width " + width);
+        }
+        final int slots = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.width = width;
+        this.mask = slots - 1;
+        this.keys = new long[slots * width];
+        this.values = new float[slots];
+        this.depths = new int[slots];
+    }
+
+    /**
+     * Gets the number of longs of a key.
+     *
+     * @return the width of the keys.
+     */
+    int width() {
+        return width;
+    }
+
+    /**
+     * Gets the number of positions stored.
+     *
+     * @return the number of entries.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Looks a position up.
+     *
+     * @param key the packed position, {@link #width()} longs.
+     * @return the slot of the entry, or {@link #MISS}.
+     */
+    int find(final long[] key) {
+        final int slot = slotOf(key);
+        return depths[slot] == FREE ? MISS : slot;
+    }
+
+    /**
+     * Gets the value of an entry.
+     *
+     * @param slot a slot returned by {@link #find}.
+     * @return the win probability stored.
+     */
+    double valueAt(final int slot) {
+        return values[slot];
+    }
+
+    /**
+     * Gets the depth searched below the position of an entry.
+     *
+     * @param slot a slot returned by {@link #find}.
+     * @return the depth in plies, or {@link #EXACT}.
+     */
+    int depthAt(final int slot) {
+        return depths[slot];
+    }
+
+    /**
+     * Stores the value of a position, replacing a shallower one. The table is
+     * emptied first if it is half full.
+     *
+     * @param key   the packed position.
+     * @param depth the depth searched below the position, at least 1, or {@link #EXACT}.
+     * @param value the win probability.
+     */
+    void store(final long[] key, final int depth, final double value) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Depth must be positive, got " + depth);
+        }
+        int slot = slotOf(key);
+        if (depths[slot] == FREE) {
+            if (size >= values.length / 2) {
+                clear();
+                slot = slotOf(key);
+            }
+            System.arraycopy(key, 0, keys, slot * width, width);
+            size++;
+        } else if (depths[slot] > depth) {
+            return;
+        }
+        depths[slot] = depth;
+        values[slot] = (float) value;
+    }
+
+    /**
+     * Removes every entry.
+     */
+    void clear() {
+        Arrays.fill(depths, FREE);
+        size = 0;
+    }
+
+    /**
+     * Finds the slot holding a key, or the free slot where it would go.
+     *
+     * @param key the packed position.
+     * @return the slot.
+     */
+    private int slotOf(final long[] key) {
+        long hash = 0;
+        for (int i = 0; i < width; i++) {
+            hash = (hash + key[i]) * MIX;
+        }
+        int slot = (int) (hash ^ hash >>> Integer.SIZE) & mask;
+        while (depths[slot] != FREE && !matches(slot, key)) {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Compares the key of an entry with a key.
+     *
+     * @param slot the slot of the entry.
+     * @param key  the packed position.
+     * @return true if the keys are equal.
+     */
+    private boolean matches(final int slot, final long[] key) {
+        return Arrays.equals(keys, slot * width, slot * width + width, key, 0, width);
+    }
+}
@@ -0,0 +1,282 @@
+package uno.model.players.impl;
+
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameRules;
+import uno.model.game.api.GameSnapshot;
+import uno.model.utils.api.GameRandom;
+
+/**
+ * Depth-limited expectimax search for one worker thread.
+ * The search runs on a {@link SearchGame}: the cards hidden from the searching
+ * player are dealt at random (one determinization per call), then every move is
+ * searched to a fixed number of plies. The searching player takes the move with
+ * the best value, the opponents make the move their heuristics would make, and
+ * drawing a card is a chance node weighted by the faces left in the draw deck.
+ * The value of a position is the chance that the searching player wins the round
+ * within the horizon, a round still undecided counting as an even share among
+ * the players. Searched positions are cached in a {@link TranspositionTable}
+ * that can be shared with the workers of other threads.
+ * Instances are not thread-safe.
+ */
+final class ExpectimaxSearch {
+
+    private final SearchGame search;
+    private final GameContext game;
+    private final CardCatalog catalog;
+    private final TranspositionTable table;
+    private final ZobristKeys keys;
+    private final GameRandom random;
+    private final GameSnapshot root;
+    private final GameSnapshot rootLevel;
+    private final GameSnapshot[] levels;
+    private final int[][] moves;
+    private final int[][] faceCounts;
+    private final int[][] facePositions;
+    private final int[][] faces;
+    private final int maxDepth;
+    private final double undecided;
+    private final int[] voidColors;
+    private int seat;
+    private long nodes;
+    private long probes;
+    private long hits;
+
+    /**
+     * Creates a worker with its own copy of a game.
+     *
+     * @param mode     the mode of the searched game.
+     * @param rules    the rules of the searched game.
+     * @param players  the number of players of the searched game.
+     * @param maxDepth the deepest search the worker can run, in plies.
+     * @param table    the table caching the searched positions.
+     * @param random   the random source of the deals and of the copy of the game.
+     */
+    ExpectimaxSearch(final GameMode mode, final GameRules rules, final int players, final int maxDepth,
+            final TranspositionTable table, final GameRandom random) {
+        this.search = new SearchGame(mode, rules, players, random);
+        this.game = search.getGame();
+        this.catalog = search.getCatalog();
+        this.table = table;
+        this.keys = new ZobristKeys(catalog, players);
+        this.random = random;
+        this.maxDepth = maxDepth;
+        this.undecided = 1.0 / players;
+        this.voidColors = new int[players];
+        this.root = game.createSnapshot();
+        this.rootLevel = game.createSnapshot();
+        this.levels = new GameSnapshot[maxDepth + 1];
+        this.moves = new int[maxDepth + 1][];
+        this.faceCounts = new int[maxDepth + 1][catalog.size()];
+        this.facePositions = new int[maxDepth + 1][catalog.size()];
+        this.faces = new int[maxDepth + 1][catalog.size()];
+        for (int i = 0; i <= maxDepth; i++) {
+            levels[i] = game.createSnapshot();
+            moves[i] = search.createMoveBuffer();
+        }
+    }
+
+    /**
+     * Gets the copy of the game searched by this worker.
+     *
+     * @return the search game.
+     */
+    SearchGame getSearchGame() {
+        return search;
+    }
+
+    /**
+     * Copies the position of the real game, and what the searching player knows
+     * of the opponents' colors, into this worker.
+     * Must be called on the thread that owns the real game.
+     *
+     * @param real   the game to search.
+     * @param player the searching player.
+     * @throws IllegalStateException if the game does not support snapshots.
+     */
+    void prepare(final GameContext real, final AbstractAIPlayer player) {
+        real.captureSnapshot(root);
+        SearchGame.readVoidColors(real, player, voidColors);
+    }
+
+    /**
+     * Deals the hidden cards once and adds the value of every root move to a total.
+     * The moves must be the legal moves of the position given to {@link #prepare}.
+     * A move that hits an illegal action in the copy of the game is worth 0.
+     *
+     * @param searcher the index of the searching player.
+     * @param depth    the depth of the search, in plies, at most the maximum depth.
+     * @param legal    the root moves.
+     * @param count    the number of root moves.
+     * @param values   the totals, one per root move.
+     */
+    void evaluate(final int searcher, final int depth, final int[] legal, final int count, final double[] values) {
+        if (depth < 1 || depth > maxDepth) {
+            throw new IllegalArgumentException("Depth must be between 1 and " + maxDepth + ", got " + depth);
+        }
+        this.seat = searcher;
+        root.shuffleHiddenCards(searcher, voidColors, random);
+        game.restoreSnapshot(root);
+        game.captureSnapshot(rootLevel);
+        for (int i = 0; i < count; i++) {
+            try {
+                values[i] += valueOfMove(rootLevel, legal[i], depth);
+            } catch (final IllegalStateException e) {
+                continue;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of positions searched since the counters were reset.
+     *
+     * @return the number of nodes.
+     */
+    long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Gets the number of transposition table lookups since the counters were reset.
+     *
+     * @return the number of probes.
+     */
+    long getProbes() {
+        return probes;
+    }
+
+    /**
+     * Gets the number of lookups that found a deep enough result.
+     *
+     * @return the number of hits.
+     */
+    long getHits() {
+        return hits;
+    }
+
+    /**
+     * Resets the node and table counters.
+     */
+    void resetCounters() {
+        nodes = 0;
+        probes = 0;
+        hits = 0;
+    }
+
+    /**
+     * Searches the current position of the copy of the game.
+     *
+     * @param depth the remaining plies.
+     * @return the value of the position for the searching player.
+     */
+    private double value(final int depth) {
+        nodes++;
+        if (search.isOver()) {
+            final AbstractPlayer winner = game.getWinner();
+            return winner == null ? undecided : game.getPlayers().indexOf(winner) == seat ? 1 : 0;
+        }
+        if (depth == 0) {
+            return undecided;
+        }
+
+        final long key = keys.hash(game, seat);
+        probes++;
+        final long entry = table.probe(key);
+        if (entry != TranspositionTable.MISS && TranspositionTable.depthOf(entry) >= depth) {
+            hits++;
+            return TranspositionTable.valueOf(entry);
+        }
+
+        final GameSnapshot position = levels[depth];
+        game.captureSnapshot(position);
+        final int[] legal = moves[depth];
+        int count = search.legalMoves(game, legal);
+        if (search.getCurrentSeat() != seat && count > 1) {
+            legal[0] = legal[SearchGame.indexOf(legal, count,
+                    search.heuristicMove(game, (AbstractAIPlayer) game.getCurrentPlayer()))];
+            count = 1;
+        }
+        double best = Double.NaN;
+        for (int i = 0; i < count; i++) {
+            final double moveValue;
+            try {
+                moveValue = valueOfMove(position, legal[i], depth);
+            } catch (final IllegalStateException e) {
+                continue;
+            }
+            if (Double.isNaN(best) || moveValue > best) {
+                best = moveValue;
+            }
+        }
+        if (Double.isNaN(best)) {
+            return undecided;
+        }
+        table.store(key, depth, best);
+        return best;
+    }
+
+    /**
+     * Searches the position reached by a move.
+     *
+     * @param position the position before the move.
+     * @param move     the move.
+     * @param depth    the remaining plies, including the move.
+     * @return the value of the move for the searching player.
+     */
+    private double valueOfMove(final GameSnapshot position, final int move, final int depth) {
+        if (move == SearchGame.DRAW && position.getDrawDeckSize() > 0) {
+            return valueOfDraw(position, depth);
+        }
+        game.restoreSnapshot(position);
+        search.apply(move);
+        return value(depth - 1);
+    }
+
+    /**
+     * Searches a draw as a chance node: every face left in the draw deck is
+     * drawn in turn, weighted by its number of copies.
+     *
+     * @param position the position before the draw.
+     * @param depth    the remaining plies, including the draw.
+     * @return the expected value of the draw for the searching player.
+     */
+    private double valueOfDraw(final GameSnapshot position, final int depth) {
+        final int[] counts = faceCounts[depth];
+        final int[] positions = facePositions[depth];
+        final int[] drawable = faces[depth];
+        int distinct = 0;
+        for (int p = 0; p < position.getDrawDeckSize(); p++) {
+            final int face = catalog.faceOf(position.getDrawDeckCard(p));
+            if (counts[face]++ == 0) {
+                positions[face] = p;
+                drawable[distinct++] = face;
+            }
+        }
+
+        double total = 0;
+        int weight = 0;
+        for (int i = 0; i < distinct; i++) {
+            final int face = drawable[i];
+            position.moveToTopOfDrawDeck(positions[face]);
+            try {
+                game.restoreSnapshot(position);
+                search.apply(SearchGame.DRAW);
+                total += counts[face] * value(depth - 1);
+                weight += counts[face];
+            } catch (final IllegalStateException e) {
+                continue;
+            } finally {
+                // Swapping again puts the deck back in its order.
+                position.moveToTopOfDrawDeck(positions[face]);
+            }
+        }
+        for (int i = 0; i < distinct; i++) {
+            counts[drawable[i]] = 0;
+        }
+        if (weight == 0) {
+            throw new IllegalStateException("No card could be drawn");
+        }
+        return total / weight;
+    }
+}
@@ -0,0 +1,355 @@
+package uno.model.players.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.Game;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.players.api.AIStrategy;
+import uno.model.players.api.SearchBudget;
+import uno.model.utils.api.GameRandom;
+import uno.model.utils.impl.GameRandomImpl;
+
+/**
+ * End-of-round strategy for the AI players: once a hand is down to a few cards,
+ * every decision is taken by a depth-limited expectimax search (see
+ * {@link ExpectimaxSearch}). The hidden cards are dealt again for each iteration
+ * of the budget and the values of the moves are averaged over the deals. The
+ * move the player's own heuristics would make is kept unless another one wins
+ * clearly more often: the deals are few, so smaller differences are mostly noise.
+ * The budget threads search different deals at the same time and share one
+ * lock-free transposition table.
+ * A strategy keeps per-game search state, so each player needs its own instance.
+ */
+public final class ExpectimaxStrategy implements AIStrategy {
+
+    private static final int DEFAULT_DEPTH = 5;
+    private static final int DEFAULT_ENDGAME_CARDS = 2;
+    private static final int DEFAULT_DEALS = 16;
+    private static final int TABLE_CAPACITY = 1 << 16;
+    private static final double DEVIATION_MARGIN = 0.1;
+
+    private final GameMode mode;
+    private final int depth;
+    private final int endgameCards;
+    private final SearchBudget budget;
+    private final GameRandom random;
+    private final TranspositionTable table = new TranspositionTable(TABLE_CAPACITY);
+    private final List<ExpectimaxSearch> workers = new ArrayList<>();
+    private int[] moves;
+
+    /**
+     * Constructor for an ExpectimaxStrategy with the default depth, threshold and budget.
+     *
+     * @param mode the mode of the games the player joins.
+     */
+    public ExpectimaxStrategy(final GameMode mode) {
+        this(mode, DEFAULT_DEPTH, DEFAULT_ENDGAME_CARDS, SearchBudget.iterations(DEFAULT_DEALS),
+                new GameRandomImpl());
+    }
+
+    /**
+     * Constructor for a reproducible ExpectimaxStrategy: with a single thread and
+     * no time limit, the same seed always gives the same decisions.
+     *
+     * @param mode         the mode of the games the player joins.
+     * @param depth        the depth of the search, in plies.
+     * @param endgameCards the size of the smallest hand at which the strategy
+     *                     takes over.
+     * @param budget       the threads, deals and time allowed for each decision.
+     * @param seed         the seed of the deals.
+     */
+    public ExpectimaxStrategy(final GameMode mode, final int depth, final int endgameCards,
+            final SearchBudget budget, final long seed) {
+        this(mode, depth, endgameCards, budget, new GameRandomImpl(seed));
+    }
+
+    /**
+     * Constructor for ExpectimaxStrategy.
+     *
+     * @param mode         the mode of the games the player joins.
+     * @param depth        the depth of the search, in plies.
+     * @param endgameCards the size of the smallest hand at which the strategy
+     *                     takes over.
+     * @param budget       the threads, deals and time allowed for each decision.
+     * @param random       the random source of the deals.
+     */
+    private ExpectimaxStrategy(final GameMode mode, final int depth, final int endgameCards,
+            final SearchBudget budget, final GameRandom random) {
+        if (depth < 1 || endgameCards < 0) {
+            throw new IllegalArgumentException("Invalid expectimax settings: depth " + depth
+                    + ", endgame cards " + endgameCards);
+        }
+        this.mode = mode;
+        this.depth = depth;
+        this.endgameCards = endgameCards;
+        this.budget = budget;
+        this.random = random;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The strategy is active when the game can be searched and a hand holds at
+     * most the endgame number of cards.
+     */
+    @Override
+    public boolean isActive(final Game game, final AbstractPlayer player) {
+        int smallest = Integer.MAX_VALUE;
+        for (final AbstractPlayer p : game.getPlayers()) {
+            smallest = Math.min(smallest, p.getHandSize());
+        }
+        return smallest <= endgameCards && isSearchable(game, player);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Card> chooseCardToPlay(final Game game, final AbstractPlayer player) {
+        return chooseCardToPlay(game, player, Long.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CardColor chooseBestColor(final Game game, final AbstractPlayer player) {
+        return chooseBestColor(game, player, Long.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<AbstractPlayer> chooseTargetPlayer(final Game game, final AbstractPlayer player) {
+        return chooseTargetPlayer(game, player, Long.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The search stops at the deadline if it comes before the end of the budget.
+     */
+    @Override
+    public Optional<Card> chooseCardToPlay(final Game game, final AbstractPlayer player, final long deadlineNanos) {
+        final GameContext context = (GameContext) game;
+        return workers.get(0).getSearchGame().cardOf(context, bestMove(context, player, deadlineNanos));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The search stops at the deadline if it comes before the end of the budget.
+     */
+    @Override
+    public CardColor chooseBestColor(final Game game, final AbstractPlayer player, final long deadlineNanos) {
+        final Optional<CardColor> color = SearchGame.colorOf(bestMove((GameContext) game, player, deadlineNanos));
+        return color.orElse(SearchGame.colorChoices(game.isDarkSide())[0]);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The search stops at the deadline if it comes before the end of the budget.
+     */
+    @Override
+    public Optional<AbstractPlayer> chooseTargetPlayer(final Game game, final AbstractPlayer player,
+            final long deadlineNanos) {
+        final int target = SearchGame.targetOf(bestMove((GameContext) game, player, deadlineNanos));
+        return target >= 0 ? Optional.of(game.getPlayers().get(target)) : Optional.empty();
+    }
+
+    /**
+     * Gets the number of positions searched since the counters were reset.
+     *
+     * @return the number of nodes of all the threads.
+     */
+    public long getNodes() {
+        return workers.stream().mapToLong(ExpectimaxSearch::getNodes).sum();
+    }
+
+    /**
+     * Gets the number of transposition table lookups since the counters were reset.
+     *
+     * @return the number of probes of all the threads.
+     */
+    public long getTableProbes() {
+        return workers.stream().mapToLong(ExpectimaxSearch::getProbes).sum();
+    }
+
+    /**
+     * Gets the number of transposition table lookups that found a deep enough result.
+     *
+     * @return the number of hits of all the threads.
+     */
+    public long getTableHits() {
+        return workers.stream().mapToLong(ExpectimaxSearch::getHits).sum();
+    }
+
+    /**
+     * Resets the node and table counters.
+     */
+    public void resetCounters() {
+        workers.forEach(ExpectimaxSearch::resetCounters);
+    }
+
+    /**
+     * Checks if a game can be searched, creating the search workers for it if
+     * needed, and copies its position into them.
+     *
+     * @param game   the game.
+     * @param player the player about to decide.
+     * @return true if the game is built on a card catalog of this strategy's mode
+     *         and the player is an AI taking part in it.
+     */
+    private boolean isSearchable(final Game game, final AbstractPlayer player) {
+        if (!(game instanceof GameContext) || !(player instanceof AbstractAIPlayer)
+                || !game.getPlayers().contains(player)) {
+            return false;
+        }
+        final GameContext context = (GameContext) game;
+        if (workers.isEmpty() || !workers.get(0).getSearchGame().accepts(context)) {
+            workers.clear();
+            table.clear();
+            for (int i = 0; i < budget.threads(); i++) {
+                workers.add(new ExpectimaxSearch(mode, context.getRules(), context.getPlayers().size(), depth,
+                        table, random.split()));
+            }
+            moves = workers.get(0).getSearchGame().createMoveBuffer();
+        }
+        if (!workers.get(0).getSearchGame().accepts(context)) {
+            return false;
+        }
+        try {
+            for (final ExpectimaxSearch worker : workers) {
+                worker.prepare(context, (AbstractAIPlayer) player);
+            }
+        } catch (final IllegalStateException e) {
+            // The game is not built on compact piles: no snapshot can be taken.
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Searches the current position and returns the move with the best total value.
+     * The workers must have been prepared by {@link #isSearchable}.
+     *
+     * @param context       the game.
+     * @param player        the player about to decide.
+     * @param deadlineNanos the {@link System#nanoTime()} by which to decide.
+     * @return the chosen move, encoded as in {@link SearchGame}.
+     */
+    private int bestMove(final GameContext context, final AbstractPlayer player, final long deadlineNanos) {
+        final int count = workers.get(0).getSearchGame().legalMoves(context, moves);
+        if (count <= 1) {
+            return count == 0 ? SearchGame.PASS : moves[0];
+        }
+
+        final int seat = context.getPlayers().indexOf(player);
+        final long deadline = budget.timeMillis() == 0 ? deadlineNanos
+                : Math.min(deadlineNanos, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budget.timeMillis()));
+        final int deals = (budget.iterations() + workers.size() - 1) / workers.size();
+        final List<double[]> values = new ArrayList<>();
+        for (int i = 0; i < workers.size(); i++) {
+            values.add(new double[count]);
+        }
+
+        final int dealt = workers.size() == 1
+                ? search(workers.get(0), seat, count, deals, deadline, values.get(0))
+                : searchInParallel(seat, count, deals, deadline, values);
+
+        final int preferred = SearchGame.indexOf(moves, count,
+                workers.get(0).getSearchGame().heuristicMove(context, (AbstractAIPlayer) player));
+        int best = moves[preferred];
+        double bestValue = total(values, preferred) + DEVIATION_MARGIN * dealt;
+        for (int i = 0; i < count; i++) {
+            final double total = total(values, i);
+            if (total > bestValue) {
+                bestValue = total;
+                best = moves[i];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Sums the values of a root move found by all the workers.
+     *
+     * @param values the totals of the root moves, one array per worker.
+     * @param index  the index of the move.
+     * @return the total value of the move.
+     */
+    private static double total(final List<double[]> values, final int index) {
+        double total = 0;
+        for (final double[] workerValues : values) {
+            total += workerValues[index];
+        }
+        return total;
+    }
+
+    /**
+     * Runs the deals of one worker.
+     *
+     * @param worker   the worker.
+     * @param seat     the index of the searching player.
+     * @param count    the number of root moves.
+     * @param deals    the maximum number of deals, zero for no limit.
+     * @param deadline the {@link System#nanoTime()} at which the search stops.
+     * @param values   the totals of the root moves.
+     * @return the number of deals searched.
+     */
+    private int search(final ExpectimaxSearch worker, final int seat, final int count, final int deals,
+            final long deadline, final double[] values) {
+        int done = 0;
+        while ((deals == 0 || done < deals) && System.nanoTime() < deadline
+                && !Thread.currentThread().isInterrupted()) {
+            worker.evaluate(seat, depth, moves, count, values);
+            done++;
+        }
+        return done;
+    }
+
+    /**
+     * Runs every worker on its own thread and waits for all of them.
+     *
+     * @param seat     the index of the searching player.
+     * @param count    the number of root moves.
+     * @param deals    the deals of each worker.
+     * @param deadline the {@link System#nanoTime()} at which the search stops.
+     * @param values   the totals of the root moves, one array per worker.
+     * @return the number of deals searched by all the workers.
+     */
+    private int searchInParallel(final int seat, final int count, final int deals, final long deadline,
+            final List<double[]> values) {
+        final List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < workers.size(); i++) {
+            final ExpectimaxSearch worker = workers.get(i);
+            final double[] workerValues = values.get(i);
+            tasks.add(() -> search(worker, seat, count, deals, deadline, workerValues));
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(workers.size());
+        try {
+            int dealt = 0;
+            for (final Future<Integer> result : pool.invokeAll(tasks)) {
+                dealt += result.get();
+            }
+            return dealt;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Search interrupted", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("Search failed", e.getCause());
+        } finally {
+            // Interrupts the workers still running if the caller was interrupted.
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package uno.model.players.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.attributes.CardValue;
+import uno.model.cards.behaviors.api.CardSideBehavior;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.types.api.Card;
+import uno.model.players.api.Hand;
+
+/**
+ * Implementation of {@link Hand} used by {@link AbstractPlayer}.
+ * Cards that belong to a catalog are also tracked in a bitmask indexed by their
+ * id, so membership is a single bit test; other cards fall back to a scan.
+ * Adding or removing a card updates the color and value counters of both sides
+ * in constant time. Removing it from the ordered list stays linear, a search
+ * and a shift of the following cards (see {@link #remove(Card)}).
+ * A physical card can be in the hand only once.
+ */
+public final class HandImpl implements Hand {
+
+    private static final int SIDES = 2;
+    private static final int BITS_PER_WORD = Long.SIZE;
+    private static final int DARK = 1;
+    private static final int LIGHT = 0;
+    private static final int INITIAL_WORDS = 2;
+
+    private final List<Card> cards = new ArrayList<>();
+    private final int[][] colorCounts = new int[SIDES][CardColor.values().length];
+    private final int[][] valueCounts = new int[SIDES][CardValue.values().length];
+    private long[] ids = new long[INITIAL_WORDS];
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return cards.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return cards.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Card get(final int index) {
+        return cards.get(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(final Card card) {
+        if (card == null) {
+            return false;
+        }
+        final int id = card.getId();
+        return id == Card.NO_ID ? cards.contains(card) : hasId(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int countColor(final CardColor color, final boolean darkSide) {
+        return colorCounts[side(darkSide)][color.ordinal()];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int countValue(final CardValue value, final boolean darkSide) {
+        return valueCounts[side(darkSide)][value.ordinal()];
+    }
+
+    /**
+     * Adds a card at the end of the hand.
+     * 
+     * @param card the card to add.
+     * @throws IllegalStateException if the same physical card is already in the hand.
+     */
+    public void add(final Card card) {
+        final int id = card.getId();
+        if (id != Card.NO_ID) {
+            if (hasId(id)) {
+                throw new IllegalStateException("Card already in hand: " + card);
+            }
+            final int word = id / BITS_PER_WORD;
+            if (word >= ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(word + 1, ids.length * 2));
+            }
+            ids[word] |= 1L << id;
+        }
+        cards.add(card);
+        count(card, 1);
+    }
+
+    /**
+     * Removes a card from the hand, keeping the order of the other cards.
+     * This is linear in the size of the hand. Moving the last card into the
+     * hole would make it constant, but the order is part of the behavior:
+     * the view lays the cards out in it, the AI players break ties by it, and
+     * snapshots and simulations replay it. Hands hold a few cards, so the
+     * shift costs less than keeping an index of the positions up to date.
+     * 
+     * @param card the card to remove.
+     * @return true if the card was in the hand.
+     */
+    public boolean remove(final Card card) {
+        if (!contains(card) || !cards.remove(card)) {
+            return false;
+        }
+        final int id = card.getId();
+        if (id != Card.NO_ID) {
+            ids[id / BITS_PER_WORD] &= ~(1L << id);
+        }
+        count(card, -1);
+        return true;
+    }
+
+    /**
+     * Removes every card from the hand.
+     */
+    public void clear() {
+        cards.clear();
+        Arrays.fill(ids, 0L);
+        for (int s = 0; s < SIDES; s++) {
+            Arrays.fill(colorCounts[s], 0);
+            Arrays.fill(valueCounts[s], 0);
+        }
+    }
+
+    /**
+     * Copies the ids of the cards, in hand order.
+     * 
+     * @param target the array to fill; it must be at least as long as the hand.
+     * @return the number of ids copied.
+     * @throws IllegalStateException if a card does not belong to a catalog.
+     */
+    public int copyIdsTo(final int[] target) {
+        for (int i = 0; i < cards.size(); i++) {
+            final int id = cards.get(i).getId();
+            if (id == Card.NO_ID) {
+                throw new IllegalStateException("Card without id in hand: " + cards.get(i));
+            }
+            target[i] = id;
+        }
+        return cards.size();
+    }
+
+    /**
+     * Replaces the content of the hand with catalog cards.
+     * 
+     * @param catalog the catalog the ids refer to.
+     * @param source  the ids, in hand order.
+     * @param count   how many ids, from the start of the array, are cards.
+     */
+    public void restoreIds(final CardCatalog catalog, final int[] source, final int count) {
+        clear();
+        for (int i = 0; i < count; i++) {
+            add(catalog.getCard(source[i]));
+        }
+    }
+
+    /**
+     * Checks the bitmask for a catalog id.
+     * 
+     * @param id the id of the card.
+     * @return true if the card with that id is in the hand.
+     */
+    private boolean hasId(final int id) {
+        final int word = id / BITS_PER_WORD;
+        return word < ids.length && (ids[word] & (1L << id)) != 0;
+    }
+
+    /**
+     * Updates the counters of both sides of a card.
+     * 
+     * @param card  the card added or removed.
+     * @param delta +1 when the card is added, -1 when it is removed.
+     */
+    private void count(final Card card, final int delta) {
+        for (int s = 0; s < SIDES; s++) {
+            final CardSideBehavior face = card.getSide(s == DARK);
+            if (!face.isBack()) {
+                colorCounts[s][face.getColor().ordinal()] += delta;
+                valueCounts[s][face.getValue().ordinal()] += delta;
+            }
+        }
+    }
+
+    /**
+     * Maps a side to the index of its counters.
+     * 
+     * @param darkSide true for the dark side.
+     * @return the index of the side.
+     */
+    private static int side(final boolean darkSide) {
+        return darkSide ? DARK : LIGHT;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "Hand" + cards;
+    }
+}
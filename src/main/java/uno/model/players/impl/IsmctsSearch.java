@@ -0,0 +1,299 @@
+package uno.model.players.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameRules;
+import uno.model.game.api.GameSnapshot;
+import uno.model.game.api.GameState;
+import uno.model.utils.api.GameRandom;
+
+/**
+ * Single-observer Information Set Monte Carlo Tree Search for one worker thread.
+ * The search runs on a {@link SearchGame}: every iteration restores the real
+ * position, deals the cards hidden from the searching player at random (giving
+ * no opponent a color it is known not to hold), walks
+ * the tree with UCB1 (weighted by how often each move was available) and
+ * finishes the round with a playout of the heuristic AIs.
+ * Instances are not thread-safe: root parallelism uses one instance per thread.
+ */
+final class IsmctsSearch {
+
+    private static final double EXPLORATION = 0.7;
+    private static final int MAX_PLAYOUT_TURNS = 300;
+
+    private final SearchGame search;
+    private final GameContext game;
+    private final GameSnapshot snapshot;
+    private final GameRandom random;
+    private final int[] moves;
+    private final double[] rewards;
+    private final int[] voidColors;
+    private final List<Node> path = new ArrayList<>();
+    private Node root;
+
+    /**
+     * Creates a worker with its own copy of a game.
+     *
+     * @param mode    the mode of the searched game.
+     * @param rules   the rules of the searched game.
+     * @param players the number of players of the searched game.
+     * @param random  the random source of the deals and of the copy of the game.
+     */
+    IsmctsSearch(final GameMode mode, final GameRules rules, final int players, final GameRandom random) {
+        this.search = new SearchGame(mode, rules, players, random);
+        this.game = search.getGame();
+        this.snapshot = game.createSnapshot();
+        this.random = random;
+        this.moves = search.createMoveBuffer();
+        this.rewards = new double[players];
+        this.voidColors = new int[players];
+    }
+
+    /**
+     * Gets the copy of the game searched by this worker.
+     *
+     * @return the search game.
+     */
+    SearchGame getSearchGame() {
+        return search;
+    }
+
+    /**
+     * Copies the position of the real game, and what the searching player knows
+     * of the opponents' colors, into this worker and starts a new tree.
+     * Must be called on the thread that owns the real game.
+     *
+     * @param real   the game to search.
+     * @param player the searching player.
+     * @throws IllegalStateException if the game does not support snapshots.
+     */
+    void prepare(final GameContext real, final AbstractAIPlayer player) {
+        real.captureSnapshot(snapshot);
+        SearchGame.readVoidColors(real, player, voidColors);
+        root = new Node(SearchGame.PASS, -1);
+    }
+
+    /**
+     * Runs the search on the position given to {@link #prepare}.
+     *
+     * @param seat          the index of the searching player.
+     * @param iterations    the maximum number of iterations, zero for no limit.
+     * @param deadlineNanos the {@link System#nanoTime()} at which the search stops,
+     *                      or {@link Long#MAX_VALUE}.
+     * @return the number of iterations run, fewer if the thread is interrupted.
+     */
+    int search(final int seat, final int iterations, final long deadlineNanos) {
+        int done = 0;
+        while ((iterations == 0 || done < iterations) && System.nanoTime() < deadlineNanos
+                && !Thread.currentThread().isInterrupted()) {
+            iterate(seat);
+            done++;
+        }
+        return done;
+    }
+
+    /**
+     * Gets how many times each move of the searching player was visited at the root.
+     *
+     * @param target the visits by move, to which the visits of this worker are added.
+     */
+    void addRootVisits(final Map<Integer, Integer> target) {
+        for (final Node child : root.children) {
+            target.merge(child.move, child.visits, Integer::sum);
+        }
+    }
+
+    /**
+     * Runs one iteration: determinization, selection, expansion, playout and backpropagation.
+     * An iteration that hits an illegal action in the copy of the game is dropped.
+     *
+     * @param seat the index of the searching player.
+     */
+    private void iterate(final int seat) {
+        snapshot.shuffleHiddenCards(seat, voidColors, random);
+        game.restoreSnapshot(snapshot);
+        path.clear();
+
+        try {
+            Node node = root;
+            boolean expanded = false;
+            while (!expanded && !search.isOver()) {
+                final int count = search.legalMoves(game, moves);
+                if (count == 0) {
+                    break;
+                }
+                final int player = search.getCurrentSeat();
+                Node child = node.expand(moves, count, player, random);
+                expanded = child != null;
+                if (!expanded) {
+                    child = node.select(moves, count);
+                }
+                search.apply(child.move);
+                path.add(child);
+                node = child;
+            }
+            playout();
+        } catch (final IllegalStateException e) {
+            return;
+        }
+
+        for (final Node node : path) {
+            node.visits++;
+            node.reward += rewards[node.player];
+        }
+    }
+
+    /**
+     * Plays the rest of the round with the heuristic AIs, then scores it.
+     * Pending color and target choices are made at random.
+     */
+    private void playout() {
+        for (int turns = 0; turns < MAX_PLAYOUT_TURNS && !search.isOver(); turns++) {
+            if (game.getGameState() == GameState.RUNNING) {
+                ((AbstractAIPlayer) game.getCurrentPlayer()).takeTurn(game);
+            } else {
+                final int count = search.legalMoves(game, moves);
+                if (count == 0) {
+                    break;
+                }
+                search.apply(moves[random.nextInt(count)]);
+            }
+        }
+        score();
+    }
+
+    /**
+     * Fills the rewards of the players: 1 to the winner of the round, or shared
+     * by the players with the fewest cards when the playout was cut short.
+     */
+    private void score() {
+        final List<AbstractPlayer> players = game.getPlayers();
+        Arrays.fill(rewards, 0);
+        if (game.getWinner() != null) {
+            rewards[players.indexOf(game.getWinner())] = 1;
+            return;
+        }
+        int fewest = Integer.MAX_VALUE;
+        int leaders = 0;
+        for (final AbstractPlayer player : players) {
+            if (player.getHandSize() < fewest) {
+                fewest = player.getHandSize();
+                leaders = 0;
+            }
+            if (player.getHandSize() == fewest) {
+                leaders++;
+            }
+        }
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).getHandSize() == fewest) {
+                rewards[i] = 1.0 / leaders;
+            }
+        }
+    }
+
+    /**
+     * A move in the tree, with the statistics of the player who made it.
+     */
+    private static final class Node {
+
+        private final int move;
+        private final int player;
+        private final List<Node> children = new ArrayList<>();
+        private int visits;
+        private int availability;
+        private double reward;
+
+        /**
+         * Constructor for Node.
+         *
+         * @param move   the move leading to this node.
+         * @param player the index of the player who made the move.
+         */
+        Node(final int move, final int player) {
+            this.move = move;
+            this.player = player;
+        }
+
+        /**
+         * Marks the legal children as available and adds a child for one of the
+         * legal moves not tried yet, chosen at random.
+         *
+         * @param legal  the legal moves in the current determinization.
+         * @param count  the number of legal moves.
+         * @param mover  the index of the player to move.
+         * @param random the random source.
+         * @return the new child, or null if every legal move has a child.
+         */
+        Node expand(final int[] legal, final int count, final int mover, final GameRandom random) {
+            int untried = 0;
+            for (int i = 0; i < count; i++) {
+                final Node child = find(legal[i]);
+                if (child == null) {
+                    untried++;
+                } else {
+                    child.availability++;
+                }
+            }
+            if (untried == 0) {
+                return null;
+            }
+
+            int pick = random.nextInt(untried);
+            for (int i = 0; i < count; i++) {
+                if (find(legal[i]) == null && pick-- == 0) {
+                    final Node child = new Node(legal[i], mover);
+                    child.availability = 1;
+                    children.add(child);
+                    return child;
+                }
+            }
+            throw new IllegalStateException("No untried move left");
+        }
+
+        /**
+         * Chooses the legal child with the best UCB1 score, using availability in
+         * place of the parent's visits. Unvisited children come first.
+         *
+         * @param legal the legal moves in the current determinization.
+         * @param count the number of legal moves.
+         * @return the selected child.
+         */
+        Node select(final int[] legal, final int count) {
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                final Node child = find(legal[i]);
+                if (child.visits == 0) {
+                    return child;
+                }
+                final double score = child.reward / child.visits
+                        + EXPLORATION * Math.sqrt(Math.log(child.availability) / child.visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Finds the child of a move.
+         *
+         * @param childMove the move.
+         * @return the child, or null if the move was never tried.
+         */
+        private Node find(final int childMove) {
+            for (final Node child : children) {
+                if (child.move == childMove) {
+                    return child;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package uno.model.players.impl;
+
+import java.util.Optional;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.Game;
+import uno.model.game.api.MoveCodec;
+import uno.model.players.api.Hand;
+
+/**
+ * Lists the legal moves of a player into an int buffer owned by the caller,
+ * so that the AI players can decide without building lists of cards.
+ * Moves are encoded as by {@link MoveCodec}, except that a card to play is
+ * given by its position in the hand rather than its catalog id.
+ * A card is playable if the discard pile is empty or it can be played on the
+ * top card, as for {@link AbstractAIPlayer#isMoveValid}.
+ */
+public final class MoveGenerator {
+
+    /**
+     * Draw a card.
+     */
+    public static final int DRAW = MoveCodec.DRAW;
+
+    /**
+     * End the turn after drawing.
+     */
+    public static final int PASS = MoveCodec.PASS;
+
+    private static final CardColor[] LIGHT_COLORS = {
+        CardColor.RED, CardColor.YELLOW, CardColor.GREEN, CardColor.BLUE,
+    };
+    private static final CardColor[] DARK_COLORS = {
+        CardColor.PINK, CardColor.TEAL, CardColor.ORANGE, CardColor.PURPLE,
+    };
+
+    private MoveGenerator() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Lists the cards of a hand that can be played in a game, in hand order.
+     *
+     * @param game   the game.
+     * @param hand   the hand.
+     * @param buffer the array receiving the positions, at least as long as the hand.
+     * @return the number of playable cards.
+     * @throws IllegalArgumentException if the buffer is too short.
+     */
+    public static int playableCards(final Game game, final Hand hand, final int[] buffer) {
+        if (buffer.length < hand.size()) {
+            throw new IllegalArgumentException("Move buffer too short: " + buffer.length + " for "
+                    + hand.size() + " cards");
+        }
+        final Optional<Card> top = game.getTopDiscardCard();
+        int count = 0;
+        for (int i = 0; i < hand.size(); i++) {
+            if (top.isEmpty() || hand.get(i).canBePlayedOn(top.get(), game)) {
+                buffer[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Lists the legal moves of a player in the current state of a game. While
+     * the game runs, these are the playable cards, then a pass once drawn or a
+     * draw if no card can be played; otherwise the colors or the other seats
+     * the game waits for.
+     *
+     * @param game   the game.
+     * @param player the player to move.
+     * @param buffer the array receiving the moves (see {@link #bufferSize}).
+     * @return the number of moves, zero if the player cannot move.
+     * @throws IllegalArgumentException if the buffer is too short.
+     */
+    public static int legalMoves(final Game game, final AbstractPlayer player, final int[] buffer) {
+        if (buffer.length < bufferSize(game, player)) {
+            throw new IllegalArgumentException("Move buffer too short: " + buffer.length);
+        }
+        int count = 0;
+        switch (game.getGameState()) {
+            case RUNNING:
+                final boolean drawn = game.hasCurrentPlayerDrawn(player);
+                if (drawn && game.getRules().isSkipAfterDrawEnabled()) {
+                    buffer[count++] = PASS;
+                    break;
+                }
+                count = playableCards(game, player.getHandView(), buffer);
+                if (drawn) {
+                    buffer[count++] = PASS;
+                } else if (count == 0) {
+                    buffer[count++] = DRAW;
+                }
+                break;
+            case WAITING_FOR_COLOR:
+                for (final CardColor color : game.isDarkSide() ? DARK_COLORS : LIGHT_COLORS) {
+                    buffer[count++] = colorMove(color);
+                }
+                break;
+            case WAITING_FOR_PLAYER:
+                for (int i = 0; i < game.getPlayers().size(); i++) {
+                    if (game.getPlayers().get(i) != player) {
+                        buffer[count++] = targetMove(i);
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the length of a buffer large enough for the legal moves of a player.
+     *
+     * @param game   the game.
+     * @param player the player.
+     * @return the length.
+     */
+    public static int bufferSize(final Game game, final AbstractPlayer player) {
+        return Math.max(player.getHandSize() + 1, Math.max(LIGHT_COLORS.length, game.getPlayers().size()));
+    }
+
+    /**
+     * Checks if a move plays a card.
+     *
+     * @param move the move.
+     * @return true if the move is the position of a card in the hand.
+     */
+    public static boolean isCardMove(final int move) {
+        return MoveCodec.cardOf(move) >= 0;
+    }
+
+    /**
+     * Encodes a color choice.
+     *
+     * @param color the color.
+     * @return the move.
+     */
+    public static int colorMove(final CardColor color) {
+        return MoveCodec.color(color);
+    }
+
+    /**
+     * Encodes a target choice.
+     *
+     * @param seat the index of the target player.
+     * @return the move.
+     */
+    public static int targetMove(final int seat) {
+        return MoveCodec.target(seat);
+    }
+
+    /**
+     * Gets the color chosen by a move.
+     *
+     * @param move the move.
+     * @return the color, or empty if the move is not a color choice.
+     */
+    public static Optional<CardColor> colorOf(final int move) {
+        return MoveCodec.colorOf(move);
+    }
+
+    /**
+     * Gets the seat targeted by a move.
+     *
+     * @param move the move.
+     * @return the index of the target player, or -1 if the move is not a target choice.
+     */
+    public static int targetOf(final int move) {
+        final int seat = MoveCodec.seatOf(move);
+        return seat >= 0 && move == MoveCodec.target(seat) ? seat : -1;
+    }
+
+    /**
+     * Gets the colors a player can choose on a side of the cards, in the order of their ordinals.
+     *
+     * @param darkSide true for the dark side.
+     * @return a copy of the colors.
+     */
+    public static CardColor[] colorChoices(final boolean darkSide) {
+        return (darkSide ? DARK_COLORS : LIGHT_COLORS).clone();
+    }
+
+    /**
+     * Gets the number of colors a player can choose on either side of the cards.
+     *
+     * @return the number of colors.
+     */
+    public static int colorCount() {
+        return LIGHT_COLORS.length;
+    }
+
+    /**
+     * Gets one of the colors a player can choose, without copying the list.
+     *
+     * @param darkSide true for the dark side.
+     * @param index    the index of the color, in the order of their ordinals.
+     * @return the color.
+     */
+    public static CardColor colorChoice(final boolean darkSide, final int index) {
+        return (darkSide ? DARK_COLORS : LIGHT_COLORS)[index];
+    }
+}
@@ -0,0 +1,356 @@
+package uno.model.players.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameRules;
+import uno.model.game.api.GameState;
+import uno.model.game.api.MoveCodec;
+import uno.model.game.impl.GameFactoryImpl;
+import uno.model.players.api.Hand;
+import uno.model.utils.api.GameRandom;
+import uno.model.utils.impl.SilentGameLogger;
+
+/**
+ * A private copy of a game used by the search AIs, together with the moves they
+ * consider. The copy is a real game of the same mode and rules, played by the
+ * heuristic AIs of the mode and logging nothing; positions of the real game are
+ * copied into it with snapshots.
+ * Moves are ints encoded by {@link MoveCodec}, a card to play being given by
+ * its face id (see {@link CardCatalog#faceOf}) so that copies of a card are one
+ * move; drawing also passes when the rules skip the turn after a draw.
+ * Instances are not thread-safe.
+ */
+final class SearchGame {
+
+    /**
+     * Draw a card, the only move when nothing in hand can be played.
+     */
+    static final int DRAW = MoveCodec.DRAW;
+
+    /**
+     * End the turn after drawing.
+     */
+    static final int PASS = MoveCodec.PASS;
+
+    private final GameContext game;
+    private final CardCatalog catalog;
+    private final GameRules rules;
+
+    /**
+     * Creates a copy of a game, dealt at random.
+     *
+     * @param mode    the mode of the game.
+     * @param rules   the rules of the game.
+     * @param players the number of players.
+     * @param random  the random source of the copy.
+     */
+    SearchGame(final GameMode mode, final GameRules rules, final int players, final GameRandom random) {
+        final List<AbstractPlayer> playouts = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            playouts.add(createPlayoutPlayer(mode, "SEARCH-" + i));
+        }
+        this.game = (GameContext) new GameFactoryImpl(rules, new SilentGameLogger(), random)
+                .createGame(playouts.get(0).getName(), mode, playouts);
+        this.catalog = game.getDrawDeck().getCatalog().orElseThrow();
+        this.rules = rules;
+    }
+
+    /**
+     * Gets the copy of the game.
+     *
+     * @return the game.
+     */
+    GameContext getGame() {
+        return game;
+    }
+
+    /**
+     * Gets the catalog of the cards of the game.
+     *
+     * @return the catalog.
+     */
+    CardCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Checks if positions of a game can be copied into this one.
+     *
+     * @param real the game.
+     * @return true if the game has the same cards, rules and number of players.
+     */
+    boolean accepts(final GameContext real) {
+        return real.getRules() == rules && real.getPlayers().size() == game.getPlayers().size()
+                && real.getDrawDeck().getCatalog().filter(c -> c == catalog).isPresent();
+    }
+
+    /**
+     * Allocates an array large enough for the legal moves of any position.
+     *
+     * @return the move buffer.
+     */
+    int[] createMoveBuffer() {
+        return new int[catalog.size() + game.getPlayers().size() + MoveGenerator.colorCount() + 1];
+    }
+
+    /**
+     * Checks if the round of the copy is over.
+     *
+     * @return true if the round or the game is over.
+     */
+    boolean isOver() {
+        final GameState state = game.getGameState();
+        return state == GameState.ROUND_OVER || state == GameState.GAME_OVER;
+    }
+
+    /**
+     * Gets the index of the player who has to move in the copy.
+     *
+     * @return the index of the current player.
+     */
+    int getCurrentSeat() {
+        return game.getTurnManager().getCurrentPlayerIndex();
+    }
+
+    /**
+     * Lists the legal moves of the current player of a game with the same cards.
+     * Copies of a card are listed once.
+     *
+     * @param context the game, either the copy or the real one.
+     * @param buffer  the array receiving the moves.
+     * @return the number of moves, zero if the round is over.
+     */
+    int legalMoves(final GameContext context, final int[] buffer) {
+        final int current = context.getTurnManager().getCurrentPlayerIndex();
+        int count = 0;
+        switch (context.getGameState()) {
+            case RUNNING:
+                final AbstractPlayer player = context.getCurrentPlayer();
+                final boolean drawn = context.hasCurrentPlayerDrawn(player);
+                if (drawn && rules.isSkipAfterDrawEnabled()) {
+                    buffer[count++] = PASS;
+                    break;
+                }
+                final Hand hand = player.getHandView();
+                for (int i = 0; i < hand.size(); i++) {
+                    final Card card = hand.get(i);
+                    if (context.isValidMove(card)) {
+                        count = addDistinct(buffer, count, cardMove(card));
+                    }
+                }
+                if (drawn) {
+                    buffer[count++] = PASS;
+                } else if (count == 0) {
+                    buffer[count++] = DRAW;
+                }
+                break;
+            case WAITING_FOR_COLOR:
+                for (int i = 0; i < MoveGenerator.colorCount(); i++) {
+                    buffer[count++] = colorMove(MoveGenerator.colorChoice(context.isDarkSide(), i));
+                }
+                break;
+            case WAITING_FOR_PLAYER:
+                for (int i = 0; i < context.getPlayers().size(); i++) {
+                    if (i != current) {
+                        buffer[count++] = targetMove(i);
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the card of the current player matching a play move.
+     *
+     * @param context the game, either the copy or the real one.
+     * @param move    the move, a face id.
+     * @return the card, or empty if the move does not play a card the player holds.
+     */
+    Optional<Card> cardOf(final GameContext context, final int move) {
+        if (move < 0 || move >= catalog.size()) {
+            return Optional.empty();
+        }
+        final Hand hand = context.getCurrentPlayer().getHandView();
+        for (int i = 0; i < hand.size(); i++) {
+            if (catalog.faceOf(hand.get(i).getId()) == move && context.isValidMove(hand.get(i))) {
+                return Optional.of(hand.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the move the heuristics of an AI player would make in a game with the
+     * same cards. Drawing and passing are both given as {@link #DRAW}.
+     *
+     * @param context the game, either the copy or the real one.
+     * @param player  the player, who must be the current player of the game.
+     * @return the move.
+     */
+    int heuristicMove(final GameContext context, final AbstractAIPlayer player) {
+        switch (context.getGameState()) {
+            case WAITING_FOR_COLOR:
+                return colorMove(player.chooseBestColor(context));
+            case WAITING_FOR_PLAYER:
+                return player.chooseTargetPlayer(context)
+                        .map(target -> targetMove(context.getPlayers().indexOf(target)))
+                        .orElse(DRAW);
+            default:
+                return player.chooseCardToPlay(context).map(this::cardMove).orElse(DRAW);
+        }
+    }
+
+    /**
+     * Applies a move of the current player to the copy, with the same calls an
+     * AI player makes.
+     *
+     * @param move the move.
+     * @throws IllegalStateException if the move is not legal.
+     */
+    void apply(final int move) {
+        final boolean lastButOne = MoveCodec.cardOf(move) >= 0 && game.getCurrentPlayer().getHandSize() == 2;
+        game.apply(lastButOne ? MoveCodec.play(move, true) : move);
+        if (move == DRAW && rules.isSkipAfterDrawEnabled() && game.getGameState() == GameState.RUNNING) {
+            game.apply(PASS);
+        }
+    }
+
+    /**
+     * Encodes a move that plays a card.
+     *
+     * @param card the card.
+     * @return the move.
+     */
+    int cardMove(final Card card) {
+        return catalog.faceOf(card.getId());
+    }
+
+    /**
+     * Encodes a color choice.
+     *
+     * @param color the color.
+     * @return the move.
+     */
+    static int colorMove(final CardColor color) {
+        return MoveCodec.color(color);
+    }
+
+    /**
+     * Encodes a target choice.
+     *
+     * @param seat the index of the target player.
+     * @return the move.
+     */
+    static int targetMove(final int seat) {
+        return MoveCodec.target(seat);
+    }
+
+    /**
+     * Gets the color chosen by a move.
+     *
+     * @param move the move.
+     * @return the color, or empty if the move is not a color choice.
+     */
+    static Optional<CardColor> colorOf(final int move) {
+        return MoveGenerator.colorOf(move);
+    }
+
+    /**
+     * Gets the seat targeted by a move.
+     *
+     * @param move the move.
+     * @return the index of the target player, or -1 if the move is not a target choice.
+     */
+    static int targetOf(final int move) {
+        return MoveGenerator.targetOf(move);
+    }
+
+    /**
+     * Gets the colors a player can choose on a side of the cards.
+     *
+     * @param darkSide true for the dark side.
+     * @return a copy of the colors.
+     */
+    static CardColor[] colorChoices(final boolean darkSide) {
+        return MoveGenerator.colorChoices(darkSide);
+    }
+
+    /**
+     * Finds a move in a list of legal moves. Drawing and passing are both
+     * negative, so either one matches the other.
+     *
+     * @param legal the legal moves.
+     * @param count the number of legal moves.
+     * @param move  the move.
+     * @return the index of the move, 0 if it is not in the list.
+     */
+    static int indexOf(final int[] legal, final int count, final int move) {
+        for (int i = 0; i < count; i++) {
+            if (legal[i] == move || move < 0 && legal[i] < 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Reads the colors that a player knows the players of a game do not hold,
+     * so that the deals of the hidden cards agree with them.
+     *
+     * @param real   the game.
+     * @param player the searching player, who takes part in the game.
+     * @param target the masks of colors, one per player (see
+     *               {@link uno.model.players.api.CardTracker#getVoidColors}).
+     */
+    static void readVoidColors(final GameContext real, final AbstractAIPlayer player, final int[] target) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] = real.getPlayers().get(i) == player ? 0 : player.getCardTracker().getVoidColors(i);
+        }
+    }
+
+    /**
+     * Adds a move to a list unless it is already there.
+     *
+     * @param buffer the list.
+     * @param count  the size of the list.
+     * @param move   the move.
+     * @return the new size of the list.
+     */
+    private static int addDistinct(final int[] buffer, final int count, final int move) {
+        for (int i = 0; i < count; i++) {
+            if (buffer[i] == move) {
+                return count;
+            }
+        }
+        buffer[count] = move;
+        return count + 1;
+    }
+
+    /**
+     * Creates the heuristic AI that plays a seat of the copy.
+     *
+     * @param mode the game mode.
+     * @param name the name of the player.
+     * @return the player.
+     */
+    private static AbstractPlayer createPlayoutPlayer(final GameMode mode, final String name) {
+        switch (mode) {
+            case FLIP:
+                return new AIFlip(name);
+            case ALL_WILD:
+                return new AIAllWild(name);
+            default:
+                return new AIClassic(name);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package uno.model.players.impl;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size, lock-free transposition table for the expectimax search, shared
+ * by all the threads searching for a player.
+ * Every bucket has two entries: the first keeps the deepest search seen for its
+ * positions (replacement by depth), the second always takes the newest one.
+ * An entry is two plain longs, the packed data and the key xored with it: a
+ * reader that sees a half-written entry gets a key that does not match and treats
+ * it as a miss, so no lock or CAS is needed.
+ * The data packs the value as a float and the searched depth.
+ */
+final class TranspositionTable {
+
+    /**
+     * Result of a probe that found nothing.
+     */
+    static final long MISS = 0;
+
+    private static final int SLOTS = 2;
+    private static final int DEPTH_SHIFT = 32;
+    private static final long DEPTH_MASK = 0xFF;
+    private static final long VALUE_MASK = 0xFFFF_FFFFL;
+    private static final long PRESENT = 1L << 63;
+    private static final int MAX_DEPTH = (int) DEPTH_MASK;
+
+    private final long[] keys;
+    private final long[] data;
+    private final int bucketMask;
+
+    /**
+     * Creates an empty table.
+     *
+     * @param capacity the number of entries, rounded up to a power of two (at least 2).
+     */
+    TranspositionTable(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive, got " + capacity);
+        }
+        final int size = Integer.highestOneBit(Math.max(SLOTS, capacity - 1)) << 1;
+        this.keys = new long[size];
+        this.data = new long[size];
+        this.bucketMask = size / SLOTS - 1;
+    }
+
+    /**
+     * Looks a position up.
+     *
+     * @param key the hash of the position.
+     * @return the packed data of the entry, or {@link #MISS}.
+     */
+    long probe(final long key) {
+        final int first = bucket(key);
+        for (int i = first; i < first + SLOTS; i++) {
+            final long entry = data[i];
+            if (entry != MISS && (keys[i] ^ entry) == key) {
+                return entry;
+            }
+        }
+        return MISS;
+    }
+
+    /**
+     * Stores the result of a search. The depth-preferred entry is replaced when
+     * it holds the same position or a shallower search; otherwise the result
+     * goes to the always-replace entry.
+     *
+     * @param key   the hash of the position.
+     * @param depth the depth searched below the position.
+     * @param value the value of the position.
+     */
+    void store(final long key, final int depth, final double value) {
+        final long entry = PRESENT | (long) Math.min(depth, MAX_DEPTH) << DEPTH_SHIFT
+                | Float.floatToIntBits((float) value) & VALUE_MASK;
+        final int first = bucket(key);
+        final long current = data[first];
+        final boolean samePosition = (keys[first] ^ current) == key;
+        final int slot = current == MISS || samePosition || depth >= depthOf(current) ? first : first + 1;
+        keys[slot] = key ^ entry;
+        data[slot] = entry;
+    }
+
+    /**
+     * Empties the table.
+     */
+    void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(data, MISS);
+    }
+
+    /**
+     * Gets the number of entries of the table.
+     *
+     * @return the capacity.
+     */
+    int capacity() {
+        return data.length;
+    }
+
+    /**
+     * Unpacks the value of an entry.
+     *
+     * @param entry the packed data.
+     * @return the value.
+     */
+    static double valueOf(final long entry) {
+        return Float.intBitsToFloat((int) (entry & VALUE_MASK));
+    }
+
+    /**
+     * Unpacks the searched depth of an entry.
+     *
+     * @param entry the packed data.
+     * @return the depth.
+     */
+    static int depthOf(final long entry) {
+        return (int) (entry >>> DEPTH_SHIFT & DEPTH_MASK);
+    }
+
+    /**
+     * Gets the first entry of the bucket of a key.
+     *
+     * @param key the hash of a position.
+     * @return the index of the first entry.
+     */
+    private int bucket(final long key) {
+        return (int) (key ^ key >>> DEPTH_SHIFT) & bucketMask * SLOTS;
+    }
+}
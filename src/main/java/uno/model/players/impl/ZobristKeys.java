@@ -0,0 +1,95 @@
+package uno.model.players.impl;
+
+import java.util.SplittableRandom;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameState;
+import uno.model.players.api.Hand;
+
+/**
+ * Zobrist keys of the positions of a game: one random 64-bit key per feature
+ * (a card face in a seat's hand, the top card, the active color, the side, the
+ * direction, the current seat, the state, the drawn flag and the searching seat).
+ * Hands are multisets, so the keys of their cards are added rather than xored:
+ * two copies of a face do not cancel out. The keys are derived from a fixed seed,
+ * so the same position always has the same hash.
+ */
+final class ZobristKeys {
+
+    private static final long SEED = 42L;
+
+    private final CardCatalog catalog;
+    private final long[][] hands;
+    private final long[] topCards;
+    private final long[] colors;
+    private final long[] seats;
+    private final long[] searchers;
+    private final long[] states;
+    private final long darkSide;
+    private final long clockwise;
+    private final long drawn;
+
+    /**
+     * Creates the keys for the games with a catalog and a number of players.
+     *
+     * @param catalog the catalog of the cards.
+     * @param players the number of players.
+     */
+    ZobristKeys(final CardCatalog catalog, final int players) {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        this.catalog = catalog;
+        this.hands = new long[players][];
+        for (int i = 0; i < players; i++) {
+            hands[i] = random.longs(catalog.size()).toArray();
+        }
+        this.topCards = random.longs(catalog.size()).toArray();
+        this.colors = random.longs(CardColor.values().length).toArray();
+        this.seats = random.longs(players).toArray();
+        this.searchers = random.longs(players).toArray();
+        this.states = random.longs(GameState.values().length).toArray();
+        this.darkSide = random.nextLong();
+        this.clockwise = random.nextLong();
+        this.drawn = random.nextLong();
+    }
+
+    /**
+     * Hashes the position of a game as seen by a searching player.
+     *
+     * @param game     the game.
+     * @param searcher the index of the player the values are computed for.
+     * @return the hash of the position.
+     */
+    long hash(final GameContext game, final int searcher) {
+        long handsHash = 0;
+        for (int p = 0; p < hands.length; p++) {
+            final Hand hand = game.getPlayers().get(p).getHandView();
+            for (int i = 0; i < hand.size(); i++) {
+                handsHash += hands[p][catalog.faceOf(hand.get(i).getId())];
+            }
+        }
+
+        long hash = handsHash ^ searchers[searcher] ^ states[game.getGameState().ordinal()];
+        final int current = game.getTurnManager().getCurrentPlayerIndex();
+        hash ^= seats[current];
+        final Card top = game.getTopDiscardCard().orElse(null);
+        if (top != null && top.getId() != Card.NO_ID) {
+            hash ^= topCards[catalog.faceOf(top.getId())];
+        }
+        if (game.getCurrentColor().isPresent()) {
+            hash ^= colors[game.getCurrentColor().get().ordinal()];
+        }
+        if (game.isDarkSide()) {
+            hash ^= darkSide;
+        }
+        if (game.isClockwise()) {
+            hash ^= clockwise;
+        }
+        if (game.getTurnManager().hasDrawnThisTurn()) {
+            hash ^= drawn;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,71 @@
+package uno.model.utils.api;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Streaming reader of a game event log.
+ * Events are read one at a time with {@link #next()} and exposed through the
+ * accessors, which refer to the current event; strings are identified by ids
+ * that can be resolved with {@link #resolve(int)}, so iterating a log does not
+ * allocate objects per event.
+ */
+public interface EventLogReader extends Closeable {
+
+    /**
+     * Id returned by the accessors when the event has no value for a field.
+     */
+    int NO_ID = -1;
+
+    /**
+     * Advances to the next event.
+     * 
+     * @return true if an event was read, false at the end of the log.
+     * @throws IOException if the log cannot be read or is corrupted.
+     */
+    boolean next() throws IOException;
+
+    /**
+     * Gets the time of the current event.
+     * 
+     * @return The timestamp in epoch milliseconds.
+     */
+    long getTimestamp();
+
+    /**
+     * Gets the player of the current event.
+     * 
+     * @return The id of the player name, or {@link #NO_ID}.
+     */
+    int getPlayerId();
+
+    /**
+     * Gets the action of the current event.
+     * 
+     * @return The id of the action type, or {@link #NO_ID}.
+     */
+    int getActionId();
+
+    /**
+     * Gets the card of the current event.
+     * 
+     * @return The id of the card details, or {@link #NO_ID}.
+     */
+    int getCardId();
+
+    /**
+     * Gets the additional information of the current event.
+     * 
+     * @return The id of the extra information, or {@link #NO_ID}.
+     */
+    int getExtraId();
+
+    /**
+     * Resolves a string id read from the log. The returned strings are shared:
+     * resolving the same id twice returns the same instance.
+     * 
+     * @param id The id.
+     * @return The string, or null for {@link #NO_ID}.
+     */
+    String resolve(int id);
+}
@@ -0,0 +1,47 @@
+package uno.model.utils.api;
+
+/**
+ * Describes when a buffered logger pushes its pending events to disk:
+ * as soon as {@code maxBatchSize} events are pending, or when the oldest
+ * pending event has waited {@code maxDelayMillis} milliseconds, whichever
+ * comes first. Pending events are always written when the logger is closed.
+ *
+ * @param maxBatchSize   maximum number of events written between two flushes.
+ * @param maxDelayMillis maximum time an event may wait before being flushed.
+ */
+public record FlushPolicy(int maxBatchSize, long maxDelayMillis) {
+
+    private static final int DEFAULT_BATCH_SIZE = 256;
+    private static final long DEFAULT_DELAY_MILLIS = 200;
+
+    /**
+     * Validates the policy.
+     *
+     * @param maxBatchSize   maximum number of events written between two flushes.
+     * @param maxDelayMillis maximum time an event may wait before being flushed.
+     */
+    public FlushPolicy {
+        if (maxBatchSize < 1 || maxDelayMillis < 0) {
+            throw new IllegalArgumentException("Invalid flush policy: batch " + maxBatchSize
+                    + ", delay " + maxDelayMillis + "ms");
+        }
+    }
+
+    /**
+     * Policy that flushes after every event, trading throughput for durability.
+     *
+     * @return the policy.
+     */
+    public static FlushPolicy everyEvent() {
+        return new FlushPolicy(1, 0);
+    }
+
+    /**
+     * Default policy: batches of up to 256 events, flushed at least every 200 ms.
+     *
+     * @return the policy.
+     */
+    public static FlushPolicy batched() {
+        return new FlushPolicy(DEFAULT_BATCH_SIZE, DEFAULT_DELAY_MILLIS);
+    }
+}
@@ -23,4 +23,20 @@ public interface GameLogger {
      * @param e exception
      */
     void logError(String context, Exception e);
+
+    /**
+     * Makes sure that every event logged so far has been written.
+     * Loggers that write synchronously have nothing to do.
+     */
+    default void flush() {
+        // Nothing is buffered by default.
+    }
+
+    /**
+     * Writes the pending events and releases the resources of the logger.
+     * Called when the game is over; closing twice has no effect.
+     */
+    default void close() {
+        // Nothing to release by default.
+    }
 }
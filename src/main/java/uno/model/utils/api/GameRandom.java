@@ -0,0 +1,35 @@
+package uno.model.utils.api;
+
+import java.util.List;
+
+/**
+ * Interface for the source of randomness of a single game.
+ * Every random decision of a match (deck shuffles, first player, random colors
+ * after a flip or a new round) goes through the same instance, so a match
+ * created from a given seed is reproducible.
+ * Implementations are not required to be thread-safe: each game owns its own instance.
+ */
+public interface GameRandom {
+
+    /**
+     * Returns a pseudo-random integer between 0 (inclusive) and bound (exclusive).
+     * 
+     * @param bound The upper bound, must be positive.
+     * @return The random integer.
+     */
+    int nextInt(int bound);
+
+    /**
+     * Randomly permutes the elements of a list in place.
+     * 
+     * @param list The list to shuffle.
+     */
+    void shuffle(List<?> list);
+
+    /**
+     * Creates a new independent random source, deterministically derived from this one.
+     * 
+     * @return The new random source.
+     */
+    GameRandom split();
+}
@@ -0,0 +1,394 @@
+package uno.model.utils.impl;
+
+import uno.model.utils.api.FlushPolicy;
+import uno.model.utils.api.GameLogger;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+import static java.util.logging.Level.SEVERE;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Implementation of GameLogger that moves all the file work off the calling thread.
+ * Producers (the EDT, AI timers, simulations) only copy the event into a bounded
+ * lock-free ring buffer; a single writer thread formats the events, keeps the log
+ * file open and flushes it according to a {@link FlushPolicy}.
+ * The file has the same name and format as the one written by {@link GameLoggerImpl}.
+ * When the buffer is full, producers wait for the writer instead of dropping events.
+ * Events logged after {@link #close()}, or once the writer has stopped on an I/O
+ * error, are discarded.
+ */
+public final class AsyncGameLoggerImpl implements GameLogger {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FLUSH_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final int SPINS_BEFORE_PARK = 100;
+    private static final long MILLIS_PER_SECOND = 1000;
+    private static final String UNO = "UNO";
+
+    private final String filePath;
+    private final FlushPolicy policy;
+    private final DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private final Slot[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong flushed = new AtomicLong();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Set<Thread> waitingProducers = ConcurrentHashMap.newKeySet();
+
+    private final Thread writerThread;
+    private final Thread shutdownHook;
+    private volatile boolean writerSleeping;
+    private volatile boolean flushRequested;
+    private volatile boolean writerStopped;
+
+    // Owned by the writer thread
+    private long head;
+    private long lastSecond = -1;
+    private String lastTimestamp = "";
+
+    /**
+     * Creates an asynchronous logger with the default capacity and flush policy.
+     *
+     * @param matchId A unique identifier for the current match (used in the filename).
+     */
+    public AsyncGameLoggerImpl(final String matchId) {
+        this(matchId, DEFAULT_CAPACITY, FlushPolicy.batched());
+    }
+
+    /**
+     * Creates an asynchronous logger.
+     *
+     * @param matchId  A unique identifier for the current match (used in the filename).
+     * @param capacity The number of events the buffer can hold, rounded up to a power of two.
+     * @param policy   When the writer flushes the file.
+     */
+    @SuppressFBWarnings("SC_START_IN_CTOR")
+    public AsyncGameLoggerImpl(final String matchId, final int capacity, final FlushPolicy policy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive, got " + capacity);
+        }
+        final int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+
+        this.filePath = LogFiles.prepareLogFile(matchId);
+        this.policy = policy;
+        this.slots = new Slot[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+            sequences.set(i, i);
+        }
+
+        this.writerThread = new Thread(this::runWriter, "uno-log-writer-" + matchId);
+        this.writerThread.setDaemon(true);
+        this.shutdownHook = new Thread(this::close, "uno-log-drain-" + matchId);
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+        this.writerThread.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void logAction(final String playerName, final String actionType, final String cardDetails,
+            final String extraInfo) {
+        final long timestamp = System.currentTimeMillis();
+        int spins = 0;
+
+        while (!closed.get() && !writerStopped) {
+            final long sequence = tail.get();
+            final int index = (int) (sequence & mask);
+            final long available = sequences.get(index);
+
+            if (available == sequence) {
+                if (tail.compareAndSet(sequence, sequence + 1)) {
+                    slots[index].set(timestamp, playerName, actionType, cardDetails, extraInfo);
+                    sequences.set(index, sequence + 1);
+                    if (writerSleeping) {
+                        LockSupport.unpark(writerThread);
+                    }
+                    return;
+                }
+            } else if (available < sequence) {
+                // Buffer full: wait for the writer to free a slot.
+                LockSupport.unpark(writerThread);
+                if (++spins < SPINS_BEFORE_PARK) {
+                    Thread.onSpinWait();
+                } else {
+                    waitForSlot();
+                }
+            }
+        }
+    }
+
+    /**
+     * Parks a producer while the buffer is full. The producer is registered
+     * before re-checking the writer, so a writer stopping in between always
+     * sees it and unparks it.
+     */
+    private void waitForSlot() {
+        final Thread producer = Thread.currentThread();
+        waitingProducers.add(producer);
+        if (!writerStopped) {
+            LockSupport.parkNanos(FLUSH_WAIT_NANOS);
+        }
+        waitingProducers.remove(producer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void logError(final String context, final Exception e) {
+        this.logAction("SYSTEM_ERROR", context, e.getClass().getSimpleName(), e.getMessage());
+
+        Logger.getLogger(UNO)
+                .log(SEVERE, context, e);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Blocks until the writer has written and flushed every event logged before the call.
+     */
+    @Override
+    public void flush() {
+        final long target = tail.get();
+        while (flushed.get() < target && writerThread.isAlive()) {
+            flushRequested = true;
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(FLUSH_WAIT_NANOS);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Blocks until the pending events are written and the file is closed.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (final IllegalStateException e) {
+                // The JVM is already shutting down: the hook is running or has run.
+                Logger.getLogger(UNO).fine("Shutdown in progress, log hook not removed");
+            }
+        }
+    }
+
+    /**
+     * Body of the writer thread: drains the buffer until the logger is closed
+     * and the buffer is empty, then closes the file.
+     * If the file cannot be written, the writer stops and wakes the producers
+     * waiting for a slot, which then discard their events.
+     */
+    private void runWriter() {
+        Writer writer = null;
+        int pending = 0;
+        long firstPendingAt = 0;
+
+        try {
+            while (true) {
+                final Slot slot = nextEvent();
+                if (slot != null) {
+                    if (writer == null) {
+                        writer = new BufferedWriter(new FileWriter(filePath, StandardCharsets.UTF_8, true));
+                    }
+                    writeEvent(writer, slot);
+                    release();
+                    if (pending++ == 0) {
+                        firstPendingAt = System.nanoTime();
+                    }
+                    if (pending >= policy.maxBatchSize()) {
+                        pending = flushWriter(writer);
+                    }
+                    continue;
+                }
+
+                final long waited = System.nanoTime() - firstPendingAt;
+                final long maxDelay = TimeUnit.MILLISECONDS.toNanos(policy.maxDelayMillis());
+                if (pending > 0 && (waited >= maxDelay || flushRequested || closed.get())) {
+                    pending = flushWriter(writer);
+                }
+                if (pending == 0) {
+                    flushRequested = false;
+                    flushed.set(head);
+                }
+
+                if (closed.get()) {
+                    break;
+                }
+                sleep(pending > 0 ? maxDelay - waited : IDLE_PARK_NANOS);
+            }
+        } catch (final IOException e) {
+            Logger.getGlobal().log(SEVERE, "Impossible to write to log file: " + filePath, e);
+        } finally {
+            writerStopped = true;
+            waitingProducers.forEach(LockSupport::unpark);
+            closeWriter(writer);
+            flushed.set(Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Returns the next published event, if any, without consuming it.
+     *
+     * @return the slot of the next event, or null if the buffer is empty.
+     */
+    private Slot nextEvent() {
+        final int index = (int) (head & mask);
+        return sequences.get(index) == head + 1 ? slots[index] : null;
+    }
+
+    /**
+     * Frees the slot of the event just written for the producers.
+     */
+    private void release() {
+        final int index = (int) (head & mask);
+        slots[index].clear();
+        sequences.set(index, head + slots.length);
+        head++;
+    }
+
+    /**
+     * Parks the writer until a producer publishes an event or the timeout expires.
+     * The flag is set before re-checking the buffer, so a producer publishing in
+     * between always sees it and unparks the writer.
+     *
+     * @param nanos the maximum time to sleep.
+     */
+    private void sleep(final long nanos) {
+        writerSleeping = true;
+        if (nextEvent() == null && !closed.get() && !flushRequested) {
+            LockSupport.parkNanos(nanos);
+        }
+        writerSleeping = false;
+    }
+
+    /**
+     * Formats an event with the same layout as {@link GameLoggerImpl}.
+     *
+     * @param writer the open log file.
+     * @param slot   the event.
+     * @throws IOException if the file cannot be written.
+     */
+    private void writeEvent(final Writer writer, final Slot slot) throws IOException {
+        final long second = slot.timestamp / MILLIS_PER_SECOND;
+        if (second != lastSecond) {
+            lastSecond = second;
+            lastTimestamp = dtf.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(slot.timestamp), zone));
+        }
+
+        writer.write(lastTimestamp);
+        writer.write(';');
+        writer.write(String.valueOf(slot.playerName));
+        writer.write(';');
+        writer.write(String.valueOf(slot.actionType));
+        writer.write(';');
+        writer.write(String.valueOf(slot.cardDetails));
+        writer.write(';');
+        writer.write(String.valueOf(slot.extraInfo));
+        writer.write(System.lineSeparator());
+    }
+
+    /**
+     * Flushes the file and publishes how many events reached it.
+     *
+     * @param writer the open log file.
+     * @return the new number of pending events, always zero.
+     * @throws IOException if the file cannot be flushed.
+     */
+    private int flushWriter(final Writer writer) throws IOException {
+        writer.flush();
+        flushed.set(head);
+        return 0;
+    }
+
+    /**
+     * Closes the log file, if it was ever opened.
+     *
+     * @param writer the log file, or null.
+     */
+    private void closeWriter(final Writer writer) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (final IOException e) {
+            Logger.getGlobal().log(SEVERE, "Impossible to close log file: " + filePath, e);
+        }
+    }
+
+    /**
+     * A preallocated entry of the ring buffer. Its fields are written by the producer
+     * that claimed it and read by the writer; the volatile sequence update that
+     * publishes the slot makes them visible.
+     */
+    private static final class Slot {
+
+        private long timestamp;
+        private String playerName;
+        private String actionType;
+        private String cardDetails;
+        private String extraInfo;
+
+        /**
+         * Fills the slot with an event.
+         *
+         * @param timestamp   the time of the event, in epoch milliseconds.
+         * @param playerName  the name of the player.
+         * @param actionType  the type of action.
+         * @param cardDetails the card involved.
+         * @param extraInfo   additional context.
+         */
+        void set(final long timestamp, final String playerName, final String actionType,
+                final String cardDetails, final String extraInfo) {
+            this.timestamp = timestamp;
+            this.playerName = playerName;
+            this.actionType = actionType;
+            this.cardDetails = cardDetails;
+            this.extraInfo = extraInfo;
+        }
+
+        /**
+         * Drops the references held by the slot.
+         */
+        void clear() {
+            set(0, null, null, null, null);
+        }
+    }
+}
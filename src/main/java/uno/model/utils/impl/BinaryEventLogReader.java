@@ -0,0 +1,214 @@
+package uno.model.utils.impl;
+
+import uno.model.utils.api.EventLogReader;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming reader of the binary event log written by {@link BinaryGameLoggerImpl}.
+ * The file is read sequentially through a {@link FileChannel} into a reused buffer;
+ * only string definitions allocate, once per distinct string.
+ */
+public final class BinaryEventLogReader implements EventLogReader {
+
+    private static final String CORRUPT_LOG = "Truncated/corrupt event log";
+
+    private final FileChannel channel;
+    private final List<String> strings = new ArrayList<>();
+    private ByteBuffer buffer = ByteBuffer.allocate(BinaryEventLogFormat.BUFFER_SIZE);
+    private boolean endOfFile;
+
+    private long timestamp;
+    private int playerId = NO_ID;
+    private int actionId = NO_ID;
+    private int cardId = NO_ID;
+    private int extraId = NO_ID;
+
+    /**
+     * Opens a binary event log and checks its header.
+     * 
+     * @param file The log file.
+     * @throws IOException if the file cannot be read or is not a binary event log.
+     */
+    public BinaryEventLogReader(final Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        buffer.flip();
+        try {
+            if (fill(BinaryEventLogFormat.HEADER_SIZE) < BinaryEventLogFormat.HEADER_SIZE
+                    || buffer.getInt() != BinaryEventLogFormat.MAGIC) {
+                throw new IOException("Not a binary event log: " + file);
+            }
+            final byte version = buffer.get();
+            if (version != BinaryEventLogFormat.VERSION) {
+                throw new IOException("Unsupported event log version " + version + ": " + file);
+            }
+        } catch (final IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean next() throws IOException {
+        try {
+            while (fill(BinaryEventLogFormat.MAX_EVENT_SIZE) > 0) {
+                final long head = BinaryEventLogFormat.getVarLong(buffer);
+                if (head == BinaryEventLogFormat.STRING_DEFINITION) {
+                    readString();
+                } else {
+                    timestamp += BinaryEventLogFormat.unZigZag(head - 1);
+                    playerId = readId();
+                    actionId = readId();
+                    cardId = readId();
+                    extraId = readId();
+                    return true;
+                }
+            }
+            return false;
+        } catch (final BufferUnderflowException e) {
+            throw new IOException("Truncated event log", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getActionId() {
+        return actionId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCardId() {
+        return cardId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getExtraId() {
+        return extraId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String resolve(final int id) {
+        return id == NO_ID ? null : strings.get(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Reads an id written as id plus one.
+     * 
+     * @return the id, or {@link #NO_ID}.
+     * @throws IOException if the id is negative or refers to an undefined string.
+     */
+    private int readId() throws IOException {
+        final long id = BinaryEventLogFormat.getVarLong(buffer) - 1;
+        if (id < NO_ID) {
+            throw new IOException(CORRUPT_LOG);
+        }
+        if (id >= strings.size()) {
+            throw new IOException("Undefined string id " + id);
+        }
+        return (int) id;
+    }
+
+    /**
+     * Reads a string definition and assigns it the next id.
+     * 
+     * @throws IOException if the file cannot be read, or the string is truncated
+     *                     or has a negative length.
+     */
+    private void readString() throws IOException {
+        fill(BinaryEventLogFormat.MAX_VARINT_SIZE);
+        final long declared = BinaryEventLogFormat.getVarLong(buffer);
+        if (declared < 0 || declared > Integer.MAX_VALUE) {
+            throw new IOException(CORRUPT_LOG);
+        }
+        final int length = (int) declared;
+        if (length > buffer.capacity()) {
+            final ByteBuffer larger = ByteBuffer.allocate(length);
+            larger.put(buffer);
+            larger.flip();
+            buffer = larger;
+        }
+        if (fill(length) < length) {
+            throw new IOException("Truncated string definition");
+        }
+
+        final String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            final byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        strings.add(value);
+    }
+
+    /**
+     * Reads from the file until at least the given number of bytes is buffered
+     * or the end of the file is reached.
+     * 
+     * @param bytes the number of bytes wanted.
+     * @return the number of bytes available in the buffer.
+     * @throws IOException if the file cannot be read.
+     */
+    private int fill(final int bytes) throws IOException {
+        if (buffer.remaining() >= bytes || endOfFile) {
+            return buffer.remaining();
+        }
+        buffer.compact();
+        while (buffer.position() < bytes && !endOfFile) {
+            if (channel.read(buffer) < 0) {
+                endOfFile = true;
+            }
+        }
+        buffer.flip();
+        return buffer.remaining();
+    }
+}
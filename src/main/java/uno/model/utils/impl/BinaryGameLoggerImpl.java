@@ -0,0 +1,228 @@
+package uno.model.utils.impl;
+
+import uno.model.utils.api.GameLogger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static java.util.logging.Level.SEVERE;
+
+/**
+ * Implementation of GameLogger that writes the compact binary event log
+ * described in {@link BinaryEventLogFormat}.
+ * Player names, action types, card details and extra information are interned:
+ * each distinct string is written once, and events only carry varint ids.
+ * Records are buffered and appended to the file through a {@link FileChannel}.
+ * Methods are synchronized, since a game may log from more than one thread.
+ */
+public class BinaryGameLoggerImpl implements GameLogger {
+
+    private static final String UNO = "UNO";
+
+    private final Path file;
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final ByteBuffer buffer = ByteBuffer.allocate(BinaryEventLogFormat.BUFFER_SIZE);
+    private FileChannel channel;
+    private long lastTimestamp;
+    private boolean closed;
+
+    /**
+     * Creates a binary logger writing to the "logs" directory, like {@link GameLoggerImpl}.
+     * 
+     * @param matchId A unique identifier for the current match (used in the filename).
+     */
+    public BinaryGameLoggerImpl(final String matchId) {
+        this(Path.of(LogFiles.prepareLogFile(matchId, ".bin")));
+    }
+
+    /**
+     * Creates a binary logger writing to a given file, which is replaced if it exists.
+     * 
+     * @param file The destination file.
+     */
+    public BinaryGameLoggerImpl(final Path file) {
+        this.file = file;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void logAction(final String playerName, final String actionType, final String cardDetails,
+            final String extraInfo) {
+        try {
+            append(System.currentTimeMillis(), playerName, actionType, cardDetails, extraInfo);
+        } catch (final IOException e) {
+            Logger.getGlobal().log(SEVERE, "Impossible to write to log file: " + file, e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void logError(final String context, final Exception e) {
+        this.logAction("SYSTEM_ERROR", context, e.getClass().getSimpleName(), e.getMessage());
+
+        Logger.getLogger(UNO)
+                .log(SEVERE, context, e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void flush() {
+        try {
+            if (channel != null) {
+                drainBuffer();
+            }
+        } catch (final IOException e) {
+            Logger.getGlobal().log(SEVERE, "Impossible to write to log file: " + file, e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (final IOException e) {
+                Logger.getGlobal().log(SEVERE, "Impossible to close log file: " + file, e);
+            }
+        }
+    }
+
+    /**
+     * Appends an event with an explicit timestamp; used by {@link EventLogConverter}.
+     * Events appended after {@link #close()} are ignored.
+     * 
+     * @param timestamp   the time of the event, in epoch milliseconds.
+     * @param playerName  the name of the player.
+     * @param actionType  the type of action.
+     * @param cardDetails the card involved.
+     * @param extraInfo   additional context.
+     * @throws IOException if the file cannot be written.
+     */
+    synchronized void append(final long timestamp, final String playerName, final String actionType,
+            final String cardDetails, final String extraInfo) throws IOException {
+        if (closed) {
+            return;
+        }
+        if (channel == null) {
+            open();
+        }
+
+        final int player = intern(playerName);
+        final int action = intern(actionType);
+        final int card = intern(cardDetails);
+        final int extra = intern(extraInfo);
+
+        ensureRemaining(BinaryEventLogFormat.MAX_EVENT_SIZE);
+        BinaryEventLogFormat.putVarLong(buffer, BinaryEventLogFormat.zigZag(timestamp - lastTimestamp) + 1);
+        BinaryEventLogFormat.putVarLong(buffer, player);
+        BinaryEventLogFormat.putVarLong(buffer, action);
+        BinaryEventLogFormat.putVarLong(buffer, card);
+        BinaryEventLogFormat.putVarLong(buffer, extra);
+        lastTimestamp = timestamp;
+    }
+
+    /**
+     * Creates the file and writes the header.
+     * 
+     * @throws IOException if the file cannot be created.
+     */
+    private void open() throws IOException {
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(BinaryEventLogFormat.MAGIC);
+        buffer.put(BinaryEventLogFormat.VERSION);
+    }
+
+    /**
+     * Gets the id of a string, writing its definition the first time it is seen.
+     * 
+     * @param value the string, possibly null.
+     * @return the id plus one, or 0 for null.
+     * @throws IOException if the file cannot be written.
+     */
+    private int intern(final String value) throws IOException {
+        if (value == null) {
+            return 0;
+        }
+        final Integer known = ids.get(value);
+        if (known != null) {
+            return known + 1;
+        }
+
+        final int id = ids.size();
+        ids.put(value, id);
+
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureRemaining(2 * BinaryEventLogFormat.MAX_VARINT_SIZE);
+        BinaryEventLogFormat.putVarLong(buffer, BinaryEventLogFormat.STRING_DEFINITION);
+        BinaryEventLogFormat.putVarLong(buffer, bytes.length);
+        if (bytes.length <= buffer.remaining()) {
+            buffer.put(bytes);
+        } else {
+            drainBuffer();
+            writeFully(ByteBuffer.wrap(bytes));
+        }
+        return id + 1;
+    }
+
+    /**
+     * Makes room in the buffer, writing it to the file if needed.
+     * 
+     * @param bytes the number of bytes needed.
+     * @throws IOException if the file cannot be written.
+     */
+    private void ensureRemaining(final int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            drainBuffer();
+        }
+    }
+
+    /**
+     * Writes the content of the buffer to the file and clears it.
+     * 
+     * @throws IOException if the file cannot be written.
+     */
+    private void drainBuffer() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * Writes a buffer to the channel, looping until it is fully written.
+     * 
+     * @param source the bytes to write.
+     * @throws IOException if the file cannot be written.
+     */
+    private void writeFully(final ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package uno.model.utils.impl;
+
+import uno.model.utils.api.EventLogReader;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Converts game logs between the text format written by {@link GameLoggerImpl}
+ * ({@code timestamp;player;action;card;extra}, one event per line) and the binary
+ * format written by {@link BinaryGameLoggerImpl}.
+ * Text timestamps have a resolution of one second, so converting a binary log to
+ * text and back truncates the milliseconds; every other field is preserved.
+ */
+public final class EventLogConverter {
+
+    private static final DateTimeFormatter DTF = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String SEPARATOR = ";";
+    private static final int FIELDS = 5;
+
+    private EventLogConverter() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Converts a text log into a binary log.
+     * 
+     * @param text   the text log to read.
+     * @param binary the binary log to write, replaced if it exists.
+     * @return the number of converted events.
+     * @throws IOException if a file cannot be accessed or a line is malformed.
+     */
+    public static long textToBinary(final Path text, final Path binary) throws IOException {
+        final ZoneId zone = ZoneId.systemDefault();
+        final BinaryGameLoggerImpl logger = new BinaryGameLoggerImpl(binary);
+        long events = 0;
+        long lineNumber = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(text, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                lineNumber++;
+                if (!line.isEmpty()) {
+                    final String[] fields = line.split(SEPARATOR, FIELDS);
+                    if (fields.length < FIELDS) {
+                        throw new IOException("Malformed log line " + lineNumber + ": " + line);
+                    }
+                    final long timestamp;
+                    try {
+                        timestamp = LocalDateTime.parse(fields[0], DTF).atZone(zone).toInstant().toEpochMilli();
+                    } catch (final DateTimeParseException e) {
+                        throw new IOException("Malformed timestamp at line " + lineNumber + ": " + line, e);
+                    }
+                    logger.append(timestamp, fields[1], fields[2], fields[3], fields[4]);
+                    events++;
+                }
+                line = reader.readLine();
+            }
+        } finally {
+            logger.close();
+        }
+        return events;
+    }
+
+    /**
+     * Converts a binary log into a text log.
+     * 
+     * @param binary the binary log to read.
+     * @param text   the text log to write, replaced if it exists.
+     * @return the number of converted events.
+     * @throws IOException if a file cannot be accessed or the binary log is corrupted.
+     */
+    public static long binaryToText(final Path binary, final Path text) throws IOException {
+        final ZoneId zone = ZoneId.systemDefault();
+        long events = 0;
+
+        try (EventLogReader reader = new BinaryEventLogReader(binary);
+                BufferedWriter writer = Files.newBufferedWriter(text, StandardCharsets.UTF_8)) {
+            while (reader.next()) {
+                writer.write(DTF.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(reader.getTimestamp()), zone)));
+                writer.write(SEPARATOR);
+                writer.write(String.valueOf(reader.resolve(reader.getPlayerId())));
+                writer.write(SEPARATOR);
+                writer.write(String.valueOf(reader.resolve(reader.getActionId())));
+                writer.write(SEPARATOR);
+                writer.write(String.valueOf(reader.resolve(reader.getCardId())));
+                writer.write(SEPARATOR);
+                writer.write(String.valueOf(reader.resolve(reader.getExtraId())));
+                writer.newLine();
+                events++;
+            }
+        }
+        return events;
+    }
+}
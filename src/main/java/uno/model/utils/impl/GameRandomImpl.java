@@ -0,0 +1,70 @@
+package uno.model.utils.impl;
+
+import uno.model.utils.api.GameRandom;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Implementation of GameRandom backed by a {@link SplittableRandom}.
+ * Unlike {@link java.util.Random}, it has no atomic seed, so many games can
+ * draw random numbers in parallel without contending on shared state.
+ */
+public class GameRandomImpl implements GameRandom {
+
+    private final SplittableRandom random;
+
+    /**
+     * Constructor for an unseeded GameRandomImpl.
+     */
+    public GameRandomImpl() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructor for a seeded GameRandomImpl: two instances built from the
+     * same seed produce the same sequence.
+     * 
+     * @param seed the initial seed.
+     */
+    public GameRandomImpl(final long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructor wrapping an existing generator.
+     * 
+     * @param random the generator to use.
+     */
+    private GameRandomImpl(final SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt(final int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shuffle(final List<?> list) {
+        // Fisher-Yates, as in Collections.shuffle, but driven by this generator.
+        for (int i = list.size() - 1; i > 0; i--) {
+            Collections.swap(list, i, random.nextInt(i + 1));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameRandom split() {
+        return new GameRandomImpl(random.split());
+    }
+}
@@ -0,0 +1,84 @@
+package uno.model.utils.impl;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+/**
+ * Helpers shared by the file-based loggers: location of the log files and
+ * rotation of the old ones.
+ */
+final class LogFiles {
+
+    private static final int MAX_LOG_FILES = 5;
+    private static final String UNO = "UNO";
+    private static final String TEXT_EXTENSION = ".txt";
+
+    private LogFiles() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Builds the path of the log file of a match, creating the log directory
+     * and deleting the oldest log files if needed.
+     * 
+     * @param matchId A unique identifier for the match (used in the filename).
+     * @return The path of the log file.
+     */
+    static String prepareLogFile(final String matchId) {
+        return prepareLogFile(matchId, TEXT_EXTENSION);
+    }
+
+    /**
+     * Builds the path of the log file of a match with a given extension, creating
+     * the log directory and deleting the oldest log files with the same extension.
+     * 
+     * @param matchId   A unique identifier for the match (used in the filename).
+     * @param extension The extension of the file, including the dot.
+     * @return The path of the log file.
+     */
+    static String prepareLogFile(final String matchId, final String extension) {
+        final String userDir = System.getProperty("user.dir");
+        final String filePath = userDir + File.separator + "logs" + File.separator + "log_match_" + matchId + extension;
+        final File logFile = new File(filePath);
+
+        Optional.ofNullable(logFile.getParentFile())
+                .filter(parent -> !parent.exists())
+                .ifPresent(parent -> {
+                    if (!parent.mkdirs()) {
+                        Logger.getLogger(UNO)
+                                .warning("Impossible to create log directory: " + parent.getPath());
+                    }
+                });
+
+        cleanOldLogs(logFile.getParentFile(), extension);
+        return filePath;
+    }
+
+    /**
+     * Deletes old log files if the number of log files exceeds the defined limit.
+     * 
+     * @param logDir    The directory where log files are stored.
+     * @param extension The extension of the log files to rotate.
+     */
+    private static void cleanOldLogs(final File logDir, final String extension) {
+        if (logDir == null || !logDir.exists() || !logDir.isDirectory()) {
+            return;
+        }
+
+        final File[] logFiles = logDir.listFiles((dir, name) -> name.startsWith("log_match_") && name.endsWith(extension));
+
+        if (logFiles != null && logFiles.length >= MAX_LOG_FILES) {
+            Arrays.sort(logFiles, Comparator.comparingLong(File::lastModified));
+
+            for (int i = 0; i < logFiles.length - MAX_LOG_FILES + 1; i++) {
+                if (!logFiles[i].delete()) {
+                    Logger.getLogger(UNO)
+                            .warning("Impossible to delete old log file: " + logFiles[i].getPath());
+                }
+            }
+        }
+    }
+}
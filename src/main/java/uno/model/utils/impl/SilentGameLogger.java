@@ -0,0 +1,28 @@
+package uno.model.utils.impl;
+
+import uno.model.utils.api.GameLogger;
+
+/**
+ * Implementation of GameLogger that discards every event.
+ * Used by headless simulations, where writing a log file for each of
+ * thousands of games would dominate the running time.
+ */
+public class SilentGameLogger implements GameLogger {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void logAction(final String playerName, final String actionType, final String cardDetails,
+            final String extraInfo) {
+        // Intentionally empty: simulated games are not audited.
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void logError(final String context, final Exception e) {
+        // Intentionally empty: simulated games are not audited.
+    }
+}
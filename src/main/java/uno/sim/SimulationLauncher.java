@@ -0,0 +1,80 @@
+package uno.sim;
+
+import uno.model.game.api.GameMode;
+import uno.model.game.impl.GameRulesImpl;
+import uno.model.players.impl.AIAllWild;
+import uno.model.players.impl.AIClassic;
+import uno.model.players.impl.AIFlip;
+import uno.model.players.impl.AbstractAIPlayer;
+import uno.sim.api.SimulationEngine;
+import uno.sim.api.SimulationReport;
+import uno.sim.api.Tournament;
+import uno.sim.impl.SimulationEngineImpl;
+import uno.sim.impl.TournamentImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+/**
+ * Command line entry point for headless AI-only simulations.
+ * Usage: {@code SimulationLauncher [STANDARD|FLIP|ALL_WILD] [games] [threads] [seed]}.
+ * The games are spread over {@code threads} workers, by default one per core;
+ * passing a seed makes the whole batch reproducible.
+ */
+public final class SimulationLauncher {
+
+    private static final Logger LOGGER = Logger.getLogger(SimulationLauncher.class.getName());
+    private static final int DEFAULT_GAMES = 1000;
+    private static final int AI_PLAYERS = 4;
+
+    private SimulationLauncher() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Runs a batch of simulated games and logs the resulting statistics.
+     * 
+     * @param args optional game mode, number of games, number of threads and seed.
+     */
+    public static void main(final String[] args) {
+        final GameMode mode = args.length > 0 ? GameMode.valueOf(args[0].toUpperCase(Locale.ROOT)) : GameMode.STANDARD;
+        final int games = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_GAMES;
+        final int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        final SimulationEngine engine = new SimulationEngineImpl(mode, GameRulesImpl.defaultRules(),
+                () -> createLineup(mode));
+        final Tournament tournament = new TournamentImpl(engine, threads);
+        final SimulationReport report = args.length > 3
+                ? tournament.run(games, Long.parseLong(args[3]))
+                : tournament.run(games);
+
+        LOGGER.info(() -> mode + " on " + threads + " threads: " + report);
+    }
+
+    /**
+     * Creates the default AI lineup for a game mode.
+     * 
+     * @param mode the game mode.
+     * @return a list of fresh AI players.
+     */
+    private static List<AbstractAIPlayer> createLineup(final GameMode mode) {
+        final List<AbstractAIPlayer> players = new ArrayList<>();
+        for (int i = 1; i <= AI_PLAYERS; i++) {
+            final String name = "AI-" + i;
+            switch (mode) {
+                case FLIP:
+                    players.add(new AIFlip(name));
+                    break;
+                case ALL_WILD:
+                    players.add(new AIAllWild(name));
+                    break;
+                default:
+                    players.add(new AIClassic(name));
+                    break;
+            }
+        }
+        return players;
+    }
+}
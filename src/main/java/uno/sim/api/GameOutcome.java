@@ -0,0 +1,14 @@
+package uno.sim.api;
+
+import java.util.Optional;
+
+/**
+ * A record holding the result of a single simulated game.
+ *
+ * @param winner the name of the winning player, or empty if the game ended without one
+ *               (e.g. deck exhausted under the mandatory pass rule, or turn cap reached)
+ * @param turns  the number of AI turns that were played
+ * @param rounds the number of rounds that were played
+ */
+public record GameOutcome(Optional<String> winner, int turns, int rounds) {
+}
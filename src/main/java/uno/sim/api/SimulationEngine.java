@@ -0,0 +1,42 @@
+package uno.sim.api;
+
+/**
+ * Interface for a headless engine that plays complete games between AI players,
+ * without any dependency on the Swing view or controller.
+ */
+public interface SimulationEngine {
+
+    /**
+     * Plays a single game from setup until it is over.
+     * 
+     * @return The outcome of the game.
+     */
+    GameOutcome playGame();
+
+    /**
+     * Plays a single reproducible game: the same seed and lineup always
+     * produce the same match.
+     * 
+     * @param seed The seed of the game's random source.
+     * @return The outcome of the game.
+     */
+    GameOutcome playGame(long seed);
+
+    /**
+     * Plays a batch of games one after the other.
+     * 
+     * @param games The number of games to play.
+     * @return The aggregated statistics of the batch.
+     */
+    SimulationReport run(int games);
+
+    /**
+     * Plays a batch of reproducible games one after the other, the i-th game
+     * being seeded with {@code firstSeed + i}.
+     * 
+     * @param games     The number of games to play.
+     * @param firstSeed The seed of the first game.
+     * @return The aggregated statistics of the batch.
+     */
+    SimulationReport run(int games, long firstSeed);
+}
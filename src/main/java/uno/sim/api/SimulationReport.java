@@ -0,0 +1,66 @@
+package uno.sim.api;
+
+import java.util.Map;
+
+/**
+ * Aggregated statistics of a batch of simulated games.
+ */
+public interface SimulationReport {
+
+    /**
+     * Gets the number of games played.
+     * 
+     * @return The number of games.
+     */
+    int getGames();
+
+    /**
+     * Gets the number of games that ended without a winner.
+     * 
+     * @return The number of unfinished games.
+     */
+    int getUnfinishedGames();
+
+    /**
+     * Gets the number of wins of every player that won at least one game.
+     * 
+     * @return An unmodifiable map from player name to number of wins.
+     */
+    Map<String, Integer> getWins();
+
+    /**
+     * Gets the fraction of games won by a player.
+     * 
+     * @param playerName The name of the player.
+     * @return The win rate, between 0 and 1.
+     */
+    double getWinRate(String playerName);
+
+    /**
+     * Gets the number of turns played across all games.
+     * 
+     * @return The total turn count.
+     */
+    long getTotalTurns();
+
+    /**
+     * Gets the average number of turns played per game.
+     * 
+     * @return The average turn count.
+     */
+    double getAverageTurns();
+
+    /**
+     * Gets the wall-clock time spent playing the games.
+     * 
+     * @return The elapsed time in nanoseconds.
+     */
+    long getElapsedNanos();
+
+    /**
+     * Gets the throughput of the simulation.
+     * 
+     * @return The number of games played per second of wall-clock time.
+     */
+    double getGamesPerSecond();
+}
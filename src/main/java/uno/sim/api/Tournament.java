@@ -0,0 +1,34 @@
+package uno.sim.api;
+
+/**
+ * Interface for a runner that spreads a large batch of simulated games
+ * across all the available cores.
+ */
+public interface Tournament {
+
+    /**
+     * Plays a batch of games in parallel and merges their statistics.
+     * 
+     * @param games The number of games to play.
+     * @return The aggregated statistics of all the games.
+     */
+    SimulationReport run(int games);
+
+    /**
+     * Plays a batch of reproducible games in parallel: the i-th game is seeded
+     * with {@code seed + i} whatever the number of workers, so the merged
+     * statistics only depend on the seed.
+     * 
+     * @param games The number of games to play.
+     * @param seed  The seed of the first game.
+     * @return The aggregated statistics of all the games.
+     */
+    SimulationReport run(int games, long seed);
+
+    /**
+     * Gets the number of worker threads used by the tournament.
+     * 
+     * @return The parallelism level.
+     */
+    int getParallelism();
+}
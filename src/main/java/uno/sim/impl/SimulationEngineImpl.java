@@ -0,0 +1,158 @@
+package uno.sim.impl;
+
+import uno.model.game.api.Game;
+import uno.model.game.api.GameFactory;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameRules;
+import uno.model.game.api.GameState;
+import uno.model.game.impl.GameFactoryImpl;
+import uno.model.players.impl.AbstractAIPlayer;
+import uno.model.players.impl.AbstractPlayer;
+import uno.model.utils.api.GameLogger;
+import uno.model.utils.api.GameRandom;
+import uno.model.utils.impl.GameRandomImpl;
+import uno.model.utils.impl.SilentGameLogger;
+import uno.sim.api.GameOutcome;
+import uno.sim.api.SimulationEngine;
+import uno.sim.api.SimulationReport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Concrete implementation of SimulationEngine.
+ * Each game is built through {@link GameFactoryImpl} and then driven by calling
+ * {@link AbstractAIPlayer#takeTurn} in a tight loop, with no timer and no view.
+ * Every game gets its own players, deck, turn manager and logger, so
+ * {@link #playGame()} can be called concurrently from several threads.
+ */
+public class SimulationEngineImpl implements SimulationEngine {
+
+    /**
+     * Safety cap on the number of turns of a single game, so that a game
+     * that can never end (e.g. every player keeps drawing) does not hang the batch.
+     */
+    private static final int MAX_TURNS = 10_000;
+    private static final String SIM_PLAYER_NAME = "SIM";
+
+    private final GameMode gameMode;
+    private final GameRules rules;
+    private final Supplier<List<AbstractAIPlayer>> lineup;
+    private final Supplier<GameLogger> loggers;
+
+    /**
+     * Constructor for SimulationEngineImpl.
+     * 
+     * @param gameMode the mode of every simulated game.
+     * @param rules    the rules of every simulated game.
+     * @param lineup   supplier of a fresh list of AI players for each game. Players
+     *                 must have distinct names, since AI equality is name-based.
+     */
+    public SimulationEngineImpl(final GameMode gameMode, final GameRules rules,
+            final Supplier<List<AbstractAIPlayer>> lineup) {
+        this(gameMode, rules, lineup, SilentGameLogger::new);
+    }
+
+    /**
+     * Constructor for SimulationEngineImpl with a custom logger for each game.
+     * 
+     * @param gameMode the mode of every simulated game.
+     * @param rules    the rules of every simulated game.
+     * @param lineup   supplier of a fresh list of AI players for each game.
+     * @param loggers  supplier of the logger of each game.
+     */
+    public SimulationEngineImpl(final GameMode gameMode, final GameRules rules,
+            final Supplier<List<AbstractAIPlayer>> lineup, final Supplier<GameLogger> loggers) {
+        this.gameMode = gameMode;
+        this.rules = rules;
+        this.lineup = lineup;
+        this.loggers = loggers;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameOutcome playGame() {
+        return play(new GameRandomImpl());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameOutcome playGame(final long seed) {
+        return play(new GameRandomImpl(seed));
+    }
+
+    /**
+     * Plays a single game from setup until it is over.
+     * 
+     * @param random the random source of the game.
+     * @return the outcome of the game.
+     */
+    private GameOutcome play(final GameRandom random) {
+        final List<AbstractPlayer> players = new ArrayList<>(lineup.get());
+        final GameFactory factory = new GameFactoryImpl(rules, loggers.get(), random);
+        final Game game = factory.createGame(SIM_PLAYER_NAME, gameMode, players);
+
+        int turns = 0;
+        int rounds = 1;
+
+        while (game.getGameState() != GameState.GAME_OVER && turns < MAX_TURNS) {
+            final GameState state = game.getGameState();
+
+            if (state == GameState.ROUND_OVER) {
+                game.startNewRound();
+                rounds++;
+                continue;
+            }
+
+            if (state != GameState.RUNNING) {
+                // The AI left a pending choice unresolved: the game cannot progress.
+                break;
+            }
+
+            ((AbstractAIPlayer) game.getCurrentPlayer()).takeTurn(game);
+            turns++;
+        }
+
+        final Optional<String> winner = game.getGameState() == GameState.GAME_OVER
+                ? Optional.ofNullable(game.getWinner()).map(AbstractPlayer::getName)
+                : Optional.empty();
+
+        return new GameOutcome(winner, turns, rounds);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationReport run(final int games) {
+        final List<GameOutcome> outcomes = new ArrayList<>(games);
+        final long start = System.nanoTime();
+
+        for (int i = 0; i < games; i++) {
+            outcomes.add(playGame());
+        }
+
+        return SimulationReportImpl.of(outcomes, System.nanoTime() - start);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationReport run(final int games, final long firstSeed) {
+        final List<GameOutcome> outcomes = new ArrayList<>(games);
+        final long start = System.nanoTime();
+
+        for (int i = 0; i < games; i++) {
+            outcomes.add(playGame(firstSeed + i));
+        }
+
+        return SimulationReportImpl.of(outcomes, System.nanoTime() - start);
+    }
+}
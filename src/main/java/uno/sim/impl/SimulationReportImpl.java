@@ -0,0 +1,179 @@
+package uno.sim.impl;
+
+import uno.sim.api.GameOutcome;
+import uno.sim.api.SimulationReport;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable implementation of SimulationReport.
+ */
+public class SimulationReportImpl implements SimulationReport {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final int games;
+    private final int unfinishedGames;
+    private final long totalTurns;
+    private final Map<String, Integer> wins;
+    private final long elapsedNanos;
+
+    /**
+     * Constructor for SimulationReportImpl.
+     * 
+     * @param games           number of games played.
+     * @param unfinishedGames number of games without a winner.
+     * @param totalTurns      sum of the turns of all games.
+     * @param wins            number of wins per player name.
+     * @param elapsedNanos    wall-clock time spent, in nanoseconds.
+     */
+    public SimulationReportImpl(final int games, final int unfinishedGames, final long totalTurns,
+            final Map<String, Integer> wins, final long elapsedNanos) {
+        this.games = games;
+        this.unfinishedGames = unfinishedGames;
+        this.totalTurns = totalTurns;
+        this.wins = Map.copyOf(wins);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Builds a report from the outcomes of single games.
+     * 
+     * @param outcomes     the outcomes of the games.
+     * @param elapsedNanos wall-clock time spent, in nanoseconds.
+     * @return the aggregated report.
+     */
+    public static SimulationReport of(final List<GameOutcome> outcomes, final long elapsedNanos) {
+        final Map<String, Integer> wins = new HashMap<>();
+        int unfinished = 0;
+        long turns = 0;
+
+        for (final GameOutcome outcome : outcomes) {
+            turns += outcome.turns();
+            if (outcome.winner().isPresent()) {
+                wins.merge(outcome.winner().get(), 1, Integer::sum);
+            } else {
+                unfinished++;
+            }
+        }
+
+        return new SimulationReportImpl(outcomes.size(), unfinished, turns, wins, elapsedNanos);
+    }
+
+    /**
+     * Merges two partial reports, e.g. the results of two shards of a tournament.
+     * The elapsed time of the result is the sum of the two, so callers running the
+     * shards concurrently should replace it with the wall-clock time through
+     * {@link #withElapsedNanos(SimulationReport, long)}.
+     * 
+     * @param first  the first report.
+     * @param second the second report.
+     * @return the merged report.
+     */
+    public static SimulationReport merge(final SimulationReport first, final SimulationReport second) {
+        final Map<String, Integer> wins = new HashMap<>(first.getWins());
+        second.getWins().forEach((name, count) -> wins.merge(name, count, Integer::sum));
+
+        return new SimulationReportImpl(first.getGames() + second.getGames(),
+                first.getUnfinishedGames() + second.getUnfinishedGames(),
+                first.getTotalTurns() + second.getTotalTurns(),
+                wins,
+                first.getElapsedNanos() + second.getElapsedNanos());
+    }
+
+    /**
+     * Copies a report replacing its elapsed time.
+     * 
+     * @param report       the report to copy.
+     * @param elapsedNanos the new elapsed time, in nanoseconds.
+     * @return the copied report.
+     */
+    public static SimulationReport withElapsedNanos(final SimulationReport report, final long elapsedNanos) {
+        return new SimulationReportImpl(report.getGames(), report.getUnfinishedGames(), report.getTotalTurns(),
+                report.getWins(), elapsedNanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getUnfinishedGames() {
+        return unfinishedGames;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Integer> getWins() {
+        return wins;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getWinRate(final String playerName) {
+        if (games == 0) {
+            return 0;
+        }
+        return (double) wins.getOrDefault(playerName, 0) / games;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTotalTurns() {
+        return totalTurns;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getAverageTurns() {
+        if (games == 0) {
+            return 0;
+        }
+        return (double) totalTurns / games;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getGamesPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return games * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return String.format("SimulationReport{games=%d, unfinished=%d, avgTurns=%.1f, games/s=%.1f, wins=%s}",
+                games, unfinishedGames, getAverageTurns(), getGamesPerSecond(), wins);
+    }
+}
@@ -0,0 +1,136 @@
+package uno.sim.impl;
+
+import uno.sim.api.SimulationEngine;
+import uno.sim.api.SimulationReport;
+import uno.sim.api.Tournament;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Fork/join implementation of Tournament.
+ * The batch is split recursively into shards that are played by
+ * {@link SimulationEngine#run(int, long)} on the workers of a dedicated
+ * {@link ForkJoinPool}; every shard builds its own report, so workers never
+ * share mutable state and the partial reports are merged only when joining.
+ */
+public class TournamentImpl implements Tournament {
+
+    /**
+     * Number of shards per worker: more shards than workers lets work stealing
+     * balance games of very different length (e.g. All Wild swap loops).
+     */
+    private static final int SHARDS_PER_WORKER = 8;
+
+    private final SimulationEngine engine;
+    private final int parallelism;
+
+    /**
+     * Constructor for TournamentImpl using every available core.
+     * 
+     * @param engine the engine used to play the games; its
+     *               {@link SimulationEngine#run(int, long)} must be thread-safe.
+     */
+    public TournamentImpl(final SimulationEngine engine) {
+        this(engine, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor for TournamentImpl with a custom number of workers.
+     * 
+     * @param engine      the engine used to play the games; its
+     *                    {@link SimulationEngine#run(int, long)} must be thread-safe.
+     * @param parallelism the number of worker threads.
+     */
+    public TournamentImpl(final SimulationEngine engine, final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, got " + parallelism);
+        }
+        this.engine = engine;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationReport run(final int games) {
+        return run(games, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationReport run(final int games, final long seed) {
+        final int shardSize = Math.max(1, games / (parallelism * SHARDS_PER_WORKER));
+        final long start = System.nanoTime();
+
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            final SimulationReport merged = pool.invoke(new ShardTask(engine, games, seed, shardSize));
+            return SimulationReportImpl.withElapsedNanos(merged, System.nanoTime() - start);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Task that plays a range of games, splitting it in half until it is small
+     * enough to be played sequentially. Tasks are never serialized, so the
+     * engine is transient.
+     */
+    @SuppressFBWarnings("SE_TRANSIENT_FIELD_NOT_RESTORED")
+    private static final class ShardTask extends RecursiveTask<SimulationReport> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient SimulationEngine engine;
+        private final int games;
+        private final long firstSeed;
+        private final int shardSize;
+
+        /**
+         * Constructor for ShardTask.
+         * 
+         * @param engine    the engine used to play the games.
+         * @param games     the number of games of this task.
+         * @param firstSeed the seed of the first game of this task.
+         * @param shardSize the number of games below which the task is not split.
+         */
+        ShardTask(final SimulationEngine engine, final int games, final long firstSeed, final int shardSize) {
+            this.engine = engine;
+            this.games = games;
+            this.firstSeed = firstSeed;
+            this.shardSize = shardSize;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected SimulationReport compute() {
+            if (games <= shardSize) {
+                return engine.run(games, firstSeed);
+            }
+
+            final int half = games / 2;
+            final ShardTask left = new ShardTask(engine, half, firstSeed, shardSize);
+            left.fork();
+            final SimulationReport right = new ShardTask(engine, games - half, firstSeed + half, shardSize).compute();
+
+            return SimulationReportImpl.merge(left.join(), right);
+        }
+    }
+}
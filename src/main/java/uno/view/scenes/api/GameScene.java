@@ -1,10 +1,12 @@
 package uno.view.scenes.api;
 
+import uno.model.api.GameChange;
 import uno.view.api.GameViewObserver;
 import uno.model.players.impl.AbstractPlayer;
 import uno.view.api.GameViewData;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Interface representing the main Game Board view.
@@ -20,6 +22,17 @@ public interface GameScene {
      */
     void updateView(GameViewData data);
 
+    /**
+     * Updates the parts of the view showing the aspects of the game that
+     * changed. By default the whole view is updated.
+     * 
+     * @param data    The snapshot of the game state.
+     * @param changes The aspects of the game that changed since the last update.
+     */
+    default void updateView(final GameViewData data, final Set<GameChange> changes) {
+        updateView(data);
+    }
+
     /**
      * Registers the controller to handle user inputs (clicks on cards, buttons).
      *
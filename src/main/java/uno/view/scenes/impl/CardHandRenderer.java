@@ -0,0 +1,131 @@
+package uno.view.scenes.impl;
+
+import uno.model.cards.types.api.Card;
+import uno.view.api.CardViewData;
+
+import javax.swing.JButton;
+import javax.swing.JPanel;
+import java.awt.GridBagConstraints;
+import java.awt.GridBagLayout;
+import java.awt.Insets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Renders the human player's hand into a row of card buttons, reusing the
+ * button of each card from one update to the next.
+ * Buttons are pooled by card identity: an update only adds the buttons of new
+ * cards, removes those of the cards that left the hand, moves the shifted
+ * ones and restyles the cards whose face changed (after a flip). An update
+ * that changes nothing touches no component, so only the cards that changed
+ * are repainted.
+ */
+final class CardHandRenderer {
+
+    private static final String IMAGE_KEY = "uno.cardImageKey";
+
+    private final JPanel panel;
+    private final GridBagLayout layout;
+    private final GridBagConstraints gbc = new GridBagConstraints();
+    private final BiConsumer<JButton, String> styler;
+    private final Consumer<Optional<Card>> onPlay;
+    private final Map<Object, JButton> pool = new IdentityHashMap<>();
+    private final List<JButton> shown = new ArrayList<>();
+
+    /**
+     * Creates a renderer into a panel laid out by a GridBagLayout.
+     *
+     * @param panel   The panel holding the hand.
+     * @param insets  The insets around each card.
+     * @param styler  Styles a button as the card with an image name.
+     * @param onPlay  Called with the model card when a card button is pressed.
+     */
+    CardHandRenderer(final JPanel panel, final Insets insets, final BiConsumer<JButton, String> styler,
+            final Consumer<Optional<Card>> onPlay) {
+        this.panel = panel;
+        this.layout = (GridBagLayout) panel.getLayout();
+        this.styler = styler;
+        this.onPlay = onPlay;
+        gbc.gridy = 0;
+        gbc.insets = insets;
+        gbc.anchor = GridBagConstraints.CENTER;
+    }
+
+    /**
+     * Shows a hand, changing only the buttons of the cards that changed.
+     *
+     * @param hand The cards of the hand, in display order.
+     */
+    void render(final List<CardViewData> hand) {
+        final Map<Object, JButton> kept = new IdentityHashMap<>();
+        final List<JButton> next = new ArrayList<>(hand.size());
+        for (final CardViewData card : hand) {
+            final Object key = card.getModelCard().<Object>map(model -> model).orElse(card);
+            JButton button = pool.remove(key);
+            if (button == null) {
+                button = createButton(card);
+            } else if (!card.getImageKey().equals(button.getClientProperty(IMAGE_KEY))) {
+                style(button, card.getImageKey());
+            }
+            kept.put(key, button);
+            next.add(button);
+        }
+        pool.clear();
+        pool.putAll(kept);
+
+        if (next.equals(shown)) {
+            return;
+        }
+        final Set<JButton> nextSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        nextSet.addAll(next);
+        for (final JButton button : shown) {
+            if (!nextSet.contains(button)) {
+                panel.remove(button);
+            }
+        }
+        for (int i = 0; i < next.size(); i++) {
+            final JButton button = next.get(i);
+            gbc.gridx = i;
+            if (button.getParent() != panel) {
+                panel.add(button, gbc);
+            } else if (i >= shown.size() || shown.get(i) != button) {
+                layout.setConstraints(button, gbc);
+            }
+        }
+        shown.clear();
+        shown.addAll(next);
+        panel.revalidate();
+        panel.repaint();
+    }
+
+    /**
+     * Creates the button of a card, with its play action.
+     *
+     * @param card The card.
+     * @return The button.
+     */
+    private JButton createButton(final CardViewData card) {
+        final JButton button = new JButton();
+        style(button, card.getImageKey());
+        button.addActionListener(e -> onPlay.accept(card.getModelCard()));
+        return button;
+    }
+
+    /**
+     * Styles a button as a card and remembers the image it shows.
+     *
+     * @param button   The button.
+     * @param cardName The name of the card image.
+     */
+    private void style(final JButton button, final String cardName) {
+        styler.accept(button, cardName);
+        button.putClientProperty(IMAGE_KEY, cardName);
+    }
+}
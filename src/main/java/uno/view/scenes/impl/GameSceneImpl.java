@@ -1,6 +1,7 @@
 package uno.view.scenes.impl;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import uno.model.api.GameChange;
 import uno.model.cards.attributes.CardColor;
 import uno.model.players.impl.AbstractPlayer;
 import uno.model.players.impl.HumanPlayer;
@@ -42,7 +43,9 @@ import java.awt.Dimension;
 import java.awt.Cursor;
 import java.awt.GridBagLayout;
 import javax.swing.border.TitledBorder;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import javax.swing.border.EmptyBorder;
 import java.util.logging.Logger;
 import java.util.logging.Level;
@@ -53,15 +56,22 @@ import java.util.logging.Level;
  * It defines how the game displays the state and handles user interaction
  * requests coming from the Controller.
  */
-@SuppressFBWarnings("SE_BAD_FIELD")
+@SuppressFBWarnings({ "SE_BAD_FIELD", "SE_TRANSIENT_FIELD_NOT_RESTORED" })
 public final class GameSceneImpl extends JPanel implements GameScene {
 
     private static final long serialVersionUID = 1L;
 
     private static final Logger LOGGER = Logger.getLogger(GameSceneImpl.class.getName());
 
-    private static final int CARD_WIDTH = 80;
-    private static final int CARD_HEIGHT = 120;
+    /**
+     * Width of the card images on the table.
+     */
+    public static final int CARD_WIDTH = 80;
+
+    /**
+     * Height of the card images on the table.
+     */
+    public static final int CARD_HEIGHT = 120;
 
     private static final int START_POPUP_DELAY = 3000;
 
@@ -92,6 +102,7 @@ public final class GameSceneImpl extends JPanel implements GameScene {
     private static final String POSITION_EAST = "East";
 
     private final CardImageLoaderImpl cardImageLoader;
+    private final transient CardHandRenderer handRenderer;
 
     private GameViewData currentData;
     private Optional<GameViewObserver> controllerObserver = Optional.empty();
@@ -128,6 +139,8 @@ public final class GameSceneImpl extends JPanel implements GameScene {
         setBorder(new EmptyBorder(10, 10, 10, 10));
 
         playerHandPanel = createPlayerHandPanel();
+        handRenderer = new CardHandRenderer(playerHandPanel, GBC_INSETS, this::styleAsCardButton,
+                card -> controllerObserver.ifPresent(observer -> observer.onPlayCard(card)));
         centerPanel = createCenterPanel();
 
         westAIPanel = createOpponentPanel("AI-1", POSITION_WEST);
@@ -172,19 +185,37 @@ public final class GameSceneImpl extends JPanel implements GameScene {
      */
     @Override
     public void updateView(final GameViewData data) {
+        updateView(data, EnumSet.allOf(GameChange.class));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateView(final GameViewData data, final Set<GameChange> changes) {
         this.currentData = data;
-        updateStatusLabel();
-        updateDiscardPile();
-        updateHumanHand();
-        updateAIPanels();
-        updateGameInfo();
+        if (changes.contains(GameChange.STATE) || changes.contains(GameChange.TURN)) {
+            updateStatusLabel();
+        }
+        if (changes.contains(GameChange.TOP_CARD) || changes.contains(GameChange.COLOR)) {
+            updateDiscardPile();
+        }
+        if (changes.contains(GameChange.HANDS)) {
+            updateHumanHand();
+        }
+        if (changes.contains(GameChange.HANDS) || changes.contains(GameChange.TURN)
+                || changes.contains(GameChange.SCORES)) {
+            updateAIPanels();
+        }
+        if (changes.contains(GameChange.DECK) || changes.contains(GameChange.COLOR)
+                || changes.contains(GameChange.SCORES)) {
+            updateGameInfo();
+        }
 
         final boolean isHumanTurn = currentData.getCurrentPlayer().getModelPlayer() instanceof HumanPlayer;
 
         setHumanInputEnabled(isHumanTurn && currentData.getGameState() == GameState.RUNNING);
-
-        revalidate();
-        repaint();
+        // Each component repaints and revalidates itself as it changes, so only dirty regions are painted
     }
 
     /**
@@ -683,19 +714,6 @@ public final class GameSceneImpl extends JPanel implements GameScene {
         button.setCursor(new Cursor(Cursor.HAND_CURSOR));
     }
 
-    /**
-     * Creates a JButton representing a card in the player's hand.
-     * 
-     * @param cardData The card data to create a button for.
-     * @return The created JButton.
-     */
-    private JButton createCardButton(final CardViewData cardData) {
-        final String cardName = cardData.getImageKey();
-        final JButton button = new JButton();
-        styleAsCardButton(button, cardName);
-        return button;
-    }
-
     /**
      * Converts a CardColor to a corresponding Color for UI representation.
      * 
@@ -779,40 +797,16 @@ public final class GameSceneImpl extends JPanel implements GameScene {
     }
 
     /**
-     * Refreshes the human player's hand panel by recreating card buttons.
+     * Refreshes the human player's hand panel, changing only the buttons of the
+     * cards that changed.
      */
     private void updateHumanHand() {
         if (currentData == null) {
             return;
         }
-        playerHandPanel.removeAll();
-
-        if (currentData.getPlayers().isEmpty()) {
-            playerHandPanel.revalidate();
-            playerHandPanel.repaint();
-            return;
-        }
-
-        final PlayerViewData humanPlayer = currentData.getPlayers().get(0);
-
-        final GridBagConstraints gbc = new GridBagConstraints();
-        gbc.gridx = 0;
-        gbc.gridy = 0;
-        gbc.insets = GBC_INSETS;
-        gbc.anchor = GridBagConstraints.CENTER;
-
-        for (final CardViewData cardData : humanPlayer.getHand()) {
-            final JButton cardButton = createCardButton(cardData);
-
-            cardButton.addActionListener(e -> {
-                controllerObserver.ifPresent(observer -> observer.onPlayCard(cardData.getModelCard()));
-            });
-
-            playerHandPanel.add(cardButton, gbc);
-            gbc.gridx++;
-        }
-        playerHandPanel.revalidate();
-        playerHandPanel.repaint();
+        handRenderer.render(currentData.getPlayers().isEmpty()
+                ? List.of()
+                : currentData.getPlayers().get(0).getHand());
     }
 
     /**
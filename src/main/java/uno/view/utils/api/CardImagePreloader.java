@@ -0,0 +1,47 @@
+package uno.view.utils.api;
+
+/**
+ * Interface for the component that loads the card images in the background,
+ * so that they are ready by the time a game scene needs them.
+ * A scene asking for an image that is still being loaded waits for that
+ * image only.
+ */
+public interface CardImagePreloader {
+
+    /**
+     * Listener notified each time a card image has been loaded.
+     */
+    @FunctionalInterface
+    interface ProgressListener {
+
+        /**
+         * Called from a loading thread after each card image.
+         *
+         * @param loaded The number of card images loaded so far.
+         * @param total  The number of card images to load.
+         */
+        void onProgress(int loaded, int total);
+    }
+
+    /**
+     * Starts loading the card images in the background.
+     *
+     * @param listener The listener notified of the progress.
+     * @throws IllegalStateException if the preloading was already started.
+     */
+    void start(ProgressListener listener);
+
+    /**
+     * Gets the number of card images loaded so far.
+     *
+     * @return The number of loaded images.
+     */
+    int getLoadedCount();
+
+    /**
+     * Gets the number of card images to load.
+     *
+     * @return The number of images.
+     */
+    int getTotalCount();
+}
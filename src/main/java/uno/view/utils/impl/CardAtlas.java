@@ -0,0 +1,122 @@
+package uno.view.utils.impl;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Atlas of pre-scaled card images for one card size, generated at build time
+ * by the {@code generateCardAtlas} Gradle task: a single image holding every
+ * card, with an index of the cell of each card.
+ * The atlas image is decoded once, on first use, and held through a soft
+ * reference; each card is copied out of it so that the cached cards do not
+ * keep the whole atlas alive.
+ */
+final class CardAtlas {
+
+    private static final java.util.logging.Logger LOGGER = java.util.logging.Logger
+            .getLogger(CardAtlas.class.getName());
+    private static final String ATLAS_PATH = "/images/atlas/cards-";
+    private static final int CELL_FIELDS = 4;
+
+    private final URL imageResource;
+    private final Map<String, Rectangle> cells;
+    private SoftReference<BufferedImage> image = new SoftReference<>(null);
+
+    /**
+     * Creates an atlas over its resources.
+     *
+     * @param imageResource the atlas image.
+     * @param cells         the cell of each card.
+     */
+    private CardAtlas(final URL imageResource, final Map<String, Rectangle> cells) {
+        this.imageResource = imageResource;
+        this.cells = cells;
+    }
+
+    /**
+     * Finds the atlas of a card size among the resources.
+     *
+     * @param width  the width of a card.
+     * @param height the height of a card.
+     * @return the atlas, or empty if none was generated for the size.
+     */
+    static Optional<CardAtlas> find(final int width, final int height) {
+        final String baseName = ATLAS_PATH + width + "x" + height;
+        final URL imageResource = CardAtlas.class.getResource(baseName + ".png");
+        final URL indexResource = CardAtlas.class.getResource(baseName + ".properties");
+        if (imageResource == null || indexResource == null) {
+            return Optional.empty();
+        }
+        final Properties index = new Properties();
+        try (InputStream in = indexResource.openStream()) {
+            index.load(in);
+        } catch (final IOException e) {
+            LOGGER.warning("Indice atlas illeggibile: " + indexResource + ": " + e.getMessage());
+            return Optional.empty();
+        }
+        final Map<String, Rectangle> cells = new HashMap<>();
+        for (final String cardName : index.stringPropertyNames()) {
+            final String[] cell = index.getProperty(cardName).split(",");
+            if (cell.length != CELL_FIELDS) {
+                LOGGER.warning("Cella atlas non valida per " + cardName);
+                return Optional.empty();
+            }
+            cells.put(cardName, new Rectangle(Integer.parseInt(cell[0].trim()), Integer.parseInt(cell[1].trim()),
+                    Integer.parseInt(cell[2].trim()), Integer.parseInt(cell[3].trim())));
+        }
+        return Optional.of(new CardAtlas(imageResource, cells));
+    }
+
+    /**
+     * Copies the image of a card out of the atlas.
+     *
+     * @param cardName the name of the card.
+     * @return the image, or empty if the atlas has no cell for the card or
+     *         cannot be decoded.
+     */
+    Optional<BufferedImage> getCard(final String cardName) {
+        final Rectangle cell = cells.get(cardName);
+        if (cell == null) {
+            return Optional.empty();
+        }
+        return decode().map(atlas -> {
+            final BufferedImage card = new BufferedImage(cell.width, cell.height, BufferedImage.TYPE_INT_ARGB);
+            final Graphics2D g2d = card.createGraphics();
+            g2d.drawImage(atlas.getSubimage(cell.x, cell.y, cell.width, cell.height), 0, 0, null);
+            g2d.dispose();
+            return card;
+        });
+    }
+
+    /**
+     * Gets the decoded atlas image, decoding it again if it was evicted.
+     *
+     * @return the atlas image, or empty if it cannot be decoded.
+     */
+    private synchronized Optional<BufferedImage> decode() {
+        BufferedImage atlas = image.get();
+        if (atlas == null) {
+            try {
+                atlas = ImageIO.read(imageResource);
+            } catch (final IOException e) {
+                LOGGER.warning("Atlas illeggibile: " + imageResource + ": " + e.getMessage());
+                return Optional.empty();
+            }
+            if (atlas == null) {
+                return Optional.empty();
+            }
+            image = new SoftReference<>(atlas);
+        }
+        return Optional.of(atlas);
+    }
+}
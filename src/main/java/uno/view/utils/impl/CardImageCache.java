@@ -0,0 +1,244 @@
+package uno.view.utils.impl;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.net.URL;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Process-wide cache of the scaled card images, shared by every loader so that
+ * a new game reuses the images decoded for the previous ones.
+ * Images are keyed by card name, size and opacity, loaded on first use and
+ * held through soft references, so the garbage collector may evict them when
+ * memory runs low and they are then loaded again.
+ * An image is loaded by one thread at a time: a thread asking for an image
+ * that another one is loading waits for it, so the images preloaded in the
+ * background are never decoded twice.
+ * Images are cut from the build-time {@link CardAtlas} of their size when
+ * there is one, and decoded and scaled from their own PNG otherwise.
+ */
+public final class CardImageCache {
+
+    private static final java.util.logging.Logger LOGGER = java.util.logging.Logger
+            .getLogger(CardImageCache.class.getName());
+    private static final CardImageCache SHARED = new CardImageCache();
+    private static final float OPAQUE = 1.0f;
+
+    private final Map<Key, Entry> cache = new ConcurrentHashMap<>();
+    private final Map<Key, FutureTask<Optional<ImageIcon>>> loading = new ConcurrentHashMap<>();
+    private final Map<String, Optional<CardAtlas>> atlases = new ConcurrentHashMap<>();
+    private final ReferenceQueue<ImageIcon> evicted = new ReferenceQueue<>();
+
+    /**
+     * Identifies a cached image.
+     *
+     * @param cardName the name of the card.
+     * @param width    the width of the image.
+     * @param height   the height of the image.
+     * @param alpha    the opacity of the image, from 0.0f to 1.0f.
+     */
+    private record Key(String cardName, int width, int height, float alpha) {
+    }
+
+    /**
+     * Soft reference to a cached image that remembers its key, so that the
+     * entry can be removed once the image is evicted.
+     */
+    private static final class Entry extends SoftReference<ImageIcon> {
+
+        private final Key key;
+
+        /**
+         * Creates a reference to a cached image.
+         *
+         * @param key   the key of the image.
+         * @param icon  the image.
+         * @param queue the queue notified when the image is evicted.
+         */
+        Entry(final Key key, final ImageIcon icon, final ReferenceQueue<ImageIcon> queue) {
+            super(icon, queue);
+            this.key = key;
+        }
+    }
+
+    private CardImageCache() {
+        // Use shared()
+    }
+
+    /**
+     * Gets the cache shared by the whole application.
+     *
+     * @return the shared cache.
+     */
+    public static CardImageCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Gets the image of a card, loading and scaling it if it is not cached.
+     *
+     * @param cardName the name of the card (e.g., "RED_ZERO").
+     * @param width    the width of the image.
+     * @param height   the height of the image.
+     * @param alpha    the opacity of the image, from 0.0f to 1.0f.
+     * @return the image, or empty if the card has no image resource.
+     */
+    public Optional<ImageIcon> getImage(final String cardName, final int width, final int height,
+            final float alpha) {
+        purgeEvicted();
+        final Key key = new Key(cardName, width, height, alpha);
+        final Entry entry = cache.get(key);
+        final ImageIcon cached = entry == null ? null : entry.get();
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        final FutureTask<Optional<ImageIcon>> task = new FutureTask<>(() -> load(key));
+        final FutureTask<Optional<ImageIcon>> running = loading.putIfAbsent(key, task);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            task.run();
+            return await(task);
+        } finally {
+            loading.remove(key, task);
+        }
+    }
+
+    /**
+     * Gets the number of images currently held by the cache.
+     *
+     * @return the number of images not yet evicted.
+     */
+    public int size() {
+        purgeEvicted();
+        return cache.size();
+    }
+
+    /**
+     * Loads an image and caches it, unless it was cached meanwhile.
+     *
+     * @param key the key of the image.
+     * @return the image, or empty if the card has no image resource.
+     */
+    private Optional<ImageIcon> load(final Key key) {
+        final Entry entry = cache.get(key);
+        final ImageIcon cached = entry == null ? null : entry.get();
+        if (cached != null) {
+            // Loaded by another thread since the caller looked
+            return Optional.of(cached);
+        }
+        final Optional<ImageIcon> loaded = Float.compare(key.alpha(), OPAQUE) == 0
+                ? loadImage(key.cardName(), key.width(), key.height())
+                : getImage(key.cardName(), key.width(), key.height(), OPAQUE)
+                        .map(icon -> createTransparentIcon(icon, key.alpha()));
+        loaded.ifPresent(icon -> cache.put(key, new Entry(key, icon, evicted)));
+        return loaded;
+    }
+
+    /**
+     * Waits for an image being loaded.
+     *
+     * @param task the load.
+     * @return the image, or empty if it could not be loaded.
+     */
+    private static Optional<ImageIcon> await(final FutureTask<Optional<ImageIcon>> task) {
+        try {
+            return task.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (final ExecutionException e) {
+            LOGGER.warning("Caricamento immagine fallito: " + e.getCause());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Removes the entries whose images the garbage collector has evicted.
+     */
+    private void purgeEvicted() {
+        for (Entry entry = (Entry) evicted.poll(); entry != null; entry = (Entry) evicted.poll()) {
+            cache.remove(entry.key, entry);
+        }
+    }
+
+    /**
+     * Loads the image of a card at a size, from the atlas of the size if there
+     * is one.
+     *
+     * @param cardName the name of the card.
+     * @param width    the width of the image.
+     * @param height   the height of the image.
+     * @return the image, or empty if the card has no image resource.
+     */
+    private Optional<ImageIcon> loadImage(final String cardName, final int width, final int height) {
+        final Optional<ImageIcon> fromAtlas = atlases.computeIfAbsent(width + "x" + height,
+                size -> CardAtlas.find(width, height))
+                .flatMap(atlas -> atlas.getCard(cardName))
+                .map(ImageIcon::new);
+        return fromAtlas.isPresent() ? fromAtlas : decodeImage(cardName, width, height);
+    }
+
+    /**
+     * Decodes with ImageIO and scales the image of a card from the resources.
+     *
+     * @param cardName the name of the card.
+     * @param width    the width of the image.
+     * @param height   the height of the image.
+     * @return the image, or empty if the resource is missing or unreadable.
+     */
+    private static Optional<ImageIcon> decodeImage(final String cardName, final int width, final int height) {
+        final String path = "/images/cards/" + cardName + ".png";
+        final URL resource = CardImageCache.class.getResource(path);
+        if (resource == null) {
+            LOGGER.warning("Risorsa non trovata: " + path);
+            return Optional.empty();
+        }
+        try {
+            final BufferedImage source = ImageIO.read(resource);
+            if (source == null) {
+                LOGGER.warning("Formato immagine non supportato: " + path);
+                return Optional.empty();
+            }
+            return Optional.of(new ImageIcon(source.getScaledInstance(width, height, Image.SCALE_SMOOTH)));
+        } catch (final IOException e) {
+            LOGGER.warning("Impossibile leggere " + path + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Creates a semi-transparent copy of an existing ImageIcon.
+     *
+     * @param original The original ImageIcon.
+     * @param alpha    The desired transparency level (0.0f to 1.0f).
+     * @return A new ImageIcon with the specified transparency.
+     */
+    private static ImageIcon createTransparentIcon(final ImageIcon original, final float alpha) {
+        final Image originalImage = original.getImage();
+        final int width = original.getIconWidth();
+        final int height = original.getIconHeight();
+
+        final BufferedImage newImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g2d = newImage.createGraphics();
+
+        // Set opacity
+        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+        g2d.drawImage(originalImage, 0, 0, null);
+        g2d.dispose();
+
+        return new ImageIcon(newImage);
+    }
+}
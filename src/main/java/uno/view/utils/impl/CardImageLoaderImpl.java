@@ -3,27 +3,20 @@ package uno.view.utils.impl;
 import uno.view.utils.api.CardImageLoader;
 
 import javax.swing.ImageIcon;
-import java.awt.AlphaComposite;
-import java.awt.Graphics2D;
-import java.awt.Image;
-import java.awt.image.BufferedImage;
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 
 /**
  * Concrete implementation of CardImageLoader.
- * Handles loading images from resources, scaling them to specific dimensions,
- * and caching the results to improve performance.
+ * Serves the images of the known cards at a given size from the shared
+ * {@link CardImageCache}, which loads and scales them on first use.
  */
 public class CardImageLoaderImpl implements CardImageLoader {
 
     /**
      * Static list of all expected image filenames in the resource folder.
      */
-    private static final List<String> CARD_NAMES = Arrays.asList(
+    private static final List<String> CARD_NAMES = List.of(
 
             "RED_ZERO", "RED_ONE", "RED_TWO", "RED_THREE", "RED_FOUR", "RED_FIVE", "RED_SIX",
             "RED_SEVEN", "RED_EIGHT", "RED_NINE",
@@ -58,17 +51,18 @@ public class CardImageLoaderImpl implements CardImageLoader {
 
             "CARD_BACK");
 
-    private static final java.util.logging.Logger LOGGER = java.util.logging.Logger
-            .getLogger(CardImageLoaderImpl.class.getName());
+    private static final Set<String> KNOWN_CARDS = Set.copyOf(CARD_NAMES);
+    private static final float TRANSPARENT_ALPHA = 0.5f;
+    private static final float OPAQUE_ALPHA = 1.0f;
 
-    private final Map<String, ImageIcon> cardImageCache;
-    private final Map<String, ImageIcon> transparentImageCache;
+    private final CardImageCache cache;
     private final int cardWidth;
     private final int cardHeight;
 
     /**
-     * Constructs and initializes the loader.
-     * All images are pre-loaded into memory upon creation.
+     * Constructs the loader over the cache shared by the whole application.
+     * Images are loaded on first use, so a new game reuses those of the
+     * previous ones.
      *
      * @param cardWidth  Desired width for the card icons.
      * @param cardHeight Desired height for the card icons.
@@ -76,9 +70,7 @@ public class CardImageLoaderImpl implements CardImageLoader {
     public CardImageLoaderImpl(final int cardWidth, final int cardHeight) {
         this.cardWidth = cardWidth;
         this.cardHeight = cardHeight;
-        this.cardImageCache = new HashMap<>();
-        this.transparentImageCache = new HashMap<>();
-        loadAllImages();
+        this.cache = CardImageCache.shared();
     }
 
     /**
@@ -86,7 +78,7 @@ public class CardImageLoaderImpl implements CardImageLoader {
      */
     @Override
     public ImageIcon getImage(final String cardName) {
-        return cardImageCache.get(cardName);
+        return findImage(cardName, OPAQUE_ALPHA);
     }
 
     /**
@@ -94,60 +86,29 @@ public class CardImageLoaderImpl implements CardImageLoader {
      */
     @Override
     public ImageIcon getTransparentImage(final String cardName) {
-        return transparentImageCache.get(cardName);
+        return findImage(cardName, TRANSPARENT_ALPHA);
     }
 
     /**
-     * Iterates through the static list and loads each image file.
+     * Gets the names of all the cards with an image, back of the cards last.
+     *
+     * @return The unmodifiable list of names.
      */
-    private void loadAllImages() {
-        for (final String cardName : CARD_NAMES) {
-            loadImage(cardName);
-        }
+    static List<String> getCardNames() {
+        return CARD_NAMES;
     }
 
     /**
-     * Helper method to load, scale, and store a single image.
+     * Gets the image of one of the known cards from the shared cache.
      * 
      * @param cardName The unique identifier name of the card.
+     * @param alpha    The opacity of the image.
+     * @return The image, or null if the card is unknown or has no image.
      */
-    private void loadImage(final String cardName) {
-        final String path = "/images/cards/" + cardName + ".png";
-
-        Optional.ofNullable(CardImageLoaderImpl.class.getResource(path))
-                .ifPresentOrElse(
-                        resource -> {
-                            final ImageIcon icon = new ImageIcon(resource);
-                            final Image scaledImg = icon.getImage().getScaledInstance(cardWidth, cardHeight,
-                                    Image.SCALE_SMOOTH);
-                            final ImageIcon scaledIcon = new ImageIcon(scaledImg);
-
-                            cardImageCache.put(cardName, scaledIcon);
-                            transparentImageCache.put(cardName, createTransparentIcon(scaledIcon, 0.5f));
-                        },
-                        () -> LOGGER.warning("Risorsa non trovata: " + path));
-    }
-
-    /**
-     * Creates a semi-transparent copy of an existing ImageIcon.
-     * 
-     * @param original The original ImageIcon.
-     * @param alpha    The desired transparency level (0.0f to 1.0f).
-     * @return A new ImageIcon with the specified transparency.
-     */
-    private ImageIcon createTransparentIcon(final ImageIcon original, final float alpha) {
-        final Image originalImage = original.getImage();
-        final int width = original.getIconWidth();
-        final int height = original.getIconHeight();
-
-        final BufferedImage newImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-        final Graphics2D g2d = newImage.createGraphics();
-
-        // Set opacity
-        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-        g2d.drawImage(originalImage, 0, 0, null);
-        g2d.dispose();
-
-        return new ImageIcon(newImage);
+    private ImageIcon findImage(final String cardName, final float alpha) {
+        if (!KNOWN_CARDS.contains(cardName)) {
+            return null;
+        }
+        return cache.getImage(cardName, cardWidth, cardHeight, alpha).orElse(null);
     }
 }
@@ -0,0 +1,81 @@
+package uno.view.utils.impl;
+
+import uno.view.utils.api.CardImageLoader;
+import uno.view.utils.api.CardImagePreloader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concrete implementation of CardImagePreloader.
+ * Loads every card image, with its semi-transparent copy, through a
+ * {@link CardImageLoader} on a small pool of daemon threads, the back of the
+ * cards first since every table shows it.
+ */
+public final class CardImagePreloaderImpl implements CardImagePreloader {
+
+    private static final int MAX_THREADS = 4;
+    private static final String BACK_NAME = "CARD_BACK";
+
+    private final CardImageLoader loader;
+    private final List<String> cardNames;
+    private final AtomicInteger loaded = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    /**
+     * Constructs a preloader of the images served by a loader.
+     *
+     * @param loader The loader whose images to load.
+     */
+    public CardImagePreloaderImpl(final CardImageLoader loader) {
+        this.loader = loader;
+        this.cardNames = new ArrayList<>(CardImageLoaderImpl.getCardNames());
+        this.cardNames.remove(BACK_NAME);
+        this.cardNames.add(0, BACK_NAME);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start(final ProgressListener listener) {
+        if (!started.compareAndSet(false, true)) {
+            throw new IllegalStateException("Card images are already being preloaded");
+        }
+        final int threads = Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+        final ExecutorService pool = Executors.newFixedThreadPool(threads, task -> {
+            final Thread thread = new Thread(task, "card-image-preloader");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        for (final String cardName : cardNames) {
+            pool.execute(() -> {
+                loader.getImage(cardName);
+                loader.getTransparentImage(cardName);
+                listener.onProgress(loaded.incrementAndGet(), cardNames.size());
+            });
+        }
+        pool.shutdown();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLoadedCount() {
+        return loaded.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTotalCount() {
+        return cardNames.size();
+    }
+}
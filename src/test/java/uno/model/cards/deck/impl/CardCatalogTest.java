@@ -0,0 +1,98 @@
+package uno.model.cards.deck.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.deck.api.Deck;
+import uno.model.cards.types.api.Card;
+import uno.model.utils.api.GameLogger;
+import uno.model.utils.impl.GameRandomImpl;
+import uno.model.utils.impl.TestLogger;
+
+/**
+ * Test for the CardCatalogImpl class and the catalogs of the three decks.
+ */
+class CardCatalogTest {
+
+    private static final int STANDARD_SIZE = 108;
+    private static final int STANDARD_FACES = 54;
+    private static final int FLIP_SIZE = 112;
+    private static final int ALL_WILD_SIZE = 112;
+    private static final long SEED = 7L;
+
+    private final GameLogger logger = new TestLogger();
+
+    @Test
+    void testCatalogSizes() {
+        assertEquals(STANDARD_SIZE, StandardDeck.catalog().size());
+        assertEquals(FLIP_SIZE, FlipDeck.catalog().size());
+        assertEquals(ALL_WILD_SIZE, AllWildDeck.catalog().size());
+    }
+
+    @Test
+    void testIdsMatchPositions() {
+        for (final CardCatalog catalog : List.of(StandardDeck.catalog(), FlipDeck.catalog(), AllWildDeck.catalog())) {
+            for (int id = 0; id < catalog.size(); id++) {
+                assertEquals(id, catalog.getCard(id).getId());
+                assertSame(catalog.getCard(id), catalog.getCards().get(id));
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> catalog.getCard(catalog.size()));
+            assertThrows(UnsupportedOperationException.class, () -> catalog.getCards().clear());
+        }
+    }
+
+    @Test
+    void testCatalogIsBuiltOnce() {
+        assertSame(StandardDeck.catalog(), StandardDeck.catalog());
+        assertSame(FlipDeck.catalog(), FlipDeck.catalog());
+        assertSame(AllWildDeck.catalog(), AllWildDeck.catalog());
+    }
+
+    @Test
+    void testDecksShareCatalogCards() {
+        assertEquals(FlipDeck.catalog().getCards(), drawAll(new FlipDeck(logger, new GameRandomImpl(SEED))));
+        assertEquals(FlipDeck.catalog().getCards(), drawAll(new FlipDeck(logger, new GameRandomImpl(SEED + 1))));
+        assertEquals(StandardDeck.catalog().getCards(), drawAll(new StandardDeck(logger)));
+        assertEquals(AllWildDeck.catalog().getCards(), drawAll(new AllWildDeck(logger)));
+    }
+
+    @Test
+    void testFaceOfGroupsCopies() {
+        final CardCatalog catalog = StandardDeck.catalog();
+        int faces = 0;
+        for (int id = 0; id < catalog.size(); id++) {
+            final int face = catalog.faceOf(id);
+            final Card card = catalog.getCard(id);
+            assertSame(catalog.getCard(face).getSide(false), card.getSide(false));
+            assertSame(catalog.getCard(face).getSide(true), card.getSide(true));
+            if (face == id) {
+                faces++;
+            }
+        }
+        assertEquals(STANDARD_FACES, faces);
+    }
+
+    /**
+     * Empties a deck and sorts its cards by id.
+     * 
+     * @param deck the deck to empty.
+     * @return the cards of the deck, ordered by id.
+     */
+    private List<Card> drawAll(final Deck<Card> deck) {
+        final List<Card> cards = new ArrayList<>();
+        while (!deck.isEmpty()) {
+            deck.draw().ifPresent(cards::add);
+        }
+        Collections.sort(cards, Comparator.comparingInt(Card::getId));
+        return cards;
+    }
+}
@@ -0,0 +1,112 @@
+package uno.model.cards.deck.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.attributes.CardValue;
+import uno.model.cards.behaviors.impl.BackSideBehavior;
+import uno.model.cards.behaviors.impl.NumericBehavior;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.types.api.Card;
+import uno.model.cards.types.impl.DoubleSidedCard;
+import uno.model.utils.impl.GameRandomImpl;
+import uno.model.utils.impl.TestLogger;
+
+/**
+ * Test for the CompactDeck class: drawing with the cursor, adapters and buffer swap.
+ */
+class CompactDeckTest {
+
+    private static final long SEED = 3L;
+    private static final int SAMPLE_SIZE = 10;
+
+    private final CardCatalog catalog = StandardDeck.catalog();
+    private CompactDeck deck;
+
+    @BeforeEach
+    void setUp() {
+        deck = new CompactDeck(catalog, new TestLogger(), new GameRandomImpl(SEED));
+    }
+
+    @Test
+    void testNewDeckContainsEveryCardOnce() {
+        assertEquals(catalog.size(), deck.size());
+        final BitSet seen = new BitSet();
+        while (!deck.isEmpty()) {
+            final int id = deck.drawId();
+            assertTrue(!seen.get(id), "Card drawn twice: " + id);
+            seen.set(id);
+        }
+        assertEquals(catalog.size(), seen.cardinality());
+        assertEquals(Card.NO_ID, deck.drawId());
+        assertEquals(Card.NO_ID, deck.peekId());
+        assertTrue(deck.draw().isEmpty());
+    }
+
+    @Test
+    void testAdaptersReturnCatalogCards() {
+        final int topId = deck.peekId();
+        assertSame(catalog.getCard(topId), deck.peek().orElseThrow());
+        final Card drawn = deck.draw().orElseThrow();
+        assertEquals(topId, drawn.getId());
+        assertEquals(catalog.size() - 1, deck.size());
+
+        deck.addCard(drawn);
+        assertSame(drawn, deck.peek().orElseThrow());
+        assertEquals(catalog.size(), deck.size());
+    }
+
+    @Test
+    void testSeededDecksAreReproducible() {
+        final CompactDeck other = new CompactDeck(catalog, new TestLogger(), new GameRandomImpl(SEED));
+        final CompactDeck different = new CompactDeck(catalog, new TestLogger(), new GameRandomImpl(SEED + 1));
+        final List<Integer> ids = new ArrayList<>();
+        final List<Integer> sameIds = new ArrayList<>();
+        final List<Integer> differentIds = new ArrayList<>();
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            ids.add(deck.drawId());
+            sameIds.add(other.drawId());
+            differentIds.add(different.drawId());
+        }
+        assertEquals(ids, sameIds);
+        assertNotEquals(ids, differentIds);
+    }
+
+    @Test
+    void testForeignCardIsRejected() {
+        final Card foreign = new DoubleSidedCard(
+                new NumericBehavior(CardColor.RED, CardValue.ONE), BackSideBehavior.getInstance());
+        assertThrows(IllegalArgumentException.class, () -> deck.addCard(foreign));
+        assertThrows(IllegalArgumentException.class, () -> deck.addCard(FlipDeck.catalog().getCard(0)));
+    }
+
+    @Test
+    void testSwapBuffer() {
+        assertThrows(IllegalStateException.class, () -> deck.swapBuffer(new int[1], 1));
+
+        while (!deck.isEmpty()) {
+            deck.drawId();
+        }
+        final int[] buffer = {0, 1, 2, 3};
+        final int[] previous = deck.swapBuffer(buffer, 3);
+
+        assertEquals(catalog.size(), previous.length);
+        assertEquals(3, deck.size());
+        final BitSet seen = new BitSet();
+        while (!deck.isEmpty()) {
+            seen.set(deck.drawId());
+        }
+        assertEquals(BitSet.valueOf(new long[] {0b111}), seen);
+    }
+}
@@ -0,0 +1,110 @@
+package uno.model.cards.deck.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.deck.api.CompatibilityTable;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.game.impl.GameFactoryImpl;
+import uno.model.game.impl.GameRulesImpl;
+import uno.model.game.impl.MoveValidatorImpl;
+import uno.model.players.impl.AIFlip;
+import uno.model.players.impl.AbstractPlayer;
+import uno.model.utils.impl.GameRandomImpl;
+import uno.model.utils.impl.TestLogger;
+
+/**
+ * Checks that the compatibility tables of the catalogs agree with
+ * {@link Card#canBePlayedOn} for every card, top card, side and active color.
+ */
+class CompatibilityTableTest {
+
+    private static final long SEED = 5L;
+
+    @Test
+    void testStandardTableMatchesCards() {
+        assertTableMatchesCards(GameMode.STANDARD, StandardDeck.catalog(), false);
+    }
+
+    @Test
+    void testAllWildTableMatchesCards() {
+        assertTableMatchesCards(GameMode.ALL_WILD, AllWildDeck.catalog(), false);
+    }
+
+    @Test
+    void testFlipTableMatchesCardsOnBothSides() {
+        assertTableMatchesCards(GameMode.FLIP, FlipDeck.catalog(), false);
+        assertTableMatchesCards(GameMode.FLIP, FlipDeck.catalog(), true);
+    }
+
+    @Test
+    void testValidatorUsesTableConsistently() {
+        final GameContext game = createGame(GameMode.FLIP);
+        final MoveValidatorImpl validator = new MoveValidatorImpl(game);
+        final Card top = game.getTopDiscardCard().orElseThrow();
+
+        int playable = 0;
+        for (final Card card : FlipDeck.catalog().getCards()) {
+            final boolean expected = card.canBePlayedOn(top, game);
+            assertEquals(expected, validator.isValidMove(card), card + " on " + top);
+            playable += expected ? 1 : 0;
+        }
+        assertTrue(playable > 0);
+    }
+
+    /**
+     * Compares the table with the cards' own rule in every situation.
+     * 
+     * @param mode     the game mode of the catalog.
+     * @param catalog  the catalog to check.
+     * @param darkSide the side to check.
+     */
+    private void assertTableMatchesCards(final GameMode mode, final CardCatalog catalog, final boolean darkSide) {
+        final GameContext game = createGame(mode);
+        if (darkSide) {
+            game.setCurrentPlayedCard(game.getTopDiscardCard().orElseThrow());
+            game.flipTheWorld();
+        }
+        final CompatibilityTable table = catalog.getCompatibility();
+
+        final List<Optional<CardColor>> activeColors = new ArrayList<>();
+        activeColors.add(Optional.empty());
+        for (final CardColor color : CardColor.values()) {
+            activeColors.add(Optional.of(color));
+        }
+
+        for (final Card top : catalog.getCards()) {
+            for (final Optional<CardColor> chosen : activeColors) {
+                game.setCurrentColorOptional(chosen);
+                final CardColor activeColor = chosen.orElse(top.getColor(game));
+                for (final Card card : catalog.getCards()) {
+                    assertEquals(card.canBePlayedOn(top, game),
+                            table.canBePlayed(card.getId(), darkSide, activeColor, top.getValue(game)),
+                            card + " on " + top + " with " + chosen);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a dealt game of the given mode.
+     * 
+     * @param mode the game mode.
+     * @return the game.
+     */
+    private GameContext createGame(final GameMode mode) {
+        final List<AbstractPlayer> players = List.of(new AIFlip("A"), new AIFlip("B"));
+        return (GameContext) new GameFactoryImpl(GameRulesImpl.defaultRules(), new TestLogger(),
+                new GameRandomImpl(SEED)).createGame("TEST", mode, players);
+    }
+}
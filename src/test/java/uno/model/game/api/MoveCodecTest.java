@@ -0,0 +1,233 @@
+package uno.model.game.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.types.api.Card;
+import uno.model.players.api.AIDecision;
+import uno.model.players.api.Hand;
+import uno.model.players.impl.AIGames;
+import uno.model.players.impl.AbstractAIPlayer;
+import uno.model.players.impl.AbstractPlayer;
+
+/**
+ * Test class for MoveCodec and {@link GameContext#apply(int)}.
+ */
+class MoveCodecTest {
+
+    private static final long SEED = 13L;
+    private static final int PLAYERS = 3;
+    private static final int TURNS = 300;
+    private static final int CARD_ID = 42;
+    private static final int SEAT = 2;
+
+    @Test
+    void testMovesRoundTrip() {
+        final int play = MoveCodec.play(CARD_ID, false);
+        final int unoPlay = MoveCodec.play(CARD_ID, true);
+        final int color = MoveCodec.color(CardColor.PURPLE);
+        final int target = MoveCodec.target(SEAT);
+        final int callUno = MoveCodec.callUno(SEAT);
+
+        assertEquals(MoveCodec.Kind.PLAY, MoveCodec.kindOf(play));
+        assertEquals(CARD_ID, MoveCodec.cardOf(unoPlay));
+        assertTrue(MoveCodec.callsUno(unoPlay));
+        assertFalse(MoveCodec.callsUno(play));
+        assertEquals(Optional.of(CardColor.PURPLE), MoveCodec.colorOf(color));
+        assertEquals(MoveCodec.Kind.TARGET, MoveCodec.kindOf(target));
+        assertEquals(MoveCodec.Kind.CALL_UNO, MoveCodec.kindOf(callUno));
+        assertEquals(SEAT, MoveCodec.seatOf(target));
+        assertEquals(SEAT, MoveCodec.seatOf(callUno));
+        assertEquals(MoveCodec.Kind.DRAW, MoveCodec.kindOf(MoveCodec.DRAW));
+        assertEquals(MoveCodec.Kind.PASS, MoveCodec.kindOf(MoveCodec.PASS));
+        assertEquals(-1, MoveCodec.cardOf(color));
+        assertEquals(-1, MoveCodec.seatOf(play));
+        assertEquals("PLAY 42 UNO", MoveCodec.describe(unoPlay));
+    }
+
+    @Test
+    void testInvalidMovesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> MoveCodec.play(MoveCodec.MAX_VALUE + 1, false));
+        assertThrows(IllegalArgumentException.class, () -> MoveCodec.target(-1));
+        assertThrows(IllegalArgumentException.class, () -> MoveCodec.kindOf(-3));
+        assertThrows(IllegalArgumentException.class,
+                () -> MoveCodec.kindOf(MoveCodec.color(CardColor.RED) | MoveCodec.target(0)));
+        assertThrows(IllegalArgumentException.class, () -> MoveCodec.kindOf(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testAppliedMovesReplayAGame() {
+        for (final GameMode mode : GameMode.values()) {
+            final GameContext played = AIGames.create(mode, PLAYERS, SEED);
+            final GameContext replayed = AIGames.create(mode, PLAYERS, SEED);
+
+            for (int turn = 0; turn < TURNS && played.getGameState() != GameState.GAME_OVER; turn++) {
+                final AbstractAIPlayer player = (AbstractAIPlayer) played.getCurrentPlayer();
+                final AIDecision decision = player.decide(played);
+                final List<Integer> moves = encode(played, player, decision);
+                player.apply(played, decision);
+                for (final int move : moves) {
+                    replayed.apply(move);
+                }
+
+                assertEquals(describe(played), describe(replayed), mode + " turn " + turn);
+            }
+        }
+    }
+
+    @Test
+    void testPlayingACardNotHeldIsRejected() {
+        final GameContext game = AIGames.create(GameMode.STANDARD, PLAYERS, SEED);
+        final CardCatalog catalog = game.getDrawDeck().getCatalog().orElseThrow();
+        final Hand hand = game.getCurrentPlayer().getHandView();
+        int notHeld = 0;
+        while (isFaceHeld(catalog, hand, catalog.faceOf(notHeld))) {
+            notHeld++;
+        }
+        final int move = MoveCodec.play(notHeld, false);
+
+        assertThrows(IllegalStateException.class, () -> game.apply(move));
+    }
+
+    @Test
+    void testMissingSeatIsRejected() {
+        final GameContext game = AIGames.create(GameMode.STANDARD, PLAYERS, SEED);
+
+        assertThrows(IllegalArgumentException.class, () -> game.apply(MoveCodec.callUno(PLAYERS)));
+        assertThrows(IllegalArgumentException.class, () -> game.apply(MoveCodec.target(PLAYERS)));
+    }
+
+    @Test
+    void testColorIsOnlyChosenWhenAwaited() {
+        final GameContext game = AIGames.create(GameMode.STANDARD, PLAYERS, SEED);
+        final Optional<CardColor> color = game.getCurrentColor();
+        final AbstractPlayer player = game.getCurrentPlayer();
+
+        assertThrows(IllegalStateException.class, () -> game.apply(MoveCodec.color(CardColor.BLUE)));
+        assertEquals(color, game.getCurrentColor());
+        assertEquals(player, game.getCurrentPlayer());
+
+        for (int step = 0; step < TURNS && game.getGameState() == GameState.RUNNING; step++) {
+            final AbstractAIPlayer current = (AbstractAIPlayer) game.getCurrentPlayer();
+            current.apply(game, current.decide(game));
+        }
+        assertEquals(GameState.WAITING_FOR_COLOR, game.getGameState());
+        assertThrows(IllegalStateException.class, () -> game.apply(MoveCodec.color(CardColor.WILD)));
+        assertThrows(IllegalStateException.class, () -> game.apply(MoveCodec.color(CardColor.PURPLE)));
+        assertEquals(GameState.WAITING_FOR_COLOR, game.getGameState());
+        game.apply(MoveCodec.color(CardColor.GREEN));
+        assertEquals(Optional.of(CardColor.GREEN), game.getCurrentColor());
+    }
+
+    @Test
+    void testIllegalUnoPlayLeavesNoUnoCall() {
+        final GameContext game = AIGames.create(GameMode.STANDARD, PLAYERS, SEED);
+        Optional<Card> unplayable = findUnplayableCard(game);
+        for (int turn = 0; turn < TURNS && unplayable.isEmpty() && game.getGameState() == GameState.RUNNING;
+                turn++) {
+            game.getCurrentPlayer().takeTurn(game);
+            unplayable = findUnplayableCard(game);
+        }
+        final AbstractPlayer player = game.getCurrentPlayer();
+        final int move = MoveCodec.play(unplayable.orElseThrow().getId(), true);
+
+        assertThrows(IllegalStateException.class, () -> game.apply(move));
+        assertFalse(player.isHasCalledUno());
+    }
+
+    /**
+     * Finds a card of the current player that cannot be played.
+     *
+     * @param game the game.
+     * @return the card, or empty if every card can be played.
+     */
+    private static Optional<Card> findUnplayableCard(final GameContext game) {
+        final Hand hand = game.getCurrentPlayer().getHandView();
+        for (int i = 0; i < hand.size(); i++) {
+            if (!game.isValidMove(hand.get(i))) {
+                return Optional.of(hand.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Checks if a hand holds a copy of a card.
+     *
+     * @param catalog the catalog of the cards.
+     * @param hand    the hand.
+     * @param face    the face id of the card.
+     * @return true if a card of the hand has the face.
+     */
+    private static boolean isFaceHeld(final CardCatalog catalog, final Hand hand, final int face) {
+        for (int i = 0; i < hand.size(); i++) {
+            if (catalog.faceOf(hand.get(i).getId()) == face) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Encodes the moves an AI decision makes.
+     *
+     * @param game     the game.
+     * @param player   the player deciding.
+     * @param decision the decision.
+     * @return the moves, in order.
+     */
+    private static List<Integer> encode(final Game game, final AbstractPlayer player, final AIDecision decision) {
+        final List<Integer> moves = new ArrayList<>();
+        switch (decision.kind()) {
+            case PLAY:
+                moves.add(MoveCodec.play(decision.card().get().getId(), player.getHandSize() == 2));
+                break;
+            case DRAW:
+                moves.add(MoveCodec.DRAW);
+                if (game.getRules().isSkipAfterDrawEnabled()) {
+                    moves.add(MoveCodec.PASS);
+                }
+                break;
+            case PASS:
+                moves.add(MoveCodec.PASS);
+                break;
+            case COLOR:
+                moves.add(MoveCodec.color(decision.color().get()));
+                break;
+            case TARGET:
+                moves.add(MoveCodec.target(game.getPlayers().indexOf(decision.target().get())));
+                break;
+            default:
+                break;
+        }
+        return moves;
+    }
+
+    /**
+     * Describes what the players can see of a game.
+     *
+     * @param game the game.
+     * @return the description.
+     */
+    private static String describe(final Game game) {
+        final StringBuilder description = new StringBuilder()
+                .append(game.getGameState()).append(' ')
+                .append(game.getCurrentPlayer().getName()).append(' ')
+                .append(game.getCurrentColor()).append(' ')
+                .append(game.getTopDiscardCard().map(card -> card.getId()).orElse(-1));
+        for (final AbstractPlayer player : game.getPlayers()) {
+            description.append(' ').append(player.getHandSize());
+        }
+        return description.toString();
+    }
+}
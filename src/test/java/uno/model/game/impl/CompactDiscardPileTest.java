@@ -0,0 +1,142 @@
+package uno.model.game.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.deck.impl.CompactDeck;
+import uno.model.cards.deck.impl.StandardDeck;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.players.impl.AIClassic;
+import uno.model.players.impl.AbstractPlayer;
+import uno.model.utils.impl.GameRandomImpl;
+import uno.model.utils.impl.TestLogger;
+
+/**
+ * Test class for CompactDiscardPile and its recycling into a CompactDeck.
+ */
+class CompactDiscardPileTest {
+
+    private static final long SEED = 11L;
+    private static final int PILE_SIZE = 30;
+
+    private final CardCatalog catalog = StandardDeck.catalog();
+    private CompactDeck deck;
+    private CompactDiscardPile discardPile;
+
+    @BeforeEach
+    void setUp() {
+        deck = new CompactDeck(catalog, new TestLogger(), new GameRandomImpl(SEED));
+        discardPile = new CompactDiscardPile(catalog);
+    }
+
+    @Test
+    void testAddCardAndTopCard() {
+        assertTrue(discardPile.getTopCard().isEmpty());
+        assertEquals(Card.NO_ID, discardPile.getTopId());
+
+        final Card card = deck.draw().orElseThrow();
+        discardPile.addCard(card);
+        assertSame(card, discardPile.getTopCard().orElseThrow());
+        assertEquals(card.getId(), discardPile.getTopId());
+        assertThrows(IllegalArgumentException.class, () -> discardPile.addCard(null));
+    }
+
+    @Test
+    void testTakeAllExceptTop() {
+        final List<Card> played = fillPile(PILE_SIZE);
+
+        final List<Card> recycled = discardPile.takeAllExceptTop();
+
+        assertEquals(played.subList(0, PILE_SIZE - 1), recycled);
+        assertEquals(1, discardPile.size());
+        assertSame(played.get(PILE_SIZE - 1), discardPile.getTopCard().orElseThrow());
+        assertEquals(played.subList(PILE_SIZE - 1, PILE_SIZE), discardPile.getSnapshot());
+        assertEquals(1, discardPile.takeAll().size());
+        assertTrue(discardPile.isEmpty());
+    }
+
+    @Test
+    void testRecycleIntoEmptyDeck() {
+        final List<Card> played = fillPile(PILE_SIZE);
+        while (!deck.isEmpty()) {
+            discardPile.addId(deck.drawId());
+        }
+        final int total = discardPile.size();
+        final Card top = discardPile.getTopCard().orElseThrow();
+
+        assertEquals(total - 1, discardPile.recycleInto(deck));
+
+        assertEquals(total - 1, deck.size());
+        assertEquals(1, discardPile.size());
+        assertSame(top, discardPile.getTopCard().orElseThrow());
+        final Set<Card> inDeck = new HashSet<>();
+        while (!deck.isEmpty()) {
+            inDeck.add(deck.draw().orElseThrow());
+        }
+        assertEquals(total - 1, inDeck.size());
+        assertTrue(inDeck.containsAll(played));
+
+        // Both buffers are still usable after the swap.
+        discardPile.addCard(played.get(0));
+        assertEquals(2, discardPile.size());
+    }
+
+    @Test
+    void testRecycleIntoNonEmptyDeck() {
+        fillPile(PILE_SIZE);
+        final int before = deck.size();
+
+        assertEquals(PILE_SIZE - 1, discardPile.recycleInto(deck));
+        assertEquals(before + PILE_SIZE - 1, deck.size());
+        assertEquals(1, discardPile.size());
+        assertEquals(0, discardPile.recycleInto(deck));
+    }
+
+    @Test
+    void testDeckHandlerReshufflesCompactPile() {
+        fillPile(PILE_SIZE);
+        while (!deck.isEmpty()) {
+            deck.drawId();
+        }
+        final AbstractPlayer player = new AIClassic("AI");
+        final GameContext game = (GameContext) new GameFactoryImpl(GameRulesImpl.defaultRules(), new TestLogger())
+                .createGame("TEST", GameMode.STANDARD, List.of(new AIClassic("A"), new AIClassic("B")));
+        final DeckHandlerImpl handler = new DeckHandlerImpl(deck, discardPile, GameRulesImpl.defaultRules(),
+                new TestLogger(), "TEST");
+
+        assertTrue(handler.drawCardForPlayer(player, game));
+
+        assertEquals(1, player.getHandSize());
+        assertEquals(PILE_SIZE - 2, deck.size());
+        assertEquals(1, discardPile.size());
+    }
+
+    /**
+     * Moves cards from the deck to the discard pile.
+     * 
+     * @param count how many cards to play.
+     * @return the played cards, bottom of the pile first.
+     */
+    private List<Card> fillPile(final int count) {
+        final List<Card> played = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final Card card = deck.draw().orElseThrow();
+            discardPile.addCard(card);
+            played.add(card);
+        }
+        return played;
+    }
+}
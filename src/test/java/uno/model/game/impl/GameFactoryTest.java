@@ -10,6 +10,7 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import uno.model.cards.types.api.Card;
 import uno.model.game.api.Game;
 import uno.model.game.api.GameFactory;
 import uno.model.game.api.GameMode;
@@ -17,6 +18,8 @@ import uno.model.game.api.GameRules;
 import uno.model.game.api.GameState;
 import uno.model.players.impl.AbstractPlayer;
 import uno.model.players.impl.HumanPlayer;
+import uno.model.utils.impl.GameRandomImpl;
+import uno.model.utils.impl.TestLogger;
 
 /**
  * Test class for {@link GameFactoryImpl}.
@@ -24,6 +27,7 @@ import uno.model.players.impl.HumanPlayer;
 class GameFactoryTest {
 
     private static final String PLAYER_NAME = "P1";
+    private static final long SEED = 7L;
 
     private GameFactory factory;
 
@@ -60,6 +64,37 @@ class GameFactoryTest {
         assertNotNull(game);
     }
 
+    @Test
+    void testSameSeedSameGame() {
+        final Game first = createSeededGame();
+        final Game second = createSeededGame();
+
+        assertEquals(first.getCurrentPlayer().getName(), second.getCurrentPlayer().getName());
+        assertEquals(describe(first.getTopDiscardCard().get(), first),
+                describe(second.getTopDiscardCard().get(), second));
+        for (int i = 0; i < first.getPlayers().size(); i++) {
+            final List<String> firstHand = new ArrayList<>();
+            final List<String> secondHand = new ArrayList<>();
+            first.getPlayers().get(i).getHand().forEach(card -> firstHand.add(describe(card.get(), first)));
+            second.getPlayers().get(i).getHand().forEach(card -> secondHand.add(describe(card.get(), second)));
+            assertEquals(firstHand, secondHand);
+        }
+    }
+
+    private Game createSeededGame() {
+        final List<AbstractPlayer> players = new ArrayList<>();
+        players.add(new HumanPlayer(PLAYER_NAME));
+        players.add(new HumanPlayer("P2"));
+        players.add(new HumanPlayer("P3"));
+        final GameFactory seeded = new GameFactoryImpl(new GameRulesImpl(false, false, false, false),
+                new TestLogger(), new GameRandomImpl(SEED));
+        return seeded.createGame(PLAYER_NAME, GameMode.FLIP, players);
+    }
+
+    private static String describe(final Card card, final Game game) {
+        return card.getColor(game) + " " + card.getValue(game);
+    }
+
     @Test
     void testGetLogger() {
         assertNotNull(factory.getLogger());
@@ -0,0 +1,152 @@
+package uno.model.game.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uno.model.api.GameChange;
+import uno.model.api.GameModelObserver;
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameState;
+import uno.model.players.api.Hand;
+import uno.model.players.impl.AIClassic;
+import uno.model.players.impl.AbstractPlayer;
+import uno.model.utils.impl.GameRandomImpl;
+import uno.model.utils.impl.SilentGameLogger;
+
+/**
+ * Test class for the coalesced notifications of {@link GameImpl}.
+ */
+class GameNotificationTest {
+
+    private static final long SEED = 4L;
+    private static final int PLAYERS = 3;
+    private static final int TURNS = 100;
+
+    private GameContext game;
+    private List<Set<GameChange>> updates;
+
+    @BeforeEach
+    void setUp() {
+        final List<AbstractPlayer> players = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) {
+            players.add(new AIClassic("AI-" + i));
+        }
+        game = (GameContext) new GameFactoryImpl(GameRulesImpl.defaultRules(), new SilentGameLogger(),
+                new GameRandomImpl(SEED)).createGame(players.get(0).getName(), GameMode.STANDARD, players);
+        updates = new ArrayList<>();
+        game.addObserver(new RecordingObserver());
+        game.notifyObservers();
+        updates.clear();
+    }
+
+    @Test
+    void testEachActionNotifiesOnce() {
+        for (int turn = 0; turn < TURNS && game.getGameState() == GameState.RUNNING; turn++) {
+            final AbstractPlayer player = game.getCurrentPlayer();
+            final Optional<Card> playable = findPlayable(player);
+            updates.clear();
+
+            if (playable.isPresent()) {
+                game.playCard(playable);
+                assertEquals(1, updates.size(), "turn " + turn);
+                assertTrue(updates.get(0).contains(GameChange.HANDS));
+                assertTrue(updates.get(0).contains(GameChange.TOP_CARD));
+                if (game.getGameState() == GameState.WAITING_FOR_COLOR) {
+                    updates.clear();
+                    game.batchUpdates(() -> {
+                        game.setColor(CardColor.RED);
+                        game.aiAdvanceTurn();
+                    });
+                    assertEquals(1, updates.size());
+                    assertTrue(updates.get(0).contains(GameChange.COLOR));
+                } else if (game.getGameState() == GameState.WAITING_FOR_PLAYER) {
+                    return;
+                }
+            } else {
+                game.playerInitiatesDraw();
+                assertEquals(1, updates.size(), "turn " + turn);
+                assertTrue(updates.get(0).contains(GameChange.HANDS));
+                assertTrue(updates.get(0).contains(GameChange.DECK));
+                assertFalse(updates.get(0).contains(GameChange.TOP_CARD));
+                if (game.getCurrentPlayer() == player) {
+                    game.playerPassTurn();
+                }
+            }
+        }
+    }
+
+    @Test
+    void testUnchangedGameIsNotifiedWithoutChanges() {
+        game.notifyObservers();
+
+        assertEquals(List.of(Set.of()), updates);
+    }
+
+    @Test
+    void testChangesAreReportedOnce() {
+        game.markChanged(GameChange.SCORES);
+        game.notifyObservers();
+        game.notifyObservers();
+
+        assertEquals(List.of(Set.of(GameChange.SCORES), Set.of()), updates);
+    }
+
+    @Test
+    void testPlainObserversAreStillNotified() {
+        final int[] calls = new int[1];
+        game.addObserver(() -> calls[0]++);
+        final Optional<Card> playable = findPlayable(game.getCurrentPlayer());
+
+        if (playable.isPresent()) {
+            game.playCard(playable);
+        } else {
+            game.playerInitiatesDraw();
+        }
+
+        assertEquals(1, calls[0]);
+    }
+
+    /**
+     * Finds a card that the player can play.
+     *
+     * @param player the player.
+     * @return the first playable card of the hand, or empty if there is none.
+     */
+    private Optional<Card> findPlayable(final AbstractPlayer player) {
+        final Hand hand = player.getHandView();
+        for (int i = 0; i < hand.size(); i++) {
+            if (game.isValidMove(hand.get(i))) {
+                return Optional.of(hand.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Observer recording the changes of each notification.
+     */
+    private final class RecordingObserver implements GameModelObserver {
+
+        @Override
+        public void onGameUpdate() {
+            throw new AssertionError("Change sets expected");
+        }
+
+        @Override
+        public void onGameUpdate(final Set<GameChange> changes) {
+            updates.add(changes);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package uno.model.game.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.deck.impl.FlipDeck;
+import uno.model.cards.deck.impl.StandardDeck;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameSnapshot;
+import uno.model.game.api.GameState;
+import uno.model.players.api.Hand;
+import uno.model.players.impl.AIClassic;
+import uno.model.players.impl.AbstractAIPlayer;
+import uno.model.players.impl.AbstractPlayer;
+import uno.model.utils.impl.GameRandomImpl;
+import uno.model.utils.impl.TestLogger;
+
+/**
+ * Test class for the snapshot capture and restore of {@link GameImpl}.
+ */
+class GameSnapshotTest {
+
+    private static final long SEED = 21L;
+    private static final int WARM_UP_TURNS = 12;
+    private static final int PLAYED_TURNS = 25;
+    private static final int REPLAYED_TURNS = 5;
+    private static final int DEALS = 50;
+
+    private GameContext game;
+
+    @BeforeEach
+    void setUp() {
+        game = createGame(GameMode.STANDARD);
+        playTurns(game, WARM_UP_TURNS);
+    }
+
+    @Test
+    void testRestoreBringsBackTheCapturedState() {
+        final GameSnapshot snapshot = game.createSnapshot();
+        final String before = describe(game);
+
+        playTurns(game, PLAYED_TURNS);
+        game.restoreSnapshot(snapshot);
+
+        assertEquals(before, describe(game));
+        assertEquals(snapshot.getCurrentPlayerIndex(), game.getTurnManager().getCurrentPlayerIndex());
+        assertEquals(snapshot.getDrawDeckSize(), game.getDrawDeck().size());
+        assertEquals(snapshot.getGameState(), game.getGameState());
+    }
+
+    @Test
+    void testCaptureAfterRestoreMatchesSnapshot() {
+        final GameSnapshotImpl snapshot = (GameSnapshotImpl) game.createSnapshot();
+        final GameSnapshotImpl copy = (GameSnapshotImpl) game.createSnapshot();
+
+        playTurns(game, PLAYED_TURNS);
+        game.captureSnapshot(copy);
+        game.restoreSnapshot(snapshot);
+        game.captureSnapshot(copy);
+
+        assertEquals(snapshot.getDrawDeckSize(), copy.getDrawDeckSize());
+        assertArrayEquals(Arrays.copyOf(snapshot.deck(), snapshot.getDrawDeckSize()),
+                Arrays.copyOf(copy.deck(), copy.getDrawDeckSize()));
+        assertEquals(snapshot.getDiscardSize(), copy.getDiscardSize());
+        assertArrayEquals(Arrays.copyOf(snapshot.discard(), snapshot.getDiscardSize()),
+                Arrays.copyOf(copy.discard(), copy.getDiscardSize()));
+        for (int i = 0; i < game.getPlayers().size(); i++) {
+            assertEquals(snapshot.getHandSize(i), copy.getHandSize(i));
+            assertArrayEquals(Arrays.copyOf(snapshot.hand(i), snapshot.getHandSize(i)),
+                    Arrays.copyOf(copy.hand(i), copy.getHandSize(i)));
+        }
+    }
+
+    @Test
+    void testPlayFromRestoredStateIsRepeatable() {
+        final GameSnapshot snapshot = game.createSnapshot();
+
+        playTurns(game, REPLAYED_TURNS);
+        final String afterFirstRun = describe(game);
+
+        game.restoreSnapshot(snapshot);
+        playTurns(game, REPLAYED_TURNS);
+
+        assertEquals(afterFirstRun, describe(game));
+    }
+
+    @Test
+    void testRestoreDoesNotNotifyObservers() {
+        final GameSnapshot snapshot = game.createSnapshot();
+        final int[] notifications = new int[1];
+        game.addObserver(() -> notifications[0]++);
+
+        game.restoreSnapshot(snapshot);
+
+        assertEquals(0, notifications[0]);
+    }
+
+    @Test
+    void testSnapshotOfAnotherModeIsRejected() {
+        final GameContext flipGame = createGame(GameMode.FLIP);
+        final GameSnapshot snapshot = flipGame.createSnapshot();
+
+        assertEquals(FlipDeck.catalog().size(),
+                snapshot.getDrawDeckSize() + flipGame.getDiscardPile().size()
+                        + flipGame.getPlayers().stream().mapToInt(AbstractPlayer::getHandSize).sum());
+        assertThrows(IllegalArgumentException.class, () -> game.restoreSnapshot(snapshot));
+        assertThrows(IllegalArgumentException.class, () -> game.captureSnapshot(snapshot));
+    }
+
+    @Test
+    void testShuffleHiddenCardsKeepsWhatThePlayerKnows() {
+        final GameSnapshotImpl snapshot = (GameSnapshotImpl) game.createSnapshot();
+        final int seat = snapshot.getCurrentPlayerIndex();
+        final int[] ownHand = Arrays.copyOf(snapshot.hand(seat), snapshot.getHandSize(seat));
+        final int[] discard = Arrays.copyOf(snapshot.discard(), snapshot.getDiscardSize());
+        final int[] hidden = hiddenCards(snapshot, seat);
+
+        snapshot.shuffleHiddenCards(seat, new GameRandomImpl(SEED));
+        game.restoreSnapshot(snapshot);
+
+        assertArrayEquals(ownHand, Arrays.copyOf(snapshot.hand(seat), snapshot.getHandSize(seat)));
+        assertArrayEquals(discard, Arrays.copyOf(snapshot.discard(), snapshot.getDiscardSize()));
+        assertArrayEquals(hidden, hiddenCards(snapshot, seat));
+        for (int i = 0; i < game.getPlayers().size(); i++) {
+            assertEquals(snapshot.getHandSize(i), game.getPlayers().get(i).getHandSize());
+        }
+    }
+
+    @Test
+    void testShuffleHiddenCardsRespectsMissingColors() {
+        final GameSnapshotImpl snapshot = (GameSnapshotImpl) game.createSnapshot();
+        final int seat = snapshot.getCurrentPlayerIndex();
+        final int opponent = (seat + 1) % game.getPlayers().size();
+        final int[] voidColors = new int[game.getPlayers().size()];
+        voidColors[opponent] = 1 << CardColor.RED.ordinal() | 1 << CardColor.BLUE.ordinal();
+        final int[] hidden = hiddenCards(snapshot, seat);
+        final CardCatalog catalog = StandardDeck.catalog();
+
+        for (int deal = 0; deal < DEALS; deal++) {
+            snapshot.shuffleHiddenCards(seat, voidColors, new GameRandomImpl(SEED + deal));
+
+            assertArrayEquals(hidden, hiddenCards(snapshot, seat));
+            for (int i = 0; i < snapshot.getHandSize(opponent); i++) {
+                final CardColor color = catalog.getCard(snapshot.hand(opponent)[i]).getSide(false).getColor();
+                assertNotEquals(CardColor.RED, color);
+                assertNotEquals(CardColor.BLUE, color);
+            }
+        }
+        game.restoreSnapshot(snapshot);
+        assertEquals(snapshot.getHandSize(opponent), game.getPlayers().get(opponent).getHandSize());
+        assertThrows(IllegalArgumentException.class,
+                () -> snapshot.shuffleHiddenCards(seat, new int[1], new GameRandomImpl(SEED)));
+    }
+
+    @Test
+    void testDealtHandIsHeld() {
+        final GameSnapshot snapshot = game.createSnapshot();
+        final int seat = snapshot.getCurrentPlayerIndex();
+        final int size = snapshot.getHandSize(seat);
+        final int deckSize = snapshot.getDrawDeckSize();
+        final int[] ids = new int[size];
+        ids[0] = snapshot.getHandCard(seat, size - 1);
+        for (int i = 1; i < size; i++) {
+            ids[i] = snapshot.getDrawDeckCard(i);
+        }
+        final int kept = snapshot.getDrawDeckCard(0);
+
+        snapshot.dealHand(seat, ids, new GameRandomImpl(SEED));
+        game.restoreSnapshot(snapshot);
+
+        final Hand hand = game.getPlayers().get(seat).getHandView();
+        for (int i = 0; i < size; i++) {
+            assertEquals(ids[i], hand.get(i).getId());
+        }
+        assertEquals(deckSize, snapshot.getDrawDeckSize());
+        assertTrue(IntStream.range(0, deckSize).anyMatch(p -> snapshot.getDrawDeckCard(p) == kept));
+        assertThrows(IllegalArgumentException.class,
+                () -> snapshot.dealHand(seat, new int[size + 1], new GameRandomImpl(SEED)));
+        final int[] discarded = ids.clone();
+        discarded[0] = game.getTopDiscardCard().orElseThrow().getId();
+        assertThrows(IllegalArgumentException.class,
+                () -> snapshot.dealHand(seat, discarded, new GameRandomImpl(SEED)));
+    }
+
+    @Test
+    void testMovedCardIsDrawnNext() {
+        final GameSnapshot snapshot = game.createSnapshot();
+        final int bottom = snapshot.getDrawDeckCard(0);
+        final AbstractPlayer player = game.getCurrentPlayer();
+
+        snapshot.moveToTopOfDrawDeck(0);
+        game.restoreSnapshot(snapshot);
+        game.drawCardForPlayer(player);
+
+        assertEquals(bottom, player.getHandView().get(player.getHandSize() - 1).getId());
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.getDrawDeckCard(snapshot.getDrawDeckSize()));
+    }
+
+    private int[] hiddenCards(final GameSnapshotImpl snapshot, final int seat) {
+        final List<Integer> ids = new ArrayList<>();
+        for (int p = 0; p < game.getPlayers().size(); p++) {
+            for (int i = 0; p != seat && i < snapshot.getHandSize(p); i++) {
+                ids.add(snapshot.hand(p)[i]);
+            }
+        }
+        for (int i = 0; i < snapshot.getDrawDeckSize(); i++) {
+            ids.add(snapshot.deck()[i]);
+        }
+        return ids.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    private static GameContext createGame(final GameMode mode) {
+        final List<AbstractPlayer> players = new ArrayList<>();
+        players.add(new AIClassic("A"));
+        players.add(new AIClassic("B"));
+        players.add(new AIClassic("C"));
+        return (GameContext) new GameFactoryImpl(GameRulesImpl.defaultRules(), new TestLogger(),
+                new GameRandomImpl(SEED)).createGame("A", mode, players);
+    }
+
+    private static void playTurns(final GameContext game, final int turns) {
+        for (int i = 0; i < turns && game.getGameState() == GameState.RUNNING; i++) {
+            ((AbstractAIPlayer) game.getCurrentPlayer()).takeTurn(game);
+        }
+    }
+
+    private static String describe(final GameContext game) {
+        final StringBuilder description = new StringBuilder()
+                .append(game.getGameState()).append('|')
+                .append(game.getCurrentColor()).append('|')
+                .append(game.isClockwise()).append('|')
+                .append(game.getCurrentPlayer().getName()).append('|')
+                .append(game.getTopDiscardCard()).append('|')
+                .append(game.getDrawDeck().size()).append('|');
+        for (final AbstractPlayer player : game.getPlayers()) {
+            description.append(player.getHand()).append(player.isHasCalledUno()).append('|');
+        }
+        return description.toString();
+    }
+}
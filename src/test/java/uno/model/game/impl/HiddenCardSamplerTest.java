@@ -0,0 +1,113 @@
+package uno.model.game.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.deck.impl.StandardDeck;
+import uno.model.utils.api.GameRandom;
+import uno.model.utils.impl.GameRandomImpl;
+
+/**
+ * Test class for HiddenCardSampler.
+ */
+class HiddenCardSamplerTest {
+
+    private static final long SEED = 3L;
+    private static final int PLAYERS = 4;
+    private static final int OBSERVER = 0;
+    private static final int HAND_SIZE = 7;
+    private static final int DEALS = 2000;
+    private static final int RED_OR_GREEN = 1 << CardColor.RED.ordinal() | 1 << CardColor.GREEN.ordinal();
+    private static final int BLUE = 1 << CardColor.BLUE.ordinal();
+
+    private final CardCatalog catalog = StandardDeck.catalog();
+    private final GameRandom random = new GameRandomImpl(SEED);
+    private HiddenCardSampler sampler;
+    private int[] pool;
+    private int[][] hands;
+    private int[] handSizes;
+    private int[] deck;
+
+    @BeforeEach
+    void setUp() {
+        sampler = new HiddenCardSampler(catalog, PLAYERS);
+        pool = IntStream.range(HAND_SIZE, catalog.size()).toArray();
+        hands = new int[PLAYERS][catalog.size()];
+        handSizes = new int[PLAYERS];
+        Arrays.fill(handSizes, HAND_SIZE);
+        deck = new int[catalog.size()];
+    }
+
+    @Test
+    void testDealKeepsEveryHiddenCard() {
+        sampler.deal(pool, pool.length, hands, handSizes, deck, OBSERVER, new int[PLAYERS], random);
+
+        assertArrayEquals(IntStream.range(HAND_SIZE, catalog.size()).toArray(), dealtCards());
+    }
+
+    @Test
+    void testMissingColorsAreRespected() {
+        final int[] voidColors = {0, RED_OR_GREEN, BLUE, 0};
+        final boolean[] dealtToFirst = new boolean[catalog.size()];
+
+        for (int deal = 0; deal < DEALS; deal++) {
+            sampler.deal(pool, pool.length, hands, handSizes, deck, OBSERVER, voidColors, random);
+
+            assertArrayEquals(IntStream.range(HAND_SIZE, catalog.size()).toArray(), dealtCards());
+            for (int i = 0; i < HAND_SIZE; i++) {
+                assertEquals(0, colorBit(hands[1][i]) & voidColors[1]);
+                assertEquals(0, colorBit(hands[2][i]) & voidColors[2]);
+                dealtToFirst[hands[1][i]] = true;
+            }
+        }
+        for (final int id : pool) {
+            assertEquals((colorBit(id) & RED_OR_GREEN) == 0, dealtToFirst[id]);
+        }
+    }
+
+    @Test
+    void testWrongKnowledgeStillDealsEveryCard() {
+        final int[] voidColors = new int[PLAYERS];
+        voidColors[1] = -1;
+
+        sampler.deal(pool, pool.length, hands, handSizes, deck, OBSERVER, voidColors, random);
+
+        assertArrayEquals(IntStream.range(HAND_SIZE, catalog.size()).toArray(), dealtCards());
+        assertTrue(Arrays.stream(hands[1], 0, HAND_SIZE).allMatch(id -> id >= HAND_SIZE));
+    }
+
+    /**
+     * Gathers the cards dealt to the opponents and the deck.
+     *
+     * @return the sorted ids.
+     */
+    private int[] dealtCards() {
+        final int deckSize = pool.length - (PLAYERS - 1) * HAND_SIZE;
+        IntStream cards = Arrays.stream(deck, 0, deckSize);
+        for (int p = 0; p < PLAYERS; p++) {
+            if (p != OBSERVER) {
+                cards = IntStream.concat(cards, Arrays.stream(hands[p], 0, HAND_SIZE));
+            }
+        }
+        return cards.sorted().toArray();
+    }
+
+    /**
+     * Gets the color of a standard card as a mask bit.
+     *
+     * @param id the catalog id.
+     * @return the bit of the color.
+     */
+    private int colorBit(final int id) {
+        return 1 << catalog.getCard(id).getSide(false).getColor().ordinal();
+    }
+}
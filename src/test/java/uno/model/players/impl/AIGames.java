@@ -0,0 +1,67 @@
+package uno.model.players.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameRules;
+import uno.model.game.impl.GameFactoryImpl;
+import uno.model.game.impl.GameRulesImpl;
+import uno.model.utils.api.GameLogger;
+import uno.model.utils.impl.GameRandomImpl;
+import uno.model.utils.impl.SilentGameLogger;
+
+/**
+ * Creates seeded games played by the heuristic AI of each mode, for the tests
+ * that replay or inspect whole games.
+ * It is public because the tests of the game API use it as well.
+ */
+public final class AIGames {
+
+    private AIGames() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Creates a game of heuristic AIs with the default rules and no log.
+     *
+     * @param mode    the game mode.
+     * @param players the number of players.
+     * @param seed    the seed of the game.
+     * @return the game.
+     */
+    public static GameContext create(final GameMode mode, final int players, final long seed) {
+        return create(mode, players, seed, GameRulesImpl.defaultRules(), new SilentGameLogger());
+    }
+
+    /**
+     * Creates a game of heuristic AIs, named "AI-0", "AI-1" and so on.
+     *
+     * @param mode    the game mode.
+     * @param players the number of players.
+     * @param seed    the seed of the game.
+     * @param rules   the rules of the game.
+     * @param logger  the logger of the game.
+     * @return the game.
+     */
+    public static GameContext create(final GameMode mode, final int players, final long seed,
+            final GameRules rules, final GameLogger logger) {
+        final List<AbstractPlayer> seats = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            switch (mode) {
+                case FLIP:
+                    seats.add(new AIFlip("AI-" + i));
+                    break;
+                case ALL_WILD:
+                    seats.add(new AIAllWild("AI-" + i));
+                    break;
+                default:
+                    seats.add(new AIClassic("AI-" + i));
+                    break;
+            }
+        }
+        return (GameContext) new GameFactoryImpl(rules, logger, new GameRandomImpl(seed))
+                .createGame(seats.get(0).getName(), mode, seats);
+    }
+}
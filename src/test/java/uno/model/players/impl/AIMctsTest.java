@@ -0,0 +1,118 @@
+package uno.model.players.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import uno.model.cards.deck.impl.StandardDeck;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameRules;
+import uno.model.game.impl.DiscardPileImpl;
+import uno.model.game.impl.GameImpl;
+import uno.model.game.impl.GameRulesImpl;
+import uno.model.game.impl.GameSetupImpl;
+import uno.model.game.impl.TurnManagerImpl;
+import uno.model.players.api.SearchBudget;
+import uno.model.utils.impl.GameRandomImpl;
+import uno.model.utils.impl.TestLogger;
+import uno.sim.api.GameOutcome;
+import uno.sim.api.SimulationEngine;
+import uno.sim.impl.SimulationEngineImpl;
+
+/**
+ * Test class for AIMcts.
+ */
+class AIMctsTest {
+
+    private static final long SEED = 3L;
+    private static final int ITERATIONS = 20;
+    private static final String MCTS_NAME = "MCTS";
+    private static final long MOVE_TIME_MILLIS = 10;
+
+    @Test
+    void testStandardGameEndsWithWinner() {
+        final GameOutcome outcome = engine(GameMode.STANDARD).playGame(SEED);
+
+        assertTrue(outcome.winner().isPresent(), "A game with a search AI should finish");
+    }
+
+    @Test
+    void testSeededSearchIsReproducible() {
+        final SimulationEngine engine = engine(GameMode.FLIP);
+
+        assertEquals(engine.playGame(SEED), engine.playGame(SEED));
+    }
+
+    @Test
+    void testAllWildTargetsAreChosen() {
+        final GameOutcome outcome = engine(GameMode.ALL_WILD).playGame(SEED);
+
+        assertTrue(outcome.turns() > 0);
+    }
+
+    @Test
+    void testFallbackWithoutSnapshots() {
+        final AIMcts mcts = new AIMcts(MCTS_NAME, GameMode.STANDARD, SearchBudget.iterations(ITERATIONS), SEED);
+        final List<AbstractPlayer> players = new ArrayList<>();
+        players.add(mcts);
+        players.add(new AIClassic("Opponent"));
+
+        final TestLogger logger = new TestLogger();
+        final StandardDeck deck = new StandardDeck(logger, new GameRandomImpl(SEED));
+        final GameRules rules = new GameRulesImpl(false, false, false, false);
+        final GameImpl game = new GameImpl(deck, players, new TurnManagerImpl(players, rules), new DiscardPileImpl(),
+                GameMode.STANDARD.name(), logger, rules);
+        new GameSetupImpl(game, deck, game.getDiscardPile(), players).initializeGame(false);
+        while (!game.getCurrentPlayer().equals(mcts)) {
+            game.aiAdvanceTurn();
+        }
+
+        mcts.takeTurn(game);
+
+        assertNotEquals(mcts, game.getCurrentPlayer());
+    }
+
+    @Test
+    void testMoveTimeLimitStopsUnlimitedSearch() {
+        final SimulationEngine engine = new SimulationEngineImpl(GameMode.STANDARD, GameRulesImpl.defaultRules(),
+                () -> {
+                    final AIMcts mcts = new AIMcts(MCTS_NAME, GameMode.STANDARD,
+                            SearchBudget.iterations(Integer.MAX_VALUE), SEED);
+                    mcts.setMoveTimeLimit(MOVE_TIME_MILLIS);
+                    return List.of(mcts, opponent(GameMode.STANDARD, "A"));
+                });
+
+        assertTrue(engine.playGame(SEED).winner().isPresent());
+    }
+
+    @Test
+    void testInvalidBudgetIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SearchBudget(0, ITERATIONS, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SearchBudget(1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SearchBudget(1, -1, 1));
+    }
+
+    private static SimulationEngine engine(final GameMode mode) {
+        return new SimulationEngineImpl(mode, GameRulesImpl.defaultRules(), () -> List.of(
+                new AIMcts(MCTS_NAME, mode, SearchBudget.iterations(ITERATIONS), SEED),
+                opponent(mode, "A"),
+                opponent(mode, "B")));
+    }
+
+    private static AbstractAIPlayer opponent(final GameMode mode, final String name) {
+        switch (mode) {
+            case FLIP:
+                return new AIFlip(name);
+            case ALL_WILD:
+                return new AIAllWild(name);
+            default:
+                return new AIClassic(name);
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package uno.model.players.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.Game;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameEventListener;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameState;
+import uno.model.game.impl.GameRulesImpl;
+import uno.model.players.api.AIDecision;
+import uno.model.players.api.AIStrategy;
+import uno.model.utils.api.GameLogger;
+
+/**
+ * Test class for the step-by-step decisions of AbstractAIPlayer.
+ */
+class AbstractAIPlayerTest {
+
+    private static final long SEED = 8L;
+    private static final int PLAYERS = 3;
+    private static final int TURNS = 300;
+    private static final long MOVE_TIME_MILLIS = 50;
+    private static final long SLOW_MILLIS = 5000;
+    private static final int EMPTY_DECK_GAMES = 10;
+    private static final String DECK_EMPTY = "DECK_EMPTY";
+    private static final String PASS_TURN = "PASS_TURN";
+
+    @Test
+    void testStepsPlayLikeWholeTurns() {
+        for (final GameMode mode : GameMode.values()) {
+            final GameContext byTurns = AIGames.create(mode, PLAYERS, SEED);
+            final GameContext bySteps = AIGames.create(mode, PLAYERS, SEED);
+
+            for (int turn = 0; turn < TURNS && byTurns.getGameState() == GameState.RUNNING; turn++) {
+                byTurns.getCurrentPlayer().takeTurn(byTurns);
+                playTurnInSteps(bySteps);
+
+                assertEquals(describe(byTurns), describe(bySteps), mode + " turn " + turn);
+            }
+        }
+    }
+
+    @Test
+    void testDecidingLeavesTheGameUnchanged() {
+        final GameContext game = AIGames.create(GameMode.FLIP, PLAYERS, SEED);
+
+        for (int turn = 0; turn < TURNS && game.getGameState() == GameState.RUNNING; turn++) {
+            final AbstractAIPlayer player = (AbstractAIPlayer) game.getCurrentPlayer();
+            final String before = describe(game);
+
+            player.decide(game);
+
+            assertEquals(before, describe(game));
+            player.takeTurn(game);
+        }
+    }
+
+    @Test
+    void testDrawFromEmptyDeckEndsTheGame() {
+        for (long seed = 0; seed < EMPTY_DECK_GAMES; seed++) {
+            for (final boolean skipAfterDraw : new boolean[] {false, true}) {
+                final String game = "seed " + seed + ", skip after draw " + skipAfterDraw;
+                final RecordingLogger logger = new RecordingLogger();
+                final GameContext emptyDeck = createEmptyDeckGame(seed, skipAfterDraw, logger);
+
+                for (int turn = 0; turn < TURNS && emptyDeck.getGameState() == GameState.RUNNING; turn++) {
+                    emptyDeck.getCurrentPlayer().takeTurn(emptyDeck);
+                }
+
+                assertEquals(GameState.GAME_OVER, emptyDeck.getGameState(), game);
+                assertTrue(logger.actions.contains(DECK_EMPTY), game);
+            }
+        }
+    }
+
+    @Test
+    void testPassesAreLoggedAndReported() {
+        final RecordingLogger logger = new RecordingLogger();
+        final GameContext game = AIGames.create(GameMode.STANDARD, PLAYERS, SEED,
+                new GameRulesImpl(true, true, false, true), logger);
+        final List<AbstractPlayer> passers = new ArrayList<>();
+        game.addEventListener(new GameEventListener() {
+            @Override
+            public void onTurnPassed(final Game source, final AbstractPlayer player) {
+                passers.add(player);
+            }
+        });
+
+        for (int turn = 0; turn < TURNS && game.getGameState() != GameState.GAME_OVER; turn++) {
+            if (game.getGameState() == GameState.ROUND_OVER) {
+                game.startNewRound();
+            }
+            game.getCurrentPlayer().takeTurn(game);
+        }
+
+        assertFalse(passers.isEmpty());
+        assertEquals(passers.size(), Collections.frequency(logger.actions, PASS_TURN));
+    }
+
+    @Test
+    void testInconsistentDecisionIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new AIDecision(AIDecision.Kind.PLAY,
+                Optional.empty(), Optional.empty(), Optional.empty()));
+    }
+
+    @Test
+    void testLateDecisionFallsBackToHeuristics() {
+        final GameContext game = AIGames.create(GameMode.STANDARD, PLAYERS, SEED);
+        final AbstractAIPlayer player = (AbstractAIPlayer) game.getCurrentPlayer();
+        final AIDecision heuristic = player.decide(game);
+        assertEquals(AIDecision.Kind.PLAY, heuristic.kind());
+        player.setStrategy(new SlowStrategy());
+        player.setMoveTimeLimit(MOVE_TIME_MILLIS);
+
+        final long start = System.nanoTime();
+        final AIDecision decision = player.decide(game);
+
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(SLOW_MILLIS));
+        assertEquals(heuristic, decision);
+        assertEquals(1, player.getFallbackDecisions());
+    }
+
+    @Test
+    void testLateDecisionStopsBeforeTheFallback() {
+        final GameContext game = AIGames.create(GameMode.STANDARD, PLAYERS, SEED);
+        final AbstractAIPlayer player = (AbstractAIPlayer) game.getCurrentPlayer();
+        final StubbornStrategy strategy = new StubbornStrategy();
+        player.setStrategy(strategy);
+        player.setMoveTimeLimit(MOVE_TIME_MILLIS);
+
+        player.decide(game);
+
+        assertTrue(strategy.finished);
+        assertEquals(1, player.getFallbackDecisions());
+    }
+
+    @Test
+    void testAnytimeDecisionMeetsItsDeadline() {
+        final GameContext game = AIGames.create(GameMode.STANDARD, PLAYERS, SEED);
+        final AbstractAIPlayer player = (AbstractAIPlayer) game.getCurrentPlayer();
+        player.setStrategy(new AnytimeStrategy());
+        player.setMoveTimeLimit(MOVE_TIME_MILLIS);
+
+        assertEquals(AIDecision.draw(), player.decide(game));
+        assertEquals(0, player.getFallbackDecisions());
+    }
+
+    @Test
+    void testNegativeMoveTimeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new AIClassic("AI").setMoveTimeLimit(-1));
+    }
+
+    /**
+     * Plays a turn one decision at a time, as the controller does.
+     *
+     * @param game the game.
+     */
+    private static void playTurnInSteps(final GameContext game) {
+        final AbstractAIPlayer player = (AbstractAIPlayer) game.getCurrentPlayer();
+        AIDecision decision = player.decide(game);
+        player.apply(game, decision);
+        while (decision.kind() != AIDecision.Kind.NONE && game.getCurrentPlayer() == player
+                && (game.getGameState() == GameState.WAITING_FOR_COLOR
+                        || game.getGameState() == GameState.WAITING_FOR_PLAYER
+                        || game.getGameState() == GameState.RUNNING && game.hasCurrentPlayerDrawn(player))) {
+            decision = player.decide(game);
+            player.apply(game, decision);
+        }
+    }
+
+    /**
+     * Describes what the players can see of a game.
+     *
+     * @param game the game.
+     * @return the description.
+     */
+    private static String describe(final Game game) {
+        final StringBuilder description = new StringBuilder()
+                .append(game.getGameState()).append(' ')
+                .append(game.getCurrentPlayer().getName()).append(' ')
+                .append(game.getCurrentColor()).append(' ')
+                .append(game.getTopDiscardCard().map(card -> card.getId()).orElse(-1));
+        for (final AbstractPlayer player : game.getPlayers()) {
+            description.append(' ').append(player.getHandSize());
+        }
+        return description.toString();
+    }
+
+    /**
+     * Creates a game of two heuristic AIs under the no-reshuffle rule, with an
+     * empty draw deck, so that the first draw ends the game.
+     *
+     * @param seed          the seed of the game.
+     * @param skipAfterDraw true to end the turn after drawing.
+     * @param logger        the logger of the game.
+     * @return the game.
+     */
+    private static GameContext createEmptyDeckGame(final long seed, final boolean skipAfterDraw,
+            final GameLogger logger) {
+        final GameContext game = AIGames.create(GameMode.STANDARD, 2, seed,
+                new GameRulesImpl(false, skipAfterDraw, true, false), logger);
+        while (!game.getDrawDeck().isEmpty()) {
+            game.getDrawDeck().draw();
+        }
+        return game;
+    }
+
+    /**
+     * Logger that remembers the types of the logged actions.
+     */
+    private static final class RecordingLogger implements GameLogger {
+
+        private final List<String> actions = new ArrayList<>();
+
+        @Override
+        public void logAction(final String playerName, final String actionType, final String cardDetails,
+                final String extraInfo) {
+            actions.add(actionType);
+        }
+
+        @Override
+        public void logError(final String context, final Exception e) {
+            // Not recorded
+        }
+    }
+
+    /**
+     * Strategy that always decides and takes far longer than any deadline.
+     */
+    private static final class SlowStrategy implements AIStrategy {
+
+        @Override
+        public boolean isActive(final Game game, final AbstractPlayer player) {
+            return true;
+        }
+
+        @Override
+        public Optional<Card> chooseCardToPlay(final Game game, final AbstractPlayer player) {
+            try {
+                Thread.sleep(SLOW_MILLIS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public CardColor chooseBestColor(final Game game, final AbstractPlayer player) {
+            return CardColor.RED;
+        }
+
+        @Override
+        public Optional<AbstractPlayer> chooseTargetPlayer(final Game game, final AbstractPlayer player) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Strategy that ignores interrupts and thinks well past its deadline.
+     */
+    private static final class StubbornStrategy implements AIStrategy {
+
+        private volatile boolean finished;
+
+        @Override
+        public boolean isActive(final Game game, final AbstractPlayer player) {
+            return true;
+        }
+
+        @Override
+        public Optional<Card> chooseCardToPlay(final Game game, final AbstractPlayer player) {
+            final long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MOVE_TIME_MILLIS * 4);
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            finished = true;
+            return Optional.empty();
+        }
+
+        @Override
+        public CardColor chooseBestColor(final Game game, final AbstractPlayer player) {
+            return CardColor.RED;
+        }
+
+        @Override
+        public Optional<AbstractPlayer> chooseTargetPlayer(final Game game, final AbstractPlayer player) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Strategy that thinks until its deadline, then draws.
+     */
+    private static final class AnytimeStrategy implements AIStrategy {
+
+        @Override
+        public boolean isActive(final Game game, final AbstractPlayer player) {
+            return true;
+        }
+
+        @Override
+        public Optional<Card> chooseCardToPlay(final Game game, final AbstractPlayer player) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Card> chooseCardToPlay(final Game game, final AbstractPlayer player,
+                final long deadlineNanos) {
+            while (System.nanoTime() < deadlineNanos) {
+                Thread.onSpinWait();
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public CardColor chooseBestColor(final Game game, final AbstractPlayer player) {
+            return CardColor.RED;
+        }
+
+        @Override
+        public Optional<AbstractPlayer> chooseTargetPlayer(final Game game, final AbstractPlayer player) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package uno.model.players.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.types.api.Card;
+import uno.model.game.api.Game;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameEventListener;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameSnapshot;
+import uno.model.game.api.GameState;
+import uno.model.players.api.CardTracker;
+import uno.model.players.api.Hand;
+
+/**
+ * Test class for CardTrackerImpl.
+ */
+class CardTrackerImplTest {
+
+    private static final long SEED = 11L;
+    private static final int PLAYERS = 4;
+    private static final int TURNS = 400;
+
+    @Test
+    void testNewGameUnseenCards() {
+        final GameContext game = AIGames.create(GameMode.STANDARD, PLAYERS, SEED);
+        final AbstractAIPlayer owner = (AbstractAIPlayer) game.getPlayers().get(0);
+        final CardCatalog catalog = game.getDrawDeck().getCatalog().orElseThrow();
+
+        assertTrue(owner.getCardTracker().isTracking());
+        assertEquals(catalog.size() - owner.getHandSize() - game.getDiscardPile().size(),
+                owner.getCardTracker().getUnseenCount());
+        assertMatchesGame(owner, game);
+    }
+
+    @Test
+    void testStandardGameStaysInSync() {
+        playAndCheck(AIGames.create(GameMode.STANDARD, PLAYERS, SEED));
+    }
+
+    @Test
+    void testFlipGameStaysInSync() {
+        playAndCheck(AIGames.create(GameMode.FLIP, PLAYERS, SEED));
+    }
+
+    @Test
+    void testAllWildGameStaysInSync() {
+        playAndCheck(AIGames.create(GameMode.ALL_WILD, PLAYERS, SEED));
+    }
+
+    @Test
+    void testPassRecordsMissingColor() {
+        final GameContext game = AIGames.create(GameMode.STANDARD, PLAYERS, SEED);
+        final AbstractAIPlayer owner = (AbstractAIPlayer) game.getPlayers().get(0);
+        final List<CardColor> passedOn = new ArrayList<>();
+        final List<AbstractPlayer> passers = new ArrayList<>();
+        game.addEventListener(new GameEventListener() {
+            @Override
+            public void onTurnPassed(final Game source, final AbstractPlayer player) {
+                passers.add(player);
+                passedOn.add(source.getCurrentColor().orElseThrow());
+            }
+        });
+
+        for (int turn = 0; turn < TURNS && passers.stream().allMatch(owner::equals) && !isOver(game); turn++) {
+            game.getCurrentPlayer().takeTurn(game);
+        }
+
+        assertFalse(passers.isEmpty());
+        final AbstractPlayer passer = passers.get(passers.size() - 1);
+        final int seat = game.getPlayers().indexOf(passer);
+        assertTrue(owner.getCardTracker().isVoid(seat, passedOn.get(passedOn.size() - 1)));
+        assertFalse(owner.getCardTracker().isVoid(0, passedOn.get(passedOn.size() - 1)));
+    }
+
+    @Test
+    void testRestoredGameIsRecounted() {
+        final GameContext game = AIGames.create(GameMode.STANDARD, PLAYERS, SEED);
+        final AbstractAIPlayer owner = (AbstractAIPlayer) game.getPlayers().get(0);
+        final GameSnapshot start = game.createSnapshot();
+        final int unseen = owner.getCardTracker().getUnseenCount();
+
+        for (int turn = 0; turn < PLAYERS * 2 && !isOver(game); turn++) {
+            game.getCurrentPlayer().takeTurn(game);
+        }
+        game.restoreSnapshot(start);
+
+        assertEquals(unseen, owner.getCardTracker().getUnseenCount());
+        assertMatchesGame(owner, game);
+    }
+
+    /**
+     * Plays a game and checks the trackers of all the players after every turn.
+     *
+     * @param game the game.
+     */
+    private static void playAndCheck(final GameContext game) {
+        for (int turn = 0; turn < TURNS && !isOver(game); turn++) {
+            game.getCurrentPlayer().takeTurn(game);
+            for (final AbstractPlayer player : game.getPlayers()) {
+                assertMatchesGame((AbstractAIPlayer) player, game);
+            }
+        }
+    }
+
+    /**
+     * Checks a tracker against the cards of a game: the unseen cards are those
+     * outside the owner's hand and the discard pile, and no player holds a color
+     * it is known not to hold.
+     *
+     * @param owner the owner of the tracker.
+     * @param game  the game.
+     */
+    private static void assertMatchesGame(final AbstractAIPlayer owner, final GameContext game) {
+        final CardTracker tracker = owner.getCardTracker();
+        final CardCatalog catalog = game.getDrawDeck().getCatalog().orElseThrow();
+        final List<Card> pile = game.getDiscardPile().getSnapshot();
+        final int[] ids = new int[catalog.size()];
+        final int count = tracker.copyUnseenIds(ids);
+
+        int expected = 0;
+        int red = 0;
+        for (int id = 0; id < catalog.size(); id++) {
+            final Card card = catalog.getCard(id);
+            final boolean unseen = !owner.getHandView().contains(card) && !pile.contains(card);
+            assertEquals(unseen, tracker.isUnseen(id));
+            if (unseen) {
+                assertEquals(id, ids[expected]);
+                expected++;
+                if (card.getSide(false).getColor() == CardColor.RED) {
+                    red++;
+                }
+            }
+        }
+        assertEquals(expected, count);
+        assertEquals(expected, tracker.getUnseenCount());
+        assertEquals(red, tracker.countUnseenColor(CardColor.RED, false));
+
+        for (int seat = 0; seat < game.getPlayers().size(); seat++) {
+            final Hand hand = game.getPlayers().get(seat).getHandView();
+            if (game.getPlayers().get(seat) == owner) {
+                continue;
+            }
+            for (final CardColor color : CardColor.values()) {
+                if (tracker.isVoid(seat, color)) {
+                    assertEquals(0, hand.countColor(color, false) + hand.countColor(color, true));
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the round of a game is over.
+     *
+     * @param game the game.
+     * @return true if the round or the game is over.
+     */
+    private static boolean isOver(final Game game) {
+        return game.getGameState() == GameState.ROUND_OVER || game.getGameState() == GameState.GAME_OVER;
+    }
+}
@@ -0,0 +1,98 @@
+package uno.model.players.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import uno.model.game.api.Game;
+import uno.model.game.api.GameMode;
+import uno.model.game.impl.GameFactoryImpl;
+import uno.model.game.impl.GameRulesImpl;
+import uno.model.utils.impl.GameRandomImpl;
+import uno.model.utils.impl.SilentGameLogger;
+import uno.sim.api.GameOutcome;
+import uno.sim.api.SimulationEngine;
+import uno.sim.impl.SimulationEngineImpl;
+
+/**
+ * Test class for EndgameSolver.
+ */
+class EndgameSolverTest {
+
+    private static final long SEED = 5L;
+    private static final int TOTAL_CARDS = 5;
+    private static final int PLIES = 3;
+    private static final int DEALS = 2;
+    private static final int GAMES = 4;
+
+    @Test
+    void testStandardGameEndsWithWinner() {
+        final GameOutcome outcome = engine(GameMode.STANDARD, new ArrayList<>()).playGame(SEED);
+
+        assertTrue(outcome.winner().isPresent(), "A game with an endgame solver should finish");
+    }
+
+    @Test
+    void testFlipGameIsReproducible() {
+        final SimulationEngine engine = engine(GameMode.FLIP, new ArrayList<>());
+
+        assertEquals(engine.playGame(SEED), engine.playGame(SEED));
+    }
+
+    @Test
+    void testTwoPlayerEndgamesAreSolvedExactly() {
+        final List<EndgameSolver> solvers = new ArrayList<>();
+        final SimulationEngine engine = engine(GameMode.STANDARD, solvers);
+
+        for (int i = 0; i < GAMES; i++) {
+            engine.playGame(SEED + i);
+        }
+
+        assertTrue(solvers.stream().mapToLong(EndgameSolver::getExactDecisions).sum() > 0);
+        assertTrue(solvers.stream().mapToLong(EndgameSolver::getNodes).sum() > 0);
+    }
+
+    @Test
+    void testEndPhaseIsOptional() {
+        final List<AbstractPlayer> players = List.of(new AIClassic("A", true), new AIFlip("B", true),
+                new AIClassic("C"), new AIFlip("D", false));
+        final Game game = new GameFactoryImpl(GameRulesImpl.defaultRules(), new SilentGameLogger(),
+                new GameRandomImpl(SEED)).createGame("A", GameMode.STANDARD, players);
+
+        assertTrue(((AbstractAIPlayer) players.get(0)).getStrategy().isPresent());
+        assertTrue(((AbstractAIPlayer) players.get(1)).getStrategy().isPresent());
+        assertFalse(((AbstractAIPlayer) players.get(2)).getStrategy().isPresent());
+        assertFalse(((AbstractAIPlayer) players.get(3)).getStrategy().isPresent());
+        assertFalse(((AbstractAIPlayer) players.get(0)).getStrategy().get().isActive(game, players.get(0)));
+    }
+
+    @Test
+    void testInvalidSettingsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new EndgameSolver(GameMode.STANDARD, -1, PLIES, DEALS, SEED));
+        assertThrows(IllegalArgumentException.class,
+                () -> new EndgameSolver(GameMode.STANDARD, TOTAL_CARDS, 0, DEALS, SEED));
+        assertThrows(IllegalArgumentException.class,
+                () -> new EndgameSolver(GameMode.STANDARD, TOTAL_CARDS, PLIES, 0, SEED));
+    }
+
+    private static SimulationEngine engine(final GameMode mode, final List<EndgameSolver> solvers) {
+        return new SimulationEngineImpl(mode, GameRulesImpl.defaultRules(), () -> {
+            final EndgameSolver solver = new EndgameSolver(mode, TOTAL_CARDS, PLIES, DEALS, SEED);
+            solvers.add(solver);
+            final List<AbstractAIPlayer> players = List.of(player(mode, "A"), player(mode, "B"));
+            players.get(0).setStrategy(solver);
+            return players;
+        });
+    }
+
+    private static AbstractAIPlayer player(final GameMode mode, final String name) {
+        return mode == GameMode.FLIP ? new AIFlip(name) : new AIClassic(name);
+    }
+}
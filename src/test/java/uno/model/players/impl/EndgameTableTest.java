@@ -0,0 +1,87 @@
+package uno.model.players.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for EndgameTable.
+ */
+class EndgameTableTest {
+
+    private static final int CAPACITY = 16;
+    private static final int WIDTH = 3;
+    private static final double VALUE = 0.75;
+    private static final double OTHER_VALUE = 0.25;
+    private static final int DEPTH = 4;
+    private static final double DELTA = 1e-6;
+
+    @Test
+    void testStoredEntryIsFound() {
+        final EndgameTable table = new EndgameTable(CAPACITY, WIDTH);
+
+        table.store(key(1), DEPTH, VALUE);
+        final int slot = table.find(key(1));
+
+        assertNotEquals(EndgameTable.MISS, slot);
+        assertEquals(VALUE, table.valueAt(slot), DELTA);
+        assertEquals(DEPTH, table.depthAt(slot));
+    }
+
+    @Test
+    void testKeysNeverShareAnEntry() {
+        final EndgameTable table = new EndgameTable(CAPACITY, WIDTH);
+
+        for (int i = 0; i < CAPACITY / 2; i++) {
+            table.store(key(i), DEPTH, i);
+        }
+
+        for (int i = 0; i < CAPACITY / 2; i++) {
+            assertEquals(i, table.valueAt(table.find(key(i))), DELTA);
+        }
+        assertEquals(EndgameTable.MISS, table.find(key(CAPACITY)));
+    }
+
+    @Test
+    void testDeeperSearchIsKept() {
+        final EndgameTable table = new EndgameTable(CAPACITY, WIDTH);
+
+        table.store(key(1), EndgameTable.EXACT, VALUE);
+        table.store(key(1), DEPTH, OTHER_VALUE);
+
+        assertEquals(VALUE, table.valueAt(table.find(key(1))), DELTA);
+        assertEquals(EndgameTable.EXACT, table.depthAt(table.find(key(1))));
+    }
+
+    @Test
+    void testFullTableIsEmptied() {
+        final EndgameTable table = new EndgameTable(CAPACITY, WIDTH);
+
+        for (int i = 0; i <= CAPACITY / 2; i++) {
+            table.store(key(i), DEPTH, VALUE);
+        }
+
+        assertEquals(1, table.size());
+        assertEquals(EndgameTable.MISS, table.find(key(0)));
+        assertNotEquals(EndgameTable.MISS, table.find(key(CAPACITY / 2)));
+    }
+
+    @Test
+    void testInvalidArgumentsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new EndgameTable(0, WIDTH));
+        assertThrows(IllegalArgumentException.class, () -> new EndgameTable(CAPACITY, 0));
+        assertThrows(IllegalArgumentException.class, () -> new EndgameTable(CAPACITY, WIDTH).store(key(1), 0, VALUE));
+    }
+
+    /**
+     * Builds a key that differs from the others only in its middle long.
+     *
+     * @param index the index of the key.
+     * @return the key.
+     */
+    private static long[] key(final int index) {
+        return new long[] {1, index, 1};
+    }
+}
@@ -0,0 +1,96 @@
+package uno.model.players.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import uno.model.game.api.Game;
+import uno.model.game.api.GameMode;
+import uno.model.game.impl.GameFactoryImpl;
+import uno.model.game.impl.GameRulesImpl;
+import uno.model.players.api.SearchBudget;
+import uno.model.utils.impl.GameRandomImpl;
+import uno.model.utils.impl.SilentGameLogger;
+import uno.sim.api.GameOutcome;
+import uno.sim.api.SimulationEngine;
+import uno.sim.impl.SimulationEngineImpl;
+
+/**
+ * Test class for ExpectimaxStrategy.
+ */
+class ExpectimaxStrategyTest {
+
+    private static final long SEED = 3L;
+    private static final int DEPTH = 3;
+    private static final int DEALS = 2;
+    private static final int ENDGAME_CARDS = 3;
+
+    @Test
+    void testStandardGameEndsWithWinner() {
+        final GameOutcome outcome = engine(GameMode.STANDARD).playGame(SEED);
+
+        assertTrue(outcome.winner().isPresent(), "A game with an endgame search should finish");
+    }
+
+    @Test
+    void testFlipGameIsReproducible() {
+        final SimulationEngine engine = engine(GameMode.FLIP);
+
+        assertEquals(engine.playGame(SEED), engine.playGame(SEED));
+    }
+
+    @Test
+    void testAllWildGameIsPlayed() {
+        final GameOutcome outcome = engine(GameMode.ALL_WILD).playGame(SEED);
+
+        assertTrue(outcome.turns() > 0);
+    }
+
+    @Test
+    void testInactiveBeforeEndgame() {
+        final ExpectimaxStrategy strategy = strategy(GameMode.STANDARD);
+        final List<AbstractPlayer> players = List.of(new AIClassic("A"), new AIClassic("B"));
+        final Game game = new GameFactoryImpl(GameRulesImpl.defaultRules(), new SilentGameLogger(),
+                new GameRandomImpl(SEED)).createGame("A", GameMode.STANDARD, players);
+
+        assertFalse(strategy.isActive(game, players.get(0)));
+        assertTrue(new ExpectimaxStrategy(GameMode.STANDARD, DEPTH, Integer.MAX_VALUE,
+                SearchBudget.iterations(DEALS), SEED).isActive(game, players.get(0)));
+    }
+
+    @Test
+    void testInvalidSettingsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpectimaxStrategy(GameMode.STANDARD, 0,
+                ENDGAME_CARDS, SearchBudget.iterations(DEALS), SEED));
+        assertThrows(IllegalArgumentException.class, () -> new ExpectimaxStrategy(GameMode.STANDARD, DEPTH,
+                -1, SearchBudget.iterations(DEALS), SEED));
+    }
+
+    private static ExpectimaxStrategy strategy(final GameMode mode) {
+        return new ExpectimaxStrategy(mode, DEPTH, ENDGAME_CARDS, SearchBudget.iterations(DEALS), SEED);
+    }
+
+    private static SimulationEngine engine(final GameMode mode) {
+        return new SimulationEngineImpl(mode, GameRulesImpl.defaultRules(), () -> {
+            final List<AbstractAIPlayer> players = List.of(player(mode, "A"), player(mode, "B"), player(mode, "C"));
+            players.get(0).setStrategy(strategy(mode));
+            return players;
+        });
+    }
+
+    private static AbstractAIPlayer player(final GameMode mode, final String name) {
+        switch (mode) {
+            case FLIP:
+                return new AIFlip(name);
+            case ALL_WILD:
+                return new AIAllWild(name);
+            default:
+                return new AIClassic(name);
+        }
+    }
+}
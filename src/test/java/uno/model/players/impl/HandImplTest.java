@@ -0,0 +1,150 @@
+package uno.model.players.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.cards.attributes.CardValue;
+import uno.model.cards.behaviors.impl.BackSideBehavior;
+import uno.model.cards.behaviors.impl.NumericBehavior;
+import uno.model.cards.behaviors.impl.WildBehavior;
+import uno.model.cards.deck.api.CardCatalog;
+import uno.model.cards.deck.impl.FlipDeck;
+import uno.model.cards.deck.impl.StandardDeck;
+import uno.model.cards.types.api.Card;
+import uno.model.cards.types.impl.DoubleSidedCard;
+import uno.model.players.api.Hand;
+
+/**
+ * Unit tests for HandImpl and the hand view exposed by AbstractPlayer.
+ */
+class HandImplTest {
+
+    private static final int ALL_CARDS = 112;
+
+    private HandImpl hand;
+
+    @BeforeEach
+    void setUp() {
+        hand = new HandImpl();
+    }
+
+    @Test
+    void testCountsFollowAddAndRemove() {
+        final Card redSeven = numeric(CardColor.RED, CardValue.SEVEN);
+        final Card blueSeven = numeric(CardColor.BLUE, CardValue.SEVEN);
+        final Card wild = new DoubleSidedCard(new WildBehavior(CardValue.WILD, 0), BackSideBehavior.getInstance());
+
+        hand.add(redSeven);
+        hand.add(blueSeven);
+        hand.add(wild);
+
+        assertEquals(3, hand.size());
+        assertEquals(1, hand.countColor(CardColor.RED, false));
+        assertEquals(2, hand.countValue(CardValue.SEVEN, false));
+        assertEquals(1, hand.countColor(CardColor.WILD, false));
+        assertEquals(0, hand.countColor(CardColor.RED, true), "The card back must not be counted");
+
+        assertTrue(hand.remove(redSeven));
+        assertFalse(hand.remove(redSeven));
+        assertEquals(0, hand.countColor(CardColor.RED, false));
+        assertEquals(1, hand.countValue(CardValue.SEVEN, false));
+        assertSame(blueSeven, hand.get(0));
+        assertSame(wild, hand.get(1));
+
+        hand.clear();
+        assertTrue(hand.isEmpty());
+        assertEquals(0, hand.countValue(CardValue.SEVEN, false));
+    }
+
+    @Test
+    void testPlayableQueries() {
+        hand.add(numeric(CardColor.RED, CardValue.SEVEN));
+
+        assertTrue(hand.hasPlayableCard(CardColor.RED, CardValue.ONE, false));
+        assertTrue(hand.hasPlayableCard(CardColor.BLUE, CardValue.SEVEN, false));
+        assertFalse(hand.hasPlayableCard(CardColor.BLUE, CardValue.ONE, false));
+
+        hand.add(new DoubleSidedCard(new WildBehavior(CardValue.WILD, 0), BackSideBehavior.getInstance()));
+        assertTrue(hand.hasPlayableCard(CardColor.BLUE, CardValue.ONE, false));
+    }
+
+    @Test
+    void testCatalogCardsUseIds() {
+        final CardCatalog catalog = StandardDeck.catalog();
+        final Card first = catalog.getCard(0);
+        final Card last = catalog.getCard(catalog.size() - 1);
+
+        hand.add(first);
+        hand.add(last);
+
+        assertTrue(hand.contains(first));
+        assertTrue(hand.contains(last));
+        assertFalse(hand.contains(catalog.getCard(1)));
+        assertFalse(hand.contains(null));
+        assertThrows(IllegalStateException.class, () -> hand.add(first));
+
+        assertTrue(hand.remove(first));
+        assertFalse(hand.contains(first));
+        assertEquals(1, hand.size());
+    }
+
+    @Test
+    void testDarkSideCounts() {
+        final CardCatalog catalog = FlipDeck.catalog();
+        for (final Card card : catalog.getCards()) {
+            hand.add(card);
+        }
+
+        int light = 0;
+        int dark = 0;
+        for (final CardColor color : CardColor.values()) {
+            light += hand.countColor(color, false);
+            dark += hand.countColor(color, true);
+        }
+        assertEquals(ALL_CARDS, light);
+        assertEquals(ALL_CARDS, dark);
+        assertEquals(0, hand.countColor(CardColor.PINK, false));
+        assertEquals(0, hand.countColor(CardColor.RED, true));
+        assertTrue(hand.countColor(CardColor.PINK, true) > 0);
+    }
+
+    @Test
+    void testPlayerViewIsLive() {
+        final AbstractPlayer player = new AIClassic("AI");
+        final Hand view = player.getHandView();
+        final Card card = numeric(CardColor.GREEN, CardValue.TWO);
+
+        player.addCardToHand(card);
+        assertEquals(1, view.size());
+        assertTrue(view.contains(card));
+
+        player.setHand(List.of(Optional.of(numeric(CardColor.RED, CardValue.ONE))));
+        assertFalse(view.contains(card));
+        assertEquals(1, view.countColor(CardColor.RED, false));
+
+        assertTrue(player.playCard(Optional.of(view.get(0))));
+        assertTrue(view.isEmpty());
+        assertTrue(player.hasWon());
+    }
+
+    /**
+     * Creates a numeric card outside any catalog.
+     * 
+     * @param color the color of the card.
+     * @param value the value of the card.
+     * @return the card.
+     */
+    private static Card numeric(final CardColor color, final CardValue value) {
+        return new DoubleSidedCard(new NumericBehavior(color, value), BackSideBehavior.getInstance());
+    }
+}
@@ -0,0 +1,81 @@
+package uno.model.players.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import uno.model.cards.attributes.CardColor;
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameState;
+import uno.model.players.api.Hand;
+
+/**
+ * Test class for MoveGenerator.
+ */
+class MoveGeneratorTest {
+
+    private static final long SEED = 5L;
+    private static final int PLAYERS = 3;
+    private static final int TURNS = 200;
+    private static final int SEAT = 2;
+
+    @Test
+    void testMovesMatchMoveValidity() {
+        for (final GameMode mode : GameMode.values()) {
+            final GameContext game = AIGames.create(mode, PLAYERS, SEED);
+
+            for (int turn = 0; turn < TURNS && game.getGameState() == GameState.RUNNING; turn++) {
+                final AbstractAIPlayer player = (AbstractAIPlayer) game.getCurrentPlayer();
+                final int[] moves = new int[MoveGenerator.bufferSize(game, player)];
+                final int count = MoveGenerator.legalMoves(game, player, moves);
+
+                final List<Integer> expected = new ArrayList<>();
+                final Hand hand = player.getHandView();
+                for (int i = 0; i < hand.size(); i++) {
+                    if (player.isMoveValid(hand.get(i), game)) {
+                        expected.add(i);
+                    }
+                }
+                if (expected.isEmpty()) {
+                    expected.add(MoveGenerator.DRAW);
+                }
+                final List<Integer> actual = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    actual.add(moves[i]);
+                }
+                assertEquals(expected, actual, mode + " turn " + turn);
+
+                player.takeTurn(game);
+            }
+        }
+    }
+
+    @Test
+    void testChoicesAreEncoded() {
+        final int colorMove = MoveGenerator.colorMove(CardColor.TEAL);
+        final int targetMove = MoveGenerator.targetMove(SEAT);
+
+        assertEquals(Optional.of(CardColor.TEAL), MoveGenerator.colorOf(colorMove));
+        assertEquals(-1, MoveGenerator.targetOf(colorMove));
+        assertEquals(SEAT, MoveGenerator.targetOf(targetMove));
+        assertTrue(MoveGenerator.colorOf(targetMove).isEmpty());
+        assertTrue(MoveGenerator.isCardMove(0));
+        assertTrue(!MoveGenerator.isCardMove(colorMove) && !MoveGenerator.isCardMove(MoveGenerator.DRAW));
+    }
+
+    @Test
+    void testShortBufferIsRejected() {
+        final GameContext game = AIGames.create(GameMode.STANDARD, PLAYERS, SEED);
+        final AbstractPlayer player = game.getCurrentPlayer();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> MoveGenerator.playableCards(game, player.getHandView(), new int[1]));
+    }
+}
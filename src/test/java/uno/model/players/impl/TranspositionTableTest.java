@@ -0,0 +1,80 @@
+package uno.model.players.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for TranspositionTable.
+ */
+class TranspositionTableTest {
+
+    private static final int CAPACITY = 16;
+    private static final long KEY = 0x1234_5678_9ABC_DEF0L;
+    private static final double VALUE = 0.75;
+    private static final double OTHER_VALUE = 0.25;
+    private static final int DEPTH = 4;
+    private static final double DELTA = 1e-6;
+
+    @Test
+    void testStoredEntryIsFound() {
+        final TranspositionTable table = new TranspositionTable(CAPACITY);
+
+        table.store(KEY, DEPTH, VALUE);
+        final long entry = table.probe(KEY);
+
+        assertEquals(VALUE, TranspositionTable.valueOf(entry), DELTA);
+        assertEquals(DEPTH, TranspositionTable.depthOf(entry));
+    }
+
+    @Test
+    void testOtherKeyMisses() {
+        final TranspositionTable table = new TranspositionTable(CAPACITY);
+
+        table.store(KEY, DEPTH, VALUE);
+
+        assertEquals(TranspositionTable.MISS, table.probe(KEY + 1));
+        assertEquals(TranspositionTable.MISS, table.probe(KEY + table.capacity()));
+    }
+
+    @Test
+    void testDeeperSearchIsKept() {
+        final TranspositionTable table = new TranspositionTable(CAPACITY);
+        // Same bucket as KEY, different position.
+        final long sameBucket = KEY + ((long) table.capacity() << Integer.SIZE);
+
+        table.store(KEY, DEPTH, VALUE);
+        table.store(sameBucket, 1, OTHER_VALUE);
+        table.store(sameBucket + ((long) table.capacity() << Integer.SIZE), 1, OTHER_VALUE);
+
+        assertEquals(VALUE, TranspositionTable.valueOf(table.probe(KEY)), DELTA);
+        assertEquals(TranspositionTable.MISS, table.probe(sameBucket));
+    }
+
+    @Test
+    void testSamePositionIsUpdated() {
+        final TranspositionTable table = new TranspositionTable(CAPACITY);
+
+        table.store(KEY, DEPTH, VALUE);
+        table.store(KEY, 1, OTHER_VALUE);
+
+        assertEquals(OTHER_VALUE, TranspositionTable.valueOf(table.probe(KEY)), DELTA);
+        assertEquals(1, TranspositionTable.depthOf(table.probe(KEY)));
+    }
+
+    @Test
+    void testClearEmptiesTable() {
+        final TranspositionTable table = new TranspositionTable(CAPACITY);
+        table.store(KEY, DEPTH, VALUE);
+
+        table.clear();
+
+        assertEquals(TranspositionTable.MISS, table.probe(KEY));
+    }
+
+    @Test
+    void testInvalidCapacityIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+    }
+}
@@ -0,0 +1,61 @@
+package uno.model.players.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uno.model.game.api.GameContext;
+import uno.model.game.api.GameMode;
+import uno.model.game.api.GameSnapshot;
+import uno.model.game.impl.GameRulesImpl;
+import uno.model.utils.impl.GameRandomImpl;
+
+/**
+ * Test class for ZobristKeys.
+ */
+class ZobristKeysTest {
+
+    private static final long SEED = 5L;
+    private static final int PLAYERS = 3;
+
+    private SearchGame search;
+    private GameContext game;
+    private ZobristKeys keys;
+
+    @BeforeEach
+    void setUp() {
+        search = new SearchGame(GameMode.STANDARD, GameRulesImpl.defaultRules(), PLAYERS, new GameRandomImpl(SEED));
+        game = search.getGame();
+        keys = new ZobristKeys(search.getCatalog(), PLAYERS);
+    }
+
+    @Test
+    void testSamePositionHasSameHash() {
+        final ZobristKeys otherKeys = new ZobristKeys(search.getCatalog(), PLAYERS);
+
+        assertEquals(keys.hash(game, 0), keys.hash(game, 0));
+        assertEquals(keys.hash(game, 0), otherKeys.hash(game, 0));
+    }
+
+    @Test
+    void testMoveChangesHash() {
+        final GameSnapshot before = game.createSnapshot();
+        game.captureSnapshot(before);
+        final long hash = keys.hash(game, 0);
+        final int[] moves = search.createMoveBuffer();
+        search.legalMoves(game, moves);
+
+        search.apply(moves[0]);
+
+        assertNotEquals(hash, keys.hash(game, 0));
+        game.restoreSnapshot(before);
+        assertEquals(hash, keys.hash(game, 0));
+    }
+
+    @Test
+    void testSearcherIsPartOfHash() {
+        assertNotEquals(keys.hash(game, 0), keys.hash(game, 1));
+    }
+}
@@ -0,0 +1,167 @@
+package uno.model.utils.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uno.model.utils.api.FlushPolicy;
+
+/**
+ * Unit tests for the AsyncGameLoggerImpl class.
+ */
+class AsyncGameLoggerImplTest {
+
+    private static final String LOG_DIR = "logs";
+    private static final String MATCH_ID = "async_test";
+    private static final int EVENTS = 500;
+    private static final int THREADS = 4;
+    private static final int SMALL_CAPACITY = 8;
+    private static final int FIELDS = 5;
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        deleteLogDirectory();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        deleteLogDirectory();
+    }
+
+    @Test
+    void testCloseDrainsEventsInOrder() throws IOException {
+        final AsyncGameLoggerImpl logger = new AsyncGameLoggerImpl(MATCH_ID);
+        for (int i = 0; i < EVENTS; i++) {
+            logger.logAction("P1", "PLAY", "Card", String.valueOf(i));
+        }
+        logger.close();
+
+        final List<String> lines = readLog();
+        assertEquals(EVENTS, lines.size());
+        for (int i = 0; i < EVENTS; i++) {
+            final String[] fields = lines.get(i).split(";");
+            assertEquals(FIELDS, fields.length);
+            assertEquals("P1", fields[1]);
+            assertEquals("PLAY", fields[2]);
+            assertEquals(String.valueOf(i), fields[4]);
+        }
+    }
+
+    @Test
+    void testFlushMakesEventsVisible() throws IOException {
+        final AsyncGameLoggerImpl logger = new AsyncGameLoggerImpl(MATCH_ID, SMALL_CAPACITY,
+                new FlushPolicy(EVENTS, Long.MAX_VALUE));
+        logger.logAction("P1", "DRAW", "N/A", "first");
+        logger.logAction("P2", "DRAW", "N/A", "second");
+
+        logger.flush();
+
+        assertEquals(2, readLog().size());
+        logger.close();
+    }
+
+    @Test
+    void testConcurrentProducersWithFullBuffer() throws IOException, InterruptedException {
+        final AsyncGameLoggerImpl logger = new AsyncGameLoggerImpl(MATCH_ID, SMALL_CAPACITY, FlushPolicy.everyEvent());
+        final List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            final String name = "T" + t;
+            producers.add(new Thread(() -> {
+                for (int i = 0; i < EVENTS; i++) {
+                    logger.logAction(name, "PLAY", "Card", String.valueOf(i));
+                }
+            }));
+        }
+        producers.forEach(Thread::start);
+        for (final Thread producer : producers) {
+            producer.join();
+        }
+        logger.close();
+
+        final List<String> lines = readLog();
+        assertEquals(THREADS * EVENTS, lines.size());
+        final Set<String> unique = new HashSet<>();
+        for (final String line : lines) {
+            assertTrue(unique.add(line.substring(line.indexOf(';'))), "Duplicated event: " + line);
+        }
+    }
+
+    @Test
+    void testEventsAfterCloseAreDiscarded() throws IOException {
+        final AsyncGameLoggerImpl logger = new AsyncGameLoggerImpl(MATCH_ID);
+        logger.logAction("P1", "PLAY", "Card", "before");
+        logger.close();
+        logger.close();
+        logger.logAction("P1", "PLAY", "Card", "after");
+
+        final List<String> lines = readLog();
+        assertEquals(1, lines.size());
+        assertFalse(lines.get(0).endsWith("after"));
+    }
+
+    @Test
+    void testUnwritableFileDoesNotBlockProducers() throws IOException {
+        // A directory in place of the log file makes the writer fail on its first event
+        Files.createDirectories(logFile());
+        final AsyncGameLoggerImpl logger = new AsyncGameLoggerImpl(MATCH_ID);
+
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            for (int i = 0; i < DEFAULT_CAPACITY * 2; i++) {
+                logger.logAction("P1", "PLAY", "Card", String.valueOf(i));
+            }
+            logger.flush();
+            logger.close();
+        });
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new FlushPolicy(0, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AsyncGameLoggerImpl(MATCH_ID, 0, FlushPolicy.batched()));
+    }
+
+    private List<String> readLog() throws IOException {
+        return Files.readAllLines(logFile(), StandardCharsets.UTF_8);
+    }
+
+    private Path logFile() {
+        return Path.of(System.getProperty("user.dir"), LOG_DIR, "log_match_" + MATCH_ID + ".txt");
+    }
+
+    /**
+     * Deletes the log directory and all its contents.
+     * 
+     * @throws IOException if an I/O error occurs while deleting files
+     */
+    private void deleteLogDirectory() throws IOException {
+        final File logDir = new File(System.getProperty("user.dir") + File.separator + LOG_DIR);
+        if (logDir.exists()) {
+            try (var stream = Files.walk(logDir.toPath())) {
+                stream.sorted(Comparator.reverseOrder())
+                        .map(Path::toFile)
+                        .forEach(File::delete);
+            }
+        }
+    }
+}
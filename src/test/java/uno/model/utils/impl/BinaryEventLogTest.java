@@ -0,0 +1,194 @@
+package uno.model.utils.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uno.model.utils.api.EventLogReader;
+
+/**
+ * Unit tests for the binary event log: BinaryGameLoggerImpl, BinaryEventLogReader
+ * and EventLogConverter.
+ */
+class BinaryEventLogTest {
+
+    private static final long START = 1_700_000_000_000L;
+    private static final int EVENTS = 10_000;
+    private static final int VALUES = 10;
+    private static final int LONG_STRING = 100_000;
+    private static final int MIN_COMPRESSION = 5;
+    private static final String PLAY = "PLAY";
+    private static final long NEGATIVE = -1L;
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("uno-binlog");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (var stream = Files.walk(directory)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void testWriteAndReadBack() throws IOException {
+        final Path file = directory.resolve("game.bin");
+        final BinaryGameLoggerImpl logger = new BinaryGameLoggerImpl(file);
+        logger.append(START, "AI-1", PLAY, "DoubleSidedCard", "SEVEN");
+        logger.append(START + 5, "AI-2", "DRAW", null, "NONE");
+        logger.append(START + 2, "AI-1", PLAY, "DoubleSidedCard", "SEVEN");
+        logger.close();
+
+        try (EventLogReader reader = new BinaryEventLogReader(file)) {
+            assertTrue(reader.next());
+            assertEquals(START, reader.getTimestamp());
+            assertEquals("AI-1", reader.resolve(reader.getPlayerId()));
+            final int playId = reader.getActionId();
+            assertEquals(PLAY, reader.resolve(playId));
+
+            assertTrue(reader.next());
+            assertEquals(START + 5, reader.getTimestamp());
+            assertEquals(EventLogReader.NO_ID, reader.getCardId());
+            assertNull(reader.resolve(reader.getCardId()));
+
+            assertTrue(reader.next());
+            assertEquals(START + 2, reader.getTimestamp());
+            assertEquals(playId, reader.getActionId());
+            assertSame(reader.resolve(playId), reader.resolve(reader.getActionId()));
+
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void testStringLargerThanBuffer() throws IOException {
+        final Path file = directory.resolve("large.bin");
+        final char[] chars = new char[LONG_STRING];
+        Arrays.fill(chars, 'x');
+        final String extra = new String(chars);
+
+        final BinaryGameLoggerImpl logger = new BinaryGameLoggerImpl(file);
+        logger.append(START, "P", PLAY, "C", extra);
+        logger.append(START, "P", PLAY, "C", "short");
+        logger.close();
+
+        try (EventLogReader reader = new BinaryEventLogReader(file)) {
+            assertTrue(reader.next());
+            assertEquals(extra, reader.resolve(reader.getExtraId()));
+            assertTrue(reader.next());
+            assertEquals("short", reader.resolve(reader.getExtraId()));
+        }
+    }
+
+    @Test
+    void testTextRoundTripAndSize() throws IOException {
+        final Path binary = directory.resolve("events.bin");
+        final BinaryGameLoggerImpl logger = new BinaryGameLoggerImpl(binary);
+        for (int i = 0; i < EVENTS; i++) {
+            logger.append(START + i * 1000L, "AI-" + (i % 4), i % 2 == 0 ? PLAY : "DRAW",
+                    "DoubleSidedCard", "VALUE_" + (i % VALUES));
+        }
+        logger.close();
+
+        final Path text = directory.resolve("events.txt");
+        assertEquals(EVENTS, EventLogConverter.binaryToText(binary, text));
+        final Path again = directory.resolve("again.bin");
+        assertEquals(EVENTS, EventLogConverter.textToBinary(text, again));
+        final Path textAgain = directory.resolve("again.txt");
+        EventLogConverter.binaryToText(again, textAgain);
+
+        final List<String> lines = Files.readAllLines(text, StandardCharsets.UTF_8);
+        assertEquals(lines, Files.readAllLines(textAgain, StandardCharsets.UTF_8));
+        assertEquals(PLAY, lines.get(0).split(";")[2]);
+        assertTrue(Files.size(text) > MIN_COMPRESSION * Files.size(binary),
+                "Binary log should be much smaller than text: " + Files.size(binary) + " vs " + Files.size(text));
+    }
+
+    @Test
+    void testCorruptedFiles() throws IOException {
+        final Path notALog = directory.resolve("text.bin");
+        Files.writeString(notALog, "2024-01-01 10:00:00;P;PLAY;C;E");
+        assertThrows(IOException.class, () -> new BinaryEventLogReader(notALog));
+
+        final Path file = directory.resolve("truncated.bin");
+        final BinaryGameLoggerImpl logger = new BinaryGameLoggerImpl(file);
+        logger.append(START, "P", PLAY, "C", "E");
+        logger.close();
+        final byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+        final List<Long> timestamps = new ArrayList<>();
+        assertThrows(IOException.class, () -> {
+            try (EventLogReader reader = new BinaryEventLogReader(file)) {
+                while (reader.next()) {
+                    timestamps.add(reader.getTimestamp());
+                }
+            }
+        });
+    }
+
+    @Test
+    void testNegativeLengthsAndIds() throws IOException {
+        final Path negativeLength = directory.resolve("length.bin");
+        writeVarLongs(negativeLength, BinaryEventLogFormat.STRING_DEFINITION, NEGATIVE);
+        assertCorrupt(negativeLength);
+
+        final Path negativeId = directory.resolve("id.bin");
+        writeVarLongs(negativeId, 1, NEGATIVE, 0, 0, 0);
+        assertCorrupt(negativeId);
+    }
+
+    /**
+     * Writes a binary event log header followed by raw varints.
+     *
+     * @param file   the file.
+     * @param values the varints.
+     * @throws IOException if the file cannot be written.
+     */
+    private static void writeVarLongs(final Path file, final long... values) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(BinaryEventLogFormat.HEADER_SIZE
+                + values.length * BinaryEventLogFormat.MAX_VARINT_SIZE);
+        buffer.putInt(BinaryEventLogFormat.MAGIC).put(BinaryEventLogFormat.VERSION);
+        for (final long value : values) {
+            BinaryEventLogFormat.putVarLong(buffer, value);
+        }
+        Files.write(file, Arrays.copyOf(buffer.array(), buffer.position()));
+    }
+
+    /**
+     * Checks that reading every event of a file fails as a corrupt log.
+     *
+     * @param file the file.
+     */
+    private static void assertCorrupt(final Path file) {
+        final IOException e = assertThrows(IOException.class, () -> {
+            try (EventLogReader reader = new BinaryEventLogReader(file)) {
+                while (reader.next()) {
+                    reader.resolve(reader.getPlayerId());
+                }
+            }
+        });
+        assertEquals("Truncated/corrupt event log", e.getMessage());
+    }
+}
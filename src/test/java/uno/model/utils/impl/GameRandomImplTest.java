@@ -0,0 +1,58 @@
+package uno.model.utils.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import uno.model.utils.api.GameRandom;
+
+/**
+ * Unit tests for the GameRandomImpl class.
+ */
+class GameRandomImplTest {
+
+    private static final long SEED = 42L;
+    private static final int SAMPLES = 100;
+    private static final int BOUND = 1000;
+    private static final int LIST_SIZE = 50;
+
+    @Test
+    void testSameSeedSameSequence() {
+        final GameRandom first = new GameRandomImpl(SEED);
+        final GameRandom second = new GameRandomImpl(SEED);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            assertEquals(first.nextInt(BOUND), second.nextInt(BOUND));
+        }
+    }
+
+    @Test
+    void testShuffleIsReproduciblePermutation() {
+        final List<Integer> original = IntStream.range(0, LIST_SIZE).boxed().collect(Collectors.toList());
+        final List<Integer> first = new ArrayList<>(original);
+        final List<Integer> second = new ArrayList<>(original);
+
+        new GameRandomImpl(SEED).shuffle(first);
+        new GameRandomImpl(SEED).shuffle(second);
+
+        assertEquals(first, second);
+        assertNotEquals(original, first);
+        assertEquals(original, first.stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testSplitIsDeterministic() {
+        final GameRandom first = new GameRandomImpl(SEED).split();
+        final GameRandom second = new GameRandomImpl(SEED).split();
+
+        for (int i = 0; i < SAMPLES; i++) {
+            assertEquals(first.nextInt(BOUND), second.nextInt(BOUND));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package uno.sim.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import uno.model.game.api.GameMode;
+import uno.model.game.impl.GameRulesImpl;
+import uno.model.players.impl.AIClassic;
+import uno.model.players.impl.AIFlip;
+import uno.sim.api.GameOutcome;
+import uno.sim.api.SimulationEngine;
+import uno.sim.api.SimulationReport;
+
+/**
+ * Unit tests for the SimulationEngineImpl and SimulationReportImpl classes.
+ */
+class SimulationEngineTest {
+
+    private static final int GAMES = 20;
+    private static final long ELAPSED_NANOS = 2_000_000_000L;
+    private static final double DELTA = 1e-9;
+    private static final long SEED = 99L;
+
+    @Test
+    void testStandardGameEndsWithWinner() {
+        final SimulationEngine engine = new SimulationEngineImpl(GameMode.STANDARD, GameRulesImpl.defaultRules(),
+                () -> List.of(new AIClassic("A"), new AIClassic("B")));
+
+        final GameOutcome outcome = engine.playGame();
+
+        assertTrue(outcome.winner().isPresent(), "A standard game between classic AIs should finish");
+        assertTrue(outcome.turns() > 0);
+        assertTrue(outcome.rounds() >= 1);
+    }
+
+    @Test
+    void testSeededGameIsReproducible() {
+        final SimulationEngine engine = new SimulationEngineImpl(GameMode.FLIP, GameRulesImpl.defaultRules(),
+                () -> List.of(new AIFlip("A"), new AIFlip("B"), new AIFlip("C")));
+
+        assertEquals(engine.playGame(SEED), engine.playGame(SEED));
+    }
+
+    @Test
+    void testFlipBatchCompletes() {
+        final SimulationEngine engine = new SimulationEngineImpl(GameMode.FLIP, GameRulesImpl.defaultRules(),
+                () -> List.of(new AIFlip("A"), new AIFlip("B"), new AIFlip("C")));
+
+        final SimulationReport report = engine.run(GAMES);
+
+        assertEquals(GAMES, report.getGames());
+        final int totalWins = report.getWins().values().stream().mapToInt(Integer::intValue).sum();
+        assertEquals(GAMES - report.getUnfinishedGames(), totalWins);
+        assertTrue(report.getAverageTurns() > 0);
+    }
+
+    @Test
+    void testReportAggregation() {
+        final SimulationReport report = SimulationReportImpl.of(List.of(
+                new GameOutcome(Optional.of("A"), 10, 1),
+                new GameOutcome(Optional.of("A"), 20, 1),
+                new GameOutcome(Optional.of("B"), 30, 2),
+                new GameOutcome(Optional.empty(), 40, 1)), ELAPSED_NANOS);
+
+        assertEquals(4, report.getGames());
+        assertEquals(1, report.getUnfinishedGames());
+        assertEquals(Map.of("A", 2, "B", 1), report.getWins());
+        assertEquals(0.5, report.getWinRate("A"), DELTA);
+        assertEquals(0.0, report.getWinRate("C"), DELTA);
+        assertEquals(25.0, report.getAverageTurns(), DELTA);
+        assertEquals(2.0, report.getGamesPerSecond(), DELTA);
+    }
+}
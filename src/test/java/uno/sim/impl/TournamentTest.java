@@ -0,0 +1,75 @@
+package uno.sim.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import uno.model.game.api.GameMode;
+import uno.model.game.impl.GameRulesImpl;
+import uno.model.players.impl.AIClassic;
+import uno.sim.api.GameOutcome;
+import uno.sim.api.SimulationReport;
+import uno.sim.api.Tournament;
+
+/**
+ * Unit tests for the TournamentImpl class.
+ */
+class TournamentTest {
+
+    private static final int GAMES = 50;
+    private static final int THREADS = 4;
+    private static final long SEED = 1234L;
+
+    @Test
+    void testParallelRunPlaysEveryGame() {
+        final Tournament tournament = new TournamentImpl(new SimulationEngineImpl(GameMode.STANDARD,
+                GameRulesImpl.defaultRules(), () -> List.of(new AIClassic("A"), new AIClassic("B"))), THREADS);
+
+        final SimulationReport report = tournament.run(GAMES);
+
+        assertEquals(GAMES, report.getGames());
+        final int totalWins = report.getWins().values().stream().mapToInt(Integer::intValue).sum();
+        assertEquals(GAMES - report.getUnfinishedGames(), totalWins);
+    }
+
+    @Test
+    void testSeededRunDoesNotDependOnThreads() {
+        final SimulationEngineImpl engine = new SimulationEngineImpl(GameMode.STANDARD,
+                GameRulesImpl.defaultRules(), () -> List.of(new AIClassic("A"), new AIClassic("B")));
+
+        final SimulationReport sequential = new TournamentImpl(engine, 1).run(GAMES, SEED);
+        final SimulationReport parallel = new TournamentImpl(engine, THREADS).run(GAMES, SEED);
+
+        assertEquals(sequential.getWins(), parallel.getWins());
+        assertEquals(sequential.getTotalTurns(), parallel.getTotalTurns());
+    }
+
+    @Test
+    void testMergeSumsShards() {
+        final SimulationReport first = SimulationReportImpl.of(List.of(
+                new GameOutcome(Optional.of("A"), 10, 1),
+                new GameOutcome(Optional.empty(), 20, 1)), 1L);
+        final SimulationReport second = SimulationReportImpl.of(List.of(
+                new GameOutcome(Optional.of("A"), 30, 1),
+                new GameOutcome(Optional.of("B"), 40, 1)), 2L);
+
+        final SimulationReport merged = SimulationReportImpl.merge(first, second);
+
+        assertEquals(4, merged.getGames());
+        assertEquals(1, merged.getUnfinishedGames());
+        assertEquals(100, merged.getTotalTurns());
+        assertEquals(Map.of("A", 2, "B", 1), merged.getWins());
+        assertEquals(3L, merged.getElapsedNanos());
+    }
+
+    @Test
+    void testInvalidParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> new TournamentImpl(
+                new SimulationEngineImpl(GameMode.STANDARD, GameRulesImpl.defaultRules(), List::of), 0));
+    }
+}